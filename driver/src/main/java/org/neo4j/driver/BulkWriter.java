@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.internal.InternalBookmark;
+import org.neo4j.driver.internal.messaging.common.CommonValuePacker;
+import org.neo4j.driver.internal.packstream.ByteCountingPackOutput;
+import org.neo4j.driver.internal.util.Futures;
+import org.neo4j.driver.util.Experimental;
+
+import static java.util.Objects.requireNonNull;
+import static org.neo4j.driver.Values.parameters;
+
+/**
+ * Writes large amounts of rows using a query that unwinds a list of rows, like {@code UNWIND $rows AS row CREATE (n:Node) SET n = row}.
+ * <p>
+ * Rows are split into batches of a configured size in bytes, measured the way they are going to be sent to the server.
+ * Every batch is written in its own {@link AsyncSession#writeTransactionAsync(org.neo4j.driver.async.AsyncTransactionWork) write transaction},
+ * so it is retried on transient failures like any other transaction function. Up to a configured number of batches are written concurrently,
+ * each in its own session, which spreads them over the connections to the server.
+ * <pre>Example:
+ * {@code
+ * BulkWriter writer = BulkWriter.builder( driver, "UNWIND $rows AS row CREATE (p:Person) SET p = row" )
+ *                               .withMaxConcurrency( 4 )
+ *                               .build();
+ * long rowsWritten = writer.write( rows );
+ * }</pre>
+ */
+@Experimental
+public final class BulkWriter
+{
+    /**
+     * Name of the query parameter rows are passed in.
+     */
+    public static final String ROWS_PARAMETER = "rows";
+
+    private final Driver driver;
+    private final String query;
+    private final SessionConfig sessionConfig;
+    private final long maxBatchBytes;
+    private final int maxConcurrency;
+    // bookmarks of the batches completed last, at most one per concurrently written batch
+    private final Deque<Bookmark> bookmarks = new ArrayDeque<>();
+
+    private BulkWriter( Builder builder )
+    {
+        this.driver = builder.driver;
+        this.query = builder.query;
+        this.sessionConfig = builder.sessionConfig;
+        this.maxBatchBytes = builder.maxBatchBytes;
+        this.maxConcurrency = builder.maxConcurrency;
+    }
+
+    /**
+     * Creates a new {@link Builder} used to construct a bulk writer.
+     *
+     * @param driver the driver to write with.
+     * @param query the query to write a batch of rows with, the rows are passed in the {@value #ROWS_PARAMETER} parameter.
+     * @return a bulk writer builder.
+     */
+    public static Builder builder( Driver driver, String query )
+    {
+        return new Builder( driver, query );
+    }
+
+    /**
+     * Write the given rows. Blocks until all of them are written.
+     * <p>
+     * Writing stops at the first batch that can not be written, after its retries are exhausted. The error of that batch is thrown then.
+     * Batches written before remain committed.
+     *
+     * @param rows the rows to write.
+     * @return the number of rows written.
+     */
+    public long write( Iterator<? extends Map<String,Object>> rows )
+    {
+        Semaphore permits = new Semaphore( maxConcurrency );
+        AtomicBoolean failed = new AtomicBoolean();
+        AtomicLong rowsWritten = new AtomicLong();
+        List<CompletableFuture<Void>> batchFutures = new ArrayList<>();
+
+        ByteCountingPackOutput output = new ByteCountingPackOutput();
+        CommonValuePacker packer = new CommonValuePacker( output );
+        List<Value> batch = new ArrayList<>();
+        long batchStart = 0;
+        while ( rows.hasNext() && !failed.get() )
+        {
+            Value row = Values.value( rows.next() );
+            long rowStart = output.count();
+            pack( packer, row );
+            if ( !batch.isEmpty() && output.count() - batchStart > maxBatchBytes )
+            {
+                batchFutures.add( writeBatch( batch, permits, failed, rowsWritten ) );
+                batch = new ArrayList<>();
+                batchStart = rowStart;
+            }
+            batch.add( row );
+        }
+        if ( !batch.isEmpty() && !failed.get() )
+        {
+            batchFutures.add( writeBatch( batch, permits, failed, rowsWritten ) );
+        }
+
+        Futures.blockingGet( CompletableFuture.allOf( batchFutures.toArray( new CompletableFuture<?>[0] ) ) );
+        return rowsWritten.get();
+    }
+
+    /**
+     * Write the given rows. Blocks until all of them are written.
+     *
+     * @param rows the rows to write.
+     * @return the number of rows written.
+     * @see #write(Iterator)
+     */
+    public long write( Stream<? extends Map<String,Object>> rows )
+    {
+        return write( rows.iterator() );
+    }
+
+    /**
+     * Return the bookmark of all transactions written by this bulk writer so far. It can be used to read the written rows in a
+     * {@link SessionConfig.Builder#withBookmarks(Bookmark...) session started after them}.
+     * <p>
+     * Only the bookmarks of the last batches are kept. A batch started after another one completed commits after it, and with at most
+     * {@link Builder#withMaxConcurrency(int) max concurrency} batches in flight, one of that many last completed batches always started after
+     * any earlier batch completed. Its bookmark covers the earlier batch.
+     *
+     * @return the bookmark of the written transactions.
+     */
+    public Bookmark lastBookmark()
+    {
+        synchronized ( bookmarks )
+        {
+            return InternalBookmark.from( new ArrayList<>( bookmarks ) );
+        }
+    }
+
+    private CompletableFuture<Void> writeBatch( List<Value> batch, Semaphore permits, AtomicBoolean failed, AtomicLong rowsWritten )
+    {
+        permits.acquireUninterruptibly();
+        AsyncSession session;
+        try
+        {
+            session = driver.asyncSession( sessionConfig );
+        }
+        catch ( Throwable error )
+        {
+            permits.release();
+            throw error;
+        }
+
+        Query batchQuery = new Query( query, parameters( ROWS_PARAMETER, batch ) );
+        CompletionStage<Void> batchStage = session.writeTransactionAsync( tx -> tx.runAsync( batchQuery ).thenCompose( ResultCursor::consumeAsync ) )
+                                                  .thenAccept( ignore -> rowsWritten.addAndGet( batch.size() ) );
+        return batchStage.handle( ( ignore, error ) -> error )
+                         .thenCompose( error -> session.closeAsync().handle( ( ignore, closeError ) ->
+                                                                             {
+                                                                                 Throwable batchError = error != null ? error : closeError;
+                                                                                 if ( batchError == null )
+                                                                                 {
+                                                                                     // a failed batch did not write anything to chain on
+                                                                                     addBookmark( session.lastBookmark() );
+                                                                                 }
+                                                                                 permits.release();
+                                                                                 if ( batchError != null )
+                                                                                 {
+                                                                                     failed.set( true );
+                                                                                     throw Futures.asCompletionException( batchError );
+                                                                                 }
+                                                                                 return (Void) null;
+                                                                             } ) )
+                         .toCompletableFuture();
+    }
+
+    private void addBookmark( Bookmark bookmark )
+    {
+        synchronized ( bookmarks )
+        {
+            bookmarks.addLast( bookmark );
+            if ( bookmarks.size() > maxConcurrency )
+            {
+                bookmarks.removeFirst();
+            }
+        }
+    }
+
+    private static void pack( CommonValuePacker packer, Value row )
+    {
+        try
+        {
+            packer.pack( row );
+        }
+        catch ( IOException e )
+        {
+            // counting output never fails
+            throw new UncheckedIOException( e );
+        }
+    }
+
+    /**
+     * Builder used to construct a {@link BulkWriter}.
+     */
+    public static final class Builder
+    {
+        private final Driver driver;
+        private final String query;
+        private SessionConfig sessionConfig = SessionConfig.defaultConfig();
+        private long maxBatchBytes = 1024 * 1024;
+        private int maxConcurrency = 4;
+
+        private Builder( Driver driver, String query )
+        {
+            this.driver = requireNonNull( driver, "Driver should not be null" );
+            this.query = requireNonNull( query, "Query should not be null" );
+        }
+
+        /**
+         * Set the configuration of the sessions batches are written in.
+         * By default, sessions use {@link SessionConfig#defaultConfig() default configuration}.
+         *
+         * @param sessionConfig the session configuration.
+         * @return this builder
+         */
+        public Builder withSessionConfig( SessionConfig sessionConfig )
+        {
+            this.sessionConfig = requireNonNull( sessionConfig, "Session config should not be null" );
+            return this;
+        }
+
+        /**
+         * Set the maximum size of the rows of a batch, in bytes, as they are encoded to be sent to the server.
+         * A batch always contains at least one row, even when that row is larger than this size.
+         * Default value is 1MB.
+         *
+         * @param maxBatchBytes the maximum size of a batch in bytes, must be positive.
+         * @return this builder
+         * @throws IllegalArgumentException if the given value is not positive.
+         */
+        public Builder withMaxBatchBytes( long maxBatchBytes )
+        {
+            if ( maxBatchBytes <= 0 )
+            {
+                throw new IllegalArgumentException( String.format( "The max batch size in bytes must be positive, but was: %d", maxBatchBytes ) );
+            }
+            this.maxBatchBytes = maxBatchBytes;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of batches written concurrently, each in its own session.
+         * Default value is 4.
+         *
+         * @param maxConcurrency the maximum number of concurrently written batches, must be positive.
+         * @return this builder
+         * @throws IllegalArgumentException if the given value is not positive.
+         */
+        public Builder withMaxConcurrency( int maxConcurrency )
+        {
+            if ( maxConcurrency <= 0 )
+            {
+                throw new IllegalArgumentException( String.format( "The max concurrency must be positive, but was: %d", maxConcurrency ) );
+            }
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        public BulkWriter build()
+        {
+            return new BulkWriter( this );
+        }
+    }
+}
@@ -32,10 +32,12 @@ import java.util.logging.Level;
 import org.neo4j.driver.internal.RevocationStrategy;
 import org.neo4j.driver.internal.SecuritySettings;
 import org.neo4j.driver.internal.async.pool.PoolSettings;
+import org.neo4j.driver.internal.cluster.RoutingContext;
 import org.neo4j.driver.internal.cluster.RoutingSettings;
 import org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil;
 import org.neo4j.driver.internal.retry.RetrySettings;
 import org.neo4j.driver.net.ServerAddressResolver;
+import org.neo4j.driver.net.ServerZoneResolver;
 import org.neo4j.driver.util.Experimental;
 import org.neo4j.driver.util.Immutable;
 
@@ -81,6 +83,7 @@ public class Config implements Serializable
     private final boolean logLeakedSessions;
 
     private final int maxConnectionPoolSize;
+    private final int minConnectionPoolSize;
 
     private final long idleTimeBeforeConnectionTest;
     private final long maxConnectionLifetimeMillis;
@@ -98,6 +101,20 @@ public class Config implements Serializable
     private final ServerAddressResolver resolver;
 
     private final int eventLoopThreads;
+    private final boolean eventLoopAffinity;
+    private final int eventLoopShards;
+    private final boolean latencyAwareLoadBalancing;
+    private final boolean backgroundRoutingTableRefresh;
+    private final long hedgedRediscoveryDelayMillis;
+    private final boolean sharedRoutingTableRefresh;
+    private final boolean homeDatabaseCache;
+    private final int circuitBreakerFailureThreshold;
+    private final long circuitBreakerProbeIntervalMillis;
+    private final long readTransactionHedgingDelayMillis;
+    private final String localZone;
+    private final ServerZoneResolver zoneResolver;
+    private final long domainNameCacheTtlMillis;
+    private final boolean pipelinedTransactionBegin;
     private final String userAgent;
     private final MetricsAdapter metricsAdapter;
 
@@ -109,6 +126,7 @@ public class Config implements Serializable
         this.idleTimeBeforeConnectionTest = builder.idleTimeBeforeConnectionTest;
         this.maxConnectionLifetimeMillis = builder.maxConnectionLifetimeMillis;
         this.maxConnectionPoolSize = builder.maxConnectionPoolSize;
+        this.minConnectionPoolSize = builder.minConnectionPoolSize;
         this.connectionAcquisitionTimeoutMillis = builder.connectionAcquisitionTimeoutMillis;
         this.userAgent = builder.userAgent;
 
@@ -123,6 +141,20 @@ public class Config implements Serializable
         this.fetchSize = builder.fetchSize;
 
         this.eventLoopThreads = builder.eventLoopThreads;
+        this.eventLoopAffinity = builder.eventLoopAffinity;
+        this.eventLoopShards = builder.eventLoopShards;
+        this.latencyAwareLoadBalancing = builder.latencyAwareLoadBalancing;
+        this.backgroundRoutingTableRefresh = builder.backgroundRoutingTableRefresh;
+        this.hedgedRediscoveryDelayMillis = builder.hedgedRediscoveryDelayMillis;
+        this.sharedRoutingTableRefresh = builder.sharedRoutingTableRefresh;
+        this.homeDatabaseCache = builder.homeDatabaseCache;
+        this.circuitBreakerFailureThreshold = builder.circuitBreakerFailureThreshold;
+        this.circuitBreakerProbeIntervalMillis = builder.circuitBreakerProbeIntervalMillis;
+        this.readTransactionHedgingDelayMillis = builder.readTransactionHedgingDelayMillis;
+        this.localZone = builder.localZone;
+        this.zoneResolver = builder.zoneResolver;
+        this.domainNameCacheTtlMillis = builder.domainNameCacheTtlMillis;
+        this.pipelinedTransactionBegin = builder.pipelinedTransactionBegin;
         this.metricsAdapter = builder.metricsAdapter;
     }
 
@@ -179,6 +211,18 @@ public class Config implements Serializable
         return maxConnectionPoolSize;
     }
 
+    /**
+     * The lower bound of the adaptive connection pool size.
+     *
+     * @return the minimum connection pool size, or {@code -1} if adaptive connection pool sizing is not enabled.
+     * @see ConfigBuilder#withAdaptiveConnectionPoolSize(int)
+     */
+    @Experimental
+    public int minConnectionPoolSize()
+    {
+        return minConnectionPoolSize;
+    }
+
     public long connectionAcquisitionTimeoutMillis()
     {
         return connectionAcquisitionTimeoutMillis;
@@ -238,7 +282,9 @@ public class Config implements Serializable
 
     RoutingSettings routingSettings()
     {
-        return new RoutingSettings( routingFailureLimit, routingRetryDelayMillis, routingTablePurgeDelayMillis );
+        return new RoutingSettings( routingFailureLimit, routingRetryDelayMillis, routingTablePurgeDelayMillis, RoutingContext.EMPTY,
+                                    backgroundRoutingTableRefresh, hedgedRediscoveryDelayMillis, sharedRoutingTableRefresh,
+                                    homeDatabaseCache, circuitBreakerFailureThreshold, circuitBreakerProbeIntervalMillis );
     }
 
     RetrySettings retrySettings()
@@ -256,6 +302,146 @@ public class Config implements Serializable
         return eventLoopThreads;
     }
 
+    /**
+     * @return if sessions are pinned to a single event loop or not.
+     * @see ConfigBuilder#withEventLoopAffinity()
+     */
+    @Experimental
+    public boolean eventLoopAffinityEnabled()
+    {
+        return eventLoopAffinity;
+    }
+
+    /**
+     * @return the amount of dedicated event loop groups serving the connections towards the servers, or {@code 0} if sharding is not enabled.
+     * @see ConfigBuilder#withEventLoopShards(int)
+     */
+    @Experimental
+    public int eventLoopShards()
+    {
+        return eventLoopShards;
+    }
+
+    /**
+     * @return if servers are selected by their response times or not.
+     * @see ConfigBuilder#withLatencyAwareLoadBalancing()
+     */
+    @Experimental
+    public boolean latencyAwareLoadBalancingEnabled()
+    {
+        return latencyAwareLoadBalancing;
+    }
+
+    /**
+     * @return if routing tables are refreshed before they expire or not.
+     * @see ConfigBuilder#withBackgroundRoutingTableRefresh()
+     */
+    @Experimental
+    public boolean backgroundRoutingTableRefreshEnabled()
+    {
+        return backgroundRoutingTableRefresh;
+    }
+
+    /**
+     * @return the delay after which the next router is queried during rediscovery, or {@code -1} if routers are queried one after another.
+     * @see ConfigBuilder#withHedgedRediscovery(long, TimeUnit)
+     */
+    @Experimental
+    public long hedgedRediscoveryDelayMillis()
+    {
+        return hedgedRediscoveryDelayMillis;
+    }
+
+    /**
+     * @return if routing tables of databases served by the same routers are refreshed together or not.
+     * @see ConfigBuilder#withSharedRoutingTableRefresh()
+     */
+    @Experimental
+    public boolean sharedRoutingTableRefreshEnabled()
+    {
+        return sharedRoutingTableRefresh;
+    }
+
+    /**
+     * @return if resolved home databases are cached or not.
+     * @see ConfigBuilder#withHomeDatabaseCache()
+     */
+    @Experimental
+    public boolean homeDatabaseCacheEnabled()
+    {
+        return homeDatabaseCache;
+    }
+
+    /**
+     * @return the amount of consecutive connection failures after which a server is skipped, or {@code 0} if the circuit breaker is not enabled.
+     * @see ConfigBuilder#withServerCircuitBreaker(int, long, TimeUnit)
+     */
+    @Experimental
+    public int circuitBreakerFailureThreshold()
+    {
+        return circuitBreakerFailureThreshold;
+    }
+
+    /**
+     * @return the interval in which skipped servers are probed.
+     * @see ConfigBuilder#withServerCircuitBreaker(int, long, TimeUnit)
+     */
+    @Experimental
+    public long circuitBreakerProbeIntervalMillis()
+    {
+        return circuitBreakerProbeIntervalMillis;
+    }
+
+    /**
+     * @return the delay after which a read transaction function is executed a second time, or {@code -1} if read transactions are not hedged.
+     * @see ConfigBuilder#withReadTransactionHedging(long, TimeUnit)
+     */
+    @Experimental
+    public long readTransactionHedgingDelayMillis()
+    {
+        return readTransactionHedgingDelayMillis;
+    }
+
+    /**
+     * @return the zone the driver is located in, or {@code null} if readers are selected regardless of their zones.
+     * @see ConfigBuilder#withZoneAwareLoadBalancing(String, ServerZoneResolver)
+     */
+    @Experimental
+    public String localZone()
+    {
+        return localZone;
+    }
+
+    /**
+     * @return the function determining the zones of servers, or {@code null} if readers are selected regardless of their zones.
+     * @see ConfigBuilder#withZoneAwareLoadBalancing(String, ServerZoneResolver)
+     */
+    @Experimental
+    public ServerZoneResolver zoneResolver()
+    {
+        return zoneResolver;
+    }
+
+    /**
+     * @return the time resolved addresses of domain names are cached for before they are refreshed, or {@code 0} if they are not cached.
+     * @see ConfigBuilder#withDomainNameCache(long, TimeUnit)
+     */
+    @Experimental
+    public long domainNameCacheTtlMillis()
+    {
+        return domainNameCacheTtlMillis;
+    }
+
+    /**
+     * @return if the beginning of unmanaged transactions is pipelined with their first query or not.
+     * @see ConfigBuilder#withPipelinedTransactionBegin()
+     */
+    @Experimental
+    public boolean pipelinedTransactionBeginEnabled()
+    {
+        return pipelinedTransactionBegin;
+    }
+
     /**
      * @return if the metrics is enabled or not on this driver.
      */
@@ -285,6 +471,7 @@ public class Config implements Serializable
         private Logging logging = DEV_NULL_LOGGING;
         private boolean logLeakedSessions;
         private int maxConnectionPoolSize = PoolSettings.DEFAULT_MAX_CONNECTION_POOL_SIZE;
+        private int minConnectionPoolSize = PoolSettings.NOT_CONFIGURED;
         private long idleTimeBeforeConnectionTest = PoolSettings.DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST;
         private long maxConnectionLifetimeMillis = PoolSettings.DEFAULT_MAX_CONNECTION_LIFETIME;
         private long connectionAcquisitionTimeoutMillis = PoolSettings.DEFAULT_CONNECTION_ACQUISITION_TIMEOUT;
@@ -299,6 +486,20 @@ public class Config implements Serializable
         private MetricsAdapter metricsAdapter = MetricsAdapter.DEV_NULL;
         private long fetchSize = FetchSizeUtil.DEFAULT_FETCH_SIZE;
         private int eventLoopThreads = 0;
+        private boolean eventLoopAffinity;
+        private int eventLoopShards = 0;
+        private boolean latencyAwareLoadBalancing;
+        private boolean backgroundRoutingTableRefresh;
+        private long hedgedRediscoveryDelayMillis = RoutingSettings.HEDGED_REDISCOVERY_DISABLED;
+        private boolean sharedRoutingTableRefresh;
+        private boolean homeDatabaseCache;
+        private int circuitBreakerFailureThreshold = RoutingSettings.CIRCUIT_BREAKER_DISABLED;
+        private long circuitBreakerProbeIntervalMillis;
+        private long readTransactionHedgingDelayMillis = -1;
+        private String localZone;
+        private ServerZoneResolver zoneResolver;
+        private long domainNameCacheTtlMillis;
+        private boolean pipelinedTransactionBegin;
 
         private ConfigBuilder() {}
 
@@ -428,6 +629,36 @@ public class Config implements Serializable
             return this;
         }
 
+        /**
+         * Enable adaptive sizing of the connection pool towards each server.
+         * <p>
+         * By default, the pool towards each server can grow up to the size configured with {@link #withMaxConnectionPoolSize(int)}.
+         * When adaptive sizing is enabled, the driver limits the amount of connections used towards each server at the same time
+         * to a value between the given minimum and the maximum connection pool size. The limit grows when more connections are requested
+         * and the server keeps answering as fast as when it is not loaded. It shrinks when the time connections are in use grows,
+         * which indicates that requests queue up on the server, and when connections to the server fail.
+         * This way an overloaded cluster member gets fewer connections than a healthy one.
+         * <p>
+         * Acquisitions above the current limit wait for a connection to be released back to the pool for at most
+         * {@link #withConnectionAcquisitionTimeout(long, TimeUnit)}.
+         *
+         * @param minConnectionPoolSize the lower bound of the connection limit towards a single server, must be positive.
+         * It is capped by the maximum connection pool size.
+         * @return this builder
+         * @see #withMaxConnectionPoolSize(int)
+         */
+        @Experimental
+        public ConfigBuilder withAdaptiveConnectionPoolSize( int minConnectionPoolSize )
+        {
+            if ( minConnectionPoolSize < 1 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The minimum connection pool size may not be smaller than 1, but was %d.", minConnectionPoolSize ) );
+            }
+            this.minConnectionPoolSize = minConnectionPoolSize;
+            return this;
+        }
+
         /**
          * Configure maximum amount of time connection acquisition will attempt to acquire a connection from the
          * connection pool. This timeout only kicks in when all existing connections are being used and no new
@@ -774,6 +1005,280 @@ public class Config implements Serializable
             return this;
         }
 
+        /**
+         * Pin every session to a single event loop thread.
+         * <p>
+         * By default, a session uses whichever connection is idle in the pool, and the callbacks of its asynchronous and reactive
+         * operations run on the event loop thread that owns that connection. With event loop affinity, each session is assigned one
+         * event loop thread when it is created. Connection pools prefer idle connections owned by that thread and register new
+         * connections with it, so that consecutive operations of a session are handled by the same thread.
+         * This reduces hand-offs between threads for asynchronous and reactive applications.
+         *
+         * @return this builder.
+         * @see #withEventLoopThreads(int)
+         */
+        @Experimental
+        public ConfigBuilder withEventLoopAffinity()
+        {
+            this.eventLoopAffinity = true;
+            return this;
+        }
+
+        /**
+         * Serve the connections towards different servers with separate event loop threads.
+         * <p>
+         * By default, the connections towards all servers share the event loop threads configured with {@link #withEventLoopThreads(int)}.
+         * A slow or flooding server can then take event loop time from the connections towards healthy servers.
+         * With sharding, the driver creates the given amount of dedicated event loop groups, each with an equal part of the event loop threads.
+         * Each server is assigned to the shard that serves the fewest servers when the first connection towards it is made,
+         * and all connections towards the server are handled by the threads of its shard only.
+         * The shards are created in addition to the event loop threads of the driver, which keep executing timers and retries.
+         * <p>
+         * Metrics of every shard are available from {@link Metrics#eventLoopShardMetrics()} when driver metrics are enabled.
+         *
+         * @param shardCount the amount of shards, must be positive.
+         * @return this builder.
+         * @throws IllegalArgumentException if the value of the shard count is less than 1.
+         */
+        @Experimental
+        public ConfigBuilder withEventLoopShards( int shardCount )
+        {
+            if ( shardCount < 1 )
+            {
+                throw new IllegalArgumentException( String.format( "The event loop shard count may not be smaller than 1, but was %d.", shardCount ) );
+            }
+            this.eventLoopShards = shardCount;
+            return this;
+        }
+
+        /**
+         * Select cluster members by their response times.
+         * <p>
+         * By default, a routing driver selects the reader or writer with the fewest connections in use among the known members.
+         * With latency aware load balancing, the driver keeps a moving average of the time every member takes to respond to queries,
+         * picks two random members and selects the one with the lower average response time multiplied by its connections in use.
+         * This steers load away from slow or overloaded members. It has no effect on drivers connected with the {@code bolt} scheme.
+         *
+         * @return this builder.
+         */
+        @Experimental
+        public ConfigBuilder withLatencyAwareLoadBalancing()
+        {
+            this.latencyAwareLoadBalancing = true;
+            return this;
+        }
+
+        /**
+         * Refresh routing tables in the background before they expire.
+         * <p>
+         * By default, a routing driver fetches a new routing table of a database when a session finds the current one expired,
+         * and the sessions of that database wait for the new routing table. With background refresh, the routing table of every
+         * database used since its last refresh is fetched again at around 80% of its time to live, with a random spread to avoid
+         * refreshing all routing tables at once. Sessions then keep using the current routing table while it is refreshed.
+         * It has no effect on drivers connected with the {@code bolt} scheme.
+         *
+         * @return this builder.
+         */
+        @Experimental
+        public ConfigBuilder withBackgroundRoutingTableRefresh()
+        {
+            this.backgroundRoutingTableRefresh = true;
+            return this;
+        }
+
+        /**
+         * Query the known routers of a database concurrently when fetching its routing table.
+         * <p>
+         * By default, a routing driver queries the known routers one after another, so that every unavailable router delays
+         * rediscovery by up to the connection timeout. With hedged rediscovery, the driver queries the next router when the previous
+         * ones did not respond within the given delay, or right away when they failed, and uses the first routing table it receives.
+         * A delay of zero queries all known routers at once.
+         *
+         * @param delay the delay after which the next router is queried.
+         * @param unit the unit in which the delay is given.
+         * @return this builder.
+         * @throws IllegalArgumentException if the given delay is negative.
+         */
+        @Experimental
+        public ConfigBuilder withHedgedRediscovery( long delay, TimeUnit unit )
+        {
+            long hedgedRediscoveryDelayMillis = unit.toMillis( delay );
+            if ( hedgedRediscoveryDelayMillis < 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The hedged rediscovery delay may not be smaller than 0, but was %d %s.", delay, unit ) );
+            }
+            this.hedgedRediscoveryDelayMillis = hedgedRediscoveryDelayMillis;
+            return this;
+        }
+
+        /**
+         * Refresh the routing tables of databases served by the same routers together.
+         * <p>
+         * By default, a routing driver fetches the routing table of every database separately, each with its own connection to a router.
+         * With shared refresh, a fetched routing table is followed by a fetch of the routing tables of other databases served by the
+         * same routers that are past half of their time to live. These are requested together over a single connection, so that
+         * applications using many databases of one cluster open fewer connections to routers and see their routing tables expire together.
+         * Requires a server supporting Bolt protocol 4.3 or newer and has no effect on drivers connected with the {@code bolt} scheme.
+         *
+         * @return this builder.
+         */
+        @Experimental
+        public ConfigBuilder withSharedRoutingTableRefresh()
+        {
+            this.sharedRoutingTableRefresh = true;
+            return this;
+        }
+
+        /**
+         * Cache the home databases resolved for sessions that do not name a database.
+         * <p>
+         * By default, a routing driver asks a router for the home database of the user, or of the impersonated user, whenever such
+         * a session acquires its first connection. With the cache, the resolved home database is reused until the routing table
+         * it came with expires, or until fetching the routing table of that database fails. Sessions carrying bookmarks always
+         * resolve the home database again, so that they observe changes of it they causally depend on.
+         * It has no effect on drivers connected with the {@code bolt} scheme.
+         *
+         * @return this builder.
+         */
+        @Experimental
+        public ConfigBuilder withHomeDatabaseCache()
+        {
+            this.homeDatabaseCache = true;
+            return this;
+        }
+
+        /**
+         * Skip servers that repeatedly fail to accept connections.
+         * <p>
+         * By default, a routing driver forgets a server in the routing table of a database when connecting to it fails, but the routing
+         * tables of other databases and newly fetched routing tables still lead to it, and every such attempt may take up to the connection
+         * timeout. With the circuit breaker, a server is skipped by all routing tables once connecting to it failed the given amount of
+         * times in a row. The driver then tries to connect to it in the background in the given interval and uses it again once
+         * that succeeds. Servers are only skipped while other servers of the required access mode are available.
+         * It has no effect on drivers connected with the {@code bolt} scheme.
+         *
+         * @param failureThreshold the amount of consecutive connection failures after which a server is skipped.
+         * @param probeInterval the interval in which skipped servers are probed.
+         * @param unit the unit in which the interval is given.
+         * @return this builder.
+         * @throws IllegalArgumentException if the failure threshold is smaller than 1 or the interval is not positive.
+         */
+        @Experimental
+        public ConfigBuilder withServerCircuitBreaker( int failureThreshold, long probeInterval, TimeUnit unit )
+        {
+            if ( failureThreshold < 1 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The circuit breaker failure threshold may not be smaller than 1, but was %d.", failureThreshold ) );
+            }
+            long probeIntervalMillis = unit.toMillis( probeInterval );
+            if ( probeIntervalMillis <= 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The circuit breaker probe interval must be positive, but was %d %s.", probeInterval, unit ) );
+            }
+            this.circuitBreakerFailureThreshold = failureThreshold;
+            this.circuitBreakerProbeIntervalMillis = probeIntervalMillis;
+            return this;
+        }
+
+        /**
+         * Hedge read transaction functions of asynchronous sessions.
+         * <p>
+         * When a function given to {@link org.neo4j.driver.async.AsyncSession#readTransactionAsync(org.neo4j.driver.async.AsyncTransactionWork)} did not complete
+         * within the given delay, it is executed a second time in a transaction of its own, preferably on another reader. The result of
+         * the attempt that completes first is used, and the other attempt is terminated and rolled back. This cuts the latency of reads
+         * hitting a temporarily slow server, for example one in a long garbage collection pause, at the cost of executing some reads twice.
+         * The delay is usually chosen close to the 95th or 99th percentile of the read transaction latency observed by the application.
+         * <p>
+         * Hedged functions are executed concurrently and must therefore be free of side effects other than reading from the database.
+         * Read transaction functions of blocking and reactive sessions are not hedged.
+         *
+         * @param delay the delay after which the function is executed a second time.
+         * @param unit the unit in which the delay is given.
+         * @return this builder.
+         * @throws IllegalArgumentException if the given delay is negative.
+         */
+        @Experimental
+        public ConfigBuilder withReadTransactionHedging( long delay, TimeUnit unit )
+        {
+            long readTransactionHedgingDelayMillis = unit.toMillis( delay );
+            if ( readTransactionHedgingDelayMillis < 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The read transaction hedging delay may not be smaller than 0, but was %d %s.", delay, unit ) );
+            }
+            this.readTransactionHedgingDelayMillis = readTransactionHedgingDelayMillis;
+            return this;
+        }
+
+        /**
+         * Prefer readers located in the same zone, availability zone or rack for instance, as the driver.
+         * <p>
+         * By default, a routing driver selects readers regardless of where they are located. With zone aware load balancing, readers in
+         * the given local zone are selected as long as they are available and not saturated, that is as long as not most of the
+         * connections their pools allow are in use. Readers in other zones are used beyond that. This lowers read latencies and the
+         * costs of traffic across zones. Writers are selected regardless of their zones.
+         * It has no effect on drivers connected with the {@code bolt} scheme.
+         *
+         * @param localZone the zone the driver is located in.
+         * @param zoneResolver the function determining the zones of servers by their addresses, as they appear in routing tables.
+         * @return this builder.
+         * @throws NullPointerException when the given zone or resolver is {@code null}.
+         */
+        @Experimental
+        public ConfigBuilder withZoneAwareLoadBalancing( String localZone, ServerZoneResolver zoneResolver )
+        {
+            this.localZone = Objects.requireNonNull( localZone, "localZone" );
+            this.zoneResolver = Objects.requireNonNull( zoneResolver, "zoneResolver" );
+            return this;
+        }
+
+        /**
+         * Cache the addresses domain names of servers resolve to.
+         * <p>
+         * By default, domain names are resolved each time the driver connects to a server or rediscovers a cluster, which blocks the
+         * resolving thread for the duration of a DNS lookup. With the cache, a domain name is only resolved this way the first time.
+         * Afterwards its cached addresses are used, and once they are older than the given time to live they are refreshed in the
+         * background while the stale addresses keep being used. Addresses are dropped from the cache when their refresh fails.
+         * The time to live should not exceed the one of the DNS records of the servers, as otherwise changes to them are picked up late.
+         *
+         * @param ttl the time resolved addresses are used for before they are refreshed.
+         * @param unit the unit in which the time to live is given.
+         * @return this builder.
+         * @throws IllegalArgumentException if the given time to live is not positive.
+         */
+        @Experimental
+        public ConfigBuilder withDomainNameCache( long ttl, TimeUnit unit )
+        {
+            long domainNameCacheTtlMillis = unit.toMillis( ttl );
+            if ( domainNameCacheTtlMillis <= 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The domain name cache time to live must be positive, but was %d %s.", ttl, unit ) );
+            }
+            this.domainNameCacheTtlMillis = domainNameCacheTtlMillis;
+            return this;
+        }
+
+        /**
+         * Pipeline the beginning of unmanaged transactions with their first query.
+         * <p>
+         * By default, beginning a transaction waits for the server to confirm it, which costs a round-trip before the first query of the
+         * transaction can be sent. With pipelining, beginning a transaction completes once a connection is acquired, and the request to
+         * begin it is sent together with the first query, or with the commit or rollback if there is no query. Failures to begin the
+         * transaction, an unknown database for instance, are then reported by its first query, or by its commit, instead of when it is begun.
+         *
+         * @return this builder.
+         */
+        @Experimental
+        public ConfigBuilder withPipelinedTransactionBegin()
+        {
+            this.pipelinedTransactionBegin = true;
+            return this;
+        }
+
         /**
          * Configure the user_agent field sent to the server to identify the connected client.
          * @param userAgent the string to configure user_agent.
@@ -94,6 +94,15 @@ public interface ConnectionPoolMetrics
      */
     long acquired();
 
+    /**
+     * The number of connection acquisition requests that are currently queued in the pool.
+     * A request is queued when the pool has reached its maximum size, so it has to wait for a connection to be released back to the pool.
+     * The amount can increase or decrease over time.
+     * It is always less than or equal to {@link ConnectionPoolMetrics#acquiring()}.
+     * @return The number of connection acquisition requests that are waiting for a connection to be released.
+     */
+    int pendingAcquisitions();
+
     /**
      * A counter to record how many times that we've failed to acquire a connection from the pool within configured maximum acquisition timeout
      * set by {@link Config.ConfigBuilder#withConnectionAcquisitionTimeout(long, TimeUnit)}.
@@ -181,4 +190,28 @@ public interface ConnectionPoolMetrics
      * @return the total amount of connection that are borrowed outside the pool.
      */
     long totalInUseCount();
+
+    /**
+     * The distribution of the acquisition time in milliseconds of all connection acquisition requests since the pool is created.
+     * A duration is recorded every time when a connection is acquired.
+     * See {@link ConnectionPoolMetrics#totalAcquisitionTime()} for the total acquisition time.
+     * @return The acquisition time distribution.
+     */
+    DurationHistogram acquisitionTimeHistogram();
+
+    /**
+     * The distribution of the time in milliseconds spent to establish new socket connections since the pool is created.
+     * A duration is recorded every time when a connection is established.
+     * See {@link ConnectionPoolMetrics#totalConnectionTime()} for the total connection time.
+     * @return The connection time distribution.
+     */
+    DurationHistogram connectionTimeHistogram();
+
+    /**
+     * The distribution of the time in milliseconds connections are borrowed out of the pool since the pool is created.
+     * A duration is recorded every time when a connection is returned back to the pool.
+     * See {@link ConnectionPoolMetrics#totalInUseTime()} for the total in-use time.
+     * @return The in-use time distribution.
+     */
+    DurationHistogram inUseTimeHistogram();
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver;
+
+import org.neo4j.driver.util.Experimental;
+
+/**
+ * A distribution of durations recorded by the driver, such as the time spent to acquire a connection from a pool.
+ * All durations are in milliseconds.
+ * The distribution is recorded with a bounded relative error, so the reported percentile values are accurate to within a few percent of the recorded values.
+ */
+@Experimental
+public interface DurationHistogram
+{
+    /**
+     * The amount of durations recorded in this histogram.
+     * @return The amount of recorded durations.
+     */
+    long count();
+
+    /**
+     * The largest duration in milliseconds recorded in this histogram.
+     * @return The largest recorded duration, or {@code 0} if nothing has been recorded.
+     */
+    long max();
+
+    /**
+     * The duration in milliseconds at the given percentile, such that the given percentage of all recorded durations are less than or equal to it.
+     * <h2>Example</h2>
+     * <pre>
+     * {@code
+     * DurationHistogram acquisition = poolMetrics.acquisitionTimeHistogram();
+     * long p50 = acquisition.valueAtPercentile( 50.0 );
+     * long p99 = acquisition.valueAtPercentile( 99.0 );
+     * }
+     * </pre>
+     * @param percentile the percentile in the range {@code [0.0, 100.0]}.
+     * @return The duration at the given percentile, or {@code 0} if nothing has been recorded.
+     */
+    long valueAtPercentile( double percentile );
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver;
+
+import org.neo4j.driver.util.Experimental;
+
+/**
+ * Provides metrics of an event loop shard, a dedicated group of event loop threads that serves the connections towards some of the servers.
+ * The shard metrics is uniquely identified using {@link EventLoopShardMetrics#id()}.
+ *
+ * @see Config.ConfigBuilder#withEventLoopShards(int)
+ */
+@Experimental
+public interface EventLoopShardMetrics
+{
+    /**
+     * A unique id that identifies this shard metrics.
+     *
+     * @return A unique name
+     */
+    String id();
+
+    /**
+     * The amount of servers whose connections are served by this shard. The amount can increase or decrease over time.
+     * @return The amount of servers assigned to this shard.
+     */
+    int servers();
+
+    /**
+     * The amount of tasks that are waiting to be executed by the event loop threads of this shard.
+     * A growing amount indicates that the shard can not keep up with the traffic of its servers.
+     * @return The amount of pending tasks.
+     */
+    int pendingTasks();
+}
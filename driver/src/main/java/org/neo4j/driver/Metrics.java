@@ -34,4 +34,11 @@ public interface Metrics
      * @return Connection pool metrics for all current active pools.
      */
     Collection<ConnectionPoolMetrics> connectionPoolMetrics();
+
+    /**
+     * Event loop shard metrics records metrics of the dedicated event loop groups that serve the connections towards the servers.
+     * @return Event loop shard metrics for all shards, or an empty collection if event loop sharding is not enabled.
+     * @see Config.ConfigBuilder#withEventLoopShards(int)
+     */
+    Collection<EventLoopShardMetrics> eventLoopShardMetrics();
 }
@@ -49,6 +49,14 @@ import org.neo4j.driver.util.Resource;
  * Session implementations are not generally thread-safe. Therefore, multiple
  * sessions should be used when an application requires multiple concurrent
  * threads of database work to be carried out.
+ * <p>
+ * Sessions can be used from virtual threads. Waiting for the database parks
+ * the calling thread without holding monitors, so it does not pin the carrier
+ * thread, and all network IO happens on the driver's event loop threads.
+ * A single driver can serve sessions of any number of virtual threads, the
+ * number of concurrently used connections is bounded by the connection pool,
+ * see {@link Config.ConfigBuilder#withMaxConnectionPoolSize(int)} and
+ * {@link Config.ConfigBuilder#withConnectionAcquisitionTimeout(long, java.util.concurrent.TimeUnit)}.
  *
  * @since 1.0 (Removed async API to {@link AsyncSession} in 4.0)
  */
@@ -18,6 +18,9 @@
  */
 package org.neo4j.driver;
 
+import java.util.List;
+
+import org.neo4j.driver.util.Experimental;
 import org.neo4j.driver.util.Resource;
 
 /**
@@ -81,6 +84,50 @@ public interface Transaction extends Resource, QueryRunner
      */
     void rollback();
 
+    /**
+     * Run the given queries in this transaction.
+     * Unlike calling {@link #run(Query)} for each query, the queries are sent to the server together, in a single network write, and the server
+     * executes them one after the other without waiting for the driver in between. This makes running many small queries, such as parameterised
+     * writes of a bulk load, limited by bandwidth rather than by network round-trips.
+     * If a query fails, the queries following it are not executed and this method throws the failure.
+     * <pre>Example:
+     * {@code
+     * try(Transaction tx = session.beginTransaction() )
+     * {
+     *     tx.runBatch(Arrays.asList(
+     *             new Query("CREATE (a:Person {name: $name})", parameters("name", "Alice")),
+     *             new Query("CREATE (a:Person {name: $name})", parameters("name", "Bob"))));
+     *     tx.commit();
+     * }
+     * }</pre>
+     *
+     * @param queries the queries to run, in order.
+     * @return the results of the queries, in the order of the queries.
+     */
+    @Experimental
+    List<Result> runBatch( List<Query> queries );
+
+    /**
+     * Run the given query as the last one of this transaction and commit this transaction.
+     * Unlike {@link #run(Query)} followed by {@link #commit()}, the commit is sent to the server right after the query, without waiting for its result,
+     * which saves a network round-trip. All records of the query are fetched and held in memory before this method returns, so it is best suited for
+     * queries with small results, such as the final write of a transaction function.
+     * When this method returns, the transaction is committed, and the returned result can be consumed.
+     * <pre>Example:
+     * {@code
+     * try(Transaction tx = session.beginTransaction() )
+     * {
+     *     tx.run("MATCH (a:Person {name: $name}) SET a.visits = a.visits + 1", parameters("name", "Alice"));
+     *     tx.runAndCommit(new Query("CREATE (v:Visit {name: $name})", parameters("name", "Alice")));
+     * }
+     * }</pre>
+     *
+     * @param query the last query of this transaction.
+     * @return the fully fetched result of the query.
+     */
+    @Experimental
+    Result runAndCommit( Query query );
+
     /**
      * Close the transaction.
      * If the transaction has been {@link #commit() committed} or {@link #rollback() rolled back},
@@ -18,6 +18,7 @@
  */
 package org.neo4j.driver.async;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
@@ -26,6 +27,7 @@ import java.util.function.Function;
 import org.neo4j.driver.Query;
 import org.neo4j.driver.QueryRunner;
 import org.neo4j.driver.Session;
+import org.neo4j.driver.util.Experimental;
 
 /**
  * Logical container for an atomic unit of work.
@@ -91,6 +93,45 @@ public interface AsyncTransaction extends AsyncQueryRunner
      */
     CompletionStage<Void> rollbackAsync();
 
+    /**
+     * Run the given queries in this transaction in asynchronous fashion.
+     * Unlike calling {@link #runAsync(Query)} for each query, the queries are sent to the server together, in a single network write, and the server
+     * executes them one after the other without waiting for the driver in between. This makes running many small queries, such as parameterised
+     * writes of a bulk load, limited by bandwidth rather than by network round-trips.
+     * <p>
+     * Returned stage can be completed by an IO thread which should never block. Otherwise IO operations on this and
+     * potentially other network connections might deadlock. Please do not chain blocking operations like
+     * {@link CompletableFuture#get()} on the returned stage. Consider using asynchronous calls throughout the chain or offloading blocking
+     * operation to a different {@link Executor}. This can be done using methods with "Async" suffix like
+     * {@link CompletionStage#thenApplyAsync(Function)} or {@link CompletionStage#thenApplyAsync(Function, Executor)}.
+     *
+     * @param queries the queries to run, in order.
+     * @return new {@link CompletionStage} that gets completed with the cursors of the queries, in the order of the queries. Stage can be completed
+     * exceptionally when a query fails, the queries following it are not executed then.
+     */
+    @Experimental
+    CompletionStage<List<ResultCursor>> runBatchAsync( List<Query> queries );
+
+    /**
+     * Run the given query as the last one of this transaction and commit this transaction in asynchronous fashion.
+     * Unlike {@link #runAsync(Query)} followed by {@link #commitAsync()}, the commit is sent to the server right after the query, without waiting for
+     * its result, which saves a network round-trip. All records of the query are fetched and held in memory, so it is best suited for queries with
+     * small results, such as the final write of a transaction function.
+     * Transaction object should not be used after calling this method.
+     * <p>
+     * Returned stage can be completed by an IO thread which should never block. Otherwise IO operations on this and
+     * potentially other network connections might deadlock. Please do not chain blocking operations like
+     * {@link CompletableFuture#get()} on the returned stage. Consider using asynchronous calls throughout the chain or offloading blocking
+     * operation to a different {@link Executor}. This can be done using methods with "Async" suffix like
+     * {@link CompletionStage#thenApplyAsync(Function)} or {@link CompletionStage#thenApplyAsync(Function, Executor)}.
+     *
+     * @param query the last query of this transaction.
+     * @return new {@link CompletionStage} that gets completed with the fully fetched result of the query when commit is successful. Stage can
+     * be completed exceptionally when the query or the commit fails.
+     */
+    @Experimental
+    CompletionStage<ResultCursor> runAndCommitAsync( Query query );
+
     /**
      * Close the transaction. If the transaction has been {@link #commitAsync() committed} or {@link #rollbackAsync() rolled back}, the close is optional and no
      * operation is performed. Otherwise, the transaction will be rolled back by default by this method.
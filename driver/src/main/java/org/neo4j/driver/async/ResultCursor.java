@@ -30,6 +30,7 @@ import org.neo4j.driver.Records;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
 import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.util.Experimental;
 
 /**
  * The result of asynchronous execution of a Cypher query, conceptually an asynchronous stream of
@@ -119,6 +120,19 @@ public interface ResultCursor
      */
     CompletionStage<ResultSummary> forEachAsync( Consumer<Record> action );
 
+    /**
+     * Asynchronously apply the given {@link Consumer action} to the records in the result, batch by batch, yielding a summary of it.
+     * <p>
+     * Each batch holds the records that arrived since the previous one, so the action is invoked once for many records of a large result rather
+     * than once per record. Batches are never empty and keep the order of the records.
+     *
+     * @param action the function to be applied to every batch of records in the result. Provided function should not block.
+     * @return a {@link CompletionStage} completed with a summary for the whole query result. Stage can also be
+     * completed exceptionally if query execution or provided function fails.
+     */
+    @Experimental
+    CompletionStage<ResultSummary> forEachBatchAsync( Consumer<List<Record>> action );
+
     /**
      * Asynchronously retrieve and store the entire result stream.
      * This can be used if you want to iterate over the stream multiple times or to store the
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.neo4j.driver.Logger;
+import org.neo4j.driver.Logging;
+import org.neo4j.driver.internal.util.Clock;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link DomainNameResolver} that caches the addresses resolved by another resolver.
+ * <p>
+ * A name is only resolved synchronously when it is not cached yet. Once the cached addresses of a name are older than the configured time to live,
+ * they are still returned while the name is resolved again in the background. This keeps blocking name resolution off the threads resolving names
+ * during rediscovery and connection establishment, which are usually event loop threads.
+ * <p>
+ * Names that are not resolved for another time to live after their addresses expired are evicted, so that the cache does not grow with every name
+ * ever resolved. The background refresh stops when the resolver is {@link #close() closed}.
+ */
+public class CachingDomainNameResolver implements DomainNameResolver
+{
+    private static final String REFRESH_THREAD_NAME = "Neo4jDriverDomainNameRefresh";
+
+    private final DomainNameResolver delegate;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final Logger log;
+    private final ConcurrentMap<String,Entry> entries = new ConcurrentHashMap<>();
+
+    public CachingDomainNameResolver( DomainNameResolver delegate, long ttlMillis, Clock clock, Logging logging )
+    {
+        this( delegate, ttlMillis, clock, newRefreshExecutor(), logging );
+    }
+
+    CachingDomainNameResolver( DomainNameResolver delegate, long ttlMillis, Clock clock, Executor refreshExecutor, Logging logging )
+    {
+        this.delegate = requireNonNull( delegate );
+        this.ttlMillis = ttlMillis;
+        this.clock = requireNonNull( clock );
+        this.refreshExecutor = requireNonNull( refreshExecutor );
+        this.log = logging.getLog( getClass() );
+    }
+
+    @Override
+    public InetAddress[] resolve( String name ) throws UnknownHostException
+    {
+        Entry entry = entries.get( name );
+        if ( entry == null )
+        {
+            InetAddress[] addresses = delegate.resolve( name );
+            long now = clock.millis();
+            evictUnused( now );
+            entries.put( name, new Entry( addresses, now + ttlMillis ) );
+            return addresses.clone();
+        }
+        if ( entry.expirationTimestamp <= clock.millis() && entry.refreshing.compareAndSet( false, true ) )
+        {
+            refreshInBackground( name, entry );
+        }
+        return entry.addresses.clone();
+    }
+
+    /**
+     * Stops the background refresh, cached addresses are still returned but not refreshed anymore.
+     */
+    public void close()
+    {
+        if ( refreshExecutor instanceof ExecutorService )
+        {
+            ((ExecutorService) refreshExecutor).shutdown();
+        }
+    }
+
+    private void evictUnused( long now )
+    {
+        // an expired entry is refreshed as soon as its name is resolved, so one that stays expired for another time to live is not used anymore
+        entries.values().removeIf( entry -> entry.expirationTimestamp + ttlMillis <= now && !entry.refreshing.get() );
+    }
+
+    private void refreshInBackground( String name, Entry staleEntry )
+    {
+        try
+        {
+            refreshExecutor.execute( () -> refresh( name, staleEntry ) );
+        }
+        catch ( RejectedExecutionException e )
+        {
+            log.debug( "Unable to schedule refresh of the addresses of '%s'", name );
+            staleEntry.refreshing.set( false );
+        }
+    }
+
+    private void refresh( String name, Entry staleEntry )
+    {
+        try
+        {
+            InetAddress[] addresses = delegate.resolve( name );
+            entries.replace( name, staleEntry, new Entry( addresses, clock.millis() + ttlMillis ) );
+        }
+        catch ( Throwable error )
+        {
+            // drop the stale addresses so that the next resolution of the name surfaces the error
+            log.warn( String.format( "Failed to refresh the addresses of '%s', they are removed from the cache", name ), error );
+            entries.remove( name, staleEntry );
+        }
+    }
+
+    private static Executor newRefreshExecutor()
+    {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor( 1, 1, 1, TimeUnit.MINUTES, new LinkedBlockingQueue<>(),
+                                                              new DefaultThreadFactory( REFRESH_THREAD_NAME, true ) );
+        executor.allowCoreThreadTimeOut( true );
+        return executor;
+    }
+
+    private static class Entry
+    {
+        final InetAddress[] addresses;
+        final long expirationTimestamp;
+        final AtomicBoolean refreshing = new AtomicBoolean();
+
+        Entry( InetAddress[] addresses, long expirationTimestamp )
+        {
+            this.addresses = addresses;
+            this.expirationTimestamp = expirationTimestamp;
+        }
+    }
+}
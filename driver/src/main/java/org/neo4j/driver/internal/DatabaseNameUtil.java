@@ -20,6 +20,9 @@ package org.neo4j.driver.internal;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public final class DatabaseNameUtil
 {
@@ -42,6 +45,9 @@ public final class DatabaseNameUtil
     };
     private static final DatabaseName SYSTEM_DATABASE = new InternalDatabaseName( SYSTEM_DATABASE_NAME );
 
+    private static final int MAX_KNOWN_DATABASE_NAMES = 1000;
+    private static final ConcurrentMap<String,CompletableFuture<DatabaseName>> KNOWN_DATABASE_NAMES = new ConcurrentHashMap<>();
+
     public static DatabaseName defaultDatabase()
     {
         return DEFAULT_DATABASE;
@@ -62,6 +68,35 @@ public final class DatabaseNameUtil
         {
             return systemDatabase();
         }
+        CompletableFuture<DatabaseName> knownDatabaseName = KNOWN_DATABASE_NAMES.get( name );
+        if ( knownDatabaseName != null )
+        {
+            return knownDatabaseName.getNow( null );
+        }
         return new InternalDatabaseName( name );
     }
+
+    /**
+     * Returns a completed future of the given database name, which must not be the default database.
+     * Futures are shared between sessions for the same database, so that creating a session does not allocate one.
+     * Sharing is safe as completing an already completed future has no effect.
+     *
+     * @param databaseName the database name.
+     * @return a completed future of the database name.
+     */
+    public static CompletableFuture<DatabaseName> completedDatabaseNameFuture( DatabaseName databaseName )
+    {
+        String name = databaseName.description();
+        CompletableFuture<DatabaseName> future = KNOWN_DATABASE_NAMES.get( name );
+        if ( future == null )
+        {
+            future = CompletableFuture.completedFuture( databaseName );
+            if ( KNOWN_DATABASE_NAMES.size() < MAX_KNOWN_DATABASE_NAMES )
+            {
+                CompletableFuture<DatabaseName> existingFuture = KNOWN_DATABASE_NAMES.putIfAbsent( name, future );
+                future = existingFuture != null ? existingFuture : future;
+            }
+        }
+        return future;
+    }
 }
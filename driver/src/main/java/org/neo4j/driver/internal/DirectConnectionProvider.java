@@ -18,6 +18,8 @@
  */
 package org.neo4j.driver.internal;
 
+import io.netty.channel.EventLoop;
+
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
@@ -50,7 +52,7 @@ public class DirectConnectionProvider implements ConnectionProvider
     {
         CompletableFuture<DatabaseName> databaseNameFuture = context.databaseNameFuture();
         databaseNameFuture.complete( DatabaseNameUtil.defaultDatabase() );
-        return acquireConnection().thenApply(
+        return acquireConnection( context.eventLoop() ).thenApply(
                 connection -> new DirectConnection( connection,
                                                     Futures.joinNowOrElseThrow( databaseNameFuture, PENDING_DATABASE_NAME_EXCEPTION_SUPPLIER ),
                                                     context.mode(), context.impersonatedUser() ) );
@@ -90,4 +92,9 @@ public class DirectConnectionProvider implements ConnectionProvider
     {
         return connectionPool.acquire( address );
     }
+
+    private CompletionStage<Connection> acquireConnection( EventLoop eventLoop )
+    {
+        return eventLoop != null ? connectionPool.acquire( address, eventLoop ) : acquireConnection();
+    }
 }
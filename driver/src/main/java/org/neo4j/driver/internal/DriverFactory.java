@@ -36,12 +36,16 @@ import org.neo4j.driver.internal.async.connection.BootstrapFactory;
 import org.neo4j.driver.internal.async.connection.ChannelConnector;
 import org.neo4j.driver.internal.async.connection.ChannelConnectorImpl;
 import org.neo4j.driver.internal.async.pool.ConnectionPoolImpl;
+import org.neo4j.driver.internal.async.pool.EventLoopShards;
 import org.neo4j.driver.internal.async.pool.PoolSettings;
+import org.neo4j.driver.internal.async.pool.ResponseTimeTracker;
 import org.neo4j.driver.internal.cluster.RoutingContext;
 import org.neo4j.driver.internal.cluster.RoutingSettings;
+import org.neo4j.driver.internal.cluster.loadbalancing.LatencyAwareLoadBalancingStrategy;
 import org.neo4j.driver.internal.cluster.loadbalancing.LeastConnectedLoadBalancingStrategy;
 import org.neo4j.driver.internal.cluster.loadbalancing.LoadBalancer;
 import org.neo4j.driver.internal.cluster.loadbalancing.LoadBalancingStrategy;
+import org.neo4j.driver.internal.cluster.loadbalancing.ZoneAwareLoadBalancingStrategy;
 import org.neo4j.driver.internal.logging.NettyLogging;
 import org.neo4j.driver.internal.metrics.DevNullMetricsProvider;
 import org.neo4j.driver.internal.metrics.InternalMetricsProvider;
@@ -97,23 +101,33 @@ public class DriverFactory
         RetryLogic retryLogic = createRetryLogic( retrySettings, eventExecutorGroup, config.logging() );
 
         MetricsProvider metricsProvider = getOrCreateMetricsProvider( config, createClock() );
+        // connector and load balancer share the resolver, so that a cache is shared too
+        DomainNameResolver domainNameResolver = createDomainNameResolver( config );
         ConnectionPool connectionPool = createConnectionPool( authToken, securityPlan, bootstrap, metricsProvider, config,
-                                                              ownsEventLoopGroup, newRoutingSettings.routingContext() );
+                                                              ownsEventLoopGroup, newRoutingSettings.routingContext(), domainNameResolver );
 
-        return createDriver( uri, securityPlan, address, connectionPool, eventExecutorGroup, newRoutingSettings, retryLogic, metricsProvider, config );
+        return createDriver( uri, securityPlan, address, connectionPool, eventExecutorGroup, newRoutingSettings, retryLogic, metricsProvider, config,
+                             domainNameResolver );
     }
 
     protected ConnectionPool createConnectionPool( AuthToken authToken, SecurityPlan securityPlan, Bootstrap bootstrap,
-            MetricsProvider metricsProvider, Config config, boolean ownsEventLoopGroup, RoutingContext routingContext )
+            MetricsProvider metricsProvider, Config config, boolean ownsEventLoopGroup, RoutingContext routingContext,
+            DomainNameResolver domainNameResolver )
     {
         Clock clock = createClock();
         ConnectionSettings settings = new ConnectionSettings( authToken, config.userAgent(), config.connectionTimeoutMillis() );
-        ChannelConnector connector = createConnector( settings, securityPlan, config, clock, routingContext );
+        ChannelConnector connector = createConnector( settings, securityPlan, config, clock, routingContext, domainNameResolver );
         PoolSettings poolSettings = new PoolSettings( config.maxConnectionPoolSize(),
                 config.connectionAcquisitionTimeoutMillis(), config.maxConnectionLifetimeMillis(),
-                config.idleTimeBeforeConnectionTest()
+                config.idleTimeBeforeConnectionTest(), config.minConnectionPoolSize()
         );
-        return new ConnectionPoolImpl( connector, bootstrap, poolSettings, metricsProvider.metricsListener(), config.logging(), clock, ownsEventLoopGroup );
+        EventLoopShards eventLoopShards = config.eventLoopShards() > 0 ? new EventLoopShards( config.eventLoopShards(), config.eventLoopThreads() ) : null;
+        ResponseTimeTracker responseTimeTracker = config.latencyAwareLoadBalancingEnabled() ? new ResponseTimeTracker( clock ) : null;
+        // the pool outlives all connections of the driver, so it closes the cache too
+        CachingDomainNameResolver domainNameCache =
+                domainNameResolver instanceof CachingDomainNameResolver ? (CachingDomainNameResolver) domainNameResolver : null;
+        return new ConnectionPoolImpl( connector, bootstrap, poolSettings, metricsProvider.metricsListener(), config.logging(), clock, ownsEventLoopGroup,
+                                       eventLoopShards, responseTimeTracker, domainNameCache );
     }
 
     protected static MetricsProvider getOrCreateMetricsProvider( Config config, Clock clock )
@@ -137,14 +151,14 @@ public class DriverFactory
     }
 
     protected ChannelConnector createConnector( ConnectionSettings settings, SecurityPlan securityPlan,
-            Config config, Clock clock, RoutingContext routingContext )
+            Config config, Clock clock, RoutingContext routingContext, DomainNameResolver domainNameResolver )
     {
-        return new ChannelConnectorImpl( settings, securityPlan, config.logging(), clock, routingContext, getDomainNameResolver() );
+        return new ChannelConnectorImpl( settings, securityPlan, config.logging(), clock, routingContext, domainNameResolver );
     }
 
     private InternalDriver createDriver( URI uri, SecurityPlan securityPlan, BoltServerAddress address, ConnectionPool connectionPool,
                                          EventExecutorGroup eventExecutorGroup, RoutingSettings routingSettings, RetryLogic retryLogic,
-                                         MetricsProvider metricsProvider, Config config )
+                                         MetricsProvider metricsProvider, Config config, DomainNameResolver domainNameResolver )
     {
         try
         {
@@ -152,12 +166,13 @@ public class DriverFactory
 
             if ( isRoutingScheme( scheme ) )
             {
-                return createRoutingDriver( securityPlan, address, connectionPool, eventExecutorGroup, routingSettings, retryLogic, metricsProvider, config );
+                return createRoutingDriver( securityPlan, address, connectionPool, eventExecutorGroup, routingSettings, retryLogic, metricsProvider, config,
+                                            domainNameResolver );
             }
             else
             {
                 assertNoRoutingContext( uri, routingSettings );
-                return createDirectDriver( securityPlan, address, connectionPool, retryLogic, metricsProvider, config );
+                return createDirectDriver( securityPlan, address, connectionPool, eventExecutorGroup, retryLogic, metricsProvider, config );
             }
         }
         catch ( Throwable driverError )
@@ -173,11 +188,11 @@ public class DriverFactory
      * <p>
      * <b>This method is protected only for testing</b>
      */
-    protected InternalDriver createDirectDriver( SecurityPlan securityPlan, BoltServerAddress address, ConnectionPool connectionPool, RetryLogic retryLogic,
-            MetricsProvider metricsProvider, Config config )
+    protected InternalDriver createDirectDriver( SecurityPlan securityPlan, BoltServerAddress address, ConnectionPool connectionPool,
+            EventExecutorGroup eventExecutorGroup, RetryLogic retryLogic, MetricsProvider metricsProvider, Config config )
     {
         ConnectionProvider connectionProvider = new DirectConnectionProvider( address, connectionPool );
-        SessionFactory sessionFactory = createSessionFactory( connectionProvider, retryLogic, config );
+        SessionFactory sessionFactory = createSessionFactory( connectionProvider, retryLogic, eventExecutorGroup, config );
         InternalDriver driver = createDriver( securityPlan, sessionFactory, metricsProvider, config );
         Logger log = config.logging().getLog( getClass() );
         log.info( "Direct driver instance %s created for server address %s", driver.hashCode(), address );
@@ -190,11 +205,12 @@ public class DriverFactory
      * <b>This method is protected only for testing</b>
      */
     protected InternalDriver createRoutingDriver( SecurityPlan securityPlan, BoltServerAddress address, ConnectionPool connectionPool,
-            EventExecutorGroup eventExecutorGroup, RoutingSettings routingSettings, RetryLogic retryLogic, MetricsProvider metricsProvider, Config config )
+            EventExecutorGroup eventExecutorGroup, RoutingSettings routingSettings, RetryLogic retryLogic, MetricsProvider metricsProvider, Config config,
+            DomainNameResolver domainNameResolver )
     {
         ConnectionProvider connectionProvider = createLoadBalancer( address, connectionPool, eventExecutorGroup,
-                config, routingSettings );
-        SessionFactory sessionFactory = createSessionFactory( connectionProvider, retryLogic, config );
+                config, routingSettings, domainNameResolver );
+        SessionFactory sessionFactory = createSessionFactory( connectionProvider, retryLogic, eventExecutorGroup, config );
         InternalDriver driver = createDriver( securityPlan, sessionFactory, metricsProvider, config );
         Logger log = config.logging().getLog( getClass() );
         log.info( "Routing driver instance %s created for server address %s", driver.hashCode(), address );
@@ -217,12 +233,20 @@ public class DriverFactory
      * <b>This method is protected only for testing</b>
      */
     protected LoadBalancer createLoadBalancer( BoltServerAddress address, ConnectionPool connectionPool,
-                                               EventExecutorGroup eventExecutorGroup, Config config, RoutingSettings routingSettings )
+                                               EventExecutorGroup eventExecutorGroup, Config config, RoutingSettings routingSettings,
+                                               DomainNameResolver domainNameResolver )
     {
-        LoadBalancingStrategy loadBalancingStrategy = new LeastConnectedLoadBalancingStrategy( connectionPool, config.logging() );
+        LoadBalancingStrategy loadBalancingStrategy = config.latencyAwareLoadBalancingEnabled()
+                                                      ? new LatencyAwareLoadBalancingStrategy( connectionPool, config.logging() )
+                                                      : new LeastConnectedLoadBalancingStrategy( connectionPool, config.logging() );
+        if ( config.localZone() != null )
+        {
+            loadBalancingStrategy = new ZoneAwareLoadBalancingStrategy( loadBalancingStrategy, config.localZone(), config.zoneResolver(), connectionPool,
+                                                                        config.maxConnectionPoolSize(), config.logging() );
+        }
         ServerAddressResolver resolver = createResolver( config );
         LoadBalancer loadBalancer = new LoadBalancer( address, routingSettings, connectionPool, eventExecutorGroup, createClock(),
-                                                      config.logging(), loadBalancingStrategy, resolver, getDomainNameResolver() );
+                                                      config.logging(), loadBalancingStrategy, resolver, domainNameResolver );
         handleNewLoadBalancer( loadBalancer );
         return loadBalancer;
     }
@@ -260,9 +284,9 @@ public class DriverFactory
      * <b>This method is protected only for testing</b>
      */
     protected SessionFactory createSessionFactory( ConnectionProvider connectionProvider, RetryLogic retryLogic,
-            Config config )
+            EventExecutorGroup eventExecutorGroup, Config config )
     {
-        return new SessionFactoryImpl( connectionProvider, retryLogic, config );
+        return new SessionFactoryImpl( connectionProvider, retryLogic, eventExecutorGroup, config );
     }
 
     /**
@@ -308,6 +332,13 @@ public class DriverFactory
         return DefaultDomainNameResolver.getInstance();
     }
 
+    private DomainNameResolver createDomainNameResolver( Config config )
+    {
+        DomainNameResolver resolver = getDomainNameResolver();
+        long ttlMillis = config.domainNameCacheTtlMillis();
+        return ttlMillis > 0 ? new CachingDomainNameResolver( resolver, ttlMillis, createClock(), config.logging() ) : resolver;
+    }
+
     private static void assertNoRoutingContext( URI uri, RoutingSettings routingSettings )
     {
         RoutingContext routingContext = routingSettings.routingContext();
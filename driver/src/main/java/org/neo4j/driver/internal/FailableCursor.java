@@ -31,4 +31,13 @@ public interface FailableCursor
      * Pulling all unconsumed records into memory and returning failure if there is any pull errors.
      */
     CompletionStage<Throwable> pullAllFailureAsync();
+
+    /**
+     * Check if all records have been received or discarded without a failure left to report.
+     * Such a cursor has nothing to contribute to the completion of its transaction anymore.
+     */
+    default boolean isCompletedWithoutFailure()
+    {
+        return false;
+    }
 }
@@ -18,6 +18,9 @@
  */
 package org.neo4j.driver.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.neo4j.driver.Query;
 import org.neo4j.driver.Result;
 import org.neo4j.driver.Transaction;
@@ -62,6 +65,27 @@ public class InternalTransaction extends AbstractQueryRunner implements Transact
         return new InternalResult( tx.connection(), cursor );
     }
 
+    @Override
+    public List<Result> runBatch( List<Query> queries )
+    {
+        List<ResultCursor> cursors = Futures.blockingGet( tx.runBatchAsync( queries ),
+                                                          () -> terminateConnectionOnThreadInterrupt( "Thread interrupted while running queries in transaction" ) );
+        List<Result> results = new ArrayList<>( cursors.size() );
+        for ( ResultCursor cursor : cursors )
+        {
+            results.add( new InternalResult( tx.connection(), cursor ) );
+        }
+        return results;
+    }
+
+    @Override
+    public Result runAndCommit( Query query )
+    {
+        ResultCursor cursor = Futures.blockingGet( tx.runAndCommitAsync( query ),
+                                                   () -> terminateConnectionOnThreadInterrupt( "Thread interrupted while committing the transaction" ) );
+        return new InternalResult( tx.connection(), cursor );
+    }
+
     @Override
     public boolean isOpen()
     {
@@ -18,6 +18,10 @@
  */
 package org.neo4j.driver.internal;
 
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.EventExecutorGroup;
+
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 
@@ -27,6 +31,7 @@ import org.neo4j.driver.Logging;
 import org.neo4j.driver.SessionConfig;
 import org.neo4j.driver.internal.async.LeakLoggingNetworkSession;
 import org.neo4j.driver.internal.async.NetworkSession;
+import org.neo4j.driver.internal.async.ReadTransactionHedging;
 import org.neo4j.driver.internal.retry.RetryLogic;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
 
@@ -37,14 +42,27 @@ public class SessionFactoryImpl implements SessionFactory
     private final Logging logging;
     private final boolean leakedSessionsLoggingEnabled;
     private final long defaultFetchSize;
+    private final EventExecutorGroup eventExecutorGroup;
+    private final ReadTransactionHedging readTransactionHedging;
+    private final boolean pipelinedTransactionBegin;
 
     SessionFactoryImpl( ConnectionProvider connectionProvider, RetryLogic retryLogic, Config config )
+    {
+        this( connectionProvider, retryLogic, null, config );
+    }
+
+    SessionFactoryImpl( ConnectionProvider connectionProvider, RetryLogic retryLogic, EventExecutorGroup eventExecutorGroup, Config config )
     {
         this.connectionProvider = connectionProvider;
         this.leakedSessionsLoggingEnabled = config.logLeakedSessions();
         this.retryLogic = retryLogic;
         this.logging = config.logging();
         this.defaultFetchSize = config.fetchSize();
+        this.eventExecutorGroup = config.eventLoopAffinityEnabled() ? eventExecutorGroup : null;
+        this.readTransactionHedging = config.readTransactionHedgingDelayMillis() >= 0 && eventExecutorGroup != null
+                                      ? new ReadTransactionHedging( config.readTransactionHedgingDelayMillis(), eventExecutorGroup )
+                                      : null;
+        this.pipelinedTransactionBegin = config.pipelinedTransactionBeginEnabled();
     }
 
     @Override
@@ -53,7 +71,7 @@ public class SessionFactoryImpl implements SessionFactory
         BookmarkHolder bookmarkHolder = new DefaultBookmarkHolder( InternalBookmark.from( sessionConfig.bookmarks() ) );
         return createSession( connectionProvider, retryLogic, parseDatabaseName( sessionConfig ),
                               sessionConfig.defaultAccessMode(), bookmarkHolder, parseFetchSize( sessionConfig ),
-                              sessionConfig.impersonatedUser().orElse( null ), logging );
+                              sessionConfig.impersonatedUser().orElse( null ), nextEventLoop(), logging );
     }
 
     private long parseFetchSize( SessionConfig sessionConfig )
@@ -61,6 +79,16 @@ public class SessionFactoryImpl implements SessionFactory
         return sessionConfig.fetchSize().orElse( defaultFetchSize );
     }
 
+    private EventLoop nextEventLoop()
+    {
+        if ( eventExecutorGroup == null )
+        {
+            return null;
+        }
+        EventExecutor executor = eventExecutorGroup.next();
+        return executor instanceof EventLoop ? (EventLoop) executor : null;
+    }
+
     private DatabaseName parseDatabaseName( SessionConfig sessionConfig )
     {
         return sessionConfig.database()
@@ -99,10 +127,13 @@ public class SessionFactoryImpl implements SessionFactory
     }
 
     private NetworkSession createSession( ConnectionProvider connectionProvider, RetryLogic retryLogic, DatabaseName databaseName, AccessMode mode,
-                                          BookmarkHolder bookmarkHolder, long fetchSize, String impersonatedUser, Logging logging )
+                                          BookmarkHolder bookmarkHolder, long fetchSize, String impersonatedUser, EventLoop eventLoop,
+                                          Logging logging )
     {
         return leakedSessionsLoggingEnabled
-               ? new LeakLoggingNetworkSession( connectionProvider, retryLogic, databaseName, mode, bookmarkHolder, impersonatedUser, fetchSize, logging )
-               : new NetworkSession( connectionProvider, retryLogic, databaseName, mode, bookmarkHolder, impersonatedUser, fetchSize, logging );
+               ? new LeakLoggingNetworkSession( connectionProvider, retryLogic, databaseName, mode, bookmarkHolder, impersonatedUser, fetchSize, eventLoop,
+                                                readTransactionHedging, pipelinedTransactionBegin, logging )
+               : new NetworkSession( connectionProvider, retryLogic, databaseName, mode, bookmarkHolder, impersonatedUser, fetchSize, eventLoop,
+                                     readTransactionHedging, pipelinedTransactionBegin, logging );
     }
 }
@@ -18,11 +18,14 @@
  */
 package org.neo4j.driver.internal.async;
 
+import io.netty.channel.EventLoop;
+
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Bookmark;
+import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
 
@@ -40,4 +43,24 @@ public interface ConnectionContext
     Bookmark rediscoveryBookmark();
 
     String impersonatedUser();
+
+    /**
+     * The event loop connections should preferably be bound to.
+     *
+     * @return the preferred event loop or {@code null} when there is no preference.
+     */
+    default EventLoop eventLoop()
+    {
+        return null;
+    }
+
+    /**
+     * The address connections should preferably not be acquired from, when other servers are available.
+     *
+     * @return the address to avoid or {@code null} when there is none.
+     */
+    default BoltServerAddress avoidedAddress()
+    {
+        return null;
+    }
 }
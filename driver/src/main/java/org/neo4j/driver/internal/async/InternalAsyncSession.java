@@ -18,9 +18,12 @@
  */
 package org.neo4j.driver.internal.async;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledFuture;
 
 import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Bookmark;
@@ -30,6 +33,7 @@ import org.neo4j.driver.async.AsyncSession;
 import org.neo4j.driver.async.AsyncTransaction;
 import org.neo4j.driver.async.AsyncTransactionWork;
 import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.util.Futures;
 
 import static java.util.Collections.emptyMap;
@@ -96,6 +100,11 @@ public class InternalAsyncSession extends AsyncAbstractQueryRunner implements As
     @Override
     public <T> CompletionStage<T> readTransactionAsync( AsyncTransactionWork<CompletionStage<T>> work, TransactionConfig config )
     {
+        ReadTransactionHedging hedging = session.readTransactionHedging();
+        if ( hedging != null )
+        {
+            return session.retryLogic().retryAsync( () -> new HedgedReadTransaction<>( work, config, hedging ).execute() );
+        }
         return transactionAsync( AccessMode.READ, work, config );
     }
 
@@ -187,6 +196,12 @@ public class InternalAsyncSession extends AsyncAbstractQueryRunner implements As
                 } );
     }
 
+    private static void terminate( UnmanagedTransaction tx )
+    {
+        tx.markTerminated( null );
+        tx.connection().reset();
+    }
+
     private <T> void closeTxAfterSucceededTransactionWork(UnmanagedTransaction tx, CompletableFuture<T> resultFuture, T result )
     {
         tx.closeAsync( true ).whenComplete(
@@ -203,4 +218,163 @@ public class InternalAsyncSession extends AsyncAbstractQueryRunner implements As
                     }
                 } );
     }
+
+    /**
+     * Executes a read transaction function, and executes it a second time on another reader when the first attempt does not complete
+     * within the hedging delay. The first attempt whose work succeeds is committed, the other one is terminated and rolled back.
+     */
+    private class HedgedReadTransaction<T>
+    {
+        private final AsyncTransactionWork<CompletionStage<T>> work;
+        private final TransactionConfig config;
+        private final ReadTransactionHedging hedging;
+        private final CompletableFuture<T> resultFuture = new CompletableFuture<>();
+        private final List<UnmanagedTransaction> transactions = new ArrayList<>( 2 );
+        private int pendingAttempts = 1;
+        private boolean completed;
+        private ScheduledFuture<?> hedge;
+
+        private HedgedReadTransaction( AsyncTransactionWork<CompletionStage<T>> work, TransactionConfig config, ReadTransactionHedging hedging )
+        {
+            this.work = work;
+            this.config = config;
+            this.hedging = hedging;
+        }
+
+        private CompletionStage<T> execute()
+        {
+            session.beginDetachedTransactionAsync( AccessMode.READ, config, null ).whenComplete( ( tx, completionError ) ->
+            {
+                Throwable error = Futures.completionExceptionCause( completionError );
+                if ( error != null )
+                {
+                    resultFuture.completeExceptionally( error );
+                }
+                else
+                {
+                    synchronized ( this )
+                    {
+                        transactions.add( tx );
+                        hedge = hedging.scheduleHedge( () -> startHedge( tx.connection().serverAddress() ) );
+                    }
+                    executeAttempt( tx );
+                }
+            } );
+            return resultFuture;
+        }
+
+        private void startHedge( BoltServerAddress firstAddress )
+        {
+            synchronized ( this )
+            {
+                if ( completed )
+                {
+                    return;
+                }
+                pendingAttempts++;
+            }
+
+            session.beginDetachedTransactionAsync( AccessMode.READ, config, firstAddress ).whenComplete( ( tx, completionError ) ->
+            {
+                Throwable error = Futures.completionExceptionCause( completionError );
+                if ( error != null )
+                {
+                    attemptFailed( null, error );
+                }
+                else if ( register( tx ) )
+                {
+                    executeAttempt( tx );
+                }
+                else
+                {
+                    // the first attempt completed in the meantime
+                    tx.closeAsync();
+                }
+            } );
+        }
+
+        private synchronized boolean register( UnmanagedTransaction tx )
+        {
+            if ( completed )
+            {
+                return false;
+            }
+            transactions.add( tx );
+            return true;
+        }
+
+        private void executeAttempt( UnmanagedTransaction tx )
+        {
+            safeExecuteWork( tx, work ).whenComplete( ( result, completionError ) ->
+            {
+                Throwable error = Futures.completionExceptionCause( completionError );
+                if ( error != null )
+                {
+                    attemptFailed( tx, error );
+                }
+                else
+                {
+                    attemptSucceeded( tx, result );
+                }
+            } );
+        }
+
+        private void attemptSucceeded( UnmanagedTransaction tx, T result )
+        {
+            List<UnmanagedTransaction> otherTransactions = null;
+            synchronized ( this )
+            {
+                pendingAttempts--;
+                if ( !completed )
+                {
+                    completed = true;
+                    hedge.cancel( false );
+                    otherTransactions = new ArrayList<>( transactions );
+                    otherTransactions.remove( tx );
+                }
+            }
+
+            if ( otherTransactions == null )
+            {
+                // the other attempt won
+                tx.closeAsync();
+            }
+            else
+            {
+                otherTransactions.forEach( InternalAsyncSession::terminate );
+                closeTxAfterSucceededTransactionWork( tx, resultFuture, result );
+            }
+        }
+
+        private void attemptFailed( UnmanagedTransaction tx, Throwable error )
+        {
+            boolean lastAttempt;
+            synchronized ( this )
+            {
+                pendingAttempts--;
+                lastAttempt = !completed && pendingAttempts == 0;
+                if ( lastAttempt )
+                {
+                    completed = true;
+                    hedge.cancel( false );
+                }
+            }
+
+            if ( tx == null )
+            {
+                if ( lastAttempt )
+                {
+                    resultFuture.completeExceptionally( error );
+                }
+            }
+            else if ( lastAttempt )
+            {
+                closeTxAfterFailedTransactionWork( tx, resultFuture, error );
+            }
+            else
+            {
+                tx.closeAsync();
+            }
+        }
+    }
 }
@@ -18,6 +18,7 @@
  */
 package org.neo4j.driver.internal.async;
 
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 import org.neo4j.driver.Query;
@@ -56,6 +57,18 @@ public class InternalAsyncTransaction extends AsyncAbstractQueryRunner implement
         return tx.runAsync( query );
     }
 
+    @Override
+    public CompletionStage<List<ResultCursor>> runBatchAsync( List<Query> queries )
+    {
+        return tx.runBatchAsync( queries );
+    }
+
+    @Override
+    public CompletionStage<ResultCursor> runAndCommitAsync( Query query )
+    {
+        return tx.runAndCommitAsync( query );
+    }
+
     public boolean isOpen()
     {
         return tx.isOpen();
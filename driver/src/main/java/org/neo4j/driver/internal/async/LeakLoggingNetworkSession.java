@@ -18,6 +18,8 @@
  */
 package org.neo4j.driver.internal.async;
 
+import io.netty.channel.EventLoop;
+
 import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.internal.BookmarkHolder;
@@ -35,7 +37,29 @@ public class LeakLoggingNetworkSession extends NetworkSession
     public LeakLoggingNetworkSession( ConnectionProvider connectionProvider, RetryLogic retryLogic, DatabaseName databaseName, AccessMode mode,
                                       BookmarkHolder bookmarkHolder, String impersonatedUser, long fetchSize, Logging logging )
     {
-        super( connectionProvider, retryLogic, databaseName, mode, bookmarkHolder, impersonatedUser, fetchSize, logging );
+        this( connectionProvider, retryLogic, databaseName, mode, bookmarkHolder, impersonatedUser, fetchSize, null, logging );
+    }
+
+    public LeakLoggingNetworkSession( ConnectionProvider connectionProvider, RetryLogic retryLogic, DatabaseName databaseName, AccessMode mode,
+                                      BookmarkHolder bookmarkHolder, String impersonatedUser, long fetchSize, EventLoop eventLoop, Logging logging )
+    {
+        this( connectionProvider, retryLogic, databaseName, mode, bookmarkHolder, impersonatedUser, fetchSize, eventLoop, null, logging );
+    }
+
+    public LeakLoggingNetworkSession( ConnectionProvider connectionProvider, RetryLogic retryLogic, DatabaseName databaseName, AccessMode mode,
+                                      BookmarkHolder bookmarkHolder, String impersonatedUser, long fetchSize, EventLoop eventLoop,
+                                      ReadTransactionHedging readTransactionHedging, Logging logging )
+    {
+        this( connectionProvider, retryLogic, databaseName, mode, bookmarkHolder, impersonatedUser, fetchSize, eventLoop, readTransactionHedging, false,
+              logging );
+    }
+
+    public LeakLoggingNetworkSession( ConnectionProvider connectionProvider, RetryLogic retryLogic, DatabaseName databaseName, AccessMode mode,
+                                      BookmarkHolder bookmarkHolder, String impersonatedUser, long fetchSize, EventLoop eventLoop,
+                                      ReadTransactionHedging readTransactionHedging, boolean pipelinedTransactionBegin, Logging logging )
+    {
+        super( connectionProvider, retryLogic, databaseName, mode, bookmarkHolder, impersonatedUser, fetchSize, eventLoop, readTransactionHedging,
+               pipelinedTransactionBegin, logging );
         this.stackTrace = captureStackTrace();
     }
 
@@ -51,7 +75,7 @@ public class LeakLoggingNetworkSession extends NetworkSession
         Boolean isOpen = Futures.blockingGet( currentConnectionIsOpen() );
         if ( isOpen )
         {
-            log.error( "Neo4j Session object leaked, please ensure that your application " +
+            log().error( "Neo4j Session object leaked, please ensure that your application " +
                        "fully consumes results in Sessions or explicitly calls `close` on Sessions before disposing of the objects.\n" +
                        "Session was create at:\n" + stackTrace, null );
         }
@@ -20,6 +20,7 @@ package org.neo4j.driver.internal.async;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandler;
+import io.netty.channel.EventLoop;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -29,6 +30,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.async.connection.BoltServerState;
 import org.neo4j.driver.internal.async.connection.ChannelAttributes;
 import org.neo4j.driver.internal.async.inbound.ConnectionReadTimeoutHandler;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
@@ -47,6 +49,7 @@ import org.neo4j.driver.internal.util.ServerVersion;
 
 import static java.util.Collections.emptyMap;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.poolId;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.serverState;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setTerminationReason;
 import static org.neo4j.driver.internal.util.Futures.asCompletionStage;
 
@@ -178,7 +181,7 @@ public class NetworkConnection implements Connection
             ChannelReleasingResetResponseHandler handler = new ChannelReleasingResetResponseHandler( channel,
                     channelPool, messageDispatcher, clock, releaseFuture );
 
-            writeResetMessageIfNeeded( handler, false );
+            releaseInEventLoop( handler );
             metricsListener.afterConnectionReleased( poolId( this.channel ), this.inUseEvent );
         }
         return releaseFuture;
@@ -225,6 +228,37 @@ public class NetworkConnection implements Connection
         return protocol;
     }
 
+    @Override
+    public EventLoop eventLoop()
+    {
+        return channel.eventLoop();
+    }
+
+    private void releaseInEventLoop( ResponseHandler resetHandler )
+    {
+        channel.eventLoop().execute( () ->
+        {
+            // auto-read could've been disabled, re-enable it to automatically receive response for RESET
+            // and to not return a channel with disabled auto-read to the pool
+            setAutoRead( true );
+
+            if ( isReadyForRelease() )
+            {
+                // the server is idle, there is nothing to reset
+                resetHandler.onSuccess( emptyMap() );
+            }
+            else
+            {
+                writeResetMessage( resetHandler );
+            }
+        } );
+    }
+
+    private boolean isReadyForRelease()
+    {
+        return serverState( channel ) == BoltServerState.READY && messageDispatcher.queuedHandlersCount() == 0 && messageDispatcher.currentError() == null;
+    }
+
     private void writeResetMessageIfNeeded( ResponseHandler resetHandler, boolean isSessionReset )
     {
         channel.eventLoop().execute( () ->
@@ -238,12 +272,17 @@ public class NetworkConnection implements Connection
                 // auto-read could've been disabled, re-enable it to automatically receive response for RESET
                 setAutoRead( true );
 
-                messageDispatcher.enqueue( resetHandler );
-                channel.writeAndFlush( ResetMessage.RESET ).addListener( future -> registerConnectionReadTimeout( channel ) );
+                writeResetMessage( resetHandler );
             }
         } );
     }
 
+    private void writeResetMessage( ResponseHandler resetHandler )
+    {
+        messageDispatcher.enqueue( resetHandler, ResetMessage.RESET );
+        channel.writeAndFlush( ResetMessage.RESET ).addListener( future -> registerConnectionReadTimeout( channel ) );
+    }
+
     private void flushInEventLoop()
     {
         channel.eventLoop().execute(
@@ -258,7 +297,7 @@ public class NetworkConnection implements Connection
     {
         channel.eventLoop().execute( () ->
         {
-            messageDispatcher.enqueue( handler );
+            messageDispatcher.enqueue( handler, message );
 
             if ( flush )
             {
@@ -275,8 +314,8 @@ public class NetworkConnection implements Connection
     {
         channel.eventLoop().execute( () ->
         {
-            messageDispatcher.enqueue( handler1 );
-            messageDispatcher.enqueue( handler2 );
+            messageDispatcher.enqueue( handler1, message1 );
+            messageDispatcher.enqueue( handler2, message2 );
 
             channel.write( message1, channel.voidPromise() );
 
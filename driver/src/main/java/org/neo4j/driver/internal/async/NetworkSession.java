@@ -18,6 +18,8 @@
  */
 package org.neo4j.driver.internal.async;
 
+import io.netty.channel.EventLoop;
+
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
@@ -32,8 +34,10 @@ import org.neo4j.driver.TransactionConfig;
 import org.neo4j.driver.async.ResultCursor;
 import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.exceptions.TransactionNestingException;
+import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.BookmarkHolder;
 import org.neo4j.driver.internal.DatabaseName;
+import org.neo4j.driver.internal.DatabaseNameUtil;
 import org.neo4j.driver.internal.FailableCursor;
 import org.neo4j.driver.internal.ImpersonationUtil;
 import org.neo4j.driver.internal.cursor.AsyncResultCursor;
@@ -50,14 +54,19 @@ import static org.neo4j.driver.internal.util.Futures.completedWithNull;
 
 public class NetworkSession
 {
+    private static final String QUERY_IN_OPEN_TX_ERROR_MESSAGE = "Queries cannot be run directly on a session with an open transaction; " +
+                                                                 "either run from within the transaction or use a different session.";
+
     private final ConnectionProvider connectionProvider;
     private final NetworkSessionConnectionContext connectionContext;
     private final AccessMode mode;
     private final RetryLogic retryLogic;
-    protected final Logger log;
+    private final Logging logging;
 
     private final BookmarkHolder bookmarkHolder;
     private final long fetchSize;
+    private final ReadTransactionHedging readTransactionHedging;
+    private final boolean pipelinedTransactionBegin;
     private volatile CompletionStage<UnmanagedTransaction> transactionStage = completedWithNull();
     private volatile CompletionStage<Connection> connectionStage = completedWithNull();
     private volatile CompletionStage<? extends FailableCursor> resultCursorStage = completedWithNull();
@@ -66,17 +75,40 @@ public class NetworkSession
 
     public NetworkSession( ConnectionProvider connectionProvider, RetryLogic retryLogic, DatabaseName databaseName, AccessMode mode,
                            BookmarkHolder bookmarkHolder, String impersonatedUser, long fetchSize, Logging logging )
+    {
+        this( connectionProvider, retryLogic, databaseName, mode, bookmarkHolder, impersonatedUser, fetchSize, null, logging );
+    }
+
+    public NetworkSession( ConnectionProvider connectionProvider, RetryLogic retryLogic, DatabaseName databaseName, AccessMode mode,
+                           BookmarkHolder bookmarkHolder, String impersonatedUser, long fetchSize, EventLoop eventLoop, Logging logging )
+    {
+        this( connectionProvider, retryLogic, databaseName, mode, bookmarkHolder, impersonatedUser, fetchSize, eventLoop, null, logging );
+    }
+
+    public NetworkSession( ConnectionProvider connectionProvider, RetryLogic retryLogic, DatabaseName databaseName, AccessMode mode,
+                           BookmarkHolder bookmarkHolder, String impersonatedUser, long fetchSize, EventLoop eventLoop,
+                           ReadTransactionHedging readTransactionHedging, Logging logging )
+    {
+        this( connectionProvider, retryLogic, databaseName, mode, bookmarkHolder, impersonatedUser, fetchSize, eventLoop, readTransactionHedging, false,
+              logging );
+    }
+
+    public NetworkSession( ConnectionProvider connectionProvider, RetryLogic retryLogic, DatabaseName databaseName, AccessMode mode,
+                           BookmarkHolder bookmarkHolder, String impersonatedUser, long fetchSize, EventLoop eventLoop,
+                           ReadTransactionHedging readTransactionHedging, boolean pipelinedTransactionBegin, Logging logging )
     {
         this.connectionProvider = connectionProvider;
         this.mode = mode;
         this.retryLogic = retryLogic;
-        this.log = new PrefixedLogger( "[" + hashCode() + "]", logging.getLog( getClass() ) );
+        this.logging = logging;
         this.bookmarkHolder = bookmarkHolder;
-        CompletableFuture<DatabaseName> databaseNameFuture = databaseName.databaseName()
-                                                                         .map( ignored -> CompletableFuture.completedFuture( databaseName ) )
-                                                                         .orElse( new CompletableFuture<>() );
-        this.connectionContext = new NetworkSessionConnectionContext( databaseNameFuture, bookmarkHolder.getBookmark(), impersonatedUser );
+        CompletableFuture<DatabaseName> databaseNameFuture = databaseName.databaseName().isPresent()
+                                                             ? DatabaseNameUtil.completedDatabaseNameFuture( databaseName )
+                                                             : new CompletableFuture<>();
+        this.connectionContext = new NetworkSessionConnectionContext( databaseNameFuture, bookmarkHolder.getBookmark(), impersonatedUser, eventLoop );
         this.fetchSize = fetchSize;
+        this.readTransactionHedging = readTransactionHedging;
+        this.pipelinedTransactionBegin = pipelinedTransactionBegin;
     }
 
     public CompletionStage<ResultCursor> runAsync( Query query, TransactionConfig config )
@@ -110,11 +142,7 @@ public class NetworkSession
         CompletionStage<UnmanagedTransaction> newTransactionStage = ensureNoOpenTxBeforeStartingTx()
                 .thenCompose( ignore -> acquireConnection( mode ) )
                 .thenApply( connection -> ImpersonationUtil.ensureImpersonationSupport( connection, connection.impersonatedUser() ) )
-                .thenCompose( connection ->
-                {
-                    UnmanagedTransaction tx = new UnmanagedTransaction( connection, bookmarkHolder, fetchSize );
-                    return tx.beginAsync( bookmarkHolder.getBookmark(), config );
-                } );
+                .thenCompose( connection -> beginTransaction( connection, config ) );
 
         // update the reference to the only known transaction
         CompletionStage<UnmanagedTransaction> currentTransactionStage = transactionStage;
@@ -135,6 +163,42 @@ public class NetworkSession
         return newTransactionStage;
     }
 
+    /**
+     * Begin a transaction that is not tracked by this session, on a connection of its own. The caller is responsible for closing it.
+     * This allows to run several attempts of a transaction concurrently.
+     *
+     * @param mode the access mode of the transaction.
+     * @param config the configuration of the transaction.
+     * @param avoidedAddress the address that should not serve the transaction if other servers are available, or {@code null}.
+     * @return the begun transaction.
+     */
+    public CompletionStage<UnmanagedTransaction> beginDetachedTransactionAsync( AccessMode mode, TransactionConfig config,
+                                                                                BoltServerAddress avoidedAddress )
+    {
+        ensureSessionIsOpen();
+
+        return ensureNoOpenTxBeforeStartingTx()
+                .thenCompose( ignore -> connectionProvider.acquireConnection( connectionContext.detachedContext( mode, avoidedAddress ) ) )
+                .thenApply( connection -> ImpersonationUtil.ensureImpersonationSupport( connection, connection.impersonatedUser() ) )
+                .thenCompose( connection -> beginTransaction( connection, config ) );
+    }
+
+    private CompletionStage<UnmanagedTransaction> beginTransaction( Connection connection, TransactionConfig config )
+    {
+        UnmanagedTransaction tx = new UnmanagedTransaction( connection, bookmarkHolder, fetchSize );
+        return pipelinedTransactionBegin
+               ? completedFuture( tx.beginPipelined( bookmarkHolder.getBookmark(), config ) )
+               : tx.beginAsync( bookmarkHolder.getBookmark(), config );
+    }
+
+    /**
+     * @return the hedging of read transaction functions, or {@code null} if they are not hedged.
+     */
+    public ReadTransactionHedging readTransactionHedging()
+    {
+        return readTransactionHedging;
+    }
+
     public CompletionStage<Void> resetAsync()
     {
         return existingTransactionOrNull()
@@ -219,6 +283,14 @@ public class NetworkSession
         return completedWithNull();
     }
 
+    /**
+     * Sessions rarely log, so their logger is only created when needed instead of with every session.
+     */
+    protected Logger log()
+    {
+        return new PrefixedLogger( "[" + hashCode() + "]", logging.getLog( getClass() ) );
+    }
+
     protected CompletionStage<Boolean> currentConnectionIsOpen()
     {
         return connectionStage.handle( ( connection, error ) ->
@@ -231,14 +303,13 @@ public class NetworkSession
     {
         ensureSessionIsOpen();
 
-        return ensureNoOpenTxBeforeRunningQuery()
-                .thenCompose( ignore -> acquireConnection( mode ) )
-                .thenApply( connection -> ImpersonationUtil.ensureImpersonationSupport( connection, connection.impersonatedUser() ) )
+        return acquireConnectionForQuery( mode )
                 .thenCompose(
                         connection ->
                         {
                             try
                             {
+                                ImpersonationUtil.ensureImpersonationSupport( connection, connection.impersonatedUser() );
                                 ResultCursorFactory factory = connection
                                         .protocol()
                                         .runInAutoCommitTransaction( connection, query, bookmarkHolder, config, fetchSize );
@@ -251,6 +322,75 @@ public class NetworkSession
                         } );
     }
 
+    /**
+     * Acquire a connection for a query like {@link #ensureNoOpenTxBeforeRunningQuery()} followed by {@link #acquireConnection(AccessMode)} do,
+     * but without a chain of intermediate stages when the previous transaction, result and connection of this session are already complete.
+     * That is always the case with the blocking API, which waits for each of them before returning.
+     */
+    private CompletionStage<Connection> acquireConnectionForQuery( AccessMode mode )
+    {
+        CompletableFuture<UnmanagedTransaction> txFuture = transactionStage.toCompletableFuture();
+        CompletableFuture<? extends FailableCursor> cursorFuture = resultCursorStage.toCompletableFuture();
+        CompletableFuture<Connection> currentConnectionFuture = connectionStage.toCompletableFuture();
+        if ( !txFuture.isDone() || !cursorFuture.isDone() || !currentConnectionFuture.isDone() )
+        {
+            return ensureNoOpenTxBeforeRunningQuery().thenCompose( ignore -> acquireConnection( mode ) );
+        }
+
+        UnmanagedTransaction tx = valueNowOrNull( txFuture );
+        if ( tx != null && tx.isOpen() )
+        {
+            return Futures.failedFuture( new TransactionNestingException( QUERY_IN_OPEN_TX_ERROR_MESSAGE ) );
+        }
+
+        FailableCursor cursor = valueNowOrNull( cursorFuture );
+        Connection existingConnection = valueNowOrNull( currentConnectionFuture );
+        CompletionStage<Connection> newConnectionStage;
+        if ( cursor == null )
+        {
+            newConnectionStage = acquireConnectionAfterPreviousResult( mode, null, existingConnection );
+        }
+        else
+        {
+            // make sure previous result is fully consumed and connection is released back to the pool
+            CompletableFuture<Throwable> cursorFailureFuture = cursor.pullAllFailureAsync().toCompletableFuture();
+            newConnectionStage = cursorFailureFuture.isDone() && !cursorFailureFuture.isCompletedExceptionally()
+                                 ? acquireConnectionAfterPreviousResult( mode, cursorFailureFuture.getNow( null ), existingConnection )
+                                 : cursorFailureFuture.thenCompose( error -> acquireConnectionAfterPreviousResult( mode, error, existingConnection ) );
+        }
+
+        connectionStage = newConnectionStage.exceptionally( error -> null );
+
+        return newConnectionStage;
+    }
+
+    private CompletionStage<Connection> acquireConnectionAfterPreviousResult( AccessMode mode, Throwable previousResultError, Connection existingConnection )
+    {
+        if ( previousResultError != null )
+        {
+            // there exists unconsumed error, re-throw it
+            return Futures.failedFuture( previousResultError );
+        }
+        if ( existingConnection != null && existingConnection.isOpen() )
+        {
+            // there somehow is an existing open connection, this should not happen, just a precondition
+            return Futures.failedFuture( new IllegalStateException( "Existing open connection detected" ) );
+        }
+        try
+        {
+            return connectionProvider.acquireConnection( connectionContext.contextWithMode( mode ) );
+        }
+        catch ( Throwable error )
+        {
+            return Futures.failedFuture( error );
+        }
+    }
+
+    private static <T> T valueNowOrNull( CompletableFuture<T> future )
+    {
+        return future.isCompletedExceptionally() ? null : future.getNow( null );
+    }
+
     private CompletionStage<Connection> acquireConnection( AccessMode mode )
     {
         CompletionStage<Connection> currentConnectionStage = connectionStage;
@@ -315,8 +455,7 @@ public class NetworkSession
 
     private CompletionStage<Void> ensureNoOpenTxBeforeRunningQuery()
     {
-        return ensureNoOpenTx( "Queries cannot be run directly on a session with an open transaction; " +
-                               "either run from within the transaction or use a different session." );
+        return ensureNoOpenTx( QUERY_IN_OPEN_TX_ERROR_MESSAGE );
     }
 
     private CompletionStage<Void> ensureNoOpenTxBeforeStartingTx()
@@ -365,12 +504,23 @@ public class NetworkSession
         // As only that bookmark could carry extra system bookmarks
         private final Bookmark rediscoveryBookmark;
         private final String impersonatedUser;
+        private final EventLoop eventLoop;
+        private final BoltServerAddress avoidedAddress;
+
+        private NetworkSessionConnectionContext( CompletableFuture<DatabaseName> databaseNameFuture, Bookmark bookmark, String impersonatedUser,
+                                                 EventLoop eventLoop )
+        {
+            this( databaseNameFuture, bookmark, impersonatedUser, eventLoop, null );
+        }
 
-        private NetworkSessionConnectionContext( CompletableFuture<DatabaseName> databaseNameFuture, Bookmark bookmark, String impersonatedUser )
+        private NetworkSessionConnectionContext( CompletableFuture<DatabaseName> databaseNameFuture, Bookmark bookmark, String impersonatedUser,
+                                                 EventLoop eventLoop, BoltServerAddress avoidedAddress )
         {
             this.databaseNameFuture = databaseNameFuture;
             this.rediscoveryBookmark = bookmark;
             this.impersonatedUser = impersonatedUser;
+            this.eventLoop = eventLoop;
+            this.avoidedAddress = avoidedAddress;
         }
 
         private ConnectionContext contextWithMode( AccessMode mode )
@@ -379,6 +529,15 @@ public class NetworkSession
             return this;
         }
 
+        /**
+         * Detached transactions acquire connections concurrently to the session, so they get a context of their own.
+         */
+        private ConnectionContext detachedContext( AccessMode mode, BoltServerAddress avoidedAddress )
+        {
+            return new NetworkSessionConnectionContext( databaseNameFuture, rediscoveryBookmark, impersonatedUser, eventLoop, avoidedAddress )
+                    .contextWithMode( mode );
+        }
+
         @Override
         public CompletableFuture<DatabaseName> databaseNameFuture()
         {
@@ -402,6 +561,18 @@ public class NetworkSession
         {
             return impersonatedUser;
         }
+
+        @Override
+        public EventLoop eventLoop()
+        {
+            return eventLoop;
+        }
+
+        @Override
+        public BoltServerAddress avoidedAddress()
+        {
+            return avoidedAddress;
+        }
     }
 
 }
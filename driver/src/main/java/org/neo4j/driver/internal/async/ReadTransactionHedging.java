@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async;
+
+import io.netty.util.concurrent.EventExecutorGroup;
+
+import java.util.concurrent.ScheduledFuture;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Schedules the second attempts of hedged read transactions.
+ *
+ * @see org.neo4j.driver.Config.ConfigBuilder#withReadTransactionHedging(long, java.util.concurrent.TimeUnit)
+ */
+public class ReadTransactionHedging
+{
+    private final long delayMs;
+    private final EventExecutorGroup eventExecutorGroup;
+
+    public ReadTransactionHedging( long delayMs, EventExecutorGroup eventExecutorGroup )
+    {
+        this.delayMs = delayMs;
+        this.eventExecutorGroup = eventExecutorGroup;
+    }
+
+    public long delayMs()
+    {
+        return delayMs;
+    }
+
+    public ScheduledFuture<?> scheduleHedge( Runnable hedge )
+    {
+        return eventExecutorGroup.schedule( hedge, delayMs, MILLISECONDS );
+    }
+}
@@ -36,6 +36,8 @@ public class ResultCursorsHolder
     public void add( CompletionStage<? extends FailableCursor> cursorStage )
     {
         Objects.requireNonNull( cursorStage );
+        // do not keep completed results reachable until the transaction ends, as transactions may run many queries
+        cursorStages.removeIf( ResultCursorsHolder::isCompletedWithoutFailure );
         cursorStages.add( cursorStage );
     }
 
@@ -71,6 +73,22 @@ public class ResultCursorsHolder
         return null;
     }
 
+    private static boolean isCompletedWithoutFailure( CompletionStage<? extends FailableCursor> cursorStage )
+    {
+        CompletableFuture<? extends FailableCursor> cursorFuture = cursorStage.toCompletableFuture();
+        if ( !cursorFuture.isDone() )
+        {
+            return false;
+        }
+        if ( cursorFuture.isCompletedExceptionally() )
+        {
+            // failures to run queries are reported by the runs, they are not retrieved as not consumed errors either
+            return true;
+        }
+        FailableCursor cursor = cursorFuture.join();
+        return cursor == null || cursor.isCompletedWithoutFailure();
+    }
+
     private static CompletionStage<Throwable> retrieveFailure( CompletionStage<? extends FailableCursor> cursorStage )
     {
         return cursorStage
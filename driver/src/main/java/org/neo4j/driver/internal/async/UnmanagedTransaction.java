@@ -18,8 +18,10 @@
  */
 package org.neo4j.driver.internal.async;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
@@ -37,14 +39,18 @@ import org.neo4j.driver.exceptions.AuthorizationExpiredException;
 import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.exceptions.ConnectionReadTimeoutException;
 import org.neo4j.driver.internal.BookmarkHolder;
+import org.neo4j.driver.internal.async.connection.DeferredFlushConnection;
 import org.neo4j.driver.internal.cursor.AsyncResultCursor;
 import org.neo4j.driver.internal.cursor.RxResultCursor;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.spi.Connection;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
 import static org.neo4j.driver.internal.util.Futures.asCompletionException;
 import static org.neo4j.driver.internal.util.Futures.combineErrors;
 import static org.neo4j.driver.internal.util.Futures.completedWithNull;
+import static org.neo4j.driver.internal.util.Futures.completionExceptionCause;
 import static org.neo4j.driver.internal.util.Futures.failedFuture;
 import static org.neo4j.driver.internal.util.Futures.futureCompletingConsumer;
 import static org.neo4j.driver.internal.util.LockUtil.executeWithLock;
@@ -132,6 +138,37 @@ public class UnmanagedTransaction
                                 } );
     }
 
+    /**
+     * Begin this transaction without waiting for the server to confirm it. The request to begin it is written without being flushed, so that it
+     * reaches the server together with the first query, or with the commit or rollback. A failure to begin terminates this transaction, and is
+     * reported by the requests pipelined after it, as the server ignores them.
+     *
+     * @param initialBookmark the bookmarks to begin this transaction with.
+     * @param config the configuration of this transaction.
+     * @return this transaction.
+     */
+    public UnmanagedTransaction beginPipelined( Bookmark initialBookmark, TransactionConfig config )
+    {
+        protocol.beginTransaction( connection, initialBookmark, config, false )
+                .whenComplete( ( ignore, beginError ) ->
+                               {
+                                   if ( beginError != null )
+                                   {
+                                       Throwable cause = completionExceptionCause( beginError );
+                                       markTerminated( cause );
+                                       if ( cause instanceof AuthorizationExpiredException )
+                                       {
+                                           connection.terminateAndRelease( AuthorizationExpiredException.DESCRIPTION );
+                                       }
+                                       else if ( cause instanceof ConnectionReadTimeoutException )
+                                       {
+                                           connection.terminateAndRelease( cause.getMessage() );
+                                       }
+                                   }
+                               } );
+        return this;
+    }
+
     public CompletionStage<Void> closeAsync()
     {
         return closeAsync( false );
@@ -161,6 +198,57 @@ public class UnmanagedTransaction
         return cursorStage.thenCompose( AsyncResultCursor::mapSuccessfulRunCompletionAsync ).thenApply( cursor -> cursor );
     }
 
+    /**
+     * Run the given queries, sending all their messages to the server in a single flush.
+     *
+     * @param queries the queries to run, in order.
+     * @return a completion stage completed with the cursors of the queries, in order, or exceptionally with the first failure to run one of them.
+     */
+    public CompletionStage<List<ResultCursor>> runBatchAsync( List<Query> queries )
+    {
+        ensureCanRunQueries();
+        DeferredFlushConnection batchConnection = new DeferredFlushConnection( connection );
+        List<CompletionStage<AsyncResultCursor>> cursorStages = new ArrayList<>( queries.size() );
+        for ( Query query : queries )
+        {
+            CompletionStage<AsyncResultCursor> cursorStage =
+                    protocol.runInUnmanagedTransaction( batchConnection, query, this, fetchSize ).asyncResult();
+            resultCursors.add( cursorStage );
+            cursorStages.add( cursorStage );
+        }
+        batchConnection.flush();
+
+        CompletionStage<List<ResultCursor>> cursorsStage = completedFuture( new ArrayList<>( queries.size() ) );
+        for ( CompletionStage<AsyncResultCursor> cursorStage : cursorStages )
+        {
+            cursorsStage = cursorsStage.thenCompose( cursors -> cursorStage.thenCompose( AsyncResultCursor::mapSuccessfulRunCompletionAsync )
+                                                                           .thenApply( cursor ->
+                                                                                       {
+                                                                                           cursors.add( cursor );
+                                                                                           return cursors;
+                                                                                       } ) );
+        }
+        return cursorsStage;
+    }
+
+    /**
+     * Run the given query and commit this transaction without waiting for the result of the query first. COMMIT is sent right after the RUN and
+     * PULL of the query, which saves a round-trip. As a transaction can not be committed while a result is streamed, all records are pulled at once
+     * and buffered.
+     *
+     * @param query the last query of this transaction.
+     * @return a completion stage completed with the buffered result when the transaction is committed, or exceptionally when the query or the commit failed.
+     */
+    public CompletionStage<ResultCursor> runAndCommitAsync( Query query )
+    {
+        ensureCanRunQueries();
+        CompletableFuture<AsyncResultCursor> cursorFuture = new CompletableFuture<>();
+        return closeAsync( true, false, () -> runBeforeCommit( query, cursorFuture ) )
+                .thenCompose( ignore -> cursorFuture )
+                .thenCompose( AsyncResultCursor::mapSuccessfulRunCompletionAsync )
+                .thenApply( cursor -> cursor );
+    }
+
     public CompletionStage<RxResultCursor> runRx( Query query )
     {
         ensureCanRunQueries();
@@ -231,7 +319,20 @@ public class UnmanagedTransaction
         } );
     }
 
-    private CompletionStage<Void> doCommitAsync( Throwable cursorFailure )
+    private void runBeforeCommit( Query query, CompletableFuture<AsyncResultCursor> cursorFuture )
+    {
+        protocol.runInUnmanagedTransaction( connection, query, this, UNLIMITED_FETCH_SIZE )
+                .asyncResult()
+                .thenApply( cursor ->
+                            {
+                                // keep reading records until the commit response, instead of pausing when they are not consumed
+                                cursor.pullAllFailureAsync();
+                                return cursor;
+                            } )
+                .whenComplete( futureCompletingConsumer( cursorFuture ) );
+    }
+
+    private CompletionStage<Void> doCommitAsync( Throwable cursorFailure, Runnable beforeCommit )
     {
         ClientException exception = executeWithLock(
                 lock, () -> state == State.TERMINATED
@@ -240,7 +341,15 @@ public class UnmanagedTransaction
                                                    cursorFailure != causeOfTermination ? causeOfTermination : null )
                             : null
         );
-        return exception != null ? failedFuture( exception ) : protocol.commitTransaction( connection ).thenAccept( bookmarkHolder::setBookmark );
+        if ( exception != null )
+        {
+            return failedFuture( exception );
+        }
+        if ( beforeCommit != null )
+        {
+            beforeCommit.run();
+        }
+        return protocol.commitTransaction( connection ).thenAccept( bookmarkHolder::setBookmark );
     }
 
     private CompletionStage<Void> doRollbackAsync()
@@ -289,6 +398,11 @@ public class UnmanagedTransaction
     }
 
     private CompletionStage<Void> closeAsync( boolean commit, boolean completeWithNullIfNotOpen )
+    {
+        return closeAsync( commit, completeWithNullIfNotOpen, null );
+    }
+
+    private CompletionStage<Void> closeAsync( boolean commit, boolean completeWithNullIfNotOpen, Runnable beforeCommit )
     {
         CompletionStage<Void> stage = executeWithLock( lock, () ->
         {
@@ -315,7 +429,9 @@ public class UnmanagedTransaction
                     }
                     else if ( commitFuture != null )
                     {
-                        resultStage = commitFuture;
+                        resultStage = beforeCommit == null
+                                      ? commitFuture
+                                      : failedFuture( new ClientException( "Cannot run more queries in this transaction, it is being committed" ) );
                     }
                     else
                     {
@@ -348,7 +464,7 @@ public class UnmanagedTransaction
             if ( commit )
             {
                 targetFuture = commitFuture;
-                targetAction = throwable -> doCommitAsync( throwable ).handle( handleCommitOrRollback( throwable ) );
+                targetAction = throwable -> doCommitAsync( throwable, beforeCommit ).handle( handleCommitOrRollback( throwable ) );
             }
             else
             {
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.connection;
+
+import java.util.Map;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.messaging.Message;
+import org.neo4j.driver.internal.messaging.request.BeginMessage;
+import org.neo4j.driver.internal.messaging.request.CommitMessage;
+import org.neo4j.driver.internal.messaging.request.DiscardMessage;
+import org.neo4j.driver.internal.messaging.request.HelloMessage;
+import org.neo4j.driver.internal.messaging.request.PullMessage;
+import org.neo4j.driver.internal.messaging.request.ResetMessage;
+import org.neo4j.driver.internal.messaging.request.RollbackMessage;
+import org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage;
+import org.neo4j.driver.internal.value.BooleanValue;
+
+/**
+ * The state of the Bolt server side of a channel, as observed from the responses to the requests written to the channel.
+ * <p>
+ * A channel in {@link #READY} state, with no outstanding requests, can be returned to the pool without a RESET.
+ */
+public enum BoltServerState
+{
+    READY,
+    STREAMING,
+    TX_READY,
+    TX_STREAMING,
+    FAILED;
+
+    /**
+     * Computes the state after a SUCCESS response to the given request.
+     *
+     * @param request the request the SUCCESS responds to, or {@code null} if it is not known.
+     * @param metadata the metadata of the SUCCESS response.
+     * @return the new state.
+     */
+    public BoltServerState onSuccess( Message request, Map<String,Value> metadata )
+    {
+        if ( request == null )
+        {
+            return this;
+        }
+
+        switch ( request.signature() )
+        {
+        case HelloMessage.SIGNATURE:
+        case ResetMessage.SIGNATURE:
+        case CommitMessage.SIGNATURE:
+        case RollbackMessage.SIGNATURE:
+            return READY;
+        case BeginMessage.SIGNATURE:
+            return TX_READY;
+        case RunWithMetadataMessage.SIGNATURE:
+            return isInTransaction() ? TX_STREAMING : STREAMING;
+        case PullMessage.SIGNATURE:
+        case DiscardMessage.SIGNATURE:
+            if ( metadata.getOrDefault( "has_more", BooleanValue.FALSE ).asBoolean() )
+            {
+                return this;
+            }
+            return isInTransaction() ? TX_READY : READY;
+        default:
+            return this;
+        }
+    }
+
+    private boolean isInTransaction()
+    {
+        return this == TX_READY || this == TX_STREAMING;
+    }
+}
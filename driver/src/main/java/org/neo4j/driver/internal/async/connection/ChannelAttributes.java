@@ -40,9 +40,12 @@ public final class ChannelAttributes
     private static final AttributeKey<ServerVersion> SERVER_VERSION = newInstance( "serverVersion" );
     private static final AttributeKey<Long> CREATION_TIMESTAMP = newInstance( "creationTimestamp" );
     private static final AttributeKey<Long> LAST_USED_TIMESTAMP = newInstance( "lastUsedTimestamp" );
+    private static final AttributeKey<Long> LAST_ACQUIRED_TIMESTAMP = newInstance( "lastAcquiredTimestamp" );
     private static final AttributeKey<InboundMessageDispatcher> MESSAGE_DISPATCHER = newInstance( "messageDispatcher" );
+    private static final AttributeKey<BoltServerState> SERVER_STATE = newInstance( "serverState" );
     private static final AttributeKey<String> TERMINATION_REASON = newInstance( "terminationReason" );
     private static final AttributeKey<AuthorizationStateListener> AUTHORIZATION_STATE_LISTENER = newInstance( "authorizationStateListener" );
+    private static final AttributeKey<ResponseTimeListener> RESPONSE_TIME_LISTENER = newInstance( "responseTimeListener" );
 
     // configuration hints provided by the server
     private static final AttributeKey<Long> CONNECTION_READ_TIMEOUT = newInstance( "connectionReadTimeout" );
@@ -131,6 +134,26 @@ public final class ChannelAttributes
         set( channel, LAST_USED_TIMESTAMP, lastUsedTimestamp );
     }
 
+    public static Long lastAcquiredTimestamp( Channel channel )
+    {
+        return get( channel, LAST_ACQUIRED_TIMESTAMP );
+    }
+
+    public static void setLastAcquiredTimestamp( Channel channel, long lastAcquiredTimestamp )
+    {
+        set( channel, LAST_ACQUIRED_TIMESTAMP, lastAcquiredTimestamp );
+    }
+
+    public static BoltServerState serverState( Channel channel )
+    {
+        return get( channel, SERVER_STATE );
+    }
+
+    public static void setServerState( Channel channel, BoltServerState serverState )
+    {
+        set( channel, SERVER_STATE, serverState );
+    }
+
     public static InboundMessageDispatcher messageDispatcher( Channel channel )
     {
         return get( channel, MESSAGE_DISPATCHER );
@@ -161,6 +184,16 @@ public final class ChannelAttributes
         set( channel, AUTHORIZATION_STATE_LISTENER, authorizationStateListener );
     }
 
+    public static ResponseTimeListener responseTimeListener( Channel channel )
+    {
+        return get( channel, RESPONSE_TIME_LISTENER );
+    }
+
+    public static void setResponseTimeListener( Channel channel, ResponseTimeListener responseTimeListener )
+    {
+        set( channel, RESPONSE_TIME_LISTENER, responseTimeListener );
+    }
+
     public static Optional<Long> connectionReadTimeout( Channel channel )
     {
         return Optional.ofNullable( get( channel, CONNECTION_READ_TIMEOUT ) );
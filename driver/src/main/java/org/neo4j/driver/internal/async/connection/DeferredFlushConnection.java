@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.connection;
+
+import io.netty.channel.EventLoop;
+
+import java.util.concurrent.CompletionStage;
+
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.DatabaseName;
+import org.neo4j.driver.internal.messaging.BoltProtocol;
+import org.neo4j.driver.internal.messaging.Message;
+import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.internal.spi.ResponseHandler;
+import org.neo4j.driver.internal.util.ServerVersion;
+
+/**
+ * This is a connection that only writes messages it is asked to write and flush, until it is {@link #flush() flushed}. It is used to send the
+ * messages of several requests in a single flush, while the handlers of these requests keep a connection that flushes as usual afterwards.
+ */
+public class DeferredFlushConnection implements Connection
+{
+    private final Connection delegate;
+    private volatile boolean flushDeferred = true;
+
+    public DeferredFlushConnection( Connection delegate )
+    {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean isOpen()
+    {
+        return delegate.isOpen();
+    }
+
+    @Override
+    public void enableAutoRead()
+    {
+        delegate.enableAutoRead();
+    }
+
+    @Override
+    public void disableAutoRead()
+    {
+        delegate.disableAutoRead();
+    }
+
+    @Override
+    public void write( Message message, ResponseHandler handler )
+    {
+        delegate.write( message, handler );
+    }
+
+    @Override
+    public void write( Message message1, ResponseHandler handler1, Message message2, ResponseHandler handler2 )
+    {
+        delegate.write( message1, handler1, message2, handler2 );
+    }
+
+    @Override
+    public void writeAndFlush( Message message, ResponseHandler handler )
+    {
+        if ( flushDeferred )
+        {
+            delegate.write( message, handler );
+        }
+        else
+        {
+            delegate.writeAndFlush( message, handler );
+        }
+    }
+
+    @Override
+    public void writeAndFlush( Message message1, ResponseHandler handler1, Message message2, ResponseHandler handler2 )
+    {
+        if ( flushDeferred )
+        {
+            delegate.write( message1, handler1, message2, handler2 );
+        }
+        else
+        {
+            delegate.writeAndFlush( message1, handler1, message2, handler2 );
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> reset()
+    {
+        return delegate.reset();
+    }
+
+    @Override
+    public CompletionStage<Void> release()
+    {
+        return delegate.release();
+    }
+
+    @Override
+    public void terminateAndRelease( String reason )
+    {
+        delegate.terminateAndRelease( reason );
+    }
+
+    @Override
+    public String serverAgent()
+    {
+        return delegate.serverAgent();
+    }
+
+    @Override
+    public BoltServerAddress serverAddress()
+    {
+        return delegate.serverAddress();
+    }
+
+    @Override
+    public ServerVersion serverVersion()
+    {
+        return delegate.serverVersion();
+    }
+
+    @Override
+    public BoltProtocol protocol()
+    {
+        return delegate.protocol();
+    }
+
+    @Override
+    public EventLoop eventLoop()
+    {
+        return delegate.eventLoop();
+    }
+
+    @Override
+    public AccessMode mode()
+    {
+        return delegate.mode();
+    }
+
+    @Override
+    public DatabaseName databaseName()
+    {
+        return delegate.databaseName();
+    }
+
+    @Override
+    public String impersonatedUser()
+    {
+        return delegate.impersonatedUser();
+    }
+
+    /**
+     * Flush the messages written so far, and flush messages as requested from now on.
+     */
+    @Override
+    public void flush()
+    {
+        flushDeferred = false;
+        delegate.flush();
+    }
+}
@@ -18,6 +18,8 @@
  */
 package org.neo4j.driver.internal.async.connection;
 
+import io.netty.channel.EventLoop;
+
 import java.util.concurrent.CompletionStage;
 
 import org.neo4j.driver.AccessMode;
@@ -137,6 +139,12 @@ public class DirectConnection implements Connection
         return delegate.protocol();
     }
 
+    @Override
+    public EventLoop eventLoop()
+    {
+        return delegate.eventLoop();
+    }
+
     @Override
     public AccessMode mode()
     {
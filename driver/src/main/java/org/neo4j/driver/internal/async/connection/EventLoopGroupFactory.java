@@ -69,6 +69,19 @@ public final class EventLoopGroupFactory
         return new DriverEventLoopGroup( threadCount );
     }
 
+    /**
+     * Create new {@link EventLoopGroup} with specified thread count and names of threads that start with the given suffix
+     * appended to the usual prefix.
+     *
+     * @param threadCount amount of IO threads for the new group.
+     * @param threadNameSuffix distinguishes the threads of the new group from other driver IO threads.
+     * @return new group consistent with channel class returned by {@link #channelClass()}.
+     */
+    public static EventLoopGroup newEventLoopGroup( int threadCount, String threadNameSuffix )
+    {
+        return new DriverEventLoopGroup( threadCount, new DriverThreadFactory( THREAD_NAME_PREFIX + "-" + threadNameSuffix ) );
+    }
+
     /**
      * Assert that current thread is not an event loop used for async IO operations. This check is needed because
      * blocking API methods like {@link Session#run(String)} are implemented on top of corresponding async API methods
@@ -113,6 +126,11 @@ public final class EventLoopGroupFactory
             super( nThreads );
         }
 
+        DriverEventLoopGroup( int nThreads, ThreadFactory threadFactory )
+        {
+            super( nThreads, threadFactory );
+        }
+
         @Override
         protected ThreadFactory newDefaultThreadFactory()
         {
@@ -128,7 +146,12 @@ public final class EventLoopGroupFactory
     {
         DriverThreadFactory()
         {
-            super( THREAD_NAME_PREFIX, THREAD_IS_DAEMON, THREAD_PRIORITY );
+            this( THREAD_NAME_PREFIX );
+        }
+
+        DriverThreadFactory( String threadNamePrefix )
+        {
+            super( threadNamePrefix, THREAD_IS_DAEMON, THREAD_PRIORITY );
         }
 
         @Override
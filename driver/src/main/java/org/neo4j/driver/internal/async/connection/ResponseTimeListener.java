@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.connection;
+
+import org.neo4j.driver.internal.BoltServerAddress;
+
+/**
+ * Listener for the time servers take to respond to requests.
+ */
+public interface ResponseTimeListener
+{
+    /**
+     * Notifies the listener that the server responded to a request.
+     *
+     * @param address           the address of the server.
+     * @param responseTimeNanos the time between writing the request and receiving its response, in nanoseconds.
+     */
+    void onResponse( BoltServerAddress address, long responseTimeNanos );
+}
@@ -18,6 +18,8 @@
  */
 package org.neo4j.driver.internal.async.connection;
 
+import io.netty.channel.EventLoop;
+
 import java.util.concurrent.CompletionStage;
 
 import org.neo4j.driver.AccessMode;
@@ -135,6 +137,12 @@ public class RoutingConnection implements Connection
         return delegate.protocol();
     }
 
+    @Override
+    public EventLoop eventLoop()
+    {
+        return delegate.eventLoop();
+    }
+
     @Override
     public void flush()
     {
@@ -30,15 +30,23 @@ import org.neo4j.driver.Logging;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.exceptions.AuthorizationExpiredException;
 import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.internal.async.connection.BoltServerState;
+import org.neo4j.driver.internal.async.connection.ResponseTimeListener;
 import org.neo4j.driver.internal.handlers.ResetResponseHandler;
 import org.neo4j.driver.internal.logging.ChannelActivityLogger;
 import org.neo4j.driver.internal.logging.ChannelErrorLogger;
+import org.neo4j.driver.internal.messaging.Message;
 import org.neo4j.driver.internal.messaging.ResponseMessageHandler;
+import org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage;
 import org.neo4j.driver.internal.spi.ResponseHandler;
 import org.neo4j.driver.internal.util.ErrorUtil;
 
 import static java.util.Objects.requireNonNull;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.authorizationStateListener;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.responseTimeListener;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.serverAddress;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.serverState;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setServerState;
 import static org.neo4j.driver.internal.messaging.request.ResetMessage.RESET;
 import static org.neo4j.driver.internal.util.ErrorUtil.addSuppressed;
 
@@ -46,6 +54,10 @@ public class InboundMessageDispatcher implements ResponseMessageHandler
 {
     private final Channel channel;
     private final Queue<ResponseHandler> handlers = new LinkedList<>();
+    // requests the queued handlers respond to, null when the request is not known
+    private final Queue<Message> requests = new LinkedList<>();
+    // times the queued RUN requests were enqueued at, used to measure the response time of the server when a listener is installed
+    private final Queue<Long> runStartNanos = new LinkedList<>();
     private final Logger log;
     private final ChannelErrorLogger errorLog;
 
@@ -64,6 +76,17 @@ public class InboundMessageDispatcher implements ResponseMessageHandler
     }
 
     public void enqueue( ResponseHandler handler )
+    {
+        enqueue( handler, null );
+    }
+
+    /**
+     * Enqueue a handler for the response to the given request. The request is used to keep track of the {@link BoltServerState} of the channel.
+     *
+     * @param handler the handler of the response.
+     * @param request the request the handler responds to.
+     */
+    public void enqueue( ResponseHandler handler, Message request )
     {
         if ( fatalErrorOccurred )
         {
@@ -72,6 +95,11 @@ public class InboundMessageDispatcher implements ResponseMessageHandler
         else
         {
             handlers.add( handler );
+            requests.add( request );
+            if ( request instanceof RunWithMetadataMessage && responseTimeListener( channel ) != null )
+            {
+                runStartNanos.add( System.nanoTime() );
+            }
             updateAutoReadManagingHandlerIfNeeded( handler );
         }
     }
@@ -95,7 +123,9 @@ public class InboundMessageDispatcher implements ResponseMessageHandler
     {
         log.debug( "S: SUCCESS %s", meta );
         invokeBeforeLastHandlerHook( HandlerHook.MessageType.SUCCESS );
-        ResponseHandler handler = removeHandler();
+        Message request = requests.peek();
+        ResponseHandler handler = removeHandler( true );
+        updateServerState( request, meta );
         handler.onSuccess( meta );
     }
 
@@ -120,6 +150,7 @@ public class InboundMessageDispatcher implements ResponseMessageHandler
         log.debug( "S: FAILURE %s \"%s\"", code, message );
 
         currentError = ErrorUtil.newNeo4jError( code, message );
+        setServerState( channel, BoltServerState.FAILED );
 
         if ( ErrorUtil.isFatal( currentError ) )
         {
@@ -137,12 +168,12 @@ public class InboundMessageDispatcher implements ResponseMessageHandler
         else
         {
             // write a RESET to "acknowledge" the failure
-            enqueue( new ResetResponseHandler( this ) );
+            enqueue( new ResetResponseHandler( this ), RESET );
             channel.writeAndFlush( RESET, channel.voidPromise() );
         }
 
         invokeBeforeLastHandlerHook( HandlerHook.MessageType.FAILURE );
-        ResponseHandler handler = removeHandler();
+        ResponseHandler handler = removeHandler( true );
         handler.onFailure( currentError );
     }
 
@@ -234,8 +265,24 @@ public class InboundMessageDispatcher implements ResponseMessageHandler
     }
 
     private ResponseHandler removeHandler()
+    {
+        return removeHandler( false );
+    }
+
+    private ResponseHandler removeHandler( boolean responded )
     {
         ResponseHandler handler = handlers.remove();
+        Message request = requests.poll();
+        if ( request instanceof RunWithMetadataMessage )
+        {
+            ResponseTimeListener listener = responseTimeListener( channel );
+            Long startNanos = listener != null ? runStartNanos.poll() : null;
+            if ( startNanos != null && responded )
+            {
+                // the response to RUN arrives once the query is planned and started, regardless of the size of its result
+                listener.onResponse( serverAddress( channel ), System.nanoTime() - startNanos );
+            }
+        }
         if ( handler == autoReadManagingHandler )
         {
             // the auto-read managing handler is being removed
@@ -245,6 +292,16 @@ public class InboundMessageDispatcher implements ResponseMessageHandler
         return handler;
     }
 
+    private void updateServerState( Message request, Map<String,Value> meta )
+    {
+        if ( request != null )
+        {
+            BoltServerState state = serverState( channel );
+            // the state is not known before the channel is initialized, treat it the same way as a failed one
+            setServerState( channel, (state != null ? state : BoltServerState.FAILED).onSuccess( request, meta ) );
+        }
+    }
+
     private void updateAutoReadManagingHandlerIfNeeded( ResponseHandler handler )
     {
         if ( handler.canManageAutoRead() )
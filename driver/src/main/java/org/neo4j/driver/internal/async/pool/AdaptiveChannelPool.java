@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.pool;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.neo4j.driver.internal.util.Clock;
+
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.lastAcquiredTimestamp;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setLastAcquiredTimestamp;
+import static org.neo4j.driver.internal.spi.ConnectionPool.CONNECTION_POOL_CLOSED_ERROR_MESSAGE;
+
+/**
+ * Channel pool that limits the amount of channels acquired at the same time with an {@link AdaptiveConnectionLimit}.
+ * Acquisitions above the current limit wait in a queue until a channel is released or the connection acquisition timeout expires.
+ */
+public class AdaptiveChannelPool implements ExtendedChannelPool
+{
+    private final ExtendedChannelPool delegate;
+    private final AdaptiveConnectionLimit limit;
+    private final EventExecutor executor;
+    private final Clock clock;
+    private final long acquisitionTimeoutMillis;
+
+    private final Queue<CompletableFuture<Channel>> waiters = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger waiterCount = new AtomicInteger();
+    private final AtomicInteger acquired = new AtomicInteger();
+
+    AdaptiveChannelPool( ExtendedChannelPool delegate, AdaptiveConnectionLimit limit, EventExecutor executor, Clock clock, long acquisitionTimeoutMillis )
+    {
+        this.delegate = delegate;
+        this.limit = limit;
+        this.executor = executor;
+        this.clock = clock;
+        this.acquisitionTimeoutMillis = acquisitionTimeoutMillis;
+    }
+
+    @Override
+    public CompletionStage<Channel> acquire()
+    {
+        return acquire( null );
+    }
+
+    @Override
+    public CompletionStage<Channel> acquire( EventLoop preferredEventLoop )
+    {
+        CompletableFuture<Channel> result = new CompletableFuture<>();
+        if ( tryAcquirePermit() )
+        {
+            acquireFromDelegate( result, preferredEventLoop );
+        }
+        else if ( acquisitionTimeoutMillis == 0 )
+        {
+            result.completeExceptionally( acquisitionTimeoutError() );
+        }
+        else
+        {
+            enqueue( result );
+            // a permit might have been released between the failed attempt and the enqueueing
+            drainWaiters();
+        }
+        return result;
+    }
+
+    @Override
+    public CompletionStage<Void> release( Channel channel )
+    {
+        Long acquiredTimestamp = lastAcquiredTimestamp( channel );
+        if ( acquiredTimestamp != null )
+        {
+            limit.onSample( clock.millis() - acquiredTimestamp, acquired.get(), waiterCount.get() > 0 );
+        }
+        if ( !channel.isActive() )
+        {
+            limit.onError();
+        }
+        return delegate.release( channel ).whenComplete( ( ignored, error ) -> releasePermit() );
+    }
+
+    @Override
+    public int pendingAcquisitions()
+    {
+        return waiterCount.get() + delegate.pendingAcquisitions();
+    }
+
+    @Override
+    public boolean isClosed()
+    {
+        return delegate.isClosed();
+    }
+
+    @Override
+    public String id()
+    {
+        return delegate.id();
+    }
+
+    @Override
+    public CompletionStage<Void> close()
+    {
+        CompletionStage<Void> closeStage = delegate.close();
+        CompletableFuture<Channel> waiter;
+        while ( (waiter = pollWaiter()) != null )
+        {
+            waiter.completeExceptionally( new IllegalStateException( CONNECTION_POOL_CLOSED_ERROR_MESSAGE ) );
+        }
+        return closeStage;
+    }
+
+    // for testing only
+    int currentLimit()
+    {
+        return limit.limit();
+    }
+
+    private void enqueue( CompletableFuture<Channel> waiter )
+    {
+        waiterCount.incrementAndGet();
+        waiters.add( waiter );
+        if ( acquisitionTimeoutMillis > 0 )
+        {
+            ScheduledFuture<?> timeout = executor.schedule( () ->
+            {
+                if ( waiters.remove( waiter ) )
+                {
+                    waiterCount.decrementAndGet();
+                    waiter.completeExceptionally( acquisitionTimeoutError() );
+                }
+            }, acquisitionTimeoutMillis, TimeUnit.MILLISECONDS );
+            waiter.whenComplete( ( ignored, error ) -> timeout.cancel( false ) );
+        }
+    }
+
+    private void acquireFromDelegate( CompletableFuture<Channel> result, EventLoop preferredEventLoop )
+    {
+        CompletionStage<Channel> channelFuture = preferredEventLoop == null ? delegate.acquire() : delegate.acquire( preferredEventLoop );
+        channelFuture.whenComplete( ( channel, error ) ->
+        {
+            if ( error != null )
+            {
+                limit.onError();
+                releasePermit();
+                result.completeExceptionally( error );
+            }
+            else
+            {
+                setLastAcquiredTimestamp( channel, clock.millis() );
+                result.complete( channel );
+            }
+        } );
+    }
+
+    private void drainWaiters()
+    {
+        while ( waiterCount.get() > 0 && tryAcquirePermit() )
+        {
+            CompletableFuture<Channel> waiter = pollWaiter();
+            if ( waiter == null )
+            {
+                // another thread took the waiter, give back the permit without draining again
+                acquired.decrementAndGet();
+                return;
+            }
+            acquireFromDelegate( waiter, null );
+        }
+    }
+
+    private CompletableFuture<Channel> pollWaiter()
+    {
+        CompletableFuture<Channel> waiter = waiters.poll();
+        if ( waiter != null )
+        {
+            waiterCount.decrementAndGet();
+        }
+        return waiter;
+    }
+
+    private boolean tryAcquirePermit()
+    {
+        while ( true )
+        {
+            int current = acquired.get();
+            if ( current >= limit.limit() )
+            {
+                return false;
+            }
+            if ( acquired.compareAndSet( current, current + 1 ) )
+            {
+                return true;
+            }
+        }
+    }
+
+    private void releasePermit()
+    {
+        acquired.decrementAndGet();
+        drainWaiters();
+    }
+
+    private TimeoutException acquisitionTimeoutError()
+    {
+        return new TimeoutException( "Acquire operation took longer then configured maximum time" );
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.pool;
+
+import static java.lang.String.format;
+
+/**
+ * Limit of connections that can be acquired from a pool towards a single server at the same time. The limit adapts to the observed demand and latency,
+ * similar to TCP Vegas congestion control.
+ * <p>
+ * The shortest observed in-use time approximates how fast the server answers when it is not loaded. When the recent in-use time grows above it, requests
+ * are queueing up on the server and the limit is reduced. When there is demand for more connections and the in-use time stays close to the shortest one,
+ * the limit is increased. Connection failures reduce the limit multiplicatively.
+ */
+class AdaptiveConnectionLimit
+{
+    static final int DEFAULT_INITIAL_LIMIT = 10;
+
+    /**
+     * The estimated amount of requests queued on the server below which the limit is allowed to grow.
+     */
+    private static final int ALPHA = 3;
+    /**
+     * The estimated amount of requests queued on the server above which the limit is reduced.
+     */
+    private static final int BETA = 6;
+    private static final double SMOOTHING_FACTOR = 0.1;
+    private static final double BACKOFF_RATIO = 0.9;
+    /**
+     * The shortest in-use time is forgotten periodically, so that the limit follows lasting changes of the server latency.
+     */
+    private static final int BASELINE_RESET_SAMPLES = 1000;
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    private volatile int limit;
+    private double baselineInUseTime = Double.NaN;
+    private double smoothedInUseTime = Double.NaN;
+    private int samplesSinceBaselineReset;
+
+    AdaptiveConnectionLimit( int minLimit, int maxLimit )
+    {
+        if ( minLimit < 1 || minLimit > maxLimit )
+        {
+            throw new IllegalArgumentException( format( "Invalid connection limit range [%s, %s]", minLimit, maxLimit ) );
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max( minLimit, Math.min( maxLimit, DEFAULT_INITIAL_LIMIT ) );
+    }
+
+    int limit()
+    {
+        return limit;
+    }
+
+    /**
+     * Invoked every time a connection is returned to the pool.
+     *
+     * @param inUseTimeMillis the time the connection was borrowed out of the pool.
+     * @param acquired the amount of connections currently borrowed out of the pool, including the returned one.
+     * @param hasPendingAcquisitions whether there are acquisition requests waiting for a connection.
+     */
+    synchronized void onSample( long inUseTimeMillis, int acquired, boolean hasPendingAcquisitions )
+    {
+        // sub-millisecond samples are rounded up to keep the ratio below meaningful
+        double sample = Math.max( 1, inUseTimeMillis );
+        if ( Double.isNaN( baselineInUseTime ) || ++samplesSinceBaselineReset >= BASELINE_RESET_SAMPLES )
+        {
+            baselineInUseTime = Double.isNaN( smoothedInUseTime ) ? sample : Math.min( sample, smoothedInUseTime );
+            samplesSinceBaselineReset = 0;
+        }
+        baselineInUseTime = Math.min( baselineInUseTime, sample );
+        smoothedInUseTime = Double.isNaN( smoothedInUseTime ) ? sample : smoothedInUseTime + SMOOTHING_FACTOR * (sample - smoothedInUseTime);
+
+        int currentLimit = limit;
+        double queued = currentLimit * (1 - baselineInUseTime / smoothedInUseTime);
+        boolean saturated = hasPendingAcquisitions || acquired >= currentLimit;
+        if ( queued > BETA )
+        {
+            limit = Math.max( minLimit, currentLimit - 1 );
+        }
+        else if ( queued < ALPHA && saturated )
+        {
+            limit = Math.min( maxLimit, currentLimit + 1 );
+        }
+    }
+
+    /**
+     * Invoked every time a connection could not be created or was broken while it was in use.
+     */
+    synchronized void onError()
+    {
+        limit = Math.max( minLimit, (int) (limit * BACKOFF_RATIO) );
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "AdaptiveConnectionLimit{limit=%s, min=%s, max=%s}", limit, minLimit, maxLimit );
+    }
+}
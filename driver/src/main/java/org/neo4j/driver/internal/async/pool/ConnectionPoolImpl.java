@@ -20,6 +20,7 @@ package org.neo4j.driver.internal.async.pool;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 
 import java.util.HashMap;
@@ -40,6 +41,7 @@ import org.neo4j.driver.Logging;
 import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.exceptions.ServiceUnavailableException;
 import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.CachingDomainNameResolver;
 import org.neo4j.driver.internal.async.connection.ChannelConnector;
 import org.neo4j.driver.internal.metrics.ListenerEvent;
 import org.neo4j.driver.internal.metrics.MetricsListener;
@@ -51,8 +53,10 @@ import org.neo4j.driver.net.ServerAddress;
 
 import static java.lang.String.format;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setAuthorizationStateListener;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setResponseTimeListener;
 import static org.neo4j.driver.internal.util.Futures.combineErrors;
 import static org.neo4j.driver.internal.util.Futures.completeWithNullIfNoError;
+import static org.neo4j.driver.internal.util.Futures.completedWithNull;
 import static org.neo4j.driver.internal.util.LockUtil.executeWithLock;
 import static org.neo4j.driver.internal.util.LockUtil.executeWithLockAsync;
 
@@ -64,6 +68,7 @@ public class ConnectionPoolImpl implements ConnectionPool
     private final NettyChannelHealthChecker channelHealthChecker;
     private final PoolSettings settings;
     private final Logger log;
+    private final Clock clock;
     private final MetricsListener metricsListener;
     private final boolean ownsEventLoopGroup;
 
@@ -72,19 +77,48 @@ public class ConnectionPoolImpl implements ConnectionPool
     private final AtomicBoolean closed = new AtomicBoolean();
     private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
     private final ConnectionFactory connectionFactory;
+    private final EventLoopShards eventLoopShards;
+    // only tracked for the latency-aware load balancing, null otherwise
+    private final ResponseTimeTracker responseTimeTracker;
+    // closed together with the pool when domain names are cached, null otherwise
+    private final CachingDomainNameResolver domainNameCache;
 
     public ConnectionPoolImpl( ChannelConnector connector, Bootstrap bootstrap, PoolSettings settings, MetricsListener metricsListener, Logging logging,
                                Clock clock, boolean ownsEventLoopGroup )
+    {
+        this( connector, bootstrap, settings, metricsListener, logging, clock, ownsEventLoopGroup, null );
+    }
+
+    public ConnectionPoolImpl( ChannelConnector connector, Bootstrap bootstrap, PoolSettings settings, MetricsListener metricsListener, Logging logging,
+                               Clock clock, boolean ownsEventLoopGroup, EventLoopShards eventLoopShards )
+    {
+        this( connector, bootstrap, settings, metricsListener, logging, clock, ownsEventLoopGroup, eventLoopShards, null, null );
+    }
+
+    public ConnectionPoolImpl( ChannelConnector connector, Bootstrap bootstrap, PoolSettings settings, MetricsListener metricsListener, Logging logging,
+                               Clock clock, boolean ownsEventLoopGroup, EventLoopShards eventLoopShards, ResponseTimeTracker responseTimeTracker,
+                               CachingDomainNameResolver domainNameCache )
     {
         this( connector, bootstrap, new NettyChannelTracker( metricsListener, bootstrap.config().group().next(), logging ),
               new NettyChannelHealthChecker( settings, clock, logging ), settings, metricsListener, logging,
-              clock, ownsEventLoopGroup, new NetworkConnectionFactory( clock, metricsListener, logging ) );
+              clock, ownsEventLoopGroup, new NetworkConnectionFactory( clock, metricsListener, logging ), eventLoopShards, responseTimeTracker,
+              domainNameCache );
     }
 
     protected ConnectionPoolImpl( ChannelConnector connector, Bootstrap bootstrap, NettyChannelTracker nettyChannelTracker,
                                   NettyChannelHealthChecker nettyChannelHealthChecker, PoolSettings settings,
                                   MetricsListener metricsListener, Logging logging, Clock clock, boolean ownsEventLoopGroup,
                                   ConnectionFactory connectionFactory )
+    {
+        this( connector, bootstrap, nettyChannelTracker, nettyChannelHealthChecker, settings, metricsListener, logging, clock, ownsEventLoopGroup,
+              connectionFactory, null, null, null );
+    }
+
+    protected ConnectionPoolImpl( ChannelConnector connector, Bootstrap bootstrap, NettyChannelTracker nettyChannelTracker,
+                                  NettyChannelHealthChecker nettyChannelHealthChecker, PoolSettings settings,
+                                  MetricsListener metricsListener, Logging logging, Clock clock, boolean ownsEventLoopGroup,
+                                  ConnectionFactory connectionFactory, EventLoopShards eventLoopShards, ResponseTimeTracker responseTimeTracker,
+                                  CachingDomainNameResolver domainNameCache )
     {
         this.connector = connector;
         this.bootstrap = bootstrap;
@@ -93,12 +127,23 @@ public class ConnectionPoolImpl implements ConnectionPool
         this.settings = settings;
         this.metricsListener = metricsListener;
         this.log = logging.getLog( getClass() );
+        this.clock = clock;
         this.ownsEventLoopGroup = ownsEventLoopGroup;
         this.connectionFactory = connectionFactory;
+        this.eventLoopShards = eventLoopShards;
+        this.responseTimeTracker = responseTimeTracker;
+        this.domainNameCache = domainNameCache;
+        registerEventLoopShardMetrics();
     }
 
     @Override
     public CompletionStage<Connection> acquire( BoltServerAddress address )
+    {
+        return acquire( address, null );
+    }
+
+    @Override
+    public CompletionStage<Connection> acquire( BoltServerAddress address, EventLoop preferredEventLoop )
     {
         log.trace( "Acquiring a connection from pool towards %s", address );
 
@@ -107,7 +152,7 @@ public class ConnectionPoolImpl implements ConnectionPool
 
         ListenerEvent acquireEvent = metricsListener.createListenerEvent();
         metricsListener.beforeAcquiringOrCreating( pool.id(), acquireEvent );
-        CompletionStage<Channel> channelFuture = pool.acquire();
+        CompletionStage<Channel> channelFuture = pool.acquire( preferredEventLoop );
 
         return channelFuture.handle( ( channel, error ) ->
         {
@@ -116,6 +161,10 @@ public class ConnectionPoolImpl implements ConnectionPool
                 processAcquisitionError( pool, address, error );
                 assertNotClosed( address, channel, pool );
                 setAuthorizationStateListener( channel, channelHealthChecker );
+                if ( responseTimeTracker != null )
+                {
+                    setResponseTimeListener( channel, responseTimeTracker );
+                }
                 Connection connection = connectionFactory.createConnection( channel, pool );
 
                 metricsListener.afterAcquiredOrCreated( pool.id(), acquireEvent );
@@ -147,6 +196,11 @@ public class ConnectionPoolImpl implements ConnectionPool
                         // it's now safe to terminate corresponding connection pool and forget about it
                         ExtendedChannelPool pool = entry.getValue();
                         entryIterator.remove();
+                        releaseEventLoopShard( address );
+                        if ( responseTimeTracker != null )
+                        {
+                            responseTimeTracker.remove( address );
+                        }
                         if ( pool != null )
                         {
                             log.info( "Closing connection pool towards %s, it has no active connections " +
@@ -165,6 +219,12 @@ public class ConnectionPoolImpl implements ConnectionPool
         return nettyChannelTracker.inUseChannelCount( address );
     }
 
+    @Override
+    public long averageResponseTimeNanos( ServerAddress address )
+    {
+        return responseTimeTracker != null ? responseTimeTracker.averageResponseTimeNanos( address ) : 0;
+    }
+
     @Override
     public int idleConnections( ServerAddress address )
     {
@@ -187,14 +247,19 @@ public class ConnectionPoolImpl implements ConnectionPool
                                               ( ignored, pollCloseError ) ->
                                               {
                                                   addressToPool.clear();
-                                                  if ( !ownsEventLoopGroup )
-                                                  {
-                                                      completeWithNullIfNoError( closeFuture, pollCloseError );
-                                                  }
-                                                  else
+                                                  closeDomainNameCache();
+                                                  closeEventLoopShards().whenComplete( ( ignore, shardsCloseError ) ->
                                                   {
-                                                      shutdownEventLoopGroup( pollCloseError );
-                                                  }
+                                                      CompletionException closeError = combineErrors( pollCloseError, shardsCloseError );
+                                                      if ( !ownsEventLoopGroup )
+                                                      {
+                                                          completeWithNullIfNoError( closeFuture, closeError );
+                                                      }
+                                                      else
+                                                      {
+                                                          shutdownEventLoopGroup( closeError );
+                                                      }
+                                                  } );
                                               } );
                                   } );
         }
@@ -256,7 +321,11 @@ public class ConnectionPoolImpl implements ConnectionPool
         {
             pool.release( channel );
             closePoolInBackground( address, pool );
-            executeWithLock( addressToPoolLock.writeLock(), () -> addressToPool.remove( address ) );
+            executeWithLock( addressToPoolLock.writeLock(), () ->
+            {
+                addressToPool.remove( address );
+                releaseEventLoopShard( address );
+            } );
             assertNotClosed();
         }
     }
@@ -269,8 +338,15 @@ public class ConnectionPoolImpl implements ConnectionPool
 
     ExtendedChannelPool newPool( BoltServerAddress address )
     {
-        return new NettyChannelPool( address, connector, bootstrap, nettyChannelTracker, channelHealthChecker, settings.connectionAcquisitionTimeout(),
-                settings.maxConnectionPoolSize() );
+        Bootstrap poolBootstrap = eventLoopShards == null ? bootstrap : bootstrap.clone( eventLoopShards.assign( address ) );
+        ExtendedChannelPool pool = new NettyChannelPool( address, connector, poolBootstrap, nettyChannelTracker, channelHealthChecker,
+                settings.connectionAcquisitionTimeout(), settings.maxConnectionPoolSize() );
+        if ( settings.adaptiveConnectionPoolSizeEnabled() )
+        {
+            AdaptiveConnectionLimit limit = new AdaptiveConnectionLimit( settings.minConnectionPoolSize(), settings.maxConnectionPoolSize() );
+            return new AdaptiveChannelPool( pool, limit, eventLoopGroup().next(), clock, settings.connectionAcquisitionTimeout() );
+        }
+        return pool;
     }
 
     private ExtendedChannelPool getOrCreatePool( BoltServerAddress address )
@@ -286,7 +362,8 @@ public class ConnectionPoolImpl implements ConnectionPool
                                       {
                                           pool = newPool( address );
                                           // before the connection pool is added I can register the metrics for the pool.
-                                          metricsListener.registerPoolMetrics( pool.id(), address, () -> this.inUseConnections( address ), () -> this.idleConnections( address ) );
+                                          metricsListener.registerPoolMetrics( pool.id(), address, () -> this.inUseConnections( address ),
+                                                                               () -> this.idleConnections( address ), pool::pendingAcquisitions );
                                           addressToPool.put( address, pool );
                                       }
                                       return pool;
@@ -311,6 +388,40 @@ public class ConnectionPoolImpl implements ConnectionPool
         } );
     }
 
+    private void registerEventLoopShardMetrics()
+    {
+        if ( eventLoopShards != null )
+        {
+            for ( int i = 0; i < eventLoopShards.size(); i++ )
+            {
+                int shard = i;
+                metricsListener.registerEventLoopShardMetrics( eventLoopShards.id( shard ), () -> eventLoopShards.servers( shard ),
+                                                               () -> eventLoopShards.pendingTasks( shard ) );
+            }
+        }
+    }
+
+    private void releaseEventLoopShard( BoltServerAddress address )
+    {
+        if ( eventLoopShards != null )
+        {
+            eventLoopShards.release( address );
+        }
+    }
+
+    private CompletionStage<Void> closeEventLoopShards()
+    {
+        return eventLoopShards == null ? completedWithNull() : eventLoopShards.close();
+    }
+
+    private void closeDomainNameCache()
+    {
+        if ( domainNameCache != null )
+        {
+            domainNameCache.close();
+        }
+    }
+
     private EventLoopGroup eventLoopGroup()
     {
         return bootstrap.config().group();
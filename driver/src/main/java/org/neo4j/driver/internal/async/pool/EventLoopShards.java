@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.pool;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.NettyRuntime;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.async.connection.EventLoopGroupFactory;
+import org.neo4j.driver.internal.util.Futures;
+
+import static java.lang.String.format;
+
+/**
+ * Dedicated event loop groups for the channels towards different servers.
+ * <p>
+ * Every server is assigned to the shard that serves the fewest servers at the time its connection pool is created.
+ * The channels towards a server are only registered on the event loops of its shard, so a slow or flooding server
+ * can not take event loop time from the servers in other shards.
+ */
+public class EventLoopShards
+{
+    private final EventLoopGroup[] groups;
+    private final int[] servers;
+    private final Map<BoltServerAddress,Integer> addressToShard = new HashMap<>();
+
+    public EventLoopShards( int shardCount, int eventLoopThreads )
+    {
+        this( newEventLoopGroups( shardCount, eventLoopThreads ) );
+    }
+
+    EventLoopShards( EventLoopGroup... groups )
+    {
+        this.groups = groups;
+        this.servers = new int[groups.length];
+    }
+
+    public int size()
+    {
+        return groups.length;
+    }
+
+    public String id( int shard )
+    {
+        return format( "event-loop-shard-%d", shard );
+    }
+
+    /**
+     * Assigns the given server to a shard, unless it is assigned already.
+     *
+     * @param address the address of the server.
+     * @return the event loop group of the shard.
+     */
+    public synchronized EventLoopGroup assign( BoltServerAddress address )
+    {
+        Integer existingShard = addressToShard.get( address );
+        if ( existingShard != null )
+        {
+            return groups[existingShard];
+        }
+
+        int shard = 0;
+        for ( int i = 1; i < servers.length; i++ )
+        {
+            if ( servers[i] < servers[shard] )
+            {
+                shard = i;
+            }
+        }
+        servers[shard]++;
+        addressToShard.put( address, shard );
+        return groups[shard];
+    }
+
+    public synchronized void release( BoltServerAddress address )
+    {
+        Integer shard = addressToShard.remove( address );
+        if ( shard != null )
+        {
+            servers[shard]--;
+        }
+    }
+
+    public synchronized int servers( int shard )
+    {
+        return servers[shard];
+    }
+
+    public int pendingTasks( int shard )
+    {
+        int pendingTasks = 0;
+        for ( EventExecutor executor : groups[shard] )
+        {
+            if ( executor instanceof SingleThreadEventExecutor )
+            {
+                pendingTasks += ((SingleThreadEventExecutor) executor).pendingTasks();
+            }
+        }
+        return pendingTasks;
+    }
+
+    public CompletionStage<Void> close()
+    {
+        CompletableFuture<?>[] terminationFutures = new CompletableFuture<?>[groups.length];
+        for ( int i = 0; i < groups.length; i++ )
+        {
+            groups[i].shutdownGracefully( 200, 15_000, TimeUnit.MILLISECONDS );
+            terminationFutures[i] = Futures.asCompletionStage( groups[i].terminationFuture() ).toCompletableFuture();
+        }
+        return CompletableFuture.allOf( terminationFutures );
+    }
+
+    private static EventLoopGroup[] newEventLoopGroups( int shardCount, int eventLoopThreads )
+    {
+        int threadCount = eventLoopThreads > 0 ? eventLoopThreads : NettyRuntime.availableProcessors() * 2;
+        int threadsPerShard = Math.max( 1, threadCount / shardCount );
+        EventLoopGroup[] groups = new EventLoopGroup[shardCount];
+        for ( int i = 0; i < shardCount; i++ )
+        {
+            groups[i] = EventLoopGroupFactory.newEventLoopGroup( threadsPerShard, "shard" + i );
+        }
+        return groups;
+    }
+}
@@ -19,6 +19,7 @@
 package org.neo4j.driver.internal.async.pool;
 
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
 
 import java.util.concurrent.CompletionStage;
 
@@ -26,8 +27,21 @@ public interface ExtendedChannelPool
 {
     CompletionStage<Channel> acquire();
 
+    /**
+     * Acquire a channel, preferring idle channels registered on the given event loop and registering new channels on it.
+     *
+     * @param preferredEventLoop the preferred event loop or {@code null} when there is no preference.
+     * @return a stage that completes with the acquired channel.
+     */
+    default CompletionStage<Channel> acquire( EventLoop preferredEventLoop )
+    {
+        return acquire();
+    }
+
     CompletionStage<Void> release( Channel channel );
 
+    int pendingAcquisitions();
+
     boolean isClosed();
 
     String id();
@@ -131,7 +131,7 @@ public class NettyChannelHealthChecker implements ChannelHealthChecker, Authoriz
     private Future<Boolean> ping( Channel channel )
     {
         Promise<Boolean> result = channel.eventLoop().newPromise();
-        messageDispatcher( channel ).enqueue( new PingResponseHandler( result, channel, logging ) );
+        messageDispatcher( channel ).enqueue( new PingResponseHandler( result, channel, logging ), ResetMessage.RESET );
         channel.writeAndFlush( ResetMessage.RESET, channel.voidPromise() );
         return result;
     }
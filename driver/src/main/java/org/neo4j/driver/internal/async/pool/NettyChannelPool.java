@@ -22,12 +22,18 @@ import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelPromise;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.pool.ChannelHealthChecker;
 import io.netty.channel.pool.FixedChannelPool;
 
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.async.connection.ChannelConnector;
@@ -36,6 +42,7 @@ import org.neo4j.driver.internal.metrics.ListenerEvent;
 import static java.util.Objects.requireNonNull;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setPoolId;
 import static org.neo4j.driver.internal.util.Futures.asCompletionStage;
+import static org.neo4j.driver.internal.util.Futures.futureCompletingConsumer;
 
 public class NettyChannelPool implements ExtendedChannelPool
 {
@@ -52,6 +59,16 @@ public class NettyChannelPool implements ExtendedChannelPool
     private final AtomicBoolean closed = new AtomicBoolean( false );
     private final String id;
     private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
+    private final AtomicInteger pendingAcquisitions = new AtomicInteger();
+    private final int maxConnections;
+    private final EventLoopGroup eventLoopGroup;
+    private final EventLoop executor;
+    private final Deque<Channel> idleChannels = new ConcurrentLinkedDeque<>();
+    /**
+     * Event loop preferred by the acquisition that is currently running on the {@link #executor}.
+     * It is only a hint, reads from other threads might observe a stale value.
+     */
+    private EventLoop preferredEventLoop;
 
     NettyChannelPool( BoltServerAddress address, ChannelConnector connector, Bootstrap bootstrap, NettyChannelTracker handler,
             ChannelHealthChecker healthCheck, long acquireTimeoutMillis, int maxConnections )
@@ -60,14 +77,21 @@ public class NettyChannelPool implements ExtendedChannelPool
         requireNonNull( connector );
         requireNonNull( handler );
         this.id = poolId( address );
-        this.delegate = new FixedChannelPool( bootstrap, handler, healthCheck, FixedChannelPool.AcquireTimeoutAction.FAIL, acquireTimeoutMillis, maxConnections,
+        this.maxConnections = maxConnections;
+        this.eventLoopGroup = bootstrap.config().group();
+        this.executor = eventLoopGroup.next();
+        // the delegate runs all acquisitions on the executor of its bootstrap, which makes the preferred event loop visible to it
+        this.delegate = new FixedChannelPool( bootstrap.clone( executor ), handler, healthCheck, FixedChannelPool.AcquireTimeoutAction.FAIL, acquireTimeoutMillis, maxConnections,
                 MAX_PENDING_ACQUIRES, RELEASE_HEALTH_CHECK )
         {
             @Override
             protected ChannelFuture connectChannel( Bootstrap bootstrap )
             {
                 ListenerEvent creatingEvent = handler.channelCreating( id );
-                ChannelFuture connectedChannelFuture = connector.connect( address, bootstrap );
+                // channels are only registered on the preferred event loop when it belongs to the group of this pool
+                EventLoop eventLoop = preferredEventLoop;
+                EventLoopGroup group = eventLoop != null && eventLoop.parent() == eventLoopGroup ? eventLoop : eventLoopGroup;
+                ChannelFuture connectedChannelFuture = connector.connect( address, bootstrap.clone( group ) );
                 Channel channel = connectedChannelFuture.channel();
                 // This ensures that handler.channelCreated is called before SimpleChannelPool calls handler.channelAcquired
                 ChannelPromise trackedChannelFuture = channel.newPromise();
@@ -89,6 +113,18 @@ public class NettyChannelPool implements ExtendedChannelPool
                         } );
                 return trackedChannelFuture;
             }
+
+            @Override
+            protected Channel pollChannel()
+            {
+                return pollIdleChannel();
+            }
+
+            @Override
+            protected boolean offerChannel( Channel channel )
+            {
+                return idleChannels.offer( channel );
+            }
         };
     }
 
@@ -105,7 +141,32 @@ public class NettyChannelPool implements ExtendedChannelPool
     @Override
     public CompletionStage<Channel> acquire()
     {
-        return asCompletionStage( delegate.acquire() );
+        if ( executor.inEventLoop() )
+        {
+            return acquireInExecutor();
+        }
+
+        // the delegate acquires on its executor anyway, deciding there whether the acquisition is queued keeps the pending count exact
+        CompletableFuture<Channel> result = new CompletableFuture<>();
+        executeInExecutor( () -> acquireInExecutor().whenComplete( futureCompletingConsumer( result ) ), result );
+        return result;
+    }
+
+    @Override
+    public CompletionStage<Channel> acquire( EventLoop preferredEventLoop )
+    {
+        if ( preferredEventLoop == null )
+        {
+            return acquire();
+        }
+        if ( executor.inEventLoop() )
+        {
+            return acquirePreferring( preferredEventLoop );
+        }
+
+        CompletableFuture<Channel> result = new CompletableFuture<>();
+        executeInExecutor( () -> acquirePreferring( preferredEventLoop ).whenComplete( futureCompletingConsumer( result ) ), result );
+        return result;
     }
 
     @Override
@@ -114,6 +175,12 @@ public class NettyChannelPool implements ExtendedChannelPool
         return asCompletionStage( delegate.release( channel ) );
     }
 
+    @Override
+    public int pendingAcquisitions()
+    {
+        return pendingAcquisitions.get();
+    }
+
     @Override
     public boolean isClosed()
     {
@@ -126,6 +193,65 @@ public class NettyChannelPool implements ExtendedChannelPool
         return this.id;
     }
 
+    private CompletionStage<Channel> acquireInExecutor()
+    {
+        // the delegate changes the count of acquired channels on this executor only, so it queues the acquisition exactly when the count is at the limit
+        if ( delegate.acquiredChannelCount() < maxConnections )
+        {
+            return asCompletionStage( delegate.acquire() );
+        }
+
+        // the pool is exhausted, this request is queued until a channel is released back to the pool
+        pendingAcquisitions.incrementAndGet();
+        return asCompletionStage( delegate.acquire() ).whenComplete( ( ignored, error ) -> pendingAcquisitions.decrementAndGet() );
+    }
+
+    private void executeInExecutor( Runnable acquisition, CompletableFuture<Channel> result )
+    {
+        try
+        {
+            executor.execute( acquisition );
+        }
+        catch ( Throwable error )
+        {
+            // the executor is shut down, fail like the delegate does
+            result.completeExceptionally( error );
+        }
+    }
+
+    private CompletionStage<Channel> acquirePreferring( EventLoop preferredEventLoop )
+    {
+        // the delegate polls an idle channel or connects a new one synchronously when called from its executor
+        this.preferredEventLoop = preferredEventLoop;
+        try
+        {
+            return acquire();
+        }
+        finally
+        {
+            this.preferredEventLoop = null;
+        }
+    }
+
+    private Channel pollIdleChannel()
+    {
+        EventLoop eventLoop = preferredEventLoop;
+        if ( eventLoop != null )
+        {
+            Iterator<Channel> iterator = idleChannels.descendingIterator();
+            while ( iterator.hasNext() )
+            {
+                Channel channel = iterator.next();
+                if ( channel.eventLoop() == eventLoop && idleChannels.removeLastOccurrence( channel ) )
+                {
+                    return channel;
+                }
+            }
+        }
+        // fall back to the most recently used channel, like the default pool does
+        return idleChannels.pollLast();
+    }
+
     private String poolId( BoltServerAddress serverAddress )
     {
         return String.format( "%s:%d-%d", serverAddress.host(), serverAddress.port(), this.hashCode() );
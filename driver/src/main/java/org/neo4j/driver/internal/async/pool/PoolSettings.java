@@ -33,11 +33,19 @@ public class PoolSettings
     private final long connectionAcquisitionTimeout;
     private final long maxConnectionLifetime;
     private final long idleTimeBeforeConnectionTest;
+    private final int minConnectionPoolSize;
 
     public PoolSettings( int maxConnectionPoolSize, long connectionAcquisitionTimeout,
             long maxConnectionLifetime, long idleTimeBeforeConnectionTest )
+    {
+        this( maxConnectionPoolSize, connectionAcquisitionTimeout, maxConnectionLifetime, idleTimeBeforeConnectionTest, NOT_CONFIGURED );
+    }
+
+    public PoolSettings( int maxConnectionPoolSize, long connectionAcquisitionTimeout,
+            long maxConnectionLifetime, long idleTimeBeforeConnectionTest, int minConnectionPoolSize )
     {
         this.maxConnectionPoolSize = maxConnectionPoolSize;
+        this.minConnectionPoolSize = minConnectionPoolSize == NOT_CONFIGURED ? NOT_CONFIGURED : Math.min( minConnectionPoolSize, maxConnectionPoolSize );
         this.connectionAcquisitionTimeout = connectionAcquisitionTimeout;
         this.maxConnectionLifetime = maxConnectionLifetime;
         this.idleTimeBeforeConnectionTest = idleTimeBeforeConnectionTest;
@@ -68,6 +76,20 @@ public class PoolSettings
         return maxConnectionPoolSize;
     }
 
+    /**
+     * The lower bound of the adaptive per-server connection limit.
+     * The limit adapts between this value and {@link #maxConnectionPoolSize()} when adaptive sizing is enabled.
+     */
+    public int minConnectionPoolSize()
+    {
+        return minConnectionPoolSize;
+    }
+
+    public boolean adaptiveConnectionPoolSizeEnabled()
+    {
+        return minConnectionPoolSize != NOT_CONFIGURED;
+    }
+
     public long connectionAcquisitionTimeout()
     {
         return connectionAcquisitionTimeout;
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.pool;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.async.connection.ResponseTimeListener;
+import org.neo4j.driver.internal.util.Clock;
+import org.neo4j.driver.net.ServerAddress;
+
+/**
+ * Keeps an exponentially weighted moving average of the response times of every server.
+ * <p>
+ * Servers that did not respond yet are assumed to be as fast as the mean of the known averages, so that they are neither preferred over nor avoided in
+ * favour of the measured servers. The average of a server that did not respond for a while decays towards that mean as well, so that a server that was slow
+ * in the past is tried again eventually.
+ */
+public class ResponseTimeTracker implements ResponseTimeListener
+{
+    // weight of a new response time in the average
+    private static final double ALPHA = 0.2;
+    // time it takes for the distance between the average of a server without responses and the mean of all averages to decay to ~37%
+    private static final long DECAY_MILLIS = 10_000;
+
+    private final Map<ServerAddress,Average> addressToAverage = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    public ResponseTimeTracker( Clock clock )
+    {
+        this.clock = clock;
+    }
+
+    @Override
+    public void onResponse( BoltServerAddress address, long responseTimeNanos )
+    {
+        long now = clock.millis();
+        double mean = meanNanos();
+        addressToAverage.compute( address, ( ignored, average ) ->
+                average == null ? new Average( responseTimeNanos, now ) : average.update( responseTimeNanos, now, mean ) );
+    }
+
+    /**
+     * @param address the address of the server.
+     * @return the average response time of the server in nanoseconds, the mean of the known averages if the server did not respond yet, or {@code 0} if
+     * no server responded yet.
+     */
+    public long averageResponseTimeNanos( ServerAddress address )
+    {
+        double mean = meanNanos();
+        Average average = addressToAverage.get( address );
+        return average == null ? Math.round( mean ) : average.value( clock.millis(), mean );
+    }
+
+    public void remove( ServerAddress address )
+    {
+        addressToAverage.remove( address );
+    }
+
+    private double meanNanos()
+    {
+        double sum = 0;
+        int count = 0;
+        for ( Average average : addressToAverage.values() )
+        {
+            sum += average.nanos;
+            count++;
+        }
+        return count == 0 ? 0 : sum / count;
+    }
+
+    private static class Average
+    {
+        final double nanos;
+        final long timestamp;
+
+        Average( double nanos, long timestamp )
+        {
+            this.nanos = nanos;
+            this.timestamp = timestamp;
+        }
+
+        Average update( long responseTimeNanos, long now, double mean )
+        {
+            return new Average( ALPHA * responseTimeNanos + (1 - ALPHA) * decayed( now, mean ), now );
+        }
+
+        long value( long now, double mean )
+        {
+            return Math.round( decayed( now, mean ) );
+        }
+
+        private double decayed( long now, double mean )
+        {
+            long elapsed = Math.max( 0, now - timestamp );
+            return mean + (nanos - mean) * Math.exp( -(double) elapsed / DECAY_MILLIS );
+        }
+    }
+}
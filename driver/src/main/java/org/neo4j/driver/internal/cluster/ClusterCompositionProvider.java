@@ -18,6 +18,9 @@
  */
 package org.neo4j.driver.internal.cluster;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletionStage;
 
 import org.neo4j.driver.Bookmark;
@@ -27,4 +30,15 @@ import org.neo4j.driver.internal.spi.Connection;
 public interface ClusterCompositionProvider
 {
     CompletionStage<ClusterComposition> getClusterComposition( Connection connection, DatabaseName databaseName, Bookmark bookmark, String impersonatedUser );
+
+    /**
+     * Fetch the cluster compositions of several databases over a single connection. The connection is released once done.
+     *
+     * @return the cluster compositions that were fetched successfully, or an empty map when the connection does not support fetching several of them.
+     */
+    default CompletionStage<Map<DatabaseName,ClusterComposition>> getClusterCompositions( Connection connection, List<DatabaseName> databaseNames,
+                                                                                          Bookmark bookmark, String impersonatedUser )
+    {
+        return connection.release().thenApply( ignored -> Collections.emptyMap() );
+    }
 }
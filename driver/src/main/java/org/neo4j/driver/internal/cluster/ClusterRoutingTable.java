@@ -23,8 +23,8 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -35,50 +35,42 @@ import org.neo4j.driver.internal.util.Clock;
 
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
-import static org.neo4j.driver.internal.util.LockUtil.executeWithLock;
 
+/**
+ * Routing table of a single database.
+ * <p>
+ * The state of the table is held in an immutable snapshot that is replaced atomically on every modification, so that reading the table never blocks.
+ */
 public class ClusterRoutingTable implements RoutingTable
 {
     private static final int MIN_ROUTERS = 1;
 
-    private final ReadWriteLock tableLock = new ReentrantReadWriteLock();
     private final DatabaseName databaseName;
     private final Clock clock;
-    private final Set<BoltServerAddress> disused = new HashSet<>();
-
-    private long expirationTimestamp;
-    private boolean preferInitialRouter = true;
-    private List<BoltServerAddress> readers = Collections.emptyList();
-    private List<BoltServerAddress> writers = Collections.emptyList();
-    private List<BoltServerAddress> routers = Collections.emptyList();
+    private final AtomicReference<Snapshot> snapshot;
 
     public ClusterRoutingTable( DatabaseName ofDatabase, Clock clock, BoltServerAddress... routingAddresses )
-    {
-        this( ofDatabase, clock );
-        routers = Collections.unmodifiableList( asList( routingAddresses ) );
-    }
-
-    private ClusterRoutingTable( DatabaseName ofDatabase, Clock clock )
     {
         this.databaseName = ofDatabase;
         this.clock = clock;
-        this.expirationTimestamp = clock.millis() - 1;
+        this.snapshot = new AtomicReference<>( new Snapshot( clock.millis() - 1, true, Collections.emptyList(), Collections.emptyList(),
+                                                             Collections.unmodifiableList( asList( routingAddresses ) ), Collections.emptySet() ) );
     }
 
     @Override
     public boolean isStaleFor( AccessMode mode )
     {
-        return executeWithLock( tableLock.readLock(), () ->
-                expirationTimestamp < clock.millis() ||
-                routers.size() < MIN_ROUTERS ||
-                mode == AccessMode.READ && readers.size() == 0 ||
-                mode == AccessMode.WRITE && writers.size() == 0 );
+        Snapshot current = snapshot.get();
+        return current.expirationTimestamp < clock.millis() ||
+               current.routers.size() < MIN_ROUTERS ||
+               mode == AccessMode.READ && current.readers.size() == 0 ||
+               mode == AccessMode.WRITE && current.writers.size() == 0;
     }
 
     @Override
     public boolean hasBeenStaleFor( long extraTime )
     {
-        long totalTime = executeWithLock( tableLock.readLock(), () -> expirationTimestamp ) + extraTime;
+        long totalTime = snapshot.get().expirationTimestamp + extraTime;
         if ( totalTime < 0 )
         {
             totalTime = Long.MAX_VALUE;
@@ -89,59 +81,54 @@ public class ClusterRoutingTable implements RoutingTable
     @Override
     public void update( ClusterComposition cluster )
     {
-        executeWithLock( tableLock.writeLock(), () ->
-        {
-            expirationTimestamp = cluster.expirationTimestamp();
-            readers = newWithReusedAddresses( readers, disused, cluster.readers() );
-            writers = newWithReusedAddresses( writers, disused, cluster.writers() );
-            routers = newWithReusedAddresses( routers, disused, cluster.routers() );
-            disused.clear();
-            preferInitialRouter = !cluster.hasWriters();
-        } );
+        // the composition returns copies of its address sets, which makes it safe to re-apply it when the snapshot is modified concurrently
+        modify( current -> new Snapshot( cluster.expirationTimestamp(),
+                                         !cluster.hasWriters(),
+                                         newWithReusedAddresses( current.readers, current.disused, cluster.readers() ),
+                                         newWithReusedAddresses( current.writers, current.disused, cluster.writers() ),
+                                         newWithReusedAddresses( current.routers, current.disused, cluster.routers() ),
+                                         Collections.emptySet() ) );
     }
 
     @Override
     public void forget( BoltServerAddress address )
     {
-        executeWithLock( tableLock.writeLock(), () ->
-        {
-            routers = newWithoutAddressIfPresent( routers, address );
-            readers = newWithoutAddressIfPresent( readers, address );
-            writers = newWithoutAddressIfPresent( writers, address );
-            disused.add( address );
-        } );
+        modify( current -> new Snapshot( current.expirationTimestamp,
+                                         current.preferInitialRouter,
+                                         newWithoutAddressIfPresent( current.readers, address ),
+                                         newWithoutAddressIfPresent( current.writers, address ),
+                                         newWithoutAddressIfPresent( current.routers, address ),
+                                         newWithAddress( current.disused, address ) ) );
     }
 
     @Override
     public List<BoltServerAddress> readers()
     {
-        return executeWithLock( tableLock.readLock(), () -> readers );
+        return snapshot.get().readers;
     }
 
     @Override
     public List<BoltServerAddress> writers()
     {
-        return executeWithLock( tableLock.readLock(), () -> writers );
+        return snapshot.get().writers;
     }
 
     @Override
     public List<BoltServerAddress> routers()
     {
-        return executeWithLock( tableLock.readLock(), () -> routers );
+        return snapshot.get().routers;
     }
 
     @Override
     public Set<BoltServerAddress> servers()
     {
-        return executeWithLock( tableLock.readLock(), () ->
-        {
-            Set<BoltServerAddress> servers = new HashSet<>();
-            servers.addAll( readers );
-            servers.addAll( writers );
-            servers.addAll( routers );
-            servers.addAll( disused );
-            return servers;
-        } );
+        Snapshot current = snapshot.get();
+        Set<BoltServerAddress> servers = new HashSet<>();
+        servers.addAll( current.readers );
+        servers.addAll( current.writers );
+        servers.addAll( current.routers );
+        servers.addAll( current.disused );
+        return servers;
     }
 
     @Override
@@ -153,37 +140,60 @@ public class ClusterRoutingTable implements RoutingTable
     @Override
     public void forgetWriter( BoltServerAddress toRemove )
     {
-        executeWithLock( tableLock.writeLock(), () ->
-        {
-            writers = newWithoutAddressIfPresent( writers, toRemove );
-            disused.add( toRemove );
-        } );
+        modify( current -> new Snapshot( current.expirationTimestamp,
+                                         current.preferInitialRouter,
+                                         current.readers,
+                                         newWithoutAddressIfPresent( current.writers, toRemove ),
+                                         current.routers,
+                                         newWithAddress( current.disused, toRemove ) ) );
     }
 
     @Override
     public void replaceRouterIfPresent( BoltServerAddress oldRouter, BoltServerAddress newRouter )
     {
-        executeWithLock( tableLock.writeLock(), () -> routers = newWithAddressReplacedIfPresent( routers, oldRouter, newRouter ) );
+        modify( current -> new Snapshot( current.expirationTimestamp,
+                                         current.preferInitialRouter,
+                                         current.readers,
+                                         current.writers,
+                                         newWithAddressReplacedIfPresent( current.routers, oldRouter, newRouter ),
+                                         current.disused ) );
     }
 
     @Override
     public boolean preferInitialRouter()
     {
-        return executeWithLock( tableLock.readLock(), () -> preferInitialRouter );
+        return snapshot.get().preferInitialRouter;
     }
 
     @Override
     public long expirationTimestamp()
     {
-        return executeWithLock( tableLock.readLock(), () -> expirationTimestamp );
+        return snapshot.get().expirationTimestamp;
     }
 
     @Override
     public String toString()
     {
-        return executeWithLock( tableLock.readLock(), () ->
-                format( "Ttl %s, currentTime %s, routers %s, writers %s, readers %s, database '%s'",
-                        expirationTimestamp, clock.millis(), routers, writers, readers, databaseName.description() ) );
+        Snapshot current = snapshot.get();
+        return format( "Ttl %s, currentTime %s, routers %s, writers %s, readers %s, database '%s'",
+                       current.expirationTimestamp, clock.millis(), current.routers, current.writers, current.readers, databaseName.description() );
+    }
+
+    private void modify( UnaryOperator<Snapshot> modification )
+    {
+        // the modification may be applied more than once when other threads modify the table concurrently
+        snapshot.updateAndGet( modification );
+    }
+
+    private Set<BoltServerAddress> newWithAddress( Set<BoltServerAddress> addresses, BoltServerAddress address )
+    {
+        if ( addresses.contains( address ) )
+        {
+            return addresses;
+        }
+        Set<BoltServerAddress> newSet = new HashSet<>( addresses );
+        newSet.add( address );
+        return Collections.unmodifiableSet( newSet );
     }
 
     private List<BoltServerAddress> newWithoutAddressIfPresent( List<BoltServerAddress> addresses, BoltServerAddress addressToSkip )
@@ -224,4 +234,25 @@ public class ClusterRoutingTable implements RoutingTable
     {
         return BoltServerAddress.class.equals( address.getClass() ) ? address : new BoltServerAddress( address.host(), address.port() );
     }
+
+    private static class Snapshot
+    {
+        final long expirationTimestamp;
+        final boolean preferInitialRouter;
+        final List<BoltServerAddress> readers;
+        final List<BoltServerAddress> writers;
+        final List<BoltServerAddress> routers;
+        final Set<BoltServerAddress> disused;
+
+        Snapshot( long expirationTimestamp, boolean preferInitialRouter, List<BoltServerAddress> readers, List<BoltServerAddress> writers,
+                  List<BoltServerAddress> routers, Set<BoltServerAddress> disused )
+        {
+            this.expirationTimestamp = expirationTimestamp;
+            this.preferInitialRouter = preferInitialRouter;
+            this.readers = readers;
+            this.writers = writers;
+            this.routers = routers;
+            this.disused = disused;
+        }
+    }
 }
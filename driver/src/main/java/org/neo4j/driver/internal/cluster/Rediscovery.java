@@ -19,11 +19,15 @@
 package org.neo4j.driver.internal.cluster;
 
 import java.net.UnknownHostException;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 
 /**
@@ -45,5 +49,23 @@ public interface Rediscovery
     CompletionStage<ClusterCompositionLookupResult> lookupClusterComposition( RoutingTable routingTable, ConnectionPool connectionPool, Bookmark bookmark,
                                                                               String impersonatedUser );
 
+    /**
+     * Fetches cluster compositions of several databases over a single connection, trying the given routers in turn until one of them responds.
+     * <p>
+     * Failures are not reported, the routing tables of the databases missing from the result are expected to be refreshed on their own.
+     *
+     * @param routers        the routers to fetch the cluster compositions from
+     * @param databaseNames  the names of the databases
+     * @param connectionPool the connection pool for connection acquisition
+     * @param bookmark       the bookmark that is presented to the server
+     * @return the cluster compositions that were fetched successfully
+     */
+    default CompletionStage<Map<DatabaseName,ClusterComposition>> lookupClusterCompositions( List<BoltServerAddress> routers,
+                                                                                             List<DatabaseName> databaseNames,
+                                                                                             ConnectionPool connectionPool, Bookmark bookmark )
+    {
+        return CompletableFuture.completedFuture( Collections.emptyMap() );
+    }
+
     List<BoltServerAddress> resolve() throws UnknownHostException;
 }
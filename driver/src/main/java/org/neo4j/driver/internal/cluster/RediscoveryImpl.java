@@ -25,11 +25,15 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.Logger;
@@ -41,6 +45,7 @@ import org.neo4j.driver.exceptions.FatalDiscoveryException;
 import org.neo4j.driver.exceptions.SecurityException;
 import org.neo4j.driver.exceptions.ServiceUnavailableException;
 import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.DomainNameResolver;
 import org.neo4j.driver.internal.ImpersonationUtil;
 import org.neo4j.driver.internal.ResolvedBoltServerAddress;
@@ -50,6 +55,7 @@ import org.neo4j.driver.net.ServerAddress;
 import org.neo4j.driver.net.ServerAddressResolver;
 
 import static java.lang.String.format;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.CompletableFuture.completedFuture;
@@ -165,7 +171,8 @@ public class RediscoveryImpl implements Rediscovery
                                                                                                      Bookmark bookmark, String impersonatedUser,
                                                                                                      Throwable baseError )
     {
-        Set<BoltServerAddress> seenServers = new HashSet<>();
+        // routers are added concurrently when the lookup is hedged
+        Set<BoltServerAddress> seenServers = ConcurrentHashMap.newKeySet();
         return lookupOnKnownRouters( routingTable, connectionPool, seenServers, bookmark, impersonatedUser, baseError )
                 .thenCompose(
                         compositionLookupResult ->
@@ -193,7 +200,8 @@ public class RediscoveryImpl implements Rediscovery
                                 return completedFuture(
                                         compositionLookupResult );
                             }
-                            return lookupOnKnownRouters( routingTable, connectionPool, new HashSet<>(), bookmark, impersonatedUser, baseError );
+                            return lookupOnKnownRouters( routingTable, connectionPool, ConcurrentHashMap.newKeySet(), bookmark, impersonatedUser,
+                                                         baseError );
                         } );
     }
 
@@ -201,6 +209,12 @@ public class RediscoveryImpl implements Rediscovery
                                                                                   Set<BoltServerAddress> seenServers, Bookmark bookmark,
                                                                                   String impersonatedUser, Throwable baseError )
     {
+        if ( settings.hedgedRediscoveryDelayMs() != RoutingSettings.HEDGED_REDISCOVERY_DISABLED )
+        {
+            return new HedgedLookup( routingTable, connectionPool, seenServers, bookmark, impersonatedUser, baseError ).start()
+                    .thenApply( composition -> composition != null ? new ClusterCompositionLookupResult( composition ) : null );
+        }
+
         CompletableFuture<ClusterComposition> result = completedWithNull();
         for ( BoltServerAddress address : routingTable.routers() )
         {
@@ -257,14 +271,7 @@ public class RediscoveryImpl implements Rediscovery
                                                                 ConnectionPool connectionPool, Set<BoltServerAddress> seenServers, Bookmark bookmark,
                                                                 String impersonatedUser, Throwable baseError )
     {
-        CompletableFuture<BoltServerAddress> addressFuture = CompletableFuture.completedFuture( routerAddress );
-
-        return addressFuture
-                .thenApply( address -> resolveAddress ? resolveByDomainNameOrThrowCompletionException( address, routingTable ) : address )
-                .thenApply( address -> addAndReturn( seenServers, address ) )
-                .thenCompose( connectionPool::acquire )
-                .thenApply( connection -> ImpersonationUtil.ensureImpersonationSupport( connection, impersonatedUser ) )
-                .thenCompose( connection -> provider.getClusterComposition( connection, routingTable.database(), bookmark, impersonatedUser ) )
+        return requestClusterComposition( routerAddress, resolveAddress, routingTable, connectionPool, seenServers, bookmark, impersonatedUser )
                 .handle( ( response, error ) ->
                          {
                              Throwable cause = Futures.completionExceptionCause( error );
@@ -279,6 +286,20 @@ public class RediscoveryImpl implements Rediscovery
                          } );
     }
 
+    private CompletionStage<ClusterComposition> requestClusterComposition( BoltServerAddress routerAddress, boolean resolveAddress,
+                                                                           RoutingTable routingTable, ConnectionPool connectionPool,
+                                                                           Set<BoltServerAddress> seenServers, Bookmark bookmark, String impersonatedUser )
+    {
+        CompletableFuture<BoltServerAddress> addressFuture = CompletableFuture.completedFuture( routerAddress );
+
+        return addressFuture
+                .thenApply( address -> resolveAddress ? resolveByDomainNameOrThrowCompletionException( address, routingTable ) : address )
+                .thenApply( address -> addAndReturn( seenServers, address ) )
+                .thenCompose( connectionPool::acquire )
+                .thenApply( connection -> ImpersonationUtil.ensureImpersonationSupport( connection, impersonatedUser ) )
+                .thenCompose( connection -> provider.getClusterComposition( connection, routingTable.database(), bookmark, impersonatedUser ) );
+    }
+
     private ClusterComposition handleRoutingProcedureError( Throwable error, RoutingTable routingTable,
                                                             BoltServerAddress routerAddress, Throwable baseError )
     {
@@ -322,6 +343,43 @@ public class RediscoveryImpl implements Rediscovery
         return abort;
     }
 
+    @Override
+    public CompletionStage<Map<DatabaseName,ClusterComposition>> lookupClusterCompositions( List<BoltServerAddress> routers,
+                                                                                            List<DatabaseName> databaseNames,
+                                                                                            ConnectionPool connectionPool, Bookmark bookmark )
+    {
+        CompletableFuture<Map<DatabaseName,ClusterComposition>> result = completedWithNull();
+        for ( BoltServerAddress router : routers )
+        {
+            result = result.thenCompose(
+                    compositions ->
+                    {
+                        if ( compositions != null )
+                        {
+                            return completedFuture( compositions );
+                        }
+                        return lookupClusterCompositionsOnRouter( router, databaseNames, connectionPool, bookmark );
+                    } );
+        }
+        return result.thenApply( compositions -> compositions != null ? compositions : emptyMap() );
+    }
+
+    private CompletionStage<Map<DatabaseName,ClusterComposition>> lookupClusterCompositionsOnRouter( BoltServerAddress router,
+                                                                                                     List<DatabaseName> databaseNames,
+                                                                                                     ConnectionPool connectionPool, Bookmark bookmark )
+    {
+        return connectionPool.acquire( router )
+                             .thenCompose( connection -> provider.getClusterCompositions( connection, databaseNames, bookmark, null ) )
+                             .exceptionally( error ->
+                                             {
+                                                 // the next router is tried, if any
+                                                 log.debug( format( "Failed to fetch cluster compositions of %d databases from server '%s'.",
+                                                                    databaseNames.size(), router ),
+                                                            Futures.completionExceptionCause( error ) );
+                                                 return null;
+                                             } );
+    }
+
     @Override
     public List<BoltServerAddress> resolve() throws UnknownHostException
     {
@@ -386,4 +444,126 @@ public class RediscoveryImpl implements Rediscovery
     {
         return new ResolvedBoltServerAddress( address.host(), address.port(), domainNameResolver.resolve( address.host() ) );
     }
+
+    /**
+     * Lookup on the known routers that queries the next router when the previous ones did not respond within the hedging delay or failed, and
+     * completes with the first cluster composition received. The routers that were not queried yet are skipped once a composition is received, and
+     * failures of the lookups that lost the race are ignored, so that they do not remove routers from the table the winning lookup refreshed.
+     */
+    private class HedgedLookup
+    {
+        private final CompletableFuture<ClusterComposition> result = new CompletableFuture<>();
+        private final AtomicInteger nextRouterIndex = new AtomicInteger();
+        private final AtomicInteger pendingLookups = new AtomicInteger();
+        private final List<BoltServerAddress> routers;
+        private final RoutingTable routingTable;
+        private final ConnectionPool connectionPool;
+        private final Set<BoltServerAddress> seenServers;
+        private final Bookmark bookmark;
+        private final String impersonatedUser;
+        private final Throwable baseError;
+        private volatile ScheduledFuture<?> scheduledLookup;
+
+        HedgedLookup( RoutingTable routingTable, ConnectionPool connectionPool, Set<BoltServerAddress> seenServers, Bookmark bookmark,
+                      String impersonatedUser, Throwable baseError )
+        {
+            this.routers = routingTable.routers();
+            this.routingTable = routingTable;
+            this.connectionPool = connectionPool;
+            this.seenServers = seenServers;
+            this.bookmark = bookmark;
+            this.impersonatedUser = impersonatedUser;
+            this.baseError = baseError;
+            result.whenComplete( ( composition, error ) -> cancelScheduledLookup() );
+        }
+
+        CompletionStage<ClusterComposition> start()
+        {
+            if ( routers.isEmpty() )
+            {
+                return completedWithNull();
+            }
+            if ( settings.hedgedRediscoveryDelayMs() == 0 )
+            {
+                routers.forEach( ignored -> lookupOnNextRouter( false ) );
+            }
+            else
+            {
+                lookupOnNextRouter( true );
+            }
+            return result;
+        }
+
+        private void lookupOnNextRouter( boolean scheduleNext )
+        {
+            // account for the lookup before taking a router, so that the result is not completed while the lookup is starting
+            pendingLookups.incrementAndGet();
+            int index = nextRouterIndex.getAndIncrement();
+            if ( result.isDone() || index >= routers.size() )
+            {
+                lookupFinished();
+                return;
+            }
+
+            BoltServerAddress address = routers.get( index );
+            requestClusterComposition( address, true, routingTable, connectionPool, seenServers, bookmark, impersonatedUser )
+                    .handle( ( response, completionError ) ->
+                             {
+                                 Throwable cause = Futures.completionExceptionCause( completionError );
+                                 if ( cause == null )
+                                 {
+                                     return response;
+                                 }
+                                 // the failure of a lookup that lost the race is irrelevant
+                                 return result.isDone() ? null : handleRoutingProcedureError( cause, routingTable, address, baseError );
+                             } )
+                    .whenComplete( ( composition, completionError ) ->
+                                   {
+                                       Throwable error = Futures.completionExceptionCause( completionError );
+                                       if ( error != null )
+                                       {
+                                           result.completeExceptionally( error );
+                                       }
+                                       else if ( composition != null )
+                                       {
+                                           result.complete( composition );
+                                       }
+                                       else
+                                       {
+                                           // the router failed, do not wait for the hedging delay to query the next one
+                                           lookupOnNextRouter( false );
+                                       }
+                                       lookupFinished();
+                                   } );
+
+            if ( scheduleNext && index + 1 < routers.size() )
+            {
+                scheduledLookup = eventExecutorGroup.next().schedule( () -> lookupOnNextRouter( true ), settings.hedgedRediscoveryDelayMs(),
+                                                                      TimeUnit.MILLISECONDS );
+                if ( result.isDone() )
+                {
+                    // the result was completed while the lookup was being scheduled
+                    cancelScheduledLookup();
+                }
+            }
+        }
+
+        private void cancelScheduledLookup()
+        {
+            ScheduledFuture<?> lookup = scheduledLookup;
+            if ( lookup != null )
+            {
+                lookup.cancel( false );
+            }
+        }
+
+        private void lookupFinished()
+        {
+            if ( pendingLookups.decrementAndGet() == 0 && nextRouterIndex.get() >= routers.size() )
+            {
+                // all routers failed
+                result.complete( null );
+            }
+        }
+    }
 }
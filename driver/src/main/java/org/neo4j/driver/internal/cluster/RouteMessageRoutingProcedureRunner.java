@@ -20,6 +20,7 @@ package org.neo4j.driver.internal.cluster;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -79,6 +80,38 @@ public class RouteMessageRoutingProcedureRunner implements RoutingProcedureRunne
                 .thenCompose( routingProcedureResponse -> directConnection.release().thenApply( ignore -> routingProcedureResponse ) );
     }
 
+    /**
+     * Pipeline the requests for the routing tables of the given databases on the given connection.
+     *
+     * @return the responses in the order of the given database names.
+     */
+    public CompletionStage<List<RoutingProcedureResponse>> run( Connection connection, List<DatabaseName> databaseNames, Bookmark bookmark,
+                                                                String impersonatedUser )
+    {
+        List<CompletableFuture<RoutingProcedureResponse>> responseFutures = new ArrayList<>( databaseNames.size() );
+        for ( int i = 0; i < databaseNames.size(); i++ )
+        {
+            DatabaseName databaseName = databaseNames.get( i );
+            CompletableFuture<Map<String,Value>> completableFuture = createCompletableFuture.get();
+            RouteMessage message = new RouteMessage( routingContext, bookmark, databaseName.databaseName().orElse( null ), impersonatedUser );
+            if ( i == databaseNames.size() - 1 )
+            {
+                connection.writeAndFlush( message, new RouteMessageResponseHandler( completableFuture ) );
+            }
+            else
+            {
+                connection.write( message, new RouteMessageResponseHandler( completableFuture ) );
+            }
+            responseFutures.add( completableFuture
+                                         .thenApply( routingTable -> new RoutingProcedureResponse( getQuery( databaseName ),
+                                                                                                   singletonList( toRecord( routingTable ) ) ) )
+                                         .exceptionally( throwable -> new RoutingProcedureResponse( getQuery( databaseName ), throwable.getCause() ) ) );
+        }
+        return CompletableFuture.allOf( responseFutures.toArray( new CompletableFuture<?>[0] ) )
+                                .thenCompose( ignored -> connection.release() )
+                                .thenApply( ignored -> responseFutures.stream().map( CompletableFuture::join ).collect( Collectors.toList() ) );
+    }
+
     private Record toRecord( Map<String,Value> routingTable )
     {
         return new InternalRecord( new ArrayList<>( routingTable.keySet() ), routingTable.values().toArray( new Value[0] ) );
@@ -18,7 +18,9 @@
  */
 package org.neo4j.driver.internal.cluster;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 
@@ -42,7 +44,7 @@ public class RoutingProcedureClusterCompositionProvider implements ClusterCompos
     private final Clock clock;
     private final RoutingProcedureRunner singleDatabaseRoutingProcedureRunner;
     private final RoutingProcedureRunner multiDatabaseRoutingProcedureRunner;
-    private final RoutingProcedureRunner routeMessageRoutingProcedureRunner;
+    private final RouteMessageRoutingProcedureRunner routeMessageRoutingProcedureRunner;
 
     public RoutingProcedureClusterCompositionProvider( Clock clock, RoutingContext routingContext )
     {
@@ -83,6 +85,36 @@ public class RoutingProcedureClusterCompositionProvider implements ClusterCompos
                      .thenApply( this::processRoutingResponse );
     }
 
+    @Override
+    public CompletionStage<Map<DatabaseName,ClusterComposition>> getClusterCompositions( Connection connection, List<DatabaseName> databaseNames,
+                                                                                         Bookmark bookmark, String impersonatedUser )
+    {
+        if ( !supportsRouteMessage( connection ) )
+        {
+            return ClusterCompositionProvider.super.getClusterCompositions( connection, databaseNames, bookmark, impersonatedUser );
+        }
+
+        return routeMessageRoutingProcedureRunner.run( connection, databaseNames, bookmark, impersonatedUser )
+                                                 .thenApply( responses -> processRoutingResponses( databaseNames, responses ) );
+    }
+
+    private Map<DatabaseName,ClusterComposition> processRoutingResponses( List<DatabaseName> databaseNames, List<RoutingProcedureResponse> responses )
+    {
+        Map<DatabaseName,ClusterComposition> compositions = new LinkedHashMap<>();
+        for ( int i = 0; i < responses.size(); i++ )
+        {
+            try
+            {
+                compositions.put( databaseNames.get( i ), processRoutingResponse( responses.get( i ) ) );
+            }
+            catch ( RuntimeException ignored )
+            {
+                // the routing table of the database is fetched on its own once it is needed
+            }
+        }
+        return compositions;
+    }
+
     private ClusterComposition processRoutingResponse( RoutingProcedureResponse response )
     {
         if ( !response.isSuccess() )
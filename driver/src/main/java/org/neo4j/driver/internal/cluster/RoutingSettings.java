@@ -23,12 +23,20 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 public class RoutingSettings
 {
     public static final long STALE_ROUTING_TABLE_PURGE_DELAY_MS = SECONDS.toMillis( 30 );
+    public static final long HEDGED_REDISCOVERY_DISABLED = -1;
+    public static final int CIRCUIT_BREAKER_DISABLED = 0;
     public static final RoutingSettings DEFAULT = new RoutingSettings( 1, SECONDS.toMillis( 5 ), STALE_ROUTING_TABLE_PURGE_DELAY_MS );
 
     private final int maxRoutingFailures;
     private final long retryTimeoutDelay;
     private final RoutingContext routingContext;
     private final long routingTablePurgeDelayMs;
+    private final boolean backgroundRefresh;
+    private final long hedgedRediscoveryDelayMs;
+    private final boolean sharedRefresh;
+    private final boolean homeDatabaseCache;
+    private final int circuitBreakerFailureThreshold;
+    private final long circuitBreakerProbeIntervalMs;
 
     public RoutingSettings( int maxRoutingFailures, long retryTimeoutDelay, long routingTablePurgeDelayMs )
     {
@@ -36,16 +44,32 @@ public class RoutingSettings
     }
 
     public RoutingSettings( int maxRoutingFailures, long retryTimeoutDelay, long routingTablePurgeDelayMs, RoutingContext routingContext )
+    {
+        this( maxRoutingFailures, retryTimeoutDelay, routingTablePurgeDelayMs, routingContext, false, HEDGED_REDISCOVERY_DISABLED, false, false,
+              CIRCUIT_BREAKER_DISABLED, 0 );
+    }
+
+    public RoutingSettings( int maxRoutingFailures, long retryTimeoutDelay, long routingTablePurgeDelayMs, RoutingContext routingContext,
+                            boolean backgroundRefresh, long hedgedRediscoveryDelayMs, boolean sharedRefresh, boolean homeDatabaseCache,
+                            int circuitBreakerFailureThreshold, long circuitBreakerProbeIntervalMs )
     {
         this.maxRoutingFailures = maxRoutingFailures;
         this.retryTimeoutDelay = retryTimeoutDelay;
         this.routingContext = routingContext;
         this.routingTablePurgeDelayMs = routingTablePurgeDelayMs;
+        this.backgroundRefresh = backgroundRefresh;
+        this.hedgedRediscoveryDelayMs = hedgedRediscoveryDelayMs;
+        this.sharedRefresh = sharedRefresh;
+        this.homeDatabaseCache = homeDatabaseCache;
+        this.circuitBreakerFailureThreshold = circuitBreakerFailureThreshold;
+        this.circuitBreakerProbeIntervalMs = circuitBreakerProbeIntervalMs;
     }
 
     public RoutingSettings withRoutingContext( RoutingContext newRoutingContext )
     {
-        return new RoutingSettings( maxRoutingFailures, retryTimeoutDelay, routingTablePurgeDelayMs, newRoutingContext );
+        return new RoutingSettings( maxRoutingFailures, retryTimeoutDelay, routingTablePurgeDelayMs, newRoutingContext, backgroundRefresh,
+                                    hedgedRediscoveryDelayMs, sharedRefresh, homeDatabaseCache, circuitBreakerFailureThreshold,
+                                    circuitBreakerProbeIntervalMs );
     }
 
     public int maxRoutingFailures()
@@ -67,4 +91,41 @@ public class RoutingSettings
     {
         return routingTablePurgeDelayMs;
     }
+
+    public boolean backgroundRefresh()
+    {
+        return backgroundRefresh;
+    }
+
+    /**
+     * @return the delay after which the next known router is queried while the previous ones did not respond yet, or
+     * {@link #HEDGED_REDISCOVERY_DISABLED} when the routers are queried one after another.
+     */
+    public long hedgedRediscoveryDelayMs()
+    {
+        return hedgedRediscoveryDelayMs;
+    }
+
+    public boolean sharedRefresh()
+    {
+        return sharedRefresh;
+    }
+
+    public boolean homeDatabaseCache()
+    {
+        return homeDatabaseCache;
+    }
+
+    /**
+     * @return the amount of consecutive connection failures after which a server is skipped, or {@link #CIRCUIT_BREAKER_DISABLED}.
+     */
+    public int circuitBreakerFailureThreshold()
+    {
+        return circuitBreakerFailureThreshold;
+    }
+
+    public long circuitBreakerProbeIntervalMs()
+    {
+        return circuitBreakerProbeIntervalMs;
+    }
 }
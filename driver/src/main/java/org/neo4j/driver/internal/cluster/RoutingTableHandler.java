@@ -35,5 +35,21 @@ public interface RoutingTableHandler extends RoutingErrorHandler
 
     CompletionStage<RoutingTable> updateRoutingTable( ClusterCompositionLookupResult compositionLookupResult );
 
+    /**
+     * Starts a refresh of the routing table that is completed by {@link #completeSharedRefresh(ClusterComposition)}, unless a refresh is in flight
+     * already. Callers ensuring the routing table meanwhile wait for the refresh.
+     *
+     * @return {@code true} if the refresh was started, {@code false} if another refresh is in flight
+     */
+    boolean startSharedRefresh();
+
+    /**
+     * Completes the refresh started by {@link #startSharedRefresh()}.
+     *
+     * @param composition the cluster composition fetched for the database, or {@code null} if it could not be fetched and the routing table has to be
+     *                    refreshed on its own
+     */
+    void completeSharedRefresh( ClusterComposition composition );
+
     RoutingTable routingTable();
 }
@@ -18,24 +18,36 @@
  */
 package org.neo4j.driver.internal.cluster;
 
+import io.netty.util.concurrent.EventExecutorGroup;
+
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
+import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DatabaseName;
+import org.neo4j.driver.internal.InternalBookmark;
 import org.neo4j.driver.internal.async.ConnectionContext;
 import org.neo4j.driver.internal.spi.ConnectionPool;
+import org.neo4j.driver.internal.util.Clock;
 import org.neo4j.driver.internal.util.Futures;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 public class RoutingTableHandlerImpl implements RoutingTableHandler
 {
+    // a lock rather than a monitor, waiting virtual threads do not pin their carrier thread then
+    private final Lock lock = new ReentrantLock();
     private final RoutingTable routingTable;
     private final DatabaseName databaseName;
     private final RoutingTableRegistry routingTableRegistry;
@@ -45,10 +57,26 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler
     private final Logger log;
     private final long routingTablePurgeDelayMs;
     private final Set<BoltServerAddress> resolvedInitialRouters = new HashSet<>();
+    private final Clock clock;
+    private final EventExecutorGroup backgroundRefreshExecutor;
+    private ScheduledFuture<?> backgroundRefresh;
+    private boolean usedSinceRefresh;
+    private Bookmark rediscoveryBookmark = InternalBookmark.empty();
 
     public RoutingTableHandlerImpl( RoutingTable routingTable, Rediscovery rediscovery, ConnectionPool connectionPool,
                                     RoutingTableRegistry routingTableRegistry,
                                     Logging logging, long routingTablePurgeDelayMs )
+    {
+        this( routingTable, rediscovery, connectionPool, routingTableRegistry, logging, routingTablePurgeDelayMs, null, null );
+    }
+
+    /**
+     * @param clock                     the clock used to compute the remaining time to live of the routing table.
+     * @param backgroundRefreshExecutor the executor refreshing the routing table before it expires, or {@code null} to only refresh it when it is stale.
+     */
+    public RoutingTableHandlerImpl( RoutingTable routingTable, Rediscovery rediscovery, ConnectionPool connectionPool,
+                                    RoutingTableRegistry routingTableRegistry,
+                                    Logging logging, long routingTablePurgeDelayMs, Clock clock, EventExecutorGroup backgroundRefreshExecutor )
     {
         this.routingTable = routingTable;
         this.databaseName = routingTable.database();
@@ -57,6 +85,8 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler
         this.routingTableRegistry = routingTableRegistry;
         this.log = logging.getLog( getClass() );
         this.routingTablePurgeDelayMs = routingTablePurgeDelayMs;
+        this.clock = clock;
+        this.backgroundRefreshExecutor = backgroundRefreshExecutor;
     }
 
     @Override
@@ -73,116 +103,308 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler
     }
 
     @Override
-    public synchronized CompletionStage<RoutingTable> ensureRoutingTable( ConnectionContext context )
+    public CompletionStage<RoutingTable> ensureRoutingTable( ConnectionContext context )
     {
-        if ( refreshRoutingTableFuture != null )
-        {
-            // refresh is already happening concurrently, just use it's result
-            return refreshRoutingTableFuture;
-        }
-        else if ( routingTable.isStaleFor( context.mode() ) )
+        CompletableFuture<RoutingTable> resultFuture;
+        lock.lock();
+        try
         {
+            usedSinceRefresh = true;
+            rediscoveryBookmark = context.rediscoveryBookmark();
+
+            if ( refreshRoutingTableFuture != null )
+            {
+                // refresh is already happening concurrently, just use it's result
+                return refreshRoutingTableFuture;
+            }
+            else if ( !routingTable.isStaleFor( context.mode() ) )
+            {
+                // existing routing table is fresh, use it
+                return completedFuture( routingTable );
+            }
+
             // existing routing table is not fresh and should be updated
             log.debug( "Routing table for database '%s' is stale. %s", databaseName.description(), routingTable );
 
-            CompletableFuture<RoutingTable> resultFuture = new CompletableFuture<>();
+            resultFuture = new CompletableFuture<>();
             refreshRoutingTableFuture = resultFuture;
+        }
+        finally
+        {
+            lock.unlock();
+        }
 
-            rediscovery.lookupClusterComposition( routingTable, connectionPool, context.rediscoveryBookmark(), null )
-                       .whenComplete( ( composition, completionError ) ->
-                                      {
-                                          Throwable error = Futures.completionExceptionCause( completionError );
-                                          if ( error != null )
-                                          {
-                                              clusterCompositionLookupFailed( error );
-                                          }
-                                          else
-                                          {
-                                              freshClusterCompositionFetched( composition );
-                                          }
-                                      } );
+        // the lookup might block resolving the initial router, it is started outside of the lock
+        lookupFreshClusterComposition( context.rediscoveryBookmark() );
+
+        return resultFuture;
+    }
 
-            return resultFuture;
+    @Override
+    public boolean startSharedRefresh()
+    {
+        lock.lock();
+        try
+        {
+            if ( refreshRoutingTableFuture != null )
+            {
+                return false;
+            }
+            refreshRoutingTableFuture = new CompletableFuture<>();
+            return true;
         }
-        else
+        finally
         {
-            // existing routing table is fresh, use it
-            return completedFuture( routingTable );
+            lock.unlock();
         }
     }
 
     @Override
-    public synchronized CompletionStage<RoutingTable> updateRoutingTable( ClusterCompositionLookupResult compositionLookupResult )
+    public void completeSharedRefresh( ClusterComposition composition )
     {
-        if ( refreshRoutingTableFuture != null )
+        if ( composition != null )
         {
-            // refresh is already happening concurrently, just use its result
-            return refreshRoutingTableFuture;
+            freshClusterCompositionFetched( new ClusterCompositionLookupResult( composition ), false );
+            return;
         }
-        else
+
+        // the shared lookup did not return the database, the refresh falls back to a lookup of its own
+        Bookmark bookmark;
+        lock.lock();
+        try
+        {
+            bookmark = rediscoveryBookmark;
+        }
+        finally
         {
-            if ( compositionLookupResult.getClusterComposition().expirationTimestamp() < routingTable.expirationTimestamp() )
+            lock.unlock();
+        }
+        lookupFreshClusterComposition( bookmark );
+    }
+
+    private void lookupFreshClusterComposition( Bookmark bookmark )
+    {
+        rediscovery.lookupClusterComposition( routingTable, connectionPool, bookmark, null )
+                   .whenComplete( ( composition, completionError ) ->
+                                  {
+                                      Throwable error = Futures.completionExceptionCause( completionError );
+                                      if ( error != null )
+                                      {
+                                          clusterCompositionLookupFailed( error );
+                                      }
+                                      else
+                                      {
+                                          freshClusterCompositionFetched( composition, true );
+                                      }
+                                  } );
+    }
+
+    @Override
+    public CompletionStage<RoutingTable> updateRoutingTable( ClusterCompositionLookupResult compositionLookupResult )
+    {
+        lock.lock();
+        try
+        {
+            if ( refreshRoutingTableFuture != null )
             {
-                return completedFuture( routingTable );
+                // refresh is already happening concurrently, just use its result
+                return refreshRoutingTableFuture;
             }
-            CompletableFuture<RoutingTable> resultFuture = new CompletableFuture<>();
-            refreshRoutingTableFuture = resultFuture;
-            freshClusterCompositionFetched( compositionLookupResult );
-            return resultFuture;
+            else
+            {
+                if ( compositionLookupResult.getClusterComposition().expirationTimestamp() < routingTable.expirationTimestamp() )
+                {
+                    return completedFuture( routingTable );
+                }
+                CompletableFuture<RoutingTable> resultFuture = new CompletableFuture<>();
+                refreshRoutingTableFuture = resultFuture;
+                freshClusterCompositionFetched( compositionLookupResult, false );
+                return resultFuture;
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    private void freshClusterCompositionFetched( ClusterCompositionLookupResult compositionLookupResult, boolean shareRefresh )
+    {
+        if ( applyFreshClusterComposition( compositionLookupResult ) && shareRefresh )
+        {
+            // outside of the lock of this handler, routing tables of other databases get updated
+            routingTableRegistry.refreshRoutingTablesSharingRouters( routingTable );
         }
     }
 
-    private synchronized void freshClusterCompositionFetched( ClusterCompositionLookupResult compositionLookupResult )
+    private boolean applyFreshClusterComposition( ClusterCompositionLookupResult compositionLookupResult )
     {
+        lock.lock();
         try
         {
-            log.debug( "Fetched cluster composition for database '%s'. %s", databaseName.description(), compositionLookupResult.getClusterComposition() );
-            routingTable.update( compositionLookupResult.getClusterComposition() );
-            routingTableRegistry.removeAged();
-
-            Set<BoltServerAddress> addressesToRetain = new LinkedHashSet<>();
-            routingTableRegistry.allServers().stream()
-                                .flatMap( BoltServerAddress::unicastStream )
-                                .forEach( addressesToRetain::add );
-            compositionLookupResult.getResolvedInitialRouters().ifPresent(
-                    addresses ->
-                    {
-                        resolvedInitialRouters.clear();
-                        resolvedInitialRouters.addAll( addresses );
-                    } );
-            addressesToRetain.addAll( resolvedInitialRouters );
-            connectionPool.retainAll( addressesToRetain );
-
-            log.debug( "Updated routing table for database '%s'. %s", databaseName.description(), routingTable );
+            applyClusterComposition( compositionLookupResult );
 
             CompletableFuture<RoutingTable> routingTableFuture = refreshRoutingTableFuture;
             refreshRoutingTableFuture = null;
             routingTableFuture.complete( routingTable );
+            return true;
         }
         catch ( Throwable error )
         {
             clusterCompositionLookupFailed( error );
+            return false;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    private void applyClusterComposition( ClusterCompositionLookupResult compositionLookupResult )
+    {
+        log.debug( "Fetched cluster composition for database '%s'. %s", databaseName.description(), compositionLookupResult.getClusterComposition() );
+        routingTable.update( compositionLookupResult.getClusterComposition() );
+        routingTableRegistry.removeAged();
+
+        Set<BoltServerAddress> addressesToRetain = new LinkedHashSet<>();
+        routingTableRegistry.allServers().stream()
+                            .flatMap( BoltServerAddress::unicastStream )
+                            .forEach( addressesToRetain::add );
+        compositionLookupResult.getResolvedInitialRouters().ifPresent(
+                addresses ->
+                {
+                    resolvedInitialRouters.clear();
+                    resolvedInitialRouters.addAll( addresses );
+                } );
+        addressesToRetain.addAll( resolvedInitialRouters );
+        connectionPool.retainAll( addressesToRetain );
+
+        log.debug( "Updated routing table for database '%s'. %s", databaseName.description(), routingTable );
+        usedSinceRefresh = false;
+        scheduleBackgroundRefresh();
+    }
+
+    private void clusterCompositionLookupFailed( Throwable error )
+    {
+        lock.lock();
+        try
+        {
+            log.error( String.format( "Failed to update routing table for database '%s'. Current routing table: %s.", databaseName.description(),
+                                      routingTable ), error );
+            routingTableRegistry.remove( databaseName );
+            cancelBackgroundRefresh();
+            CompletableFuture<RoutingTable> routingTableFuture = refreshRoutingTableFuture;
+            refreshRoutingTableFuture = null;
+            routingTableFuture.completeExceptionally( error );
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    private void scheduleBackgroundRefresh()
+    {
+        if ( backgroundRefreshExecutor == null )
+        {
+            return;
+        }
+        cancelBackgroundRefresh();
+        long timeToLive = routingTable.expirationTimestamp() - clock.millis();
+        if ( timeToLive > 0 )
+        {
+            // refresh at 80% of the time to live, spread by 10% of it in both directions to avoid refreshing all routing tables at once
+            long delay = (long) (timeToLive * (0.7 + 0.2 * ThreadLocalRandom.current().nextDouble()));
+            backgroundRefresh = backgroundRefreshExecutor.schedule( this::refreshInBackground, delay, MILLISECONDS );
+        }
+    }
+
+    private void cancelBackgroundRefresh()
+    {
+        if ( backgroundRefresh != null )
+        {
+            backgroundRefresh.cancel( false );
+            backgroundRefresh = null;
         }
     }
 
-    private synchronized void clusterCompositionLookupFailed( Throwable error )
+    private void refreshInBackground()
     {
-        log.error( String.format( "Failed to update routing table for database '%s'. Current routing table: %s.", databaseName.description(), routingTable ),
-                   error );
-        routingTableRegistry.remove( databaseName );
-        CompletableFuture<RoutingTable> routingTableFuture = refreshRoutingTableFuture;
-        refreshRoutingTableFuture = null;
-        routingTableFuture.completeExceptionally( error );
+        Bookmark bookmark;
+        lock.lock();
+        try
+        {
+            backgroundRefresh = null;
+            if ( refreshRoutingTableFuture != null )
+            {
+                // refresh is already happening concurrently, it schedules the next background refresh
+                return;
+            }
+            if ( !usedSinceRefresh )
+            {
+                // the routing table is not used anymore, let it age and be purged
+                log.debug( "Routing table for database '%s' was not used since last refresh, it is not refreshed in background",
+                           databaseName.description() );
+                return;
+            }
+            log.debug( "Refreshing routing table for database '%s' in background. %s", databaseName.description(), routingTable );
+            bookmark = rediscoveryBookmark;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+
+        rediscovery.lookupClusterComposition( routingTable, connectionPool, bookmark, null )
+                   .whenComplete( ( composition, completionError ) ->
+                                  {
+                                      Throwable error = Futures.completionExceptionCause( completionError );
+                                      if ( error != null )
+                                      {
+                                          // the routing table is refreshed on demand once it is stale
+                                          log.debug( String.format( "Failed to refresh routing table for database '%s' in background.",
+                                                                    databaseName.description() ), error );
+                                      }
+                                      else if ( backgroundClusterCompositionFetched( composition ) )
+                                      {
+                                          routingTableRegistry.refreshRoutingTablesSharingRouters( routingTable );
+                                      }
+                                  } );
+    }
+
+    private boolean backgroundClusterCompositionFetched( ClusterCompositionLookupResult compositionLookupResult )
+    {
+        lock.lock();
+        try
+        {
+            if ( refreshRoutingTableFuture != null ||
+                 compositionLookupResult.getClusterComposition().expirationTimestamp() < routingTable.expirationTimestamp() )
+            {
+                // the routing table has been or is being updated with a more recent cluster composition
+                return false;
+            }
+            applyClusterComposition( compositionLookupResult );
+            return true;
+        }
+        catch ( Throwable error )
+        {
+            log.debug( String.format( "Failed to refresh routing table for database '%s' in background.", databaseName.description() ), error );
+            return false;
+        }
+        finally
+        {
+            lock.unlock();
+        }
     }
 
-    // This method cannot be synchronized as it will be visited by all routing table handler's threads concurrently
+    // This method cannot take the lock as it will be visited by all routing table handler's threads concurrently
     @Override
     public Set<BoltServerAddress> servers()
     {
         return routingTable.servers();
     }
 
-    // This method cannot be synchronized as it will be visited by all routing table handler's threads concurrently
+    // This method cannot take the lock as it will be visited by all routing table handler's threads concurrently
     @Override
     public boolean isRoutingTableAged()
     {
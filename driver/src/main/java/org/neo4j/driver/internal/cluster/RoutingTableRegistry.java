@@ -61,4 +61,14 @@ public interface RoutingTableRegistry
      * @return the routing table handler for the requested database name
      */
     Optional<RoutingTableHandler> getRoutingTableHandler( DatabaseName databaseName );
+
+    /**
+     * Refreshes the routing tables of other databases served by the same routers as the given, just refreshed, routing table, when they are about to
+     * expire. This allows databases hosted by the same cluster to share refreshes.
+     *
+     * @param refreshedRoutingTable the routing table that was just refreshed
+     */
+    default void refreshRoutingTablesSharingRouters( RoutingTable refreshedRoutingTable )
+    {
+    }
 }
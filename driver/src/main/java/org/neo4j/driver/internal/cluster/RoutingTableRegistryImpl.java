@@ -18,8 +18,12 @@
  */
 package org.neo4j.driver.internal.cluster;
 
+import io.netty.util.concurrent.EventExecutorGroup;
+
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -29,12 +33,15 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.DatabaseNameUtil;
+import org.neo4j.driver.internal.InternalBookmark;
 import org.neo4j.driver.internal.async.ConnectionContext;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.internal.util.Clock;
@@ -44,29 +51,55 @@ import static org.neo4j.driver.internal.async.ConnectionContext.PENDING_DATABASE
 
 public class RoutingTableRegistryImpl implements RoutingTableRegistry
 {
+    private final Lock lock = new ReentrantLock();
     private final ConcurrentMap<DatabaseName,RoutingTableHandler> routingTableHandlers;
     private final Map<Principal,CompletionStage<DatabaseName>> principalToDatabaseNameStage;
+    private final ConcurrentMap<Principal,HomeDatabase> principalToHomeDatabase;
     private final RoutingTableHandlerFactory factory;
     private final Logger log;
     private final Clock clock;
     private final ConnectionPool connectionPool;
     private final Rediscovery rediscovery;
+    private final boolean sharedRefresh;
+    private final boolean homeDatabaseCache;
 
     public RoutingTableRegistryImpl( ConnectionPool connectionPool, Rediscovery rediscovery, Clock clock, Logging logging, long routingTablePurgeDelayMs )
     {
-        this( new ConcurrentHashMap<>(), new RoutingTableHandlerFactory( connectionPool, rediscovery, clock, logging, routingTablePurgeDelayMs ), clock,
-              connectionPool, rediscovery, logging );
+        this( connectionPool, rediscovery, clock, logging, routingTablePurgeDelayMs, null );
+    }
+
+    public RoutingTableRegistryImpl( ConnectionPool connectionPool, Rediscovery rediscovery, Clock clock, Logging logging, long routingTablePurgeDelayMs,
+                                     EventExecutorGroup backgroundRefreshExecutor )
+    {
+        this( connectionPool, rediscovery, clock, logging, routingTablePurgeDelayMs, backgroundRefreshExecutor, false, false );
+    }
+
+    public RoutingTableRegistryImpl( ConnectionPool connectionPool, Rediscovery rediscovery, Clock clock, Logging logging, long routingTablePurgeDelayMs,
+                                     EventExecutorGroup backgroundRefreshExecutor, boolean sharedRefresh, boolean homeDatabaseCache )
+    {
+        this( new ConcurrentHashMap<>(),
+              new RoutingTableHandlerFactory( connectionPool, rediscovery, clock, logging, routingTablePurgeDelayMs, backgroundRefreshExecutor ), clock,
+              connectionPool, rediscovery, logging, sharedRefresh, homeDatabaseCache );
     }
 
     RoutingTableRegistryImpl( ConcurrentMap<DatabaseName,RoutingTableHandler> routingTableHandlers, RoutingTableHandlerFactory factory, Clock clock,
                               ConnectionPool connectionPool, Rediscovery rediscovery, Logging logging )
+    {
+        this( routingTableHandlers, factory, clock, connectionPool, rediscovery, logging, false, false );
+    }
+
+    RoutingTableRegistryImpl( ConcurrentMap<DatabaseName,RoutingTableHandler> routingTableHandlers, RoutingTableHandlerFactory factory, Clock clock,
+                              ConnectionPool connectionPool, Rediscovery rediscovery, Logging logging, boolean sharedRefresh, boolean homeDatabaseCache )
     {
         this.factory = factory;
         this.routingTableHandlers = routingTableHandlers;
         this.principalToDatabaseNameStage = new HashMap<>();
+        this.principalToHomeDatabase = new ConcurrentHashMap<>();
         this.clock = clock;
         this.connectionPool = connectionPool;
         this.rediscovery = rediscovery;
+        this.sharedRefresh = sharedRefresh;
+        this.homeDatabaseCache = homeDatabaseCache;
         this.log = logging.getLog( getClass() );
     }
 
@@ -91,13 +124,17 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry
         CompletionStage<ConnectionContextAndHandler> contextAndHandlerStage;
         CompletableFuture<DatabaseName> contextDatabaseNameFuture = context.databaseNameFuture();
 
-        if ( contextDatabaseNameFuture.isDone() )
+        if ( contextDatabaseNameFuture.isDone() || completeWithCachedHomeDatabase( context ) )
         {
             contextAndHandlerStage = CompletableFuture.completedFuture( new ConnectionContextAndHandler( context, null ) );
         }
         else
         {
-            synchronized ( this )
+            Principal principal = new Principal( context.impersonatedUser() );
+            AtomicReference<RoutingTableHandler> handlerRef = new AtomicReference<>();
+            CompletableFuture<DatabaseName> lookupDatabaseNameFuture = null;
+            lock.lock();
+            try
             {
                 if ( contextDatabaseNameFuture.isDone() )
                 {
@@ -105,65 +142,135 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry
                 }
                 else
                 {
-                    String impersonatedUser = context.impersonatedUser();
-                    Principal principal = new Principal( impersonatedUser );
                     CompletionStage<DatabaseName> databaseNameStage = principalToDatabaseNameStage.get( principal );
-                    AtomicReference<RoutingTableHandler> handlerRef = new AtomicReference<>();
 
                     if ( databaseNameStage == null )
                     {
-                        CompletableFuture<DatabaseName> databaseNameFuture = new CompletableFuture<>();
-                        principalToDatabaseNameStage.put( principal, databaseNameFuture );
-                        databaseNameStage = databaseNameFuture;
-
-                        ClusterRoutingTable routingTable = new ClusterRoutingTable( DatabaseNameUtil.defaultDatabase(), clock );
-                        rediscovery.lookupClusterComposition( routingTable, connectionPool, context.rediscoveryBookmark(), impersonatedUser )
-                                   .thenCompose(
-                                           compositionLookupResult ->
-                                           {
-                                               DatabaseName databaseName =
-                                                       DatabaseNameUtil.database( compositionLookupResult.getClusterComposition().databaseName() );
-                                               RoutingTableHandler handler = getOrCreate( databaseName );
-                                               handlerRef.set( handler );
-                                               return handler.updateRoutingTable( compositionLookupResult )
-                                                             .thenApply( ignored -> databaseName );
-                                           } )
-                                   .whenComplete( ( databaseName, throwable ) ->
-                                                  {
-                                                      synchronized ( this )
-                                                      {
-                                                          principalToDatabaseNameStage.remove( principal );
-                                                      }
-                                                  } )
-                                   .whenComplete( ( databaseName, throwable ) ->
-                                                  {
-                                                      if ( throwable != null )
-                                                      {
-                                                          databaseNameFuture.completeExceptionally( throwable );
-                                                      }
-                                                      else
-                                                      {
-                                                          databaseNameFuture.complete( databaseName );
-                                                      }
-                                                  } );
+                        lookupDatabaseNameFuture = new CompletableFuture<>();
+                        principalToDatabaseNameStage.put( principal, lookupDatabaseNameFuture );
+                        databaseNameStage = lookupDatabaseNameFuture;
                     }
 
                     contextAndHandlerStage = databaseNameStage.thenApply(
                             databaseName ->
                             {
-                                synchronized ( this )
+                                lock.lock();
+                                try
                                 {
                                     contextDatabaseNameFuture.complete( databaseName );
                                 }
+                                finally
+                                {
+                                    lock.unlock();
+                                }
                                 return new ConnectionContextAndHandler( context, handlerRef.get() );
                             } );
                 }
             }
+            finally
+            {
+                lock.unlock();
+            }
+
+            if ( lookupDatabaseNameFuture != null )
+            {
+                // the lookup might block resolving the initial router, it is started outside of the lock
+                lookupHomeDatabase( context, principal, lookupDatabaseNameFuture, handlerRef );
+            }
         }
 
         return contextAndHandlerStage;
     }
 
+    private void lookupHomeDatabase( ConnectionContext context, Principal principal, CompletableFuture<DatabaseName> databaseNameFuture,
+                                     AtomicReference<RoutingTableHandler> handlerRef )
+    {
+        String impersonatedUser = context.impersonatedUser();
+        ClusterRoutingTable routingTable = new ClusterRoutingTable( DatabaseNameUtil.defaultDatabase(), clock );
+        rediscovery.lookupClusterComposition( routingTable, connectionPool, context.rediscoveryBookmark(), impersonatedUser )
+                   .thenCompose(
+                           compositionLookupResult ->
+                           {
+                               ClusterComposition composition = compositionLookupResult.getClusterComposition();
+                               DatabaseName databaseName = DatabaseNameUtil.database( composition.databaseName() );
+                               RoutingTableHandler handler = getOrCreate( databaseName );
+                               handlerRef.set( handler );
+                               return handler.updateRoutingTable( compositionLookupResult )
+                                             .thenApply( ignored ->
+                                                         {
+                                                             cacheHomeDatabase( principal, databaseName, composition.expirationTimestamp() );
+                                                             return databaseName;
+                                                         } );
+                           } )
+                   .whenComplete( ( databaseName, throwable ) ->
+                                  {
+                                      lock.lock();
+                                      try
+                                      {
+                                          principalToDatabaseNameStage.remove( principal );
+                                      }
+                                      finally
+                                      {
+                                          lock.unlock();
+                                      }
+                                  } )
+                   .whenComplete( ( databaseName, throwable ) ->
+                                  {
+                                      if ( throwable != null )
+                                      {
+                                          databaseNameFuture.completeExceptionally( throwable );
+                                      }
+                                      else
+                                      {
+                                          databaseNameFuture.complete( databaseName );
+                                      }
+                                  } );
+    }
+
+    private boolean completeWithCachedHomeDatabase( ConnectionContext context )
+    {
+        if ( !homeDatabaseCache || !context.rediscoveryBookmark().isEmpty() )
+        {
+            return false;
+        }
+
+        Principal principal = new Principal( context.impersonatedUser() );
+        HomeDatabase homeDatabase = principalToHomeDatabase.get( principal );
+        if ( homeDatabase == null )
+        {
+            return false;
+        }
+        if ( homeDatabase.expirationTimestamp <= clock.millis() )
+        {
+            principalToHomeDatabase.remove( principal, homeDatabase );
+            return false;
+        }
+
+        lock.lock();
+        try
+        {
+            context.databaseNameFuture().complete( homeDatabase.databaseName );
+        }
+        finally
+        {
+            lock.unlock();
+        }
+        return true;
+    }
+
+    private void cacheHomeDatabase( Principal principal, DatabaseName databaseName, long expirationTimestamp )
+    {
+        if ( homeDatabaseCache )
+        {
+            principalToHomeDatabase.put( principal, new HomeDatabase( databaseName, expirationTimestamp ) );
+        }
+    }
+
+    private void invalidateHomeDatabase( DatabaseName databaseName )
+    {
+        principalToHomeDatabase.values().removeIf( homeDatabase -> homeDatabase.databaseName.equals( databaseName ) );
+    }
+
     @Override
     public Set<BoltServerAddress> allServers()
     {
@@ -181,6 +288,7 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry
     public void remove( DatabaseName databaseName )
     {
         routingTableHandlers.remove( databaseName );
+        invalidateHomeDatabase( databaseName );
         log.debug( "Routing table handler for database '%s' is removed.", databaseName.description() );
     }
 
@@ -196,6 +304,7 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry
                                 "Routing table handler for database '%s' is removed because it has not been used for a long time. Routing table: %s",
                                 databaseName.description(), handler.routingTable() );
                         routingTableHandlers.remove( databaseName );
+                        invalidateHomeDatabase( databaseName );
                     }
                 } );
     }
@@ -206,6 +315,44 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry
         return Optional.ofNullable( routingTableHandlers.get( databaseName ) );
     }
 
+    @Override
+    public void refreshRoutingTablesSharingRouters( RoutingTable refreshedRoutingTable )
+    {
+        List<BoltServerAddress> routers = refreshedRoutingTable.routers();
+        if ( !sharedRefresh || routers.isEmpty() )
+        {
+            return;
+        }
+
+        // routing tables expiring before half of the time to live of the refreshed one are refreshed along with it
+        long now = clock.millis();
+        long refreshThreshold = now + (refreshedRoutingTable.expirationTimestamp() - now) / 2;
+        Set<BoltServerAddress> refreshedRouters = new HashSet<>( routers );
+        Map<DatabaseName,RoutingTableHandler> refreshedHandlers = new HashMap<>();
+        for ( RoutingTableHandler handler : routingTableHandlers.values() )
+        {
+            RoutingTable routingTable = handler.routingTable();
+            DatabaseName databaseName = routingTable.database();
+            // routing tables with a refresh in flight are skipped, they are about to be refreshed anyway
+            if ( !databaseName.equals( refreshedRoutingTable.database() ) && databaseName.databaseName().isPresent() &&
+                 routingTable.expirationTimestamp() < refreshThreshold && refreshedRouters.equals( new HashSet<>( routingTable.routers() ) ) &&
+                 handler.startSharedRefresh() )
+            {
+                refreshedHandlers.put( databaseName, handler );
+            }
+        }
+        if ( refreshedHandlers.isEmpty() )
+        {
+            return;
+        }
+
+        log.debug( "Refreshing routing tables of %d databases sharing routers with database '%s'.", refreshedHandlers.size(),
+                   refreshedRoutingTable.database().description() );
+        rediscovery.lookupClusterCompositions( routers, new ArrayList<>( refreshedHandlers.keySet() ), connectionPool, InternalBookmark.empty() )
+                   .whenComplete( ( compositions, error ) -> refreshedHandlers.forEach(
+                           ( databaseName, handler ) -> handler.completeSharedRefresh( compositions != null ? compositions.get( databaseName ) : null ) ) );
+    }
+
     // For tests
     public boolean contains( DatabaseName databaseName )
     {
@@ -230,20 +377,29 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry
         private final Logging logging;
         private final Clock clock;
         private final long routingTablePurgeDelayMs;
+        private final EventExecutorGroup backgroundRefreshExecutor;
 
         RoutingTableHandlerFactory( ConnectionPool connectionPool, Rediscovery rediscovery, Clock clock, Logging logging, long routingTablePurgeDelayMs )
+        {
+            this( connectionPool, rediscovery, clock, logging, routingTablePurgeDelayMs, null );
+        }
+
+        RoutingTableHandlerFactory( ConnectionPool connectionPool, Rediscovery rediscovery, Clock clock, Logging logging, long routingTablePurgeDelayMs,
+                                    EventExecutorGroup backgroundRefreshExecutor )
         {
             this.connectionPool = connectionPool;
             this.rediscovery = rediscovery;
             this.clock = clock;
             this.logging = logging;
             this.routingTablePurgeDelayMs = routingTablePurgeDelayMs;
+            this.backgroundRefreshExecutor = backgroundRefreshExecutor;
         }
 
         RoutingTableHandler newInstance( DatabaseName databaseName, RoutingTableRegistry allTables )
         {
             ClusterRoutingTable routingTable = new ClusterRoutingTable( databaseName, clock );
-            return new RoutingTableHandlerImpl( routingTable, rediscovery, connectionPool, allTables, logging, routingTablePurgeDelayMs );
+            return new RoutingTableHandlerImpl( routingTable, rediscovery, connectionPool, allTables, logging, routingTablePurgeDelayMs, clock,
+                                                backgroundRefreshExecutor );
         }
     }
 
@@ -278,6 +434,18 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry
         }
     }
 
+    private static class HomeDatabase
+    {
+        private final DatabaseName databaseName;
+        private final long expirationTimestamp;
+
+        private HomeDatabase( DatabaseName databaseName, long expirationTimestamp )
+        {
+            this.databaseName = databaseName;
+            this.expirationTimestamp = expirationTimestamp;
+        }
+    }
+
     private static class ConnectionContextAndHandler
     {
         private final ConnectionContext context;
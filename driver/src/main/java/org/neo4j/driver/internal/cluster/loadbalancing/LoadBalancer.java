@@ -18,6 +18,8 @@
  */
 package org.neo4j.driver.internal.cluster.loadbalancing;
 
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.EventExecutorGroup;
 
 import java.util.ArrayList;
@@ -74,6 +76,7 @@ public class LoadBalancer implements ConnectionProvider
     private final EventExecutorGroup eventExecutorGroup;
     private final Logger log;
     private final Rediscovery rediscovery;
+    private final ServerCircuitBreaker circuitBreaker;
 
     public LoadBalancer( BoltServerAddress initialRouter, RoutingSettings settings, ConnectionPool connectionPool,
                          EventExecutorGroup eventExecutorGroup, Clock clock, Logging logging,
@@ -86,18 +89,32 @@ public class LoadBalancer implements ConnectionProvider
     private LoadBalancer( ConnectionPool connectionPool, Rediscovery rediscovery, RoutingSettings settings, LoadBalancingStrategy loadBalancingStrategy,
                           EventExecutorGroup eventExecutorGroup, Clock clock, Logging logging )
     {
-        this( connectionPool, createRoutingTables( connectionPool, rediscovery, settings, clock, logging ), rediscovery, loadBalancingStrategy,
-              eventExecutorGroup, logging );
+        this( connectionPool, createRoutingTables( connectionPool, rediscovery, settings, eventExecutorGroup, clock, logging ), rediscovery,
+              loadBalancingStrategy, eventExecutorGroup, logging, settings );
+    }
+
+    private LoadBalancer( ConnectionPool connectionPool, RoutingTableRegistry routingTables, Rediscovery rediscovery,
+                          LoadBalancingStrategy loadBalancingStrategy, EventExecutorGroup eventExecutorGroup, Logging logging, RoutingSettings settings )
+    {
+        this( connectionPool, routingTables, rediscovery, loadBalancingStrategy, eventExecutorGroup, logging,
+              createCircuitBreaker( connectionPool, routingTables, settings, eventExecutorGroup, logging ) );
     }
 
     LoadBalancer( ConnectionPool connectionPool, RoutingTableRegistry routingTables, Rediscovery rediscovery, LoadBalancingStrategy loadBalancingStrategy,
                   EventExecutorGroup eventExecutorGroup, Logging logging )
+    {
+        this( connectionPool, routingTables, rediscovery, loadBalancingStrategy, eventExecutorGroup, logging, (ServerCircuitBreaker) null );
+    }
+
+    LoadBalancer( ConnectionPool connectionPool, RoutingTableRegistry routingTables, Rediscovery rediscovery, LoadBalancingStrategy loadBalancingStrategy,
+                  EventExecutorGroup eventExecutorGroup, Logging logging, ServerCircuitBreaker circuitBreaker )
     {
         this.connectionPool = connectionPool;
         this.routingTables = routingTables;
         this.rediscovery = rediscovery;
         this.loadBalancingStrategy = loadBalancingStrategy;
         this.eventExecutorGroup = eventExecutorGroup;
+        this.circuitBreaker = circuitBreaker;
         this.log = logging.getLog( getClass() );
     }
 
@@ -105,7 +122,7 @@ public class LoadBalancer implements ConnectionProvider
     public CompletionStage<Connection> acquireConnection( ConnectionContext context )
     {
         return routingTables.ensureRoutingTable( context )
-                            .thenCompose( handler -> acquire( context.mode(), handler.routingTable() )
+                            .thenCompose( handler -> acquire( context.mode(), handler.routingTable(), context.eventLoop(), context.avoidedAddress() )
                                     .thenApply( connection -> new RoutingConnection( connection,
                                                                                      Futures.joinNowOrElseThrow( context.databaseNameFuture(),
                                                                                                                  PENDING_DATABASE_NAME_EXCEPTION_SUPPLIER ),
@@ -191,17 +208,27 @@ public class LoadBalancer implements ConnectionProvider
                 } );
     }
 
-    private CompletionStage<Connection> acquire( AccessMode mode, RoutingTable routingTable )
+    private CompletionStage<Connection> acquire( AccessMode mode, RoutingTable routingTable, EventLoop eventLoop, BoltServerAddress avoidedAddress )
     {
         CompletableFuture<Connection> result = new CompletableFuture<>();
         List<Throwable> attemptExceptions = new ArrayList<>();
-        acquire( mode, routingTable, result, attemptExceptions );
+        acquire( mode, routingTable, eventLoop, avoidedAddress, result, attemptExceptions );
         return result;
     }
 
-    private void acquire( AccessMode mode, RoutingTable routingTable, CompletableFuture<Connection> result, List<Throwable> attemptErrors )
+    private void acquire( AccessMode mode, RoutingTable routingTable, EventLoop eventLoop, BoltServerAddress avoidedAddress,
+                          CompletableFuture<Connection> result, List<Throwable> attemptErrors )
     {
         List<BoltServerAddress> addresses = getAddressesByMode( mode, routingTable );
+        if ( circuitBreaker != null )
+        {
+            addresses = circuitBreaker.closedAddresses( addresses );
+        }
+        if ( avoidedAddress != null && addresses.size() > 1 && addresses.contains( avoidedAddress ) )
+        {
+            addresses = new ArrayList<>( addresses );
+            addresses.remove( avoidedAddress );
+        }
         BoltServerAddress address = selectAddress( mode, addresses );
 
         if ( address == null )
@@ -214,19 +241,24 @@ public class LoadBalancer implements ConnectionProvider
             return;
         }
 
-        connectionPool.acquire( address ).whenComplete( ( connection, completionError ) ->
+        acquire( address, eventLoop ).whenComplete( ( connection, completionError ) ->
         {
             Throwable error = completionExceptionCause( completionError );
             if ( error != null )
             {
                 if ( error instanceof ServiceUnavailableException )
                 {
+                    if ( circuitBreaker != null )
+                    {
+                        circuitBreaker.onConnectionFailure( address );
+                    }
                     String attemptMessage = format( CONNECTION_ACQUISITION_ATTEMPT_FAILURE_MESSAGE, address );
                     log.warn( attemptMessage );
                     log.debug( attemptMessage, error );
                     attemptErrors.add( error );
                     routingTable.forget( address );
-                    eventExecutorGroup.next().execute( () -> acquire( mode, routingTable, result, attemptErrors ) );
+                    EventExecutor executor = eventLoop != null ? eventLoop : eventExecutorGroup.next();
+                    executor.execute( () -> acquire( mode, routingTable, eventLoop, avoidedAddress, result, attemptErrors ) );
                 }
                 else
                 {
@@ -235,6 +267,10 @@ public class LoadBalancer implements ConnectionProvider
             }
             else
             {
+                if ( circuitBreaker != null )
+                {
+                    circuitBreaker.onConnectionSuccess( address );
+                }
                 result.complete( connection );
             }
         } );
@@ -253,6 +289,11 @@ public class LoadBalancer implements ConnectionProvider
         }
     }
 
+    private CompletionStage<Connection> acquire( BoltServerAddress address, EventLoop eventLoop )
+    {
+        return eventLoop != null ? connectionPool.acquire( address, eventLoop ) : connectionPool.acquire( address );
+    }
+
     private BoltServerAddress selectAddress( AccessMode mode, List<BoltServerAddress> addresses )
     {
         switch ( mode )
@@ -266,10 +307,23 @@ public class LoadBalancer implements ConnectionProvider
         }
     }
 
-    private static RoutingTableRegistry createRoutingTables( ConnectionPool connectionPool, Rediscovery rediscovery, RoutingSettings settings, Clock clock,
-                                                             Logging logging )
+    private static RoutingTableRegistry createRoutingTables( ConnectionPool connectionPool, Rediscovery rediscovery, RoutingSettings settings,
+                                                             EventExecutorGroup eventExecutorGroup, Clock clock, Logging logging )
     {
-        return new RoutingTableRegistryImpl( connectionPool, rediscovery, clock, logging, settings.routingTablePurgeDelayMs() );
+        EventExecutorGroup backgroundRefreshExecutor = settings.backgroundRefresh() ? eventExecutorGroup : null;
+        return new RoutingTableRegistryImpl( connectionPool, rediscovery, clock, logging, settings.routingTablePurgeDelayMs(), backgroundRefreshExecutor,
+                                             settings.sharedRefresh(), settings.homeDatabaseCache() );
+    }
+
+    private static ServerCircuitBreaker createCircuitBreaker( ConnectionPool connectionPool, RoutingTableRegistry routingTables, RoutingSettings settings,
+                                                              EventExecutorGroup eventExecutorGroup, Logging logging )
+    {
+        if ( settings.circuitBreakerFailureThreshold() == RoutingSettings.CIRCUIT_BREAKER_DISABLED )
+        {
+            return null;
+        }
+        return new ServerCircuitBreaker( settings.circuitBreakerFailureThreshold(), settings.circuitBreakerProbeIntervalMs(), connectionPool, routingTables,
+                                         eventExecutorGroup, logging );
     }
 
     private static Rediscovery createRediscovery( EventExecutorGroup eventExecutorGroup, BoltServerAddress initialRouter, ServerAddressResolver resolver,
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster.loadbalancing;
+
+import io.netty.util.concurrent.EventExecutorGroup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.neo4j.driver.Logger;
+import org.neo4j.driver.Logging;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.cluster.RoutingTableRegistry;
+import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.internal.spi.ConnectionPool;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Tracks consecutive connection failures per server address across the routing tables of all databases.
+ * <p>
+ * The circuit of an address opens after a number of consecutive connection failures, and the address is then skipped when selecting
+ * readers and writers. While the circuit is open, the address is probed in the background and its circuit closes again after a
+ * successful connection.
+ */
+public class ServerCircuitBreaker
+{
+    private final int failureThreshold;
+    private final long probeIntervalMs;
+    private final ConnectionPool connectionPool;
+    private final RoutingTableRegistry routingTables;
+    private final EventExecutorGroup eventExecutorGroup;
+    private final Logger log;
+    private final ConcurrentMap<BoltServerAddress,AtomicInteger> consecutiveFailures = new ConcurrentHashMap<>();
+    private final Set<BoltServerAddress> openAddresses = ConcurrentHashMap.newKeySet();
+
+    public ServerCircuitBreaker( int failureThreshold, long probeIntervalMs, ConnectionPool connectionPool, RoutingTableRegistry routingTables,
+                                 EventExecutorGroup eventExecutorGroup, Logging logging )
+    {
+        this.failureThreshold = failureThreshold;
+        this.probeIntervalMs = probeIntervalMs;
+        this.connectionPool = connectionPool;
+        this.routingTables = routingTables;
+        this.eventExecutorGroup = eventExecutorGroup;
+        this.log = logging.getLog( getClass() );
+    }
+
+    /**
+     * Filter out the addresses with an open circuit.
+     *
+     * @param addresses the addresses to filter.
+     * @return the addresses with a closed circuit, or all given addresses when all of them have an open circuit.
+     */
+    public List<BoltServerAddress> closedAddresses( List<BoltServerAddress> addresses )
+    {
+        if ( openAddresses.isEmpty() )
+        {
+            return addresses;
+        }
+
+        List<BoltServerAddress> closedAddresses = new ArrayList<>( addresses.size() );
+        for ( BoltServerAddress address : addresses )
+        {
+            if ( !openAddresses.contains( address ) )
+            {
+                closedAddresses.add( address );
+            }
+        }
+        // rather try the open ones than fail without trying at all
+        return closedAddresses.isEmpty() ? addresses : closedAddresses;
+    }
+
+    public boolean isOpen( BoltServerAddress address )
+    {
+        return openAddresses.contains( address );
+    }
+
+    public void onConnectionSuccess( BoltServerAddress address )
+    {
+        consecutiveFailures.remove( address );
+        if ( openAddresses.remove( address ) )
+        {
+            log.info( "Circuit of server %s is closed.", address );
+        }
+    }
+
+    public void onConnectionFailure( BoltServerAddress address )
+    {
+        int failures = consecutiveFailures.computeIfAbsent( address, ignored -> new AtomicInteger() ).incrementAndGet();
+        if ( failures >= failureThreshold && openAddresses.add( address ) )
+        {
+            log.warn( "Circuit of server %s is opened after %d consecutive connection failures.", address, failures );
+            scheduleProbe( address );
+        }
+    }
+
+    private void scheduleProbe( BoltServerAddress address )
+    {
+        try
+        {
+            eventExecutorGroup.schedule( () -> probe( address ), probeIntervalMs, MILLISECONDS );
+        }
+        catch ( RejectedExecutionException e )
+        {
+            // the driver is closed, there is nothing to probe for anymore
+            log.debug( "Probe of server %s is not scheduled, the driver is closed.", address );
+        }
+    }
+
+    private void probe( BoltServerAddress address )
+    {
+        if ( !openAddresses.contains( address ) )
+        {
+            return;
+        }
+        if ( !routingTables.allServers().contains( address ) )
+        {
+            // the server is no longer part of any routing table
+            consecutiveFailures.remove( address );
+            openAddresses.remove( address );
+            return;
+        }
+
+        connectionPool.acquire( address )
+                      .thenCompose( Connection::release )
+                      .whenComplete( ( ignored, error ) ->
+                                     {
+                                         if ( error == null )
+                                         {
+                                             onConnectionSuccess( address );
+                                         }
+                                         else
+                                         {
+                                             log.debug( "Probe of server %s failed, its circuit stays open.", address );
+                                             scheduleProbe( address );
+                                         }
+                                     } );
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster.loadbalancing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.neo4j.driver.Logger;
+import org.neo4j.driver.Logging;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.spi.ConnectionPool;
+import org.neo4j.driver.net.ServerZoneResolver;
+
+/**
+ * Load balancing strategy that prefers readers located in the same zone as the driver. Readers are selected among the local ones by the given
+ * strategy, unless all of them are saturated, meaning that most of the connections their pools allow are in use. Readers in remote zones are
+ * then selected as well. Writers are selected by the given strategy regardless of their zones.
+ */
+public class ZoneAwareLoadBalancingStrategy implements LoadBalancingStrategy
+{
+    private static final double SATURATION_RATIO = 0.8;
+
+    private final LoadBalancingStrategy delegate;
+    private final String localZone;
+    private final ServerZoneResolver zoneResolver;
+    private final ConnectionPool connectionPool;
+    private final int saturatedInUseConnections;
+    private final Logger log;
+    private final ConcurrentMap<BoltServerAddress,Optional<String>> zones = new ConcurrentHashMap<>();
+
+    public ZoneAwareLoadBalancingStrategy( LoadBalancingStrategy delegate, String localZone, ServerZoneResolver zoneResolver,
+                                           ConnectionPool connectionPool, int maxConnectionPoolSize, Logging logging )
+    {
+        this.delegate = delegate;
+        this.localZone = localZone;
+        this.zoneResolver = zoneResolver;
+        this.connectionPool = connectionPool;
+        this.saturatedInUseConnections = Math.max( 1, (int) (maxConnectionPoolSize * SATURATION_RATIO) );
+        this.log = logging.getLog( getClass() );
+    }
+
+    @Override
+    public BoltServerAddress selectReader( List<BoltServerAddress> knownReaders )
+    {
+        List<BoltServerAddress> localReaders = new ArrayList<>( knownReaders.size() );
+        boolean localReadersSaturated = true;
+        for ( BoltServerAddress reader : knownReaders )
+        {
+            if ( isLocal( reader ) )
+            {
+                localReaders.add( reader );
+                localReadersSaturated &= connectionPool.inUseConnections( reader ) >= saturatedInUseConnections;
+            }
+        }
+
+        if ( localReaders.isEmpty() || localReaders.size() == knownReaders.size() )
+        {
+            return delegate.selectReader( knownReaders );
+        }
+        if ( localReadersSaturated )
+        {
+            log.debug( "All readers in zone '%s' are saturated, selecting among readers in all zones", localZone );
+            return delegate.selectReader( knownReaders );
+        }
+        return delegate.selectReader( localReaders );
+    }
+
+    @Override
+    public BoltServerAddress selectWriter( List<BoltServerAddress> knownWriters )
+    {
+        return delegate.selectWriter( knownWriters );
+    }
+
+    private boolean isLocal( BoltServerAddress address )
+    {
+        return zones.computeIfAbsent( address, this::resolveZone )
+                    .map( localZone::equals )
+                    .orElse( false );
+    }
+
+    private Optional<String> resolveZone( BoltServerAddress address )
+    {
+        try
+        {
+            return Optional.ofNullable( zoneResolver.zone( address ) );
+        }
+        catch ( Throwable error )
+        {
+            log.warn( "Failed to resolve the zone of server %s, it is considered to be remote. %s", address, error );
+            return Optional.empty();
+        }
+    }
+}
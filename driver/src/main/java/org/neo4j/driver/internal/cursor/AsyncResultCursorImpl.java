@@ -94,9 +94,15 @@ public class AsyncResultCursorImpl implements AsyncResultCursor
 
     @Override
     public CompletionStage<ResultSummary> forEachAsync( Consumer<Record> action )
+    {
+        return forEachBatchAsync( records -> records.forEach( action ) );
+    }
+
+    @Override
+    public CompletionStage<ResultSummary> forEachBatchAsync( Consumer<List<Record>> action )
     {
         CompletableFuture<Void> resultFuture = new CompletableFuture<>();
-        internalForEachAsync( action, resultFuture );
+        internalForEachBatchAsync( action, resultFuture );
         return resultFuture.thenCompose( ignore -> consumeAsync() );
     }
 
@@ -126,39 +132,72 @@ public class AsyncResultCursorImpl implements AsyncResultCursor
         return pullAllHandler.pullAllFailureAsync().thenApply( error -> runError != null ? null : error );
     }
 
-    private void internalForEachAsync( Consumer<Record> action, CompletableFuture<Void> resultFuture )
+    @Override
+    public boolean isCompletedWithoutFailure()
+    {
+        return pullAllHandler.isCompletedWithoutFailure();
+    }
+
+    private void internalForEachBatchAsync( Consumer<List<Record>> action, CompletableFuture<Void> resultFuture )
     {
-        CompletionStage<Record> recordFuture = nextAsync();
+        CompletableFuture<List<Record>> batchFuture = pullAllHandler.nextBatchAsync().toCompletableFuture();
+
+        // batches that are available already are handled in a loop, recursing for them could overflow the stack
+        // when the action is slower than the network
+        while ( batchFuture.isDone() )
+        {
+            List<Record> records;
+            try
+            {
+                records = batchFuture.join();
+            }
+            catch ( Throwable completionError )
+            {
+                resultFuture.completeExceptionally( Futures.completionExceptionCause( completionError ) );
+                return;
+            }
+            if ( !acceptBatch( records, action, resultFuture ) )
+            {
+                return;
+            }
+            batchFuture = pullAllHandler.nextBatchAsync().toCompletableFuture();
+        }
 
-        // use async completion listener because of recursion, otherwise it is possible for
-        // the caller thread to get StackOverflowError when result is large and buffered
-        recordFuture.whenCompleteAsync( ( record, completionError ) ->
+        // use async completion listener so that the action never runs in the event loop that completes the batch,
+        // this costs one hop per batch rather than one per record
+        batchFuture.whenCompleteAsync( ( records, completionError ) ->
         {
             Throwable error = Futures.completionExceptionCause( completionError );
             if ( error != null )
             {
                 resultFuture.completeExceptionally( error );
             }
-            else if ( record != null )
-            {
-                try
-                {
-                    action.accept( record );
-                }
-                catch ( Throwable actionError )
-                {
-                    resultFuture.completeExceptionally( actionError );
-                    return;
-                }
-                internalForEachAsync( action, resultFuture );
-            }
-            else
+            else if ( acceptBatch( records, action, resultFuture ) )
             {
-                resultFuture.complete( null );
+                internalForEachBatchAsync( action, resultFuture );
             }
         } );
     }
 
+    private static boolean acceptBatch( List<Record> records, Consumer<List<Record>> action, CompletableFuture<Void> resultFuture )
+    {
+        if ( records.isEmpty() )
+        {
+            resultFuture.complete( null );
+            return false;
+        }
+        try
+        {
+            action.accept( records );
+            return true;
+        }
+        catch ( Throwable actionError )
+        {
+            resultFuture.completeExceptionally( actionError );
+            return false;
+        }
+    }
+
     @Override
     public CompletableFuture<AsyncResultCursor> mapSuccessfulRunCompletionAsync()
     {
@@ -78,6 +78,12 @@ public class DisposableAsyncResultCursor implements AsyncResultCursor
         return assertNotDisposed().thenCompose( ignored -> delegate.forEachAsync( action ) );
     }
 
+    @Override
+    public CompletionStage<ResultSummary> forEachBatchAsync( Consumer<List<Record>> action )
+    {
+        return assertNotDisposed().thenCompose( ignored -> delegate.forEachBatchAsync( action ) );
+    }
+
     @Override
     public CompletionStage<List<Record>> listAsync()
     {
@@ -105,6 +111,12 @@ public class DisposableAsyncResultCursor implements AsyncResultCursor
         return delegate.pullAllFailureAsync();
     }
 
+    @Override
+    public boolean isCompletedWithoutFailure()
+    {
+        return delegate.isCompletedWithoutFailure();
+    }
+
     private <T> CompletableFuture<T> assertNotDisposed()
     {
         if ( isDisposed )
@@ -25,6 +25,8 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
 import org.neo4j.driver.Query;
@@ -39,6 +41,7 @@ import org.neo4j.driver.internal.util.Iterables;
 import org.neo4j.driver.internal.util.MetadataExtractor;
 import org.neo4j.driver.summary.ResultSummary;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.CompletableFuture.completedFuture;
@@ -55,6 +58,7 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler
     static final int RECORD_BUFFER_LOW_WATERMARK = Integer.getInteger( "recordBufferLowWatermark", 300 );
     static final int RECORD_BUFFER_HIGH_WATERMARK = Integer.getInteger( "recordBufferHighWatermark", 1000 );
 
+    private final Lock lock = new ReentrantLock();
     private final Query query;
     private final RunResponseHandler runResponseHandler;
     protected final MetadataExtractor metadataExtractor;
@@ -71,6 +75,7 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler
 
     private boolean ignoreRecords;
     private CompletableFuture<Record> recordFuture;
+    private CompletableFuture<List<Record>> batchFuture;
     private CompletableFuture<Throwable> failureFuture;
 
     public LegacyPullAllResponseHandler(Query query, RunResponseHandler runResponseHandler, Connection connection, MetadataExtractor metadataExtractor,
@@ -90,134 +95,218 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler
     }
 
     @Override
-    public synchronized void onSuccess( Map<String,Value> metadata )
+    public void onSuccess( Map<String,Value> metadata )
     {
-        finished = true;
-        Neo4jException exception = null;
+        Runnable batchCompletion;
+        lock.lock();
         try
         {
-            summary = extractResultSummary( metadata );
+            finished = true;
+            Neo4jException exception = null;
+            try
+            {
+                summary = extractResultSummary( metadata );
+            }
+            catch ( Neo4jException e )
+            {
+                exception = e;
+            }
+
+            if ( exception == null )
+            {
+                completionListener.afterSuccess( metadata );
+
+                completeRecordFuture( null );
+                completeFailureFuture( null );
+                batchCompletion = takeBatchCompletion();
+            }
+            else
+            {
+                batchCompletion = handleFailure( exception );
+            }
         }
-        catch ( Neo4jException e )
+        finally
         {
-            exception = e;
+            lock.unlock();
         }
+        runIfPresent( batchCompletion );
+    }
 
-        if ( exception == null )
+    @Override
+    public void onFailure( Throwable error )
+    {
+        Runnable batchFailure;
+        lock.lock();
+        try
         {
-            completionListener.afterSuccess( metadata );
-
-            completeRecordFuture( null );
-            completeFailureFuture( null );
+            batchFailure = handleFailure( error );
         }
-        else
+        finally
         {
-            onFailure( exception );
+            lock.unlock();
         }
+        runIfPresent( batchFailure );
     }
 
     @Override
-    public synchronized void onFailure( Throwable error )
+    public void onRecord( Value[] fields )
     {
-        finished = true;
-        summary = extractResultSummary( emptyMap() );
-
-        completionListener.afterFailure( error );
-
-        boolean failedRecordFuture = failRecordFuture( error );
-        if ( failedRecordFuture )
-        {
-            // error propagated through the record future
-            completeFailureFuture( null );
-        }
-        else
+        Runnable batchCompletion;
+        lock.lock();
+        try
         {
-            boolean completedFailureFuture = completeFailureFuture( error );
-            if ( !completedFailureFuture )
+            if ( ignoreRecords )
             {
-                // error has not been propagated to the user, remember it
-                failure = error;
+                completeRecordFuture( null );
             }
+            else
+            {
+                Record record = new InternalRecord( runResponseHandler.queryKeys(), fields );
+                enqueueRecord( record );
+                completeRecordFuture( record );
+            }
+            batchCompletion = takeBatchCompletion();
+        }
+        finally
+        {
+            lock.unlock();
         }
+        runIfPresent( batchCompletion );
     }
 
     @Override
-    public synchronized void onRecord( Value[] fields )
+    public void disableAutoReadManagement()
     {
-        if ( ignoreRecords )
+        lock.lock();
+        try
         {
-            completeRecordFuture( null );
+            autoReadManagementEnabled = false;
         }
-        else
+        finally
         {
-            Record record = new InternalRecord( runResponseHandler.queryKeys(), fields );
-            enqueueRecord( record );
-            completeRecordFuture( record );
+            lock.unlock();
         }
     }
 
-    @Override
-    public synchronized void disableAutoReadManagement()
+    public CompletionStage<Record> peekAsync()
     {
-        autoReadManagementEnabled = false;
+        lock.lock();
+        try
+        {
+            Record record = records.peek();
+            if ( record == null )
+            {
+                if ( failure != null )
+                {
+                    return failedFuture( extractFailure() );
+                }
+
+                if ( ignoreRecords || finished )
+                {
+                    return completedWithNull();
+                }
+
+                if ( recordFuture == null )
+                {
+                    recordFuture = new CompletableFuture<>();
+                }
+                return recordFuture;
+            }
+            else
+            {
+                return completedFuture( record );
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
     }
 
-    public synchronized CompletionStage<Record> peekAsync()
+    public CompletionStage<Record> nextAsync()
     {
-        Record record = records.peek();
-        if ( record == null )
+        lock.lock();
+        try
         {
+            return peekAsync().thenApply( ignore -> dequeueRecord() );
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CompletionStage<List<Record>> nextBatchAsync()
+    {
+        lock.lock();
+        try
+        {
+            if ( !records.isEmpty() )
+            {
+                return completedFuture( dequeueRecords() );
+            }
             if ( failure != null )
             {
                 return failedFuture( extractFailure() );
             }
-
             if ( ignoreRecords || finished )
             {
-                return completedWithNull();
+                return completedFuture( emptyList() );
             }
 
-            if ( recordFuture == null )
+            if ( batchFuture == null )
             {
-                recordFuture = new CompletableFuture<>();
+                batchFuture = new CompletableFuture<>();
             }
-            return recordFuture;
+            return batchFuture;
         }
-        else
+        finally
         {
-            return completedFuture( record );
+            lock.unlock();
         }
     }
 
-    public synchronized CompletionStage<Record> nextAsync()
-    {
-        return peekAsync().thenApply( ignore -> dequeueRecord() );
-    }
-
-    public synchronized CompletionStage<ResultSummary> consumeAsync()
+    public CompletionStage<ResultSummary> consumeAsync()
     {
-        ignoreRecords = true;
-        records.clear();
-        return pullAllFailureAsync().thenApply( error ->
+        lock.lock();
+        try
         {
-            if ( error != null )
+            ignoreRecords = true;
+            records.clear();
+            return pullAllFailureAsync().thenApply( error ->
             {
-                throw Futures.asCompletionException( error );
-            }
-            return summary;
-        } );
+                if ( error != null )
+                {
+                    throw Futures.asCompletionException( error );
+                }
+                return summary;
+            } );
+        }
+        finally
+        {
+            lock.unlock();
+        }
     }
 
-    public synchronized <T> CompletionStage<List<T>> listAsync( Function<Record,T> mapFunction )
+    public <T> CompletionStage<List<T>> listAsync( Function<Record,T> mapFunction )
     {
-        return pullAllFailureAsync().thenApply( error ->
+        lock.lock();
+        try
         {
-            if ( error != null )
+            return pullAllFailureAsync().thenApply( error ->
             {
-                throw Futures.asCompletionException( error );
-            }
-            return recordsAsList( mapFunction );
-        } );
+                if ( error != null )
+                {
+                    throw Futures.asCompletionException( error );
+                }
+                return recordsAsList( mapFunction );
+            } );
+        }
+        finally
+        {
+            lock.unlock();
+        }
     }
 
     @Override
@@ -226,27 +315,49 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler
         connection.writeAndFlush( PullAllMessage.PULL_ALL, this );
     }
 
-    public synchronized CompletionStage<Throwable> pullAllFailureAsync()
+    @Override
+    public boolean isCompletedWithoutFailure()
     {
-        if ( failure != null )
+        lock.lock();
+        try
         {
-            return completedFuture( extractFailure() );
+            return finished && failure == null;
         }
-        else if ( finished )
+        finally
         {
-            return completedWithNull();
+            lock.unlock();
         }
-        else
+    }
+
+    public CompletionStage<Throwable> pullAllFailureAsync()
+    {
+        lock.lock();
+        try
         {
-            if ( failureFuture == null )
+            if ( failure != null )
             {
-                // neither SUCCESS nor FAILURE message has arrived, register future to be notified when it arrives
-                // future will be completed with null on SUCCESS and completed with Throwable on FAILURE
-                // enable auto-read, otherwise we might not read SUCCESS/FAILURE if records are not consumed
-                enableAutoRead();
-                failureFuture = new CompletableFuture<>();
+                return completedFuture( extractFailure() );
+            }
+            else if ( finished )
+            {
+                return completedWithNull();
             }
-            return failureFuture;
+            else
+            {
+                if ( failureFuture == null )
+                {
+                    // neither SUCCESS nor FAILURE message has arrived, register future to be notified when it arrives
+                    // future will be completed with null on SUCCESS and completed with Throwable on FAILURE
+                    // enable auto-read, otherwise we might not read SUCCESS/FAILURE if records are not consumed
+                    enableAutoRead();
+                    failureFuture = new CompletableFuture<>();
+                }
+                return failureFuture;
+            }
+        }
+        finally
+        {
+            lock.unlock();
         }
     }
 
@@ -286,6 +397,14 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler
         return record;
     }
 
+    private List<Record> dequeueRecords()
+    {
+        List<Record> result = new ArrayList<>( records );
+        records.clear();
+        enableAutoRead();
+        return result;
+    }
+
     private <T> List<T> recordsAsList( Function<Record,T> mapFunction )
     {
         if ( !finished )
@@ -314,6 +433,64 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler
         return error;
     }
 
+    private Runnable handleFailure( Throwable error )
+    {
+        finished = true;
+        summary = extractResultSummary( emptyMap() );
+
+        completionListener.afterFailure( error );
+
+        Runnable batchFailure = takeBatchFailure( error );
+        boolean failedRecordFuture = failRecordFuture( error );
+        if ( failedRecordFuture || batchFailure != null )
+        {
+            // error propagated through the record or the batch future
+            completeFailureFuture( null );
+        }
+        else
+        {
+            boolean completedFailureFuture = completeFailureFuture( error );
+            if ( !completedFailureFuture )
+            {
+                // error has not been propagated to the user, remember it
+                failure = error;
+            }
+        }
+        return batchFailure;
+    }
+
+    // batch futures are completed once the lock is released, so that the stages depending on them do not run while it is held
+    private static void runIfPresent( Runnable completion )
+    {
+        if ( completion != null )
+        {
+            completion.run();
+        }
+    }
+
+    private Runnable takeBatchCompletion()
+    {
+        if ( batchFuture == null )
+        {
+            return null;
+        }
+        CompletableFuture<List<Record>> future = batchFuture;
+        batchFuture = null;
+        List<Record> batch = dequeueRecords();
+        return () -> future.complete( batch );
+    }
+
+    private Runnable takeBatchFailure( Throwable error )
+    {
+        if ( batchFuture == null )
+        {
+            return null;
+        }
+        CompletableFuture<List<Record>> future = batchFuture;
+        batchFuture = null;
+        return () -> future.completeExceptionally( error );
+    }
+
     private void completeRecordFuture( Record record )
     {
         if ( recordFuture != null )
@@ -34,9 +34,23 @@ public interface PullAllResponseHandler extends ResponseHandler
 
     CompletionStage<Record> peekAsync();
 
+    /**
+     * @return a stage completed with all records buffered at the time, waiting for at least one when none is, or with an empty list when the end
+     * of the stream has been reached.
+     */
+    CompletionStage<List<Record>> nextBatchAsync();
+
     <T> CompletionStage<List<T>> listAsync( Function<Record, T> mapFunction );
 
     CompletionStage<Throwable> pullAllFailureAsync();
 
     void prePopulateRecords();
+
+    /**
+     * @return {@code true} when the SUCCESS message arrived or the FAILURE message arrived and its error has been reported, {@code false} otherwise.
+     */
+    default boolean isCompletedWithoutFailure()
+    {
+        return false;
+    }
 }
@@ -18,12 +18,16 @@
  */
 package org.neo4j.driver.internal.handlers.pulln;
 
+import io.netty.channel.EventLoop;
+
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
 import org.neo4j.driver.Query;
@@ -36,6 +40,7 @@ import org.neo4j.driver.internal.util.Iterables;
 import org.neo4j.driver.internal.util.MetadataExtractor;
 import org.neo4j.driver.summary.ResultSummary;
 
+import static java.util.Collections.emptyList;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
 import static org.neo4j.driver.internal.util.Futures.completedWithNull;
@@ -44,10 +49,13 @@ import static org.neo4j.driver.internal.util.Futures.failedFuture;
 /**
  * Built on top of {@link BasicPullResponseHandler} to be able to pull in batches.
  * It is exposed as {@link PullAllResponseHandler} as it can automatically pull when running out of records locally.
+ * <p>
+ * Unlike the state of the stream, the local buffer of records is shared between the event loop and the threads consuming the result, hence the lock.
  */
 public class AutoPullResponseHandler extends BasicPullResponseHandler implements PullAllResponseHandler
 {
     private static final Queue<Record> UNINITIALIZED_RECORDS = Iterables.emptyQueue();
+    private final Lock lock = new ReentrantLock();
     private final long fetchSize;
     private final long lowRecordWatermark;
     private final long highRecordWatermark;
@@ -55,11 +63,16 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
     // initialized lazily when first record arrives
     private Queue<Record> records = UNINITIALIZED_RECORDS;
 
+    // set once the stream is completed, successfully or not
     private ResultSummary summary;
     private Throwable failure;
     private boolean isAutoPullEnabled = true;
+    // a PULL is written or about to be, the state of the stream only follows once a request from another thread ran on the event loop
+    private boolean pullRequested;
 
     private CompletableFuture<Record> recordFuture;
+    private CompletableFuture<List<Record>> batchFuture;
+    private boolean batchCompletionScheduled;
     private CompletableFuture<ResultSummary> summaryFuture;
 
     public AutoPullResponseHandler(Query query, RunResponseHandler runResponseHandler, Connection connection, MetadataExtractor metadataExtractor,
@@ -86,127 +99,253 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
     private void installRecordAndSummaryConsumers()
     {
         installRecordConsumer( ( record, error ) -> {
-            if ( record != null )
+            Runnable batchCompletion = null;
+            lock.lock();
+            try
             {
-                enqueueRecord( record );
-                completeRecordFuture( record );
+                if ( record != null )
+                {
+                    enqueueRecord( record );
+                    completeRecordFuture( record );
+                    batchCompletion = scheduleBatchCompletion();
+                }
+                //  if ( error != null ) Handled by summary.error already
+                if ( record == null && error == null )
+                {
+                    // complete
+                    completeRecordFuture( null );
+                }
             }
-            //  if ( error != null ) Handled by summary.error already
-            if ( record == null && error == null )
+            finally
             {
-                // complete
-                completeRecordFuture( null );
+                lock.unlock();
             }
+            runIfPresent( batchCompletion );
         } );
 
         installSummaryConsumer( ( summary, error ) -> {
-            if ( error != null )
-            {
-                handleFailure( error );
-            }
-            if ( summary != null )
+            Runnable batchCompletion = null;
+            lock.lock();
+            try
             {
-                this.summary = summary;
-                completeSummaryFuture( summary );
-            }
+                if ( error != null )
+                {
+                    batchCompletion = handleFailure( error );
+                }
+                if ( summary != null )
+                {
+                    this.summary = summary;
+                    if ( batchCompletion == null )
+                    {
+                        batchCompletion = takeBatchCompletion();
+                    }
+                    completeSummaryFuture( summary );
+                }
 
-            if ( error == null && summary == null ) // has_more
-            {
-                if ( isAutoPullEnabled )
+                if ( error == null && summary == null ) // has_more
                 {
-                    request( fetchSize );
+                    // called on the event loop, where the state is current
+                    pullRequested = state() == State.STREAMING_STATE;
+                    if ( isAutoPullEnabled )
+                    {
+                        pullIfNotRequested();
+                    }
                 }
             }
+            finally
+            {
+                lock.unlock();
+            }
+            runIfPresent( batchCompletion );
         } );
     }
 
-    private void handleFailure( Throwable error )
+    private Runnable handleFailure( Throwable error )
     {
-        // error has not been propagated to the user, remember it
-        if ( !failRecordFuture( error ) && !failSummaryFuture( error ) )
+        if ( failRecordFuture( error ) )
         {
+            return null;
+        }
+        Runnable batchFailure = takeBatchFailure( error );
+        if ( batchFailure == null && !failSummaryFuture( error ) )
+        {
+            // error has not been propagated to the user, remember it
             failure = error;
         }
+        return batchFailure;
     }
 
-    public synchronized CompletionStage<Record> peekAsync()
+    public CompletionStage<Record> peekAsync()
     {
-        Record record = records.peek();
-        if ( record == null )
+        lock.lock();
+        try
         {
-            if ( isDone() )
+            Record record = records.peek();
+            if ( record == null )
             {
-                return completedWithValueIfNoFailure( null );
-            }
+                if ( isFinished() )
+                {
+                    return completedWithValueIfNoFailure( null );
+                }
 
-            if ( recordFuture == null )
+                if ( recordFuture == null )
+                {
+                    recordFuture = new CompletableFuture<>();
+                }
+                return recordFuture;
+            }
+            else
             {
-                recordFuture = new CompletableFuture<>();
+                return completedFuture( record );
             }
-            return recordFuture;
         }
-        else
+        finally
         {
-            return completedFuture( record );
+            lock.unlock();
         }
     }
 
-    public synchronized CompletionStage<Record> nextAsync()
+    public CompletionStage<Record> nextAsync()
     {
-        return peekAsync().thenApply( ignore -> dequeueRecord() );
+        lock.lock();
+        try
+        {
+            return peekAsync().thenApply( ignore -> dequeueRecord() );
+        }
+        finally
+        {
+            lock.unlock();
+        }
     }
 
-    public synchronized CompletionStage<ResultSummary> consumeAsync()
+    @Override
+    public CompletionStage<List<Record>> nextBatchAsync()
     {
-        records.clear();
-        if ( isDone() )
+        lock.lock();
+        try
         {
-            return completedWithValueIfNoFailure( summary );
+            if ( !records.isEmpty() )
+            {
+                return completedFuture( dequeueRecords() );
+            }
+            if ( isFinished() )
+            {
+                return completedWithValueIfNoFailure( emptyList() );
+            }
+
+            if ( batchFuture == null )
+            {
+                batchFuture = new CompletableFuture<>();
+            }
+            return batchFuture;
         }
-        else
+        finally
         {
-            cancel();
-            if ( summaryFuture == null )
+            lock.unlock();
+        }
+    }
+
+    public CompletionStage<ResultSummary> consumeAsync()
+    {
+        lock.lock();
+        try
+        {
+            records.clear();
+            if ( isFinished() )
             {
-                summaryFuture = new CompletableFuture<>();
+                return completedWithValueIfNoFailure( summary );
+            }
+            else
+            {
+                if ( summaryFuture == null )
+                {
+                    summaryFuture = new CompletableFuture<>();
+                }
+                // cancelling can complete the stream right away, when the event loop is shut down
+                CompletableFuture<ResultSummary> future = summaryFuture;
+                cancel();
+                return future;
             }
-
-            return summaryFuture;
+        }
+        finally
+        {
+            lock.unlock();
         }
     }
 
-    public synchronized <T> CompletionStage<List<T>> listAsync( Function<Record,T> mapFunction )
+    public <T> CompletionStage<List<T>> listAsync( Function<Record,T> mapFunction )
     {
-        return pullAllAsync().thenApply( summary -> recordsAsList( mapFunction ) );
+        lock.lock();
+        try
+        {
+            return pullAllAsync().thenApply( summary -> recordsAsList( mapFunction ) );
+        }
+        finally
+        {
+            lock.unlock();
+        }
     }
 
     @Override
-    public synchronized CompletionStage<Throwable> pullAllFailureAsync()
+    public CompletionStage<Throwable> pullAllFailureAsync()
     {
-        return pullAllAsync().handle( ( ignore, error ) -> error );
+        lock.lock();
+        try
+        {
+            return pullAllAsync().handle( ( ignore, error ) -> error );
+        }
+        finally
+        {
+            lock.unlock();
+        }
     }
 
     @Override
     public void prePopulateRecords()
     {
-        request( fetchSize );
+        // nothing was written for this handler yet, so the first PULL is written right after the RUN message in the calling thread
+        pullRequested = true;
+        requestInCurrentThread( fetchSize );
     }
 
-    private synchronized CompletionStage<ResultSummary> pullAllAsync()
+    @Override
+    public boolean isCompletedWithoutFailure()
     {
-        if ( isDone() )
+        lock.lock();
+        try
         {
-            return completedWithValueIfNoFailure( summary );
+            return isFinished() && failure == null;
         }
-        else
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    private CompletionStage<ResultSummary> pullAllAsync()
+    {
+        lock.lock();
+        try
         {
-            request( UNLIMITED_FETCH_SIZE );
-            if ( summaryFuture == null )
+            if ( isFinished() )
             {
-                summaryFuture = new CompletableFuture<>();
+                return completedWithValueIfNoFailure( summary );
+            }
+            else
+            {
+                if ( summaryFuture == null )
+                {
+                    summaryFuture = new CompletableFuture<>();
+                }
+                CompletableFuture<ResultSummary> future = summaryFuture;
+                pullRequested = true;
+                request( UNLIMITED_FETCH_SIZE );
+                return future;
             }
-
-            return summaryFuture;
+        }
+        finally
+        {
+            lock.unlock();
         }
     }
 
@@ -232,20 +371,43 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
 
         if ( records.size() <= lowRecordWatermark )
         {
-            //if not in streaming state we need to restart streaming
-            if ( state() != State.STREAMING_STATE )
-            {
-                request( fetchSize );
-            }
+            //if not streaming we need to restart streaming
+            pullIfNotRequested();
             isAutoPullEnabled = true;
         }
 
         return record;
     }
 
+    private void pullIfNotRequested()
+    {
+        if ( !pullRequested && !isFinished() )
+        {
+            pullRequested = true;
+            request( fetchSize );
+        }
+    }
+
+    private boolean isFinished()
+    {
+        // the state of the stream is observed without the lock, the summary tells whether the completion was handled already
+        return summary != null;
+    }
+
+    private List<Record> dequeueRecords()
+    {
+        List<Record> result = new ArrayList<>( records );
+        records.clear();
+
+        pullIfNotRequested();
+        isAutoPullEnabled = true;
+
+        return result;
+    }
+
     private <T> List<T> recordsAsList( Function<Record,T> mapFunction )
     {
-        if ( !isDone() )
+        if ( !isFinished() )
         {
             throw new IllegalStateException( "Can't get records as list because SUCCESS or FAILURE did not arrive" );
         }
@@ -281,6 +443,60 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
         }
     }
 
+    // batch futures are completed once the lock is released, so that the stages depending on them do not run while it is held,
+    // the methods taking a batch future out of this handler return its completion to be run then
+    private static void runIfPresent( Runnable completion )
+    {
+        if ( completion != null )
+        {
+            completion.run();
+        }
+    }
+
+    private Runnable scheduleBatchCompletion()
+    {
+        if ( batchFuture != null && !batchCompletionScheduled )
+        {
+            EventLoop eventLoop = connection.eventLoop();
+            if ( eventLoop == null )
+            {
+                return takeBatchCompletion();
+            }
+            // records tend to arrive in bursts, completing the batch after the pending reads hands all of them over at once
+            batchCompletionScheduled = true;
+            eventLoop.execute( this::completeScheduledBatchFuture );
+        }
+        return null;
+    }
+
+    private void completeScheduledBatchFuture()
+    {
+        Runnable batchCompletion;
+        lock.lock();
+        try
+        {
+            batchCompletionScheduled = false;
+            batchCompletion = takeBatchCompletion();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+        runIfPresent( batchCompletion );
+    }
+
+    private Runnable takeBatchCompletion()
+    {
+        if ( batchFuture == null )
+        {
+            return null;
+        }
+        CompletableFuture<List<Record>> future = batchFuture;
+        batchFuture = null;
+        List<Record> batch = dequeueRecords();
+        return () -> future.complete( batch );
+    }
+
     private void completeSummaryFuture( ResultSummary summary )
     {
         if ( summaryFuture != null )
@@ -303,6 +519,18 @@ public class AutoPullResponseHandler extends BasicPullResponseHandler implements
         return false;
     }
 
+    private Runnable takeBatchFailure( Throwable error )
+    {
+        // buffered records are handed over first, the failure follows with the next batch
+        if ( batchFuture == null || !records.isEmpty() )
+        {
+            return null;
+        }
+        CompletableFuture<List<Record>> future = batchFuture;
+        batchFuture = null;
+        return () -> future.completeExceptionally( error );
+    }
+
     private boolean failSummaryFuture( Throwable error )
     {
         if ( summaryFuture != null )
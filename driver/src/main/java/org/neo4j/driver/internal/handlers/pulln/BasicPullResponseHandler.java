@@ -18,7 +18,10 @@
  */
 package org.neo4j.driver.internal.handlers.pulln;
 
+import io.netty.channel.EventLoop;
+
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.BiConsumer;
 
 import org.neo4j.driver.Query;
@@ -42,6 +45,9 @@ import static org.neo4j.driver.internal.messaging.request.DiscardMessage.newDisc
 
 /**
  * Provides basic handling of pull responses from sever. The state is managed by {@link State}.
+ * <p>
+ * The state is confined to the event loop of the connection, which handles all responses. Requests and cancellations coming from other threads are
+ * executed on that event loop, so no record needs to be guarded by a lock. A connection without an event loop leaves all calls in the calling thread.
  */
 public class BasicPullResponseHandler implements PullResponseHandler
 {
@@ -49,12 +55,14 @@ public class BasicPullResponseHandler implements PullResponseHandler
     protected final RunResponseHandler runResponseHandler;
     protected final MetadataExtractor metadataExtractor;
     protected final Connection connection;
+    private final EventLoop eventLoop;
     private final PullResponseCompletionListener completionListener;
 
-    private State state;
+    // volatile to let other threads observe the progress of the stream, it only changes on the event loop once streaming started
+    private volatile State state;
     private long toRequest;
-    private BiConsumer<Record,Throwable> recordConsumer = null;
-    private BiConsumer<ResultSummary,Throwable> summaryConsumer = null;
+    private volatile BiConsumer<Record,Throwable> recordConsumer = null;
+    private volatile BiConsumer<ResultSummary,Throwable> summaryConsumer = null;
 
     public BasicPullResponseHandler( Query query, RunResponseHandler runResponseHandler,
                                      Connection connection, MetadataExtractor metadataExtractor,
@@ -64,46 +72,86 @@ public class BasicPullResponseHandler implements PullResponseHandler
         this.runResponseHandler = requireNonNull( runResponseHandler );
         this.metadataExtractor = requireNonNull( metadataExtractor );
         this.connection = requireNonNull( connection );
+        this.eventLoop = connection.eventLoop();
         this.completionListener = requireNonNull( completionListener );
 
         this.state = State.READY_STATE;
     }
 
     @Override
-    public synchronized void onSuccess( Map<String,Value> metadata )
+    public void onSuccess( Map<String,Value> metadata )
     {
         assertRecordAndSummaryConsumerInstalled();
         state.onSuccess( this, metadata );
     }
 
     @Override
-    public synchronized void onFailure( Throwable error )
+    public void onFailure( Throwable error )
     {
         assertRecordAndSummaryConsumerInstalled();
         state.onFailure( this, error );
     }
 
     @Override
-    public synchronized void onRecord( Value[] fields )
+    public void onRecord( Value[] fields )
     {
         assertRecordAndSummaryConsumerInstalled();
         state.onRecord( this, fields );
     }
 
     @Override
-    public synchronized void request( long size )
+    public void request( long size )
+    {
+        executeInEventLoop( () -> requestInCurrentThread( size ) );
+    }
+
+    @Override
+    public void cancel()
+    {
+        executeInEventLoop( this::cancelInCurrentThread );
+    }
+
+    /**
+     * Requests records without moving to the event loop first. This is only safe as long as no response can arrive for this handler, that is before
+     * the first PULL message of it is written.
+     *
+     * @param size the number of records to request.
+     */
+    protected void requestInCurrentThread( long size )
     {
         assertRecordAndSummaryConsumerInstalled();
         state.request( this, size );
     }
 
-    @Override
-    public synchronized void cancel()
+    private void cancelInCurrentThread()
     {
         assertRecordAndSummaryConsumerInstalled();
         state.cancel( this );
     }
 
+    private void executeInEventLoop( Runnable task )
+    {
+        if ( eventLoop == null || eventLoop.inEventLoop() )
+        {
+            task.run();
+        }
+        else
+        {
+            try
+            {
+                eventLoop.execute( task );
+            }
+            catch ( RejectedExecutionException e )
+            {
+                // the event loop is shut down with the driver, no response is going to arrive and nothing else touches the state anymore
+                if ( !isDone() )
+                {
+                    onFailure( e );
+                }
+            }
+        }
+    }
+
     protected void completeWithFailure( Throwable error )
     {
         completionListener.afterFailure( error );
@@ -155,7 +203,7 @@ public class BasicPullResponseHandler implements PullResponseHandler
     }
 
     @Override
-    public synchronized void installSummaryConsumer( BiConsumer<ResultSummary,Throwable> summaryConsumer )
+    public void installSummaryConsumer( BiConsumer<ResultSummary,Throwable> summaryConsumer )
     {
         if ( this.summaryConsumer != null )
         {
@@ -165,7 +213,7 @@ public class BasicPullResponseHandler implements PullResponseHandler
     }
 
     @Override
-    public synchronized void installRecordConsumer( BiConsumer<Record,Throwable> recordConsumer )
+    public void installRecordConsumer( BiConsumer<Record,Throwable> recordConsumer )
     {
         if ( this.recordConsumer != null )
         {
@@ -80,6 +80,20 @@ public interface BoltProtocol
      */
     CompletionStage<Void> beginTransaction( Connection connection, Bookmark bookmark, TransactionConfig config );
 
+    /**
+     * Begin an unmanaged transaction, optionally leaving the request to be flushed together with the next one.
+     *
+     * @param connection the connection to use.
+     * @param bookmark the bookmarks. Never null, should be {@link InternalBookmark#empty()} when absent.
+     * @param config the transaction configuration. Never null, should be {@link TransactionConfig#empty()} when absent.
+     * @param flush {@code true} to flush the request right away, {@code false} to only write it.
+     * @return a completion stage completed when transaction is started or completed exceptionally when there was a failure.
+     */
+    default CompletionStage<Void> beginTransaction( Connection connection, Bookmark bookmark, TransactionConfig config, boolean flush )
+    {
+        return beginTransaction( connection, bookmark, config );
+    }
+
     /**
      * Commit the unmanaged transaction.
      *
@@ -93,7 +93,7 @@ public class BoltProtocolV3 implements BoltProtocol
 
         HelloResponseHandler handler = new HelloResponseHandler( channelInitializedPromise, version() );
 
-        messageDispatcher( channel ).enqueue( handler );
+        messageDispatcher( channel ).enqueue( handler, message );
         channel.writeAndFlush( message, channel.voidPromise() );
     }
 
@@ -111,6 +111,12 @@ public class BoltProtocolV3 implements BoltProtocol
 
     @Override
     public CompletionStage<Void> beginTransaction( Connection connection, Bookmark bookmark, TransactionConfig config )
+    {
+        return beginTransaction( connection, bookmark, config, true );
+    }
+
+    @Override
+    public CompletionStage<Void> beginTransaction( Connection connection, Bookmark bookmark, TransactionConfig config, boolean flush )
     {
         try
         {
@@ -123,7 +129,14 @@ public class BoltProtocolV3 implements BoltProtocol
 
         CompletableFuture<Void> beginTxFuture = new CompletableFuture<>();
         BeginMessage beginMessage = new BeginMessage( bookmark, config, connection.databaseName(), connection.mode(), connection.impersonatedUser() );
-        connection.writeAndFlush( beginMessage, new BeginTxResponseHandler( beginTxFuture ) );
+        if ( flush )
+        {
+            connection.writeAndFlush( beginMessage, new BeginTxResponseHandler( beginTxFuture ) );
+        }
+        else
+        {
+            connection.write( beginMessage, new BeginTxResponseHandler( beginTxFuture ) );
+        }
         return beginTxFuture;
     }
 
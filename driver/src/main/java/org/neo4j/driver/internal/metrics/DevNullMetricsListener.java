@@ -83,7 +83,8 @@ public enum DevNullMetricsListener implements MetricsListener
     }
 
     @Override
-    public void registerPoolMetrics( String poolId, ServerAddress serverAddress, IntSupplier inUseSupplier, IntSupplier idleSupplier )
+    public void registerPoolMetrics( String poolId, ServerAddress serverAddress, IntSupplier inUseSupplier, IntSupplier idleSupplier,
+                                     IntSupplier pendingAcquisitionsSupplier )
     {
     }
 
@@ -92,6 +93,11 @@ public enum DevNullMetricsListener implements MetricsListener
     {
     }
 
+    @Override
+    public void registerEventLoopShardMetrics( String shardId, IntSupplier serversSupplier, IntSupplier pendingTasksSupplier )
+    {
+    }
+
     @Override
     public String toString()
     {
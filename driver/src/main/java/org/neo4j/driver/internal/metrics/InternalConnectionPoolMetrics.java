@@ -24,6 +24,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.IntSupplier;
 
 import org.neo4j.driver.ConnectionPoolMetrics;
+import org.neo4j.driver.DurationHistogram;
 import org.neo4j.driver.net.ServerAddress;
 
 import static java.lang.String.format;
@@ -33,6 +34,7 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
     private final ServerAddress address;
     private final IntSupplier inUseSupplier;
     private final IntSupplier idleSupplier;
+    private final IntSupplier pendingAcquisitionsSupplier;
 
     private final AtomicLong closed = new AtomicLong();
 
@@ -51,18 +53,25 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
     private final AtomicLong totalInUseTime = new AtomicLong();
 
     private final AtomicLong totalInUseCount = new AtomicLong();
+
+    private final InternalDurationHistogram acquisitionTimeHistogram = new InternalDurationHistogram();
+    private final InternalDurationHistogram connectionTimeHistogram = new InternalDurationHistogram();
+    private final InternalDurationHistogram inUseTimeHistogram = new InternalDurationHistogram();
     private final String id;
 
-    InternalConnectionPoolMetrics( String poolId, ServerAddress address, IntSupplier inUseSupplier, IntSupplier idleSupplier )
+    InternalConnectionPoolMetrics( String poolId, ServerAddress address, IntSupplier inUseSupplier, IntSupplier idleSupplier,
+                                   IntSupplier pendingAcquisitionsSupplier )
     {
         Objects.requireNonNull( address );
         Objects.requireNonNull( inUseSupplier );
         Objects.requireNonNull( idleSupplier );
+        Objects.requireNonNull( pendingAcquisitionsSupplier );
 
         this.id = poolId;
         this.address = address;
         this.inUseSupplier = inUseSupplier;
         this.idleSupplier = idleSupplier;
+        this.pendingAcquisitionsSupplier = pendingAcquisitionsSupplier;
     }
 
     @Override
@@ -87,6 +96,7 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
         long sample = ((TimeRecorderListenerEvent) connEvent).getSample();
 
         totalConnectionTime.addAndGet( sample );
+        connectionTimeHistogram.record( sample );
     }
 
     @Override
@@ -115,6 +125,7 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
         long sample = ((TimeRecorderListenerEvent) acquireEvent).getSample();
 
         totalAcquisitionTime.addAndGet( sample );
+        acquisitionTimeHistogram.record( sample );
     }
 
     @Override
@@ -136,6 +147,7 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
         long sample = ((TimeRecorderListenerEvent) inUseEvent).getSample();
 
         totalInUseTime.addAndGet( sample );
+        inUseTimeHistogram.record( sample );
     }
 
     @Override
@@ -222,15 +234,41 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
         return this.acquired.get();
     }
 
+    @Override
+    public int pendingAcquisitions()
+    {
+        return pendingAcquisitionsSupplier.getAsInt();
+    }
+
+    @Override
+    public DurationHistogram acquisitionTimeHistogram()
+    {
+        return acquisitionTimeHistogram;
+    }
+
+    @Override
+    public DurationHistogram connectionTimeHistogram()
+    {
+        return connectionTimeHistogram;
+    }
+
+    @Override
+    public DurationHistogram inUseTimeHistogram()
+    {
+        return inUseTimeHistogram;
+    }
+
     @Override
     public String toString()
     {
-        return format( "%s=[created=%s, closed=%s, creating=%s, failedToCreate=%s, acquiring=%s, acquired=%s, " +
+        return format( "%s=[created=%s, closed=%s, creating=%s, failedToCreate=%s, acquiring=%s, pendingAcquisitions=%s, acquired=%s, " +
                        "timedOutToAcquire=%s, inUse=%s, idle=%s, " +
-                       "totalAcquisitionTime=%s, totalConnectionTime=%s, totalInUseTime=%s, totalInUseCount=%s]",
-                       id(), created(), closed(), creating(), failedToCreate(), acquiring(), acquired(),
+                       "totalAcquisitionTime=%s, totalConnectionTime=%s, totalInUseTime=%s, totalInUseCount=%s, " +
+                       "acquisitionTimeHistogram=%s, connectionTimeHistogram=%s, inUseTimeHistogram=%s]",
+                       id(), created(), closed(), creating(), failedToCreate(), acquiring(), pendingAcquisitions(), acquired(),
                        timedOutToAcquire(), inUse(), idle(),
-                       totalAcquisitionTime(), totalConnectionTime(), totalInUseTime(), totalInUseCount() );
+                       totalAcquisitionTime(), totalConnectionTime(), totalInUseTime(), totalInUseCount(),
+                       acquisitionTimeHistogram(), connectionTimeHistogram(), inUseTimeHistogram() );
     }
 
     // This method is for testing purposes only
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.neo4j.driver.DurationHistogram;
+
+import static java.lang.String.format;
+
+/**
+ * A lock-free histogram with log-linear buckets, similar to an HDR histogram with two significant decimal digits.
+ * <p>
+ * Values below {@link #SUB_BUCKET_COUNT} are counted exactly. Every following power of two is split into {@link #SUB_BUCKET_COUNT} equally sized buckets,
+ * which bounds the relative error of the reported values to {@code 1 / SUB_BUCKET_COUNT}.
+ */
+final class InternalDurationHistogram implements DurationHistogram
+{
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray( BUCKET_COUNT );
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    void record( long value )
+    {
+        long sanitizedValue = Math.max( value, 0 );
+        counts.incrementAndGet( bucketIndex( sanitizedValue ) );
+        count.incrementAndGet();
+        max.accumulateAndGet( sanitizedValue, Math::max );
+    }
+
+    @Override
+    public long count()
+    {
+        return count.get();
+    }
+
+    @Override
+    public long max()
+    {
+        return max.get();
+    }
+
+    @Override
+    public long valueAtPercentile( double percentile )
+    {
+        if ( percentile < 0.0 || percentile > 100.0 )
+        {
+            throw new IllegalArgumentException( format( "Percentile must be in range [0.0, 100.0] but was: %s", percentile ) );
+        }
+
+        long totalCount = count.get();
+        if ( totalCount == 0 )
+        {
+            return 0;
+        }
+
+        long targetCount = Math.max( 1, (long) Math.ceil( percentile / 100.0 * totalCount ) );
+        long cumulativeCount = 0;
+        for ( int i = 0; i < BUCKET_COUNT; i++ )
+        {
+            cumulativeCount += counts.get( i );
+            if ( cumulativeCount >= targetCount )
+            {
+                return Math.min( highestValueInBucket( i ), max.get() );
+            }
+        }
+        return max.get();
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "[count=%s, p50=%s, p95=%s, p99=%s, max=%s]",
+                       count(), valueAtPercentile( 50.0 ), valueAtPercentile( 95.0 ), valueAtPercentile( 99.0 ), max() );
+    }
+
+    static int bucketIndex( long value )
+    {
+        if ( value < SUB_BUCKET_COUNT )
+        {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros( value );
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long highestValueInBucket( int index )
+    {
+        if ( index < SUB_BUCKET_COUNT )
+        {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index % SUB_BUCKET_COUNT;
+        return ((SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+    }
+}
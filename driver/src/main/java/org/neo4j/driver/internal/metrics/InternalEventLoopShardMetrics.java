@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import java.util.Objects;
+import java.util.function.IntSupplier;
+
+import org.neo4j.driver.EventLoopShardMetrics;
+
+import static java.lang.String.format;
+
+final class InternalEventLoopShardMetrics implements EventLoopShardMetrics
+{
+    private final String id;
+    private final IntSupplier serversSupplier;
+    private final IntSupplier pendingTasksSupplier;
+
+    InternalEventLoopShardMetrics( String shardId, IntSupplier serversSupplier, IntSupplier pendingTasksSupplier )
+    {
+        Objects.requireNonNull( shardId );
+        Objects.requireNonNull( serversSupplier );
+        Objects.requireNonNull( pendingTasksSupplier );
+
+        this.id = shardId;
+        this.serversSupplier = serversSupplier;
+        this.pendingTasksSupplier = pendingTasksSupplier;
+    }
+
+    @Override
+    public String id()
+    {
+        return id;
+    }
+
+    @Override
+    public int servers()
+    {
+        return serversSupplier.getAsInt();
+    }
+
+    @Override
+    public int pendingTasks()
+    {
+        return pendingTasksSupplier.getAsInt();
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "%s=[servers=%s, pendingTasks=%s]", id(), servers(), pendingTasks() );
+    }
+}
@@ -25,6 +25,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.IntSupplier;
 
 import org.neo4j.driver.ConnectionPoolMetrics;
+import org.neo4j.driver.EventLoopShardMetrics;
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.Metrics;
@@ -37,6 +38,7 @@ import static java.util.Collections.unmodifiableCollection;
 final class InternalMetrics implements Metrics, MetricsListener
 {
     private final Map<String,ConnectionPoolMetrics> connectionPoolMetrics;
+    private final Map<String,EventLoopShardMetrics> eventLoopShardMetrics;
     private final Clock clock;
     private final Logger log;
 
@@ -44,14 +46,16 @@ final class InternalMetrics implements Metrics, MetricsListener
     {
         Objects.requireNonNull( clock );
         this.connectionPoolMetrics = new ConcurrentHashMap<>();
+        this.eventLoopShardMetrics = new ConcurrentHashMap<>();
         this.clock = clock;
         this.log = logging.getLog( getClass() );
     }
 
     @Override
-    public void registerPoolMetrics( String poolId, ServerAddress serverAddress, IntSupplier inUseSupplier, IntSupplier idleSupplier )
+    public void registerPoolMetrics( String poolId, ServerAddress serverAddress, IntSupplier inUseSupplier, IntSupplier idleSupplier,
+                                     IntSupplier pendingAcquisitionsSupplier )
     {
-        this.connectionPoolMetrics.put( poolId, new InternalConnectionPoolMetrics( poolId, serverAddress, inUseSupplier, idleSupplier ) );
+        this.connectionPoolMetrics.put( poolId, new InternalConnectionPoolMetrics( poolId, serverAddress, inUseSupplier, idleSupplier, pendingAcquisitionsSupplier ) );
     }
 
     @Override
@@ -60,6 +64,12 @@ final class InternalMetrics implements Metrics, MetricsListener
         this.connectionPoolMetrics.remove( id );
     }
 
+    @Override
+    public void registerEventLoopShardMetrics( String shardId, IntSupplier serversSupplier, IntSupplier pendingTasksSupplier )
+    {
+        this.eventLoopShardMetrics.put( shardId, new InternalEventLoopShardMetrics( shardId, serversSupplier, pendingTasksSupplier ) );
+    }
+
     @Override
     public void beforeCreating( String poolId, ListenerEvent<?> creatingEvent )
     {
@@ -132,10 +142,18 @@ final class InternalMetrics implements Metrics, MetricsListener
         return unmodifiableCollection( this.connectionPoolMetrics.values() );
     }
 
+    @Override
+    public Collection<EventLoopShardMetrics> eventLoopShardMetrics()
+    {
+        return unmodifiableCollection( this.eventLoopShardMetrics.values() );
+    }
+
     @Override
     public String toString()
     {
-        return format( "PoolMetrics=%s", connectionPoolMetrics );
+        return eventLoopShardMetrics.isEmpty()
+               ? format( "PoolMetrics=%s", connectionPoolMetrics )
+               : format( "PoolMetrics=%s, EventLoopShardMetrics=%s", connectionPoolMetrics, eventLoopShardMetrics );
     }
 
     private ConnectionPoolMetricsListener poolMetrics( String poolId )
@@ -100,7 +100,10 @@ public interface MetricsListener
 
     ListenerEvent<?> createListenerEvent();
 
-    void registerPoolMetrics( String poolId, ServerAddress serverAddress, IntSupplier inUseSupplier, IntSupplier idleSupplier );
+    void registerPoolMetrics( String poolId, ServerAddress serverAddress, IntSupplier inUseSupplier, IntSupplier idleSupplier,
+                              IntSupplier pendingAcquisitionsSupplier );
 
     void removePoolMetrics( String poolId );
+
+    void registerEventLoopShardMetrics( String shardId, IntSupplier serversSupplier, IntSupplier pendingTasksSupplier );
 }
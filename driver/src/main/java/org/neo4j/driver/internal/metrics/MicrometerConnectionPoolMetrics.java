@@ -31,6 +31,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntSupplier;
 
 import org.neo4j.driver.ConnectionPoolMetrics;
+import org.neo4j.driver.DurationHistogram;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.net.ServerAddress;
 
@@ -45,13 +46,17 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
     public static final String FAILED = PREFIX + ".failed";
     public static final String CLOSED = PREFIX + ".closed";
     public static final String ACQUIRING = PREFIX + ".acquiring";
+    public static final String PENDING_ACQUISITIONS = PREFIX + ".pending";
     public static final String ACQUISITION_TIMEOUT = PREFIX + ".acquisition.timeout";
     public static final String ACQUISITION = PREFIX + ".acquisition";
     public static final String CREATION = PREFIX + ".creation";
     public static final String USAGE = PREFIX + ".usage";
 
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
     private final IntSupplier inUseSupplier;
     private final IntSupplier idleSupplier;
+    private final IntSupplier pendingAcquisitionsSupplier;
 
     private final String id;
 
@@ -63,23 +68,30 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
     private final Timer totalAcquisitionTimer;
     private final Timer totalConnectionTimer;
     private final Timer totalInUseTimer;
+    private final InternalDurationHistogram acquisitionTimeHistogram = new InternalDurationHistogram();
+    private final InternalDurationHistogram connectionTimeHistogram = new InternalDurationHistogram();
+    private final InternalDurationHistogram inUseTimeHistogram = new InternalDurationHistogram();
 
-    MicrometerConnectionPoolMetrics( String poolId, ServerAddress address, IntSupplier inUseSupplier, IntSupplier idleSupplier, MeterRegistry registry )
+    MicrometerConnectionPoolMetrics( String poolId, ServerAddress address, IntSupplier inUseSupplier, IntSupplier idleSupplier,
+                                     IntSupplier pendingAcquisitionsSupplier, MeterRegistry registry )
     {
-        this( poolId, address, inUseSupplier, idleSupplier, registry, Tags.empty() );
+        this( poolId, address, inUseSupplier, idleSupplier, pendingAcquisitionsSupplier, registry, Tags.empty() );
     }
 
-    MicrometerConnectionPoolMetrics( String poolId, ServerAddress address, IntSupplier inUseSupplier, IntSupplier idleSupplier, MeterRegistry registry, Iterable<Tag> initialTags )
+    MicrometerConnectionPoolMetrics( String poolId, ServerAddress address, IntSupplier inUseSupplier, IntSupplier idleSupplier,
+                                     IntSupplier pendingAcquisitionsSupplier, MeterRegistry registry, Iterable<Tag> initialTags )
     {
         Objects.requireNonNull( poolId );
         Objects.requireNonNull( address );
         Objects.requireNonNull( inUseSupplier );
         Objects.requireNonNull( idleSupplier );
+        Objects.requireNonNull( pendingAcquisitionsSupplier );
         Objects.requireNonNull( registry );
 
         this.id = poolId;
         this.inUseSupplier = inUseSupplier;
         this.idleSupplier = idleSupplier;
+        this.pendingAcquisitionsSupplier = pendingAcquisitionsSupplier;
         String host = address instanceof BoltServerAddress ? ((BoltServerAddress) address).connectionHost() : address.host();
         Iterable<Tag> tags = Tags.concat( initialTags,
                                           "address", String.format( "%s:%d", host, address.port() ) );
@@ -90,10 +102,11 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
         failedToCreate = Counter.builder( FAILED ).tags( tags ).register( registry );
         closed = Counter.builder( CLOSED ).tags( tags ).register( registry );
         Gauge.builder( ACQUIRING, acquiring, AtomicInteger::get ).tags( tags ).register( registry );
+        Gauge.builder( PENDING_ACQUISITIONS, this::pendingAcquisitions ).tags( tags ).register( registry );
         timedOutToAcquire = Counter.builder( ACQUISITION_TIMEOUT ).tags( tags ).register( registry );
-        totalAcquisitionTimer = Timer.builder( ACQUISITION ).tags( tags ).register( registry );
-        totalConnectionTimer = Timer.builder( CREATION ).tags( tags ).register( registry );
-        totalInUseTimer = Timer.builder( USAGE ).tags( tags ).register( registry );
+        totalAcquisitionTimer = Timer.builder( ACQUISITION ).publishPercentiles( PERCENTILES ).tags( tags ).register( registry );
+        totalConnectionTimer = Timer.builder( CREATION ).publishPercentiles( PERCENTILES ).tags( tags ).register( registry );
+        totalInUseTimer = Timer.builder( USAGE ).publishPercentiles( PERCENTILES ).tags( tags ).register( registry );
     }
 
     @Override
@@ -115,7 +128,7 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
     {
         creating.decrementAndGet();
         Timer.Sample sample = ((MicrometerTimerListenerEvent) connEvent).getSample();
-        sample.stop( totalConnectionTimer );
+        record( sample, totalConnectionTimer, connectionTimeHistogram );
     }
 
     @Override
@@ -141,7 +154,7 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
     public void afterAcquiredOrCreated( ListenerEvent<?> acquireEvent )
     {
         Timer.Sample sample = ((MicrometerTimerListenerEvent) acquireEvent).getSample();
-        sample.stop( totalAcquisitionTimer );
+        record( sample, totalAcquisitionTimer, acquisitionTimeHistogram );
     }
 
     @Override
@@ -160,7 +173,7 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
     public void released( ListenerEvent<?> inUseEvent )
     {
         Timer.Sample sample = ((MicrometerTimerListenerEvent) inUseEvent).getSample();
-        sample.stop( totalInUseTimer );
+        record( sample, totalInUseTimer, inUseTimeHistogram );
     }
 
     @Override
@@ -247,15 +260,47 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
         return totalInUseTimer.count();
     }
 
+    @Override
+    public int pendingAcquisitions()
+    {
+        return pendingAcquisitionsSupplier.getAsInt();
+    }
+
+    @Override
+    public DurationHistogram acquisitionTimeHistogram()
+    {
+        return acquisitionTimeHistogram;
+    }
+
+    @Override
+    public DurationHistogram connectionTimeHistogram()
+    {
+        return connectionTimeHistogram;
+    }
+
+    @Override
+    public DurationHistogram inUseTimeHistogram()
+    {
+        return inUseTimeHistogram;
+    }
+
     @Override
     public String toString()
     {
-        return format( "%s=[created=%s, closed=%s, creating=%s, failedToCreate=%s, acquiring=%s, acquired=%s, " +
+        return format( "%s=[created=%s, closed=%s, creating=%s, failedToCreate=%s, acquiring=%s, pendingAcquisitions=%s, acquired=%s, " +
                        "timedOutToAcquire=%s, inUse=%s, idle=%s, " +
-                       "totalAcquisitionTime=%s, totalConnectionTime=%s, totalInUseTime=%s, totalInUseCount=%s]",
-                       id(), created(), closed(), creating(), failedToCreate(), acquiring(), acquired(),
+                       "totalAcquisitionTime=%s, totalConnectionTime=%s, totalInUseTime=%s, totalInUseCount=%s, " +
+                       "acquisitionTimeHistogram=%s, connectionTimeHistogram=%s, inUseTimeHistogram=%s]",
+                       id(), created(), closed(), creating(), failedToCreate(), acquiring(), pendingAcquisitions(), acquired(),
                        timedOutToAcquire(), inUse(), idle(),
-                       totalAcquisitionTime(), totalConnectionTime(), totalInUseTime(), totalInUseCount() );
+                       totalAcquisitionTime(), totalConnectionTime(), totalInUseTime(), totalInUseCount(),
+                       acquisitionTimeHistogram(), connectionTimeHistogram(), inUseTimeHistogram() );
+    }
+
+    private static void record( Timer.Sample sample, Timer timer, InternalDurationHistogram histogram )
+    {
+        long durationNanos = sample.stop( timer );
+        histogram.record( TimeUnit.NANOSECONDS.toMillis( durationNanos ) );
     }
 
     private long count( Counter counter )
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.Objects;
+import java.util.function.IntSupplier;
+
+import org.neo4j.driver.EventLoopShardMetrics;
+
+import static java.lang.String.format;
+
+final class MicrometerEventLoopShardMetrics implements EventLoopShardMetrics
+{
+    public static final String PREFIX = "neo4j.driver.event.loop.shard";
+    public static final String SERVERS = PREFIX + ".servers";
+    public static final String PENDING_TASKS = PREFIX + ".pending.tasks";
+
+    private final String id;
+    private final IntSupplier serversSupplier;
+    private final IntSupplier pendingTasksSupplier;
+
+    MicrometerEventLoopShardMetrics( String shardId, IntSupplier serversSupplier, IntSupplier pendingTasksSupplier, MeterRegistry registry )
+    {
+        this( shardId, serversSupplier, pendingTasksSupplier, registry, Tags.empty() );
+    }
+
+    MicrometerEventLoopShardMetrics( String shardId, IntSupplier serversSupplier, IntSupplier pendingTasksSupplier, MeterRegistry registry,
+                                     Iterable<Tag> initialTags )
+    {
+        Objects.requireNonNull( shardId );
+        Objects.requireNonNull( serversSupplier );
+        Objects.requireNonNull( pendingTasksSupplier );
+        Objects.requireNonNull( registry );
+
+        this.id = shardId;
+        this.serversSupplier = serversSupplier;
+        this.pendingTasksSupplier = pendingTasksSupplier;
+        Iterable<Tag> tags = Tags.concat( initialTags, "shard", shardId );
+
+        Gauge.builder( SERVERS, this::servers ).tags( tags ).register( registry );
+        Gauge.builder( PENDING_TASKS, this::pendingTasks ).tags( tags ).register( registry );
+    }
+
+    @Override
+    public String id()
+    {
+        return id;
+    }
+
+    @Override
+    public int servers()
+    {
+        return serversSupplier.getAsInt();
+    }
+
+    @Override
+    public int pendingTasks()
+    {
+        return pendingTasksSupplier.getAsInt();
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "%s=[servers=%s, pendingTasks=%s]", id(), servers(), pendingTasks() );
+    }
+}
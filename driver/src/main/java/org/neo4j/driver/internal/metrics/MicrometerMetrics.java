@@ -27,6 +27,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.IntSupplier;
 
 import org.neo4j.driver.ConnectionPoolMetrics;
+import org.neo4j.driver.EventLoopShardMetrics;
 import org.neo4j.driver.Metrics;
 import org.neo4j.driver.net.ServerAddress;
 
@@ -34,11 +35,13 @@ final class MicrometerMetrics implements Metrics, MetricsListener
 {
     private final MeterRegistry meterRegistry;
     private final Map<String,ConnectionPoolMetrics> connectionPoolMetrics;
+    private final Map<String,EventLoopShardMetrics> eventLoopShardMetrics;
 
     public MicrometerMetrics( MeterRegistry meterRegistry )
     {
         this.meterRegistry = meterRegistry;
         this.connectionPoolMetrics = new ConcurrentHashMap<>();
+        this.eventLoopShardMetrics = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -47,6 +50,12 @@ final class MicrometerMetrics implements Metrics, MetricsListener
         return Collections.unmodifiableCollection( this.connectionPoolMetrics.values() );
     }
 
+    @Override
+    public Collection<EventLoopShardMetrics> eventLoopShardMetrics()
+    {
+        return Collections.unmodifiableCollection( this.eventLoopShardMetrics.values() );
+    }
+
     @Override
     public void beforeCreating( String poolId, ListenerEvent<?> creatingEvent )
     {
@@ -114,9 +123,10 @@ final class MicrometerMetrics implements Metrics, MetricsListener
     }
 
     @Override
-    public void registerPoolMetrics( String poolId, ServerAddress address, IntSupplier inUseSupplier, IntSupplier idleSupplier )
+    public void registerPoolMetrics( String poolId, ServerAddress address, IntSupplier inUseSupplier, IntSupplier idleSupplier,
+                                     IntSupplier pendingAcquisitionsSupplier )
     {
-        this.connectionPoolMetrics.put( poolId, new MicrometerConnectionPoolMetrics( poolId, address, inUseSupplier, idleSupplier, this.meterRegistry ) );
+        this.connectionPoolMetrics.put( poolId, new MicrometerConnectionPoolMetrics( poolId, address, inUseSupplier, idleSupplier, pendingAcquisitionsSupplier, this.meterRegistry ) );
     }
 
     // For testing purposes only
@@ -131,6 +141,12 @@ final class MicrometerMetrics implements Metrics, MetricsListener
         this.connectionPoolMetrics.remove( poolId );
     }
 
+    @Override
+    public void registerEventLoopShardMetrics( String shardId, IntSupplier serversSupplier, IntSupplier pendingTasksSupplier )
+    {
+        this.eventLoopShardMetrics.put( shardId, new MicrometerEventLoopShardMetrics( shardId, serversSupplier, pendingTasksSupplier, this.meterRegistry ) );
+    }
+
     private ConnectionPoolMetricsListener poolMetricsListener( String poolId )
     {
         ConnectionPoolMetricsListener poolMetrics = (ConnectionPoolMetricsListener) this.connectionPoolMetrics.get( poolId );
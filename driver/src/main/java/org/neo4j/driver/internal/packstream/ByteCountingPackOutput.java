@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.packstream;
+
+/**
+ * A {@link PackOutput} that discards its output and only counts the bytes written to it.
+ * Useful to find out the size of values before they are sent to the server.
+ */
+public class ByteCountingPackOutput implements PackOutput
+{
+    private long count;
+
+    /**
+     * @return the number of bytes written so far.
+     */
+    public long count()
+    {
+        return count;
+    }
+
+    @Override
+    public PackOutput writeByte( byte value )
+    {
+        count += 1;
+        return this;
+    }
+
+    @Override
+    public PackOutput writeBytes( byte[] data )
+    {
+        count += data.length;
+        return this;
+    }
+
+    @Override
+    public PackOutput writeShort( short value )
+    {
+        count += Short.BYTES;
+        return this;
+    }
+
+    @Override
+    public PackOutput writeInt( int value )
+    {
+        count += Integer.BYTES;
+        return this;
+    }
+
+    @Override
+    public PackOutput writeLong( long value )
+    {
+        count += Long.BYTES;
+        return this;
+    }
+
+    @Override
+    public PackOutput writeDouble( double value )
+    {
+        count += Double.BYTES;
+        return this;
+    }
+}
@@ -18,6 +18,8 @@
  */
 package org.neo4j.driver.internal.spi;
 
+import io.netty.channel.EventLoop;
+
 import java.util.concurrent.CompletionStage;
 
 import org.neo4j.driver.AccessMode;
@@ -75,4 +77,14 @@ public interface Connection
     }
 
     void flush();
+
+    /**
+     * Returns the event loop that handles the responses of this connection.
+     *
+     * @return the event loop or {@code null} when this connection is not bound to one.
+     */
+    default EventLoop eventLoop()
+    {
+        return null;
+    }
 }
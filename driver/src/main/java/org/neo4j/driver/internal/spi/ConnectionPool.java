@@ -18,6 +18,8 @@
  */
 package org.neo4j.driver.internal.spi;
 
+import io.netty.channel.EventLoop;
+
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
@@ -30,12 +32,36 @@ public interface ConnectionPool
 
     CompletionStage<Connection> acquire( BoltServerAddress address );
 
+    /**
+     * Acquire a connection towards the given address, preferring connections that are registered on the given event loop.
+     *
+     * @param address the address of the server.
+     * @param preferredEventLoop the preferred event loop or {@code null} when there is no preference.
+     * @return a stage that completes with the acquired connection.
+     */
+    default CompletionStage<Connection> acquire( BoltServerAddress address, EventLoop preferredEventLoop )
+    {
+        return acquire( address );
+    }
+
     void retainAll( Set<BoltServerAddress> addressesToRetain );
 
     int inUseConnections( ServerAddress address );
 
     int idleConnections( ServerAddress address );
 
+    /**
+     * Get the moving average of the time the given server takes to respond to queries.
+     *
+     * @param address the address of the server.
+     * @return the average response time in nanoseconds, an estimate based on the other servers if the server did not respond yet, or {@code 0} if no
+     * response time is known.
+     */
+    default long averageResponseTimeNanos( ServerAddress address )
+    {
+        return 0;
+    }
+
     CompletionStage<Void> close();
 
     boolean isOpen( BoltServerAddress address );
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.net;
+
+import org.neo4j.driver.util.Experimental;
+
+/**
+ * A function used by the routing driver to determine the zone, availability zone or rack for instance, a server is located in.
+ */
+@Experimental
+@FunctionalInterface
+public interface ServerZoneResolver
+{
+    /**
+     * Determine the zone of the server with the given address.
+     * Exceptions thrown by this method will be logged and the server will be considered to be located in a remote zone.
+     *
+     * @param address the address of the server.
+     * @return the zone of the server, or {@code null} if it is unknown.
+     */
+    String zone( ServerAddress address );
+}
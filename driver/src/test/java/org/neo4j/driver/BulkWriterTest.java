@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.AsyncTransaction;
+import org.neo4j.driver.async.AsyncTransactionWork;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.exceptions.ServiceUnavailableException;
+import org.neo4j.driver.summary.ResultSummary;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.nCopies;
+import static java.util.Collections.singletonMap;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.neo4j.driver.internal.InternalBookmark.parse;
+import static org.neo4j.driver.internal.util.Futures.failedFuture;
+
+class BulkWriterTest
+{
+    private static final String QUERY = "UNWIND $rows AS row CREATE (n:Node) SET n = row";
+
+    private final List<Query> queries = Collections.synchronizedList( new ArrayList<>() );
+    private final List<AsyncSession> sessions = Collections.synchronizedList( new ArrayList<>() );
+
+    @Test
+    void shouldSplitRowsIntoBatchesBySize()
+    {
+        Driver driver = driverMock( null );
+        // every row takes 108 bytes when packed, so two rows fit into a batch
+        BulkWriter writer = BulkWriter.builder( driver, QUERY ).withMaxBatchBytes( 250 ).build();
+
+        long rowsWritten = writer.write( rows( 5 ) );
+
+        assertEquals( 5, rowsWritten );
+        assertEquals( asList( 2, 2, 1 ), batchSizes() );
+        assertEquals( 3, sessions.size() );
+    }
+
+    @Test
+    void shouldWriteRowLargerThanBatchSizeInItsOwnBatch()
+    {
+        Driver driver = driverMock( null );
+        BulkWriter writer = BulkWriter.builder( driver, QUERY ).withMaxBatchBytes( 10 ).build();
+
+        long rowsWritten = writer.write( rows( 3 ) );
+
+        assertEquals( 3, rowsWritten );
+        assertEquals( asList( 1, 1, 1 ), batchSizes() );
+    }
+
+    @Test
+    void shouldPassRowsAsQueryParameter()
+    {
+        Driver driver = driverMock( null );
+        BulkWriter writer = BulkWriter.builder( driver, QUERY ).build();
+
+        writer.write( rows( 2 ).iterator() );
+
+        assertEquals( 1, queries.size() );
+        assertEquals( QUERY, queries.get( 0 ).text() );
+        assertEquals( rows( 2 ).collect( Collectors.toList() ), queries.get( 0 ).parameters().get( BulkWriter.ROWS_PARAMETER ).asList( Value::asMap ) );
+    }
+
+    @Test
+    void shouldFailWhenBatchFails()
+    {
+        ServiceUnavailableException error = new ServiceUnavailableException( "Connection lost" );
+        Driver driver = driverMock( error );
+        BulkWriter writer = BulkWriter.builder( driver, QUERY ).withMaxConcurrency( 1 ).withMaxBatchBytes( 10 ).build();
+
+        ServiceUnavailableException e = assertThrows( ServiceUnavailableException.class, () -> writer.write( rows( 3 ) ) );
+
+        assertSame( error, e );
+        assertEquals( 1, sessions.size() );
+        for ( AsyncSession session : sessions )
+        {
+            verify( session ).closeAsync();
+        }
+    }
+
+    @Test
+    void shouldReturnBookmarkOfWrittenBatches()
+    {
+        Driver driver = driverMock( null );
+        BulkWriter writer = BulkWriter.builder( driver, QUERY ).withMaxBatchBytes( 10 ).build();
+
+        writer.write( rows( 2 ) );
+
+        assertEquals( parse( new HashSet<>( asList( "bookmark-1", "bookmark-2" ) ) ), writer.lastBookmark() );
+    }
+
+    @Test
+    void shouldNotKeepBookmarkOfFailedBatch()
+    {
+        Driver driver = driverMock( new ServiceUnavailableException( "Connection lost" ) );
+        BulkWriter writer = BulkWriter.builder( driver, QUERY ).withMaxConcurrency( 1 ).build();
+
+        assertThrows( ServiceUnavailableException.class, () -> writer.write( rows( 1 ) ) );
+
+        assertTrue( writer.lastBookmark().isEmpty() );
+    }
+
+    @Test
+    void shouldKeepBookmarksOfLastBatchesOnly()
+    {
+        Driver driver = driverMock( null );
+        BulkWriter writer = BulkWriter.builder( driver, QUERY ).withMaxConcurrency( 2 ).withMaxBatchBytes( 10 ).build();
+
+        writer.write( rows( 3 ) );
+        writer.write( rows( 2 ) );
+
+        assertEquals( 5, sessions.size() );
+        assertEquals( parse( new HashSet<>( asList( "bookmark-4", "bookmark-5" ) ) ), writer.lastBookmark() );
+    }
+
+    @Test
+    void shouldRejectNonPositiveMaxBatchBytes()
+    {
+        BulkWriter.Builder builder = BulkWriter.builder( mock( Driver.class ), QUERY );
+
+        assertThrows( IllegalArgumentException.class, () -> builder.withMaxBatchBytes( 0 ) );
+        assertThrows( IllegalArgumentException.class, () -> builder.withMaxBatchBytes( -1 ) );
+    }
+
+    @Test
+    void shouldRejectNonPositiveMaxConcurrency()
+    {
+        BulkWriter.Builder builder = BulkWriter.builder( mock( Driver.class ), QUERY );
+
+        assertThrows( IllegalArgumentException.class, () -> builder.withMaxConcurrency( 0 ) );
+        assertThrows( IllegalArgumentException.class, () -> builder.withMaxConcurrency( -1 ) );
+    }
+
+    private List<Integer> batchSizes()
+    {
+        return queries.stream()
+                      .map( query -> query.parameters().get( BulkWriter.ROWS_PARAMETER ).size() )
+                      .collect( Collectors.toList() );
+    }
+
+    private static Stream<Map<String,Object>> rows( int count )
+    {
+        return IntStream.range( 0, count )
+                        .mapToObj( index -> singletonMap( "name", String.join( "", nCopies( 100, String.valueOf( index % 10 ) ) ) ) );
+    }
+
+    private Driver driverMock( RuntimeException failure )
+    {
+        Driver driver = mock( Driver.class );
+        AtomicInteger sessionCount = new AtomicInteger();
+        when( driver.asyncSession( any( SessionConfig.class ) ) ).then( ignore ->
+        {
+            AsyncSession session = mock( AsyncSession.class );
+            when( session.closeAsync() ).thenReturn( completedFuture( null ) );
+            when( session.lastBookmark() ).thenReturn( parse( "bookmark-" + sessionCount.incrementAndGet() ) );
+            doAnswer( invocation ->
+            {
+                if ( failure != null )
+                {
+                    return failedFuture( failure );
+                }
+                AsyncTransactionWork<?> work = invocation.getArgument( 0 );
+                return work.execute( txMock() );
+            } ).when( session ).writeTransactionAsync( any() );
+            sessions.add( session );
+            return session;
+        } );
+        return driver;
+    }
+
+    private AsyncTransaction txMock()
+    {
+        AsyncTransaction tx = mock( AsyncTransaction.class );
+        ResultCursor cursor = mock( ResultCursor.class );
+        when( cursor.consumeAsync() ).thenReturn( completedFuture( mock( ResultSummary.class ) ) );
+        when( tx.runAsync( any( Query.class ) ) ).then( invocation ->
+        {
+            queries.add( invocation.getArgument( 0 ) );
+            return completedFuture( cursor );
+        } );
+        return tx;
+    }
+}
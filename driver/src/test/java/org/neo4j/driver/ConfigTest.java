@@ -33,17 +33,20 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
+import org.neo4j.driver.internal.cluster.RoutingSettings;
 import org.neo4j.driver.internal.logging.ConsoleLogging;
 import org.neo4j.driver.internal.logging.DevNullLogging;
 import org.neo4j.driver.internal.logging.JULogging;
 import org.neo4j.driver.internal.logging.Slf4jLogging;
 import org.neo4j.driver.net.ServerAddressResolver;
+import org.neo4j.driver.net.ServerZoneResolver;
 import org.neo4j.driver.util.TestUtil;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -184,6 +187,252 @@ class ConfigTest
         assertThrows( IllegalArgumentException.class, () -> builder.withConnectionTimeout( Long.MAX_VALUE - 42, TimeUnit.SECONDS ) );
     }
 
+    @Test
+    void shouldNotEnableAdaptiveConnectionPoolSizeByDefault()
+    {
+        Config config = Config.defaultConfig();
+        assertEquals( -1, config.minConnectionPoolSize() );
+    }
+
+    @Test
+    void shouldEnableAdaptiveConnectionPoolSize()
+    {
+        Config config = Config.builder().withAdaptiveConnectionPoolSize( 5 ).build();
+        assertEquals( 5, config.minConnectionPoolSize() );
+    }
+
+    @ParameterizedTest
+    @ValueSource( ints = {0, -1, -100} )
+    void shouldErrorWithIllegalMinConnectionPoolSize( int value )
+    {
+        Config.ConfigBuilder builder = Config.builder();
+
+        assertThrows( IllegalArgumentException.class, () -> builder.withAdaptiveConnectionPoolSize( value ) );
+    }
+
+    @Test
+    void shouldNotEnableEventLoopAffinityByDefault()
+    {
+        assertFalse( Config.defaultConfig().eventLoopAffinityEnabled() );
+    }
+
+    @Test
+    void shouldEnableEventLoopAffinity()
+    {
+        Config config = Config.builder().withEventLoopAffinity().build();
+        assertTrue( config.eventLoopAffinityEnabled() );
+    }
+
+    @Test
+    void shouldNotShardEventLoopsByDefault()
+    {
+        assertEquals( 0, Config.defaultConfig().eventLoopShards() );
+    }
+
+    @Test
+    void shouldShardEventLoops()
+    {
+        Config config = Config.builder().withEventLoopShards( 4 ).build();
+        assertEquals( 4, config.eventLoopShards() );
+    }
+
+    @ParameterizedTest
+    @ValueSource( ints = {0, -1, -100} )
+    void shouldErrorWithIllegalEventLoopShards( int value )
+    {
+        Config.ConfigBuilder builder = Config.builder();
+
+        assertThrows( IllegalArgumentException.class, () -> builder.withEventLoopShards( value ) );
+    }
+
+    @Test
+    void shouldNotEnableLatencyAwareLoadBalancingByDefault()
+    {
+        assertFalse( Config.defaultConfig().latencyAwareLoadBalancingEnabled() );
+    }
+
+    @Test
+    void shouldEnableLatencyAwareLoadBalancing()
+    {
+        Config config = Config.builder().withLatencyAwareLoadBalancing().build();
+        assertTrue( config.latencyAwareLoadBalancingEnabled() );
+    }
+
+    @Test
+    void shouldNotRefreshRoutingTablesInBackgroundByDefault()
+    {
+        assertFalse( Config.defaultConfig().backgroundRoutingTableRefreshEnabled() );
+        assertFalse( Config.defaultConfig().routingSettings().backgroundRefresh() );
+    }
+
+    @Test
+    void shouldRefreshRoutingTablesInBackground()
+    {
+        Config config = Config.builder().withBackgroundRoutingTableRefresh().build();
+        assertTrue( config.backgroundRoutingTableRefreshEnabled() );
+        assertTrue( config.routingSettings().backgroundRefresh() );
+    }
+
+    @Test
+    void shouldNotHedgeRediscoveryByDefault()
+    {
+        assertEquals( -1, Config.defaultConfig().hedgedRediscoveryDelayMillis() );
+        assertEquals( RoutingSettings.HEDGED_REDISCOVERY_DISABLED, Config.defaultConfig().routingSettings().hedgedRediscoveryDelayMs() );
+    }
+
+    @ParameterizedTest
+    @ValueSource( longs = {0, 1, 250} )
+    void shouldHedgeRediscovery( long delay )
+    {
+        Config config = Config.builder().withHedgedRediscovery( delay, TimeUnit.MILLISECONDS ).build();
+        assertEquals( delay, config.hedgedRediscoveryDelayMillis() );
+        assertEquals( delay, config.routingSettings().hedgedRediscoveryDelayMs() );
+    }
+
+    @Test
+    void shouldErrorWithNegativeHedgedRediscoveryDelay()
+    {
+        Config.ConfigBuilder builder = Config.builder();
+
+        assertThrows( IllegalArgumentException.class, () -> builder.withHedgedRediscovery( -1, TimeUnit.SECONDS ) );
+    }
+
+    @Test
+    void shouldNotShareRoutingTableRefreshByDefault()
+    {
+        assertFalse( Config.defaultConfig().sharedRoutingTableRefreshEnabled() );
+        assertFalse( Config.defaultConfig().routingSettings().sharedRefresh() );
+    }
+
+    @Test
+    void shouldShareRoutingTableRefresh()
+    {
+        Config config = Config.builder().withSharedRoutingTableRefresh().build();
+        assertTrue( config.sharedRoutingTableRefreshEnabled() );
+        assertTrue( config.routingSettings().sharedRefresh() );
+    }
+
+    @Test
+    void shouldNotCacheHomeDatabaseByDefault()
+    {
+        assertFalse( Config.defaultConfig().homeDatabaseCacheEnabled() );
+        assertFalse( Config.defaultConfig().routingSettings().homeDatabaseCache() );
+    }
+
+    @Test
+    void shouldCacheHomeDatabase()
+    {
+        Config config = Config.builder().withHomeDatabaseCache().build();
+        assertTrue( config.homeDatabaseCacheEnabled() );
+        assertTrue( config.routingSettings().homeDatabaseCache() );
+    }
+
+    @Test
+    void shouldNotUseServerCircuitBreakerByDefault()
+    {
+        assertEquals( 0, Config.defaultConfig().circuitBreakerFailureThreshold() );
+        assertEquals( RoutingSettings.CIRCUIT_BREAKER_DISABLED, Config.defaultConfig().routingSettings().circuitBreakerFailureThreshold() );
+    }
+
+    @Test
+    void shouldUseServerCircuitBreaker()
+    {
+        Config config = Config.builder().withServerCircuitBreaker( 3, 2, TimeUnit.SECONDS ).build();
+        assertEquals( 3, config.circuitBreakerFailureThreshold() );
+        assertEquals( 2000, config.circuitBreakerProbeIntervalMillis() );
+        assertEquals( 3, config.routingSettings().circuitBreakerFailureThreshold() );
+        assertEquals( 2000, config.routingSettings().circuitBreakerProbeIntervalMs() );
+    }
+
+    @Test
+    void shouldErrorWithIllegalServerCircuitBreakerSettings()
+    {
+        Config.ConfigBuilder builder = Config.builder();
+
+        assertThrows( IllegalArgumentException.class, () -> builder.withServerCircuitBreaker( 0, 2, TimeUnit.SECONDS ) );
+        assertThrows( IllegalArgumentException.class, () -> builder.withServerCircuitBreaker( 3, 0, TimeUnit.SECONDS ) );
+    }
+
+    @Test
+    void shouldNotHedgeReadTransactionsByDefault()
+    {
+        assertEquals( -1, Config.defaultConfig().readTransactionHedgingDelayMillis() );
+    }
+
+    @Test
+    void shouldHedgeReadTransactions()
+    {
+        Config config = Config.builder().withReadTransactionHedging( 1, TimeUnit.SECONDS ).build();
+        assertEquals( 1000, config.readTransactionHedgingDelayMillis() );
+    }
+
+    @Test
+    void shouldErrorWithNegativeReadTransactionHedgingDelay()
+    {
+        Config.ConfigBuilder builder = Config.builder();
+
+        assertThrows( IllegalArgumentException.class, () -> builder.withReadTransactionHedging( -1, TimeUnit.MILLISECONDS ) );
+    }
+
+    @Test
+    void shouldNotUseZoneAwareLoadBalancingByDefault()
+    {
+        assertNull( Config.defaultConfig().localZone() );
+        assertNull( Config.defaultConfig().zoneResolver() );
+    }
+
+    @Test
+    void shouldUseZoneAwareLoadBalancing()
+    {
+        ServerZoneResolver zoneResolver = mock( ServerZoneResolver.class );
+        Config config = Config.builder().withZoneAwareLoadBalancing( "eu-west-1a", zoneResolver ).build();
+        assertEquals( "eu-west-1a", config.localZone() );
+        assertEquals( zoneResolver, config.zoneResolver() );
+    }
+
+    @Test
+    void shouldNotAllowNullLocalZoneOrZoneResolver()
+    {
+        Config.ConfigBuilder builder = Config.builder();
+
+        assertThrows( NullPointerException.class, () -> builder.withZoneAwareLoadBalancing( null, mock( ServerZoneResolver.class ) ) );
+        assertThrows( NullPointerException.class, () -> builder.withZoneAwareLoadBalancing( "eu-west-1a", null ) );
+    }
+
+    @Test
+    void shouldNotCacheDomainNamesByDefault()
+    {
+        assertEquals( 0, Config.defaultConfig().domainNameCacheTtlMillis() );
+    }
+
+    @Test
+    void shouldCacheDomainNames()
+    {
+        Config config = Config.builder().withDomainNameCache( 30, TimeUnit.SECONDS ).build();
+        assertEquals( 30000, config.domainNameCacheTtlMillis() );
+    }
+
+    @Test
+    void shouldErrorWithIllegalDomainNameCacheTtl()
+    {
+        Config.ConfigBuilder builder = Config.builder();
+
+        assertThrows( IllegalArgumentException.class, () -> builder.withDomainNameCache( 0, TimeUnit.SECONDS ) );
+        assertThrows( IllegalArgumentException.class, () -> builder.withDomainNameCache( -1, TimeUnit.SECONDS ) );
+    }
+
+    @Test
+    void shouldNotPipelineTransactionBeginByDefault()
+    {
+        assertFalse( Config.defaultConfig().pipelinedTransactionBeginEnabled() );
+    }
+
+    @Test
+    void shouldPipelineTransactionBegin()
+    {
+        assertTrue( Config.builder().withPipelinedTransactionBegin().build().pipelinedTransactionBeginEnabled() );
+    }
+
     @Test
     void shouldNotAllowNegativeMaxRetryTimeMs()
     {
@@ -406,6 +655,18 @@ class ConfigTest
                                   .withMaxTransactionRetryTime( 3210L, TimeUnit.MILLISECONDS )
                                   .withFetchSize( 9876L )
                                   .withEventLoopThreads( 4 )
+                                  .withAdaptiveConnectionPoolSize( 7 )
+                                  .withEventLoopAffinity()
+                                  .withEventLoopShards( 3 )
+                                  .withLatencyAwareLoadBalancing()
+                                  .withBackgroundRoutingTableRefresh()
+                                  .withHedgedRediscovery( 20, TimeUnit.MILLISECONDS )
+                                  .withSharedRoutingTableRefresh()
+                                  .withHomeDatabaseCache()
+                                  .withServerCircuitBreaker( 3, 500, TimeUnit.MILLISECONDS )
+                                  .withReadTransactionHedging( 30, TimeUnit.MILLISECONDS )
+                                  .withDomainNameCache( 40, TimeUnit.SECONDS )
+                                  .withPipelinedTransactionBegin()
                                   .withoutEncryption()
                                   .withTrustStrategy( Config.TrustStrategy.trustCustomCertificateSignedBy( new File( "doesntMatter" ) ) )
                                   .withUserAgent( "user-agent" )
@@ -418,6 +679,7 @@ class ConfigTest
             Config verify = TestUtil.serializeAndReadBack( config, Config.class );
 
             assertEquals( config.maxConnectionPoolSize(), verify.maxConnectionPoolSize() );
+            assertEquals( config.minConnectionPoolSize(), verify.minConnectionPoolSize() );
             assertEquals( config.connectionTimeoutMillis(), verify.connectionTimeoutMillis() );
             assertEquals( config.connectionAcquisitionTimeoutMillis(), verify.connectionAcquisitionTimeoutMillis() );
             assertEquals( config.idleTimeBeforeConnectionTest(), verify.idleTimeBeforeConnectionTest() );
@@ -427,6 +689,18 @@ class ConfigTest
             assertEquals( config.retrySettings().maxRetryTimeMs(), verify.retrySettings().maxRetryTimeMs() );
             assertEquals( config.fetchSize(), verify.fetchSize() );
             assertEquals( config.eventLoopThreads(), verify.eventLoopThreads() );
+            assertEquals( config.eventLoopAffinityEnabled(), verify.eventLoopAffinityEnabled() );
+            assertEquals( config.eventLoopShards(), verify.eventLoopShards() );
+            assertEquals( config.latencyAwareLoadBalancingEnabled(), verify.latencyAwareLoadBalancingEnabled() );
+            assertEquals( config.backgroundRoutingTableRefreshEnabled(), verify.backgroundRoutingTableRefreshEnabled() );
+            assertEquals( config.hedgedRediscoveryDelayMillis(), verify.hedgedRediscoveryDelayMillis() );
+            assertEquals( config.sharedRoutingTableRefreshEnabled(), verify.sharedRoutingTableRefreshEnabled() );
+            assertEquals( config.homeDatabaseCacheEnabled(), verify.homeDatabaseCacheEnabled() );
+            assertEquals( config.circuitBreakerFailureThreshold(), verify.circuitBreakerFailureThreshold() );
+            assertEquals( config.circuitBreakerProbeIntervalMillis(), verify.circuitBreakerProbeIntervalMillis() );
+            assertEquals( config.readTransactionHedgingDelayMillis(), verify.readTransactionHedgingDelayMillis() );
+            assertEquals( config.domainNameCacheTtlMillis(), verify.domainNameCacheTtlMillis() );
+            assertEquals( config.pipelinedTransactionBeginEnabled(), verify.pipelinedTransactionBeginEnabled() );
             assertEquals( config.encrypted(), verify.encrypted() );
             assertEquals( config.trustStrategy().strategy(), verify.trustStrategy().strategy() );
             assertEquals( config.trustStrategy().certFiles(), verify.trustStrategy().certFiles() );
@@ -47,6 +47,7 @@ import org.neo4j.driver.Transaction;
 import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.ConnectionSettings;
+import org.neo4j.driver.internal.DomainNameResolver;
 import org.neo4j.driver.internal.DriverFactory;
 import org.neo4j.driver.internal.async.connection.ChannelConnector;
 import org.neo4j.driver.internal.async.pool.ConnectionPoolImpl;
@@ -475,14 +476,14 @@ class ConnectionHandlingIT
         @Override
         protected ConnectionPool createConnectionPool( AuthToken authToken, SecurityPlan securityPlan, Bootstrap bootstrap,
                                                        MetricsProvider ignored, Config config, boolean ownsEventLoopGroup,
-                                                       RoutingContext routingContext )
+                                                       RoutingContext routingContext, DomainNameResolver domainNameResolver )
         {
             ConnectionSettings connectionSettings = new ConnectionSettings( authToken, "test", 1000 );
             PoolSettings poolSettings = new PoolSettings( config.maxConnectionPoolSize(),
                     config.connectionAcquisitionTimeoutMillis(), config.maxConnectionLifetimeMillis(),
                     config.idleTimeBeforeConnectionTest() );
             Clock clock = createClock();
-            ChannelConnector connector = super.createConnector( connectionSettings, securityPlan, config, clock, routingContext );
+            ChannelConnector connector = super.createConnector( connectionSettings, securityPlan, config, clock, routingContext, domainNameResolver );
             connectionPool = new MemorizingConnectionPool( connector, bootstrap, poolSettings, config.logging(), clock, ownsEventLoopGroup );
             return connectionPool;
         }
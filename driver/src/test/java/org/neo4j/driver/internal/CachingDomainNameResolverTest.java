@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.neo4j.driver.internal.util.FakeClock;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+
+class CachingDomainNameResolverTest
+{
+    private static final String NAME = "neo4j.example.com";
+    private static final String OTHER_NAME = "other.example.com";
+
+    private final DomainNameResolver delegate = mock( DomainNameResolver.class );
+    private final FakeClock clock = new FakeClock();
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private final CachingDomainNameResolver resolver = new CachingDomainNameResolver( delegate, 1000, clock, refreshes::add, DEV_NULL_LOGGING );
+
+    @Test
+    void shouldResolveNameOnlyOnceWithinTtl() throws Exception
+    {
+        InetAddress[] addresses = addresses( 1 );
+        when( delegate.resolve( NAME ) ).thenReturn( addresses );
+
+        assertArrayEquals( addresses, resolver.resolve( NAME ) );
+        clock.progress( 999 );
+        assertArrayEquals( addresses, resolver.resolve( NAME ) );
+
+        verify( delegate ).resolve( NAME );
+        assertEquals( 0, refreshes.size() );
+    }
+
+    @Test
+    void shouldReturnStaleAddressesAndRefreshInBackgroundAfterTtl() throws Exception
+    {
+        InetAddress[] staleAddresses = addresses( 1 );
+        InetAddress[] freshAddresses = addresses( 2 );
+        when( delegate.resolve( NAME ) ).thenReturn( staleAddresses, freshAddresses );
+        resolver.resolve( NAME );
+        clock.progress( 1000 );
+
+        assertArrayEquals( staleAddresses, resolver.resolve( NAME ) );
+        assertArrayEquals( staleAddresses, resolver.resolve( NAME ) );
+        assertEquals( 1, refreshes.size() );
+
+        refreshes.get( 0 ).run();
+
+        assertArrayEquals( freshAddresses, resolver.resolve( NAME ) );
+        verify( delegate, times( 2 ) ).resolve( NAME );
+    }
+
+    @Test
+    void shouldDropAddressesWhenRefreshFails() throws Exception
+    {
+        when( delegate.resolve( NAME ) ).thenReturn( addresses( 1 ) ).thenThrow( new UnknownHostException( NAME ) );
+        resolver.resolve( NAME );
+        clock.progress( 1000 );
+        resolver.resolve( NAME );
+
+        refreshes.get( 0 ).run();
+
+        assertThrows( UnknownHostException.class, () -> resolver.resolve( NAME ) );
+    }
+
+    @Test
+    void shouldNotCacheFailedResolution() throws Exception
+    {
+        InetAddress[] addresses = addresses( 1 );
+        when( delegate.resolve( NAME ) ).thenThrow( new UnknownHostException( NAME ) ).thenReturn( addresses );
+
+        assertThrows( UnknownHostException.class, () -> resolver.resolve( NAME ) );
+        assertArrayEquals( addresses, resolver.resolve( NAME ) );
+    }
+
+    @Test
+    void shouldEvictNamesNotResolvedForAnotherTtlAfterExpiration() throws Exception
+    {
+        when( delegate.resolve( NAME ) ).thenReturn( addresses( 1 ) );
+        when( delegate.resolve( OTHER_NAME ) ).thenReturn( addresses( 2 ) );
+        resolver.resolve( NAME );
+        clock.progress( 2000 );
+
+        resolver.resolve( OTHER_NAME );
+        resolver.resolve( NAME );
+
+        verify( delegate, times( 2 ) ).resolve( NAME );
+        assertEquals( 0, refreshes.size() );
+    }
+
+    @Test
+    void shouldKeepNamesResolvedWithinTtlAfterExpiration() throws Exception
+    {
+        when( delegate.resolve( NAME ) ).thenReturn( addresses( 1 ) );
+        when( delegate.resolve( OTHER_NAME ) ).thenReturn( addresses( 2 ) );
+        resolver.resolve( NAME );
+        clock.progress( 1999 );
+
+        resolver.resolve( OTHER_NAME );
+        resolver.resolve( NAME );
+
+        verify( delegate ).resolve( NAME );
+        assertEquals( 1, refreshes.size() );
+    }
+
+    @Test
+    void shouldShutDownRefreshExecutorWhenClosed()
+    {
+        ExecutorService refreshExecutor = mock( ExecutorService.class );
+        CachingDomainNameResolver resolver = new CachingDomainNameResolver( delegate, 1000, clock, refreshExecutor, DEV_NULL_LOGGING );
+
+        resolver.close();
+
+        verify( refreshExecutor ).shutdown();
+    }
+
+    private static InetAddress[] addresses( int lastByte ) throws UnknownHostException
+    {
+        return new InetAddress[]{InetAddress.getByAddress( NAME, new byte[]{10, 0, 0, (byte) lastByte} )};
+    }
+}
@@ -76,10 +76,11 @@ class CustomSecurityPlanTest
         @Override
         protected ConnectionPool createConnectionPool( AuthToken authToken, SecurityPlan securityPlan, Bootstrap bootstrap,
                                                        MetricsProvider metricsProvider, Config config, boolean ownsEventLoopGroup,
-                                                       RoutingContext routingContext )
+                                                       RoutingContext routingContext, DomainNameResolver domainNameResolver )
         {
             capturedSecurityPlans.add( securityPlan );
-            return super.createConnectionPool( authToken, securityPlan, bootstrap, metricsProvider, config, ownsEventLoopGroup, routingContext );
+            return super.createConnectionPool( authToken, securityPlan, bootstrap, metricsProvider, config, ownsEventLoopGroup, routingContext,
+                                               domainNameResolver );
         }
     }
 }
@@ -20,9 +20,13 @@ package org.neo4j.driver.internal;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CompletableFuture;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.neo4j.driver.internal.DatabaseNameUtil.DEFAULT_DATABASE_NAME;
 import static org.neo4j.driver.internal.DatabaseNameUtil.SYSTEM_DATABASE_NAME;
+import static org.neo4j.driver.internal.DatabaseNameUtil.completedDatabaseNameFuture;
 import static org.neo4j.driver.internal.DatabaseNameUtil.database;
 import static org.neo4j.driver.internal.DatabaseNameUtil.defaultDatabase;
 import static org.neo4j.driver.internal.DatabaseNameUtil.systemDatabase;
@@ -43,6 +47,16 @@ class DatabaseNameUtilTest
         assertEquals( database( "hello" ), database( "hello" ) );
     }
 
+    @Test
+    void shouldShareCompletedFutureOfDatabaseName()
+    {
+        CompletableFuture<DatabaseName> future = completedDatabaseNameFuture( database( "shared" ) );
+
+        assertSame( future, completedDatabaseNameFuture( database( "shared" ) ) );
+        assertEquals( database( "shared" ), future.getNow( null ) );
+        assertSame( future.getNow( null ), database( "shared" ) );
+    }
+
     @Test
     void shouldReturnDatabaseNameInDescription() throws Throwable
     {
@@ -255,7 +255,7 @@ class DriverFactoryTest
         @Override
         protected ConnectionPool createConnectionPool( AuthToken authToken, SecurityPlan securityPlan, Bootstrap bootstrap,
                                                        MetricsProvider metricsProvider, Config config, boolean ownsEventLoopGroup,
-                                                       RoutingContext routingContext )
+                                                       RoutingContext routingContext, DomainNameResolver domainNameResolver )
         {
             return connectionPool;
         }
@@ -275,23 +275,24 @@ class DriverFactoryTest
 
         @Override
         protected LoadBalancer createLoadBalancer( BoltServerAddress address, ConnectionPool connectionPool,
-                EventExecutorGroup eventExecutorGroup, Config config, RoutingSettings routingSettings )
+                EventExecutorGroup eventExecutorGroup, Config config, RoutingSettings routingSettings, DomainNameResolver domainNameResolver )
         {
             return null;
         }
 
         @Override
         protected SessionFactory createSessionFactory( ConnectionProvider connectionProvider,
-                RetryLogic retryLogic, Config config )
+                RetryLogic retryLogic, EventExecutorGroup eventExecutorGroup, Config config )
         {
-            SessionFactory sessionFactory = super.createSessionFactory( connectionProvider, retryLogic, config );
+            SessionFactory sessionFactory = super.createSessionFactory( connectionProvider, retryLogic, eventExecutorGroup, config );
             capturedSessionFactory = sessionFactory;
             return sessionFactory;
         }
 
         @Override
         protected ConnectionPool createConnectionPool( AuthToken authToken, SecurityPlan securityPlan, Bootstrap bootstrap,
-                MetricsProvider metricsProvider, Config config, boolean ownsEventLoopGroup, RoutingContext routingContext )
+                MetricsProvider metricsProvider, Config config, boolean ownsEventLoopGroup, RoutingContext routingContext,
+                DomainNameResolver domainNameResolver )
         {
             return connectionPoolMock();
         }
@@ -314,14 +315,15 @@ class DriverFactoryTest
 
         @Override
         protected ConnectionPool createConnectionPool( AuthToken authToken, SecurityPlan securityPlan, Bootstrap bootstrap,
-                MetricsProvider metricsProvider, Config config, boolean ownsEventLoopGroup, RoutingContext routingContext )
+                MetricsProvider metricsProvider, Config config, boolean ownsEventLoopGroup, RoutingContext routingContext,
+                DomainNameResolver domainNameResolver )
         {
             return connectionPoolMock();
         }
 
         @Override
         protected SessionFactory createSessionFactory( ConnectionProvider connectionProvider, RetryLogic retryLogic,
-                Config config )
+                EventExecutorGroup eventExecutorGroup, Config config )
         {
             return sessionFactory;
         }
@@ -18,10 +18,17 @@
  */
 package org.neo4j.driver.internal;
 
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutorGroup;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.TimeUnit;
+
 import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Config;
+import org.neo4j.driver.Logging;
+import org.neo4j.driver.TransactionConfig;
+import org.neo4j.driver.exceptions.ServiceUnavailableException;
 import org.neo4j.driver.internal.async.LeakLoggingNetworkSession;
 import org.neo4j.driver.internal.async.NetworkSession;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
@@ -29,9 +36,17 @@ import org.neo4j.driver.internal.util.FixedRetryLogic;
 
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.neo4j.driver.SessionConfig.builder;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+import static org.neo4j.driver.internal.util.Futures.failedFuture;
 
 class SessionFactoryImplTest
 {
@@ -61,6 +76,72 @@ class SessionFactoryImplTest
         assertThat( writeSession, instanceOf( LeakLoggingNetworkSession.class ) );
     }
 
+    @Test
+    void createsSessionsWithoutEventLoopByDefault()
+    {
+        Config config = Config.builder().withLogging( DEV_NULL_LOGGING ).build();
+        EventExecutorGroup eventLoopGroup = mock( EventExecutorGroup.class );
+        ConnectionProvider connectionProvider = connectionProviderMock();
+        SessionFactory factory = new SessionFactoryImpl( connectionProvider, new FixedRetryLogic( 0 ), eventLoopGroup, config );
+
+        factory.newInstance( builder().build() ).beginTransactionAsync( TransactionConfig.empty() );
+
+        verify( connectionProvider ).acquireConnection( argThat( context -> context.eventLoop() == null ) );
+    }
+
+    @Test
+    void createsSessionsPinnedToEventLoopWhenAffinityIsEnabled()
+    {
+        Config config = Config.builder().withLogging( DEV_NULL_LOGGING ).withEventLoopAffinity().build();
+        EventLoop eventLoop = mock( EventLoop.class );
+        EventExecutorGroup eventLoopGroup = mock( EventExecutorGroup.class );
+        when( eventLoopGroup.next() ).thenReturn( eventLoop );
+        ConnectionProvider connectionProvider = connectionProviderMock();
+        SessionFactory factory = new SessionFactoryImpl( connectionProvider, new FixedRetryLogic( 0 ), eventLoopGroup, config );
+
+        factory.newInstance( builder().build() ).beginTransactionAsync( TransactionConfig.empty() );
+
+        verify( connectionProvider ).acquireConnection( argThat( context -> context.eventLoop() == eventLoop ) );
+    }
+
+    @Test
+    void createsSessionsWithoutLoggers()
+    {
+        Logging logging = mock( Logging.class );
+        Config config = Config.builder().withLogging( logging ).build();
+        SessionFactory factory = newSessionFactory( config );
+
+        factory.newInstance( builder().build() );
+        factory.newInstance( builder().withDatabase( "neo4j" ).build() );
+
+        verify( logging, never() ).getLog( any( Class.class ) );
+    }
+
+    @Test
+    void createsSessionsWithoutReadTransactionHedgingByDefault()
+    {
+        Config config = Config.builder().withLogging( DEV_NULL_LOGGING ).build();
+        SessionFactory factory = new SessionFactoryImpl( connectionProviderMock(), new FixedRetryLogic( 0 ), mock( EventExecutorGroup.class ), config );
+
+        assertNull( factory.newInstance( builder().build() ).readTransactionHedging() );
+    }
+
+    @Test
+    void createsSessionsWithReadTransactionHedging()
+    {
+        Config config = Config.builder().withLogging( DEV_NULL_LOGGING ).withReadTransactionHedging( 50, TimeUnit.MILLISECONDS ).build();
+        SessionFactory factory = new SessionFactoryImpl( connectionProviderMock(), new FixedRetryLogic( 0 ), mock( EventExecutorGroup.class ), config );
+
+        assertEquals( 50, factory.newInstance( builder().build() ).readTransactionHedging().delayMs() );
+    }
+
+    private static ConnectionProvider connectionProviderMock()
+    {
+        ConnectionProvider connectionProvider = mock( ConnectionProvider.class );
+        when( connectionProvider.acquireConnection( any() ) ).thenReturn( failedFuture( new ServiceUnavailableException( "Unavailable" ) ) );
+        return connectionProvider;
+    }
+
     private static SessionFactory newSessionFactory( Config config )
     {
         return new SessionFactoryImpl( mock( ConnectionProvider.class ), new FixedRetryLogic( 0 ), config );
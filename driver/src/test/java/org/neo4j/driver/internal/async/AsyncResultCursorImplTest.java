@@ -200,9 +200,9 @@ class AsyncResultCursorImplTest
         Record record1 = new InternalRecord( asList( "key1", "key2", "key3" ), values( 1, 1, 1 ) );
         Record record2 = new InternalRecord( asList( "key1", "key2", "key3" ), values( 2, 2, 2 ) );
         Record record3 = new InternalRecord( asList( "key1", "key2", "key3" ), values( 3, 3, 3 ) );
-        when( pullAllHandler.nextAsync() ).thenReturn( completedFuture( record1 ) )
-                .thenReturn( completedFuture( record2 ) ).thenReturn( completedFuture( record3 ) )
-                .thenReturn( completedWithNull() );
+        when( pullAllHandler.nextBatchAsync() ).thenReturn( completedFuture( asList( record1, record2 ) ) )
+                .thenReturn( completedFuture( singletonList( record3 ) ) )
+                .thenReturn( completedFuture( emptyList() ) );
 
         ResultSummary summary = mock( ResultSummary.class );
         when( pullAllHandler.consumeAsync() ).thenReturn( completedFuture( summary ) );
@@ -222,8 +222,8 @@ class AsyncResultCursorImplTest
         PullAllResponseHandler pullAllHandler = mock( PullAllResponseHandler.class );
 
         Record record = new InternalRecord( asList( "key1", "key2", "key3" ), values( 1, 1, 1 ) );
-        when( pullAllHandler.nextAsync() ).thenReturn( completedFuture( record ) )
-                .thenReturn( completedWithNull() );
+        when( pullAllHandler.nextBatchAsync() ).thenReturn( completedFuture( singletonList( record ) ) )
+                .thenReturn( completedFuture( emptyList() ) );
 
         ResultSummary summary = mock( ResultSummary.class );
         when( pullAllHandler.consumeAsync() ).thenReturn( completedFuture( summary ) );
@@ -241,7 +241,7 @@ class AsyncResultCursorImplTest
     void shouldForEachAsyncWhenResultContainsNoRecords()
     {
         PullAllResponseHandler pullAllHandler = mock( PullAllResponseHandler.class );
-        when( pullAllHandler.nextAsync() ).thenReturn( completedWithNull() );
+        when( pullAllHandler.nextBatchAsync() ).thenReturn( completedFuture( emptyList() ) );
 
         ResultSummary summary = mock( ResultSummary.class );
         when( pullAllHandler.consumeAsync() ).thenReturn( completedFuture( summary ) );
@@ -255,6 +255,35 @@ class AsyncResultCursorImplTest
         assertEquals( 0, records.size() );
     }
 
+    @Test
+    void shouldForEachBatchAsyncWhenBatchesArriveLater()
+    {
+        PullAllResponseHandler pullAllHandler = mock( PullAllResponseHandler.class );
+
+        Record record1 = new InternalRecord( asList( "key1", "key2" ), values( 1, 1 ) );
+        Record record2 = new InternalRecord( asList( "key1", "key2" ), values( 2, 2 ) );
+        Record record3 = new InternalRecord( asList( "key1", "key2" ), values( 3, 3 ) );
+        CompletableFuture<List<Record>> secondBatch = new CompletableFuture<>();
+        when( pullAllHandler.nextBatchAsync() ).thenReturn( completedFuture( singletonList( record1 ) ) )
+                .thenReturn( secondBatch )
+                .thenReturn( completedFuture( emptyList() ) );
+
+        ResultSummary summary = mock( ResultSummary.class );
+        when( pullAllHandler.consumeAsync() ).thenReturn( completedFuture( summary ) );
+
+        AsyncResultCursorImpl cursor = newCursor( pullAllHandler );
+
+        List<List<Record>> batches = new CopyOnWriteArrayList<>();
+        CompletionStage<ResultSummary> summaryStage = cursor.forEachBatchAsync( batches::add );
+        assertEquals( singletonList( singletonList( record1 ) ), batches );
+
+        secondBatch.complete( asList( record2, record3 ) );
+
+        assertEquals( summary, await( summaryStage ) );
+        assertEquals( asList( singletonList( record1 ), asList( record2, record3 ) ), batches );
+        verify( pullAllHandler, times( 3 ) ).nextBatchAsync();
+    }
+
     @Test
     void shouldFailForEachWhenGivenActionThrows()
     {
@@ -263,9 +292,9 @@ class AsyncResultCursorImplTest
         Record record1 = new InternalRecord( asList( "key1", "key2" ), values( 1, 1 ) );
         Record record2 = new InternalRecord( asList( "key1", "key2" ), values( 2, 2 ) );
         Record record3 = new InternalRecord( asList( "key1", "key2" ), values( 3, 3 ) );
-        when( pullAllHandler.nextAsync() ).thenReturn( completedFuture( record1 ) )
-                .thenReturn( completedFuture( record2 ) ).thenReturn( completedFuture( record3 ) )
-                .thenReturn( completedWithNull() );
+        when( pullAllHandler.nextBatchAsync() ).thenReturn( completedFuture( singletonList( record1 ) ) )
+                .thenReturn( completedFuture( singletonList( record2 ) ) ).thenReturn( completedFuture( singletonList( record3 ) ) )
+                .thenReturn( completedFuture( emptyList() ) );
 
         AsyncResultCursorImpl cursor = newCursor( pullAllHandler );
 
@@ -288,7 +317,7 @@ class AsyncResultCursorImplTest
         assertEquals( error, e );
 
         assertEquals( 1, recordsProcessed.get() );
-        verify( pullAllHandler, times( 2 ) ).nextAsync();
+        verify( pullAllHandler, times( 2 ) ).nextBatchAsync();
     }
 
     @Test
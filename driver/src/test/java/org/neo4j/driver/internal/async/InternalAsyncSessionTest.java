@@ -18,13 +18,18 @@
  */
 package org.neo4j.driver.internal.async;
 
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.ScheduledFuture;
 import org.hamcrest.junit.MatcherAssert;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -39,8 +44,11 @@ import org.neo4j.driver.async.AsyncTransactionWork;
 import org.neo4j.driver.async.ResultCursor;
 import org.neo4j.driver.exceptions.ServiceUnavailableException;
 import org.neo4j.driver.exceptions.SessionExpiredException;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.DefaultBookmarkHolder;
 import org.neo4j.driver.internal.InternalBookmark;
 import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.internal.messaging.request.CommitMessage;
 import org.neo4j.driver.internal.messaging.v4.BoltProtocolV4;
 import org.neo4j.driver.internal.retry.RetryLogic;
 import org.neo4j.driver.internal.spi.Connection;
@@ -59,6 +67,10 @@ import static org.junit.Assert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -68,6 +80,9 @@ import static org.mockito.Mockito.when;
 import static org.neo4j.driver.AccessMode.READ;
 import static org.neo4j.driver.AccessMode.WRITE;
 import static org.neo4j.driver.TransactionConfig.empty;
+import static org.neo4j.driver.internal.DatabaseNameUtil.defaultDatabase;
+import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 import static org.neo4j.driver.Values.parameters;
 import static org.neo4j.driver.util.TestUtil.await;
 import static org.neo4j.driver.util.TestUtil.connectionMock;
@@ -241,6 +256,63 @@ class InternalAsyncSessionTest
         assertThat( asyncSession.lastBookmark(), equalTo( session.lastBookmark() ));
     }
 
+    @Test
+    void shouldHedgeSlowReadTransaction()
+    {
+        Connection hedgeConnection = connectionMock( BoltProtocolV4.INSTANCE );
+        when( connectionProvider.acquireConnection( any( ConnectionContext.class ) ) )
+                .thenReturn( completedFuture( connection ) )
+                .thenReturn( completedFuture( hedgeConnection ) );
+        EventExecutorGroup executor = newHedgingExecutorMock();
+        AsyncSession hedgingSession = new InternalAsyncSession( newHedgingSession( executor ) );
+        CompletableFuture<String> firstAttempt = new CompletableFuture<>();
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletionStage<String> result =
+                hedgingSession.readTransactionAsync( tx -> attempts.incrementAndGet() == 1 ? firstAttempt : completedFuture( "b" ) );
+        ArgumentCaptor<Runnable> hedgeCaptor = ArgumentCaptor.forClass( Runnable.class );
+        verify( executor ).schedule( hedgeCaptor.capture(), eq( 100L ), any() );
+        hedgeCaptor.getValue().run();
+
+        assertEquals( "b", await( result ) );
+        verify( connectionProvider ).acquireConnection( argThat( context -> BoltServerAddress.LOCAL_DEFAULT.equals( context.avoidedAddress() ) ) );
+        verifyCommitTx( hedgeConnection );
+        verify( connection ).reset();
+
+        firstAttempt.complete( "a" );
+        verify( connection, never() ).writeAndFlush( any( CommitMessage.class ), any() );
+        verify( connection ).release();
+    }
+
+    @Test
+    void shouldNotHedgeFastReadTransaction()
+    {
+        EventExecutorGroup executor = newHedgingExecutorMock();
+        ScheduledFuture<?> hedge = mock( ScheduledFuture.class );
+        doReturn( hedge ).when( executor ).schedule( any( Runnable.class ), anyLong(), any() );
+        AsyncSession hedgingSession = new InternalAsyncSession( newHedgingSession( executor ) );
+
+        String result = await( hedgingSession.readTransactionAsync( tx -> completedFuture( "a" ) ) );
+
+        assertEquals( "a", result );
+        verify( hedge ).cancel( false );
+        verify( connectionProvider ).acquireConnection( any( ConnectionContext.class ) );
+        verifyCommitTx( connection );
+    }
+
+    private NetworkSession newHedgingSession( EventExecutorGroup executor )
+    {
+        return new NetworkSession( connectionProvider, new FixedRetryLogic( 0 ), defaultDatabase(), READ, new DefaultBookmarkHolder(),
+                                   null, UNLIMITED_FETCH_SIZE, null, new ReadTransactionHedging( 100, executor ), DEV_NULL_LOGGING );
+    }
+
+    private static EventExecutorGroup newHedgingExecutorMock()
+    {
+        EventExecutorGroup executor = mock( EventExecutorGroup.class );
+        doReturn( mock( ScheduledFuture.class ) ).when( executor ).schedule( any( Runnable.class ), anyLong(), any() );
+        return executor;
+    }
+
     private void testTxRollbackWhenThrows( AccessMode transactionMode )
     {
         final RuntimeException error = new IllegalStateException( "Oh!" );
@@ -37,10 +37,12 @@ import java.util.function.Consumer;
 
 import org.neo4j.driver.Query;
 import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.async.connection.BoltServerState;
 import org.neo4j.driver.internal.async.connection.ChannelAttributes;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.async.pool.ExtendedChannelPool;
 import org.neo4j.driver.internal.handlers.NoOpResponseHandler;
+import org.neo4j.driver.internal.messaging.Message;
 import org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage;
 import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
 import org.neo4j.driver.internal.spi.ResponseHandler;
@@ -60,10 +62,12 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.messageDispatcher;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setServerState;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.terminationReason;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 import static org.neo4j.driver.internal.messaging.request.PullAllMessage.PULL_ALL;
 import static org.neo4j.driver.internal.messaging.request.ResetMessage.RESET;
+import static org.neo4j.driver.internal.util.Futures.completedWithNull;
 import static org.neo4j.driver.internal.util.Iterables.single;
 import static org.neo4j.driver.util.DaemonThreadFactory.daemon;
 import static org.neo4j.driver.util.TestUtil.DEFAULT_TEST_PROTOCOL_VERSION;
@@ -110,6 +114,74 @@ class NetworkConnectionTest
         assertEquals( RESET, channel.readOutbound() );
     }
 
+    @Test
+    void shouldNotSendResetOnReleaseWhenServerIsReady()
+    {
+        EmbeddedChannel channel = newChannel();
+        setServerState( channel, BoltServerState.READY );
+        ExtendedChannelPool pool = mock( ExtendedChannelPool.class );
+        when( pool.release( any() ) ).thenReturn( completedWithNull() );
+        NetworkConnection connection = newConnection( channel, pool );
+
+        CompletionStage<Void> releaseStage = connection.release();
+        channel.runPendingTasks();
+
+        assertEquals( 0, channel.outboundMessages().size() );
+        assertTrue( releaseStage.toCompletableFuture().isDone() );
+        verify( pool ).release( channel );
+    }
+
+    @Test
+    void shouldSendResetOnReleaseWhenServerIsStreaming()
+    {
+        EmbeddedChannel channel = newChannel();
+        setServerState( channel, BoltServerState.STREAMING );
+        NetworkConnection connection = newConnection( channel );
+
+        connection.release();
+        channel.runPendingTasks();
+
+        assertEquals( 1, channel.outboundMessages().size() );
+        assertEquals( RESET, channel.readOutbound() );
+    }
+
+    @Test
+    void shouldSendResetOnReleaseWhenResponsesAreOutstanding()
+    {
+        EmbeddedChannel channel = newChannel();
+        setServerState( channel, BoltServerState.READY );
+        NetworkConnection connection = newConnection( channel );
+        connection.writeAndFlush( RunWithMetadataMessage.unmanagedTxRunMessage( new Query( "RETURN 1" ) ),
+                                  NO_OP_HANDLER, PULL_ALL, NO_OP_HANDLER );
+
+        connection.release();
+        channel.runPendingTasks();
+
+        assertEquals( 3, channel.outboundMessages().size() );
+        assertEquals( RESET, channel.outboundMessages().toArray()[2] );
+    }
+
+    @Test
+    void shouldNotSendResetOnReleaseWhenResultIsConsumed()
+    {
+        EmbeddedChannel channel = newChannel();
+        setServerState( channel, BoltServerState.READY );
+        ExtendedChannelPool pool = mock( ExtendedChannelPool.class );
+        when( pool.release( any() ) ).thenReturn( completedWithNull() );
+        NetworkConnection connection = newConnection( channel, pool );
+        connection.writeAndFlush( RunWithMetadataMessage.unmanagedTxRunMessage( new Query( "RETURN 1" ) ),
+                                  NO_OP_HANDLER, PULL_ALL, NO_OP_HANDLER );
+        channel.runPendingTasks();
+        messageDispatcher( channel ).handleSuccessMessage( emptyMap() );
+        messageDispatcher( channel ).handleSuccessMessage( emptyMap() );
+
+        connection.release();
+        channel.runPendingTasks();
+
+        assertEquals( 2, channel.outboundMessages().size() );
+        verify( pool ).release( channel );
+    }
+
     @Test
     void shouldWriteInEventLoopThread() throws Exception
     {
@@ -668,10 +740,10 @@ class NetworkConnectionTest
         }
 
         @Override
-        public void enqueue( ResponseHandler handler )
+        public void enqueue( ResponseHandler handler, Message request )
         {
             queueThreadNames.add( Thread.currentThread().getName() );
-            super.enqueue( handler );
+            super.enqueue( handler, request );
         }
 
     }
@@ -36,7 +36,9 @@ import org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage;
 import org.neo4j.driver.internal.messaging.v4.BoltProtocolV4;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
+import org.neo4j.driver.internal.spi.ResponseHandler;
 
+import static java.util.Collections.emptyMap;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -48,6 +50,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
@@ -186,6 +189,41 @@ class NetworkSessionTest
         verify( connectionProvider ).acquireConnection( any( ConnectionContext.class ) );
     }
 
+    @Test
+    void acquiresNewConnectionForEachRunAfterPreviousResultIsConsumed()
+    {
+        setupSuccessfulRunAndPull( connection );
+
+        run( session, "RETURN 1" );
+        run( session, "RETURN 2" );
+
+        verify( connectionProvider, times( 2 ) ).acquireConnection( any( ConnectionContext.class ) );
+    }
+
+    @Test
+    void runFailsWithUnconsumedFailureOfPreviousResult()
+    {
+        ClientException error = new ClientException( "Neo.ClientError.Statement.ArithmeticError", "/ by zero" );
+        doAnswer( invocation ->
+                  {
+                      ResponseHandler runHandler = invocation.getArgument( 1 );
+                      runHandler.onSuccess( emptyMap() );
+                      return null;
+                  } ).when( connection ).write( any( RunWithMetadataMessage.class ), any() );
+        doAnswer( invocation ->
+                  {
+                      ResponseHandler pullHandler = invocation.getArgument( 1 );
+                      pullHandler.onFailure( error );
+                      return null;
+                  } ).when( connection ).writeAndFlush( any( PullMessage.class ), any() );
+
+        run( session, "RETURN 1 / 0" );
+        ClientException e = assertThrows( ClientException.class, () -> run( session, "RETURN 1" ) );
+
+        assertEquals( error, e );
+        verify( connectionProvider ).acquireConnection( any( ConnectionContext.class ) );
+    }
+
     @Test
     void releasesOpenConnectionUsedForRunWhenSessionIsClosed()
     {
@@ -35,6 +35,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.util.TestUtil.await;
 
@@ -136,6 +138,20 @@ class ResultCursorsHolderTest
         assertEquals( error1, await( failureFuture ) );
     }
 
+    @Test
+    void shouldNotKeepCursorsCompletedWithoutFailure()
+    {
+        ResultCursorsHolder holder = new ResultCursorsHolder();
+        AsyncResultCursorImpl completedCursor = mock( AsyncResultCursorImpl.class );
+        when( completedCursor.isCompletedWithoutFailure() ).thenReturn( true );
+
+        holder.add( completedFuture( completedCursor ) );
+        holder.add( cursorWithoutError() );
+
+        assertNull( await( holder.retrieveNotConsumedError() ) );
+        verify( completedCursor, never() ).discardAllFailureAsync();
+    }
+
     private static CompletionStage<AsyncResultCursorImpl> cursorWithoutError()
     {
         return cursorWithError( null );
@@ -24,6 +24,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InOrder;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
@@ -34,6 +35,7 @@ import java.util.stream.Stream;
 import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.Query;
 import org.neo4j.driver.TransactionConfig;
+import org.neo4j.driver.async.ResultCursor;
 import org.neo4j.driver.exceptions.AuthorizationExpiredException;
 import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.exceptions.ConnectionReadTimeoutException;
@@ -41,10 +43,14 @@ import org.neo4j.driver.internal.DefaultBookmarkHolder;
 import org.neo4j.driver.internal.FailableCursor;
 import org.neo4j.driver.internal.InternalBookmark;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
+import org.neo4j.driver.internal.messaging.request.CommitMessage;
+import org.neo4j.driver.internal.messaging.request.PullMessage;
+import org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage;
 import org.neo4j.driver.internal.messaging.v4.BoltProtocolV4;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ResponseHandler;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -73,6 +79,7 @@ import static org.neo4j.driver.util.TestUtil.connectionMock;
 import static org.neo4j.driver.util.TestUtil.setupSuccessfulRunAndPull;
 import static org.neo4j.driver.util.TestUtil.setupSuccessfulRunRx;
 import static org.neo4j.driver.util.TestUtil.verifyBeginTx;
+import static org.neo4j.driver.util.TestUtil.verifyCommitTx;
 import static org.neo4j.driver.util.TestUtil.verifyRollbackTx;
 import static org.neo4j.driver.util.TestUtil.verifyRunAndPull;
 import static org.neo4j.driver.util.TestUtil.verifyRunRx;
@@ -208,6 +215,119 @@ class UnmanagedTransactionTest
         verify( connection, never() ).release();
     }
 
+    @Test
+    void shouldWriteBeginWithoutFlushingWhenPipelined()
+    {
+        Connection connection = connectionMock();
+        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarkHolder(), UNLIMITED_FETCH_SIZE );
+
+        tx.beginPipelined( InternalBookmark.parse( "SomeBookmark" ), TransactionConfig.empty() );
+
+        verify( connection ).write( argThat( beginMessage() ), any() );
+        verify( connection, never() ).writeAndFlush( argThat( beginMessage() ), any() );
+        assertTrue( tx.isOpen() );
+    }
+
+    @Test
+    void shouldTerminateWhenPipelinedBeginFails()
+    {
+        RuntimeException error = new RuntimeException( "Wrong bookmark!" );
+        Connection connection = connectionMock();
+        doAnswer( invocation ->
+                  {
+                      ResponseHandler beginHandler = invocation.getArgument( 1 );
+                      beginHandler.onFailure( error );
+                      return null;
+                  } ).when( connection ).write( argThat( beginMessage() ), any() );
+        UnmanagedTransaction tx = new UnmanagedTransaction( connection, new DefaultBookmarkHolder(), UNLIMITED_FETCH_SIZE );
+
+        tx.beginPipelined( InternalBookmark.parse( "SomeBookmark" ), TransactionConfig.empty() );
+
+        ClientException e = assertThrows( ClientException.class, () -> tx.runAsync( new Query( "RETURN 1" ) ) );
+        assertEquals( error, e.getCause() );
+        verify( connection, never() ).release();
+
+        await( tx.closeAsync() );
+
+        verify( connection ).release();
+        verify( connection, never() ).writeAndFlush( any(), any() );
+    }
+
+    @Test
+    void shouldRunBatchWithSingleFlush()
+    {
+        Connection connection = connectionMock( BoltProtocolV4.INSTANCE );
+        UnmanagedTransaction tx = beginTx( connection );
+        doAnswer( invocation ->
+                  {
+                      ResponseHandler runHandler = invocation.getArgument( 1 );
+                      runHandler.onSuccess( emptyMap() );
+                      return null;
+                  } ).when( connection ).write( any( RunWithMetadataMessage.class ), any() );
+
+        List<ResultCursor> cursors = await( tx.runBatchAsync( asList( new Query( "CREATE (a)" ), new Query( "CREATE (b)" ) ) ) );
+
+        assertEquals( 2, cursors.size() );
+        InOrder order = inOrder( connection );
+        order.verify( connection ).write( any( RunWithMetadataMessage.class ), any() );
+        order.verify( connection ).write( any( PullMessage.class ), any() );
+        order.verify( connection ).write( any( RunWithMetadataMessage.class ), any() );
+        order.verify( connection ).write( any( PullMessage.class ), any() );
+        order.verify( connection ).flush();
+        verify( connection, never() ).writeAndFlush( any( RunWithMetadataMessage.class ), any() );
+        verify( connection, never() ).writeAndFlush( any( PullMessage.class ), any() );
+    }
+
+    @Test
+    void shouldFailBatchWhenQueryFails()
+    {
+        Connection connection = connectionMock( BoltProtocolV4.INSTANCE );
+        UnmanagedTransaction tx = beginTx( connection );
+        ClientException error = new ClientException( "Neo.ClientError.Statement.SyntaxError", "Invalid syntax" );
+        doAnswer( invocation ->
+                  {
+                      ResponseHandler runHandler = invocation.getArgument( 1 );
+                      runHandler.onFailure( error );
+                      return null;
+                  } ).when( connection ).write( any( RunWithMetadataMessage.class ), any() );
+
+        ClientException e = assertThrows( ClientException.class,
+                                          () -> await( tx.runBatchAsync( asList( new Query( "CREAT (a)" ), new Query( "CREATE (b)" ) ) ) ) );
+
+        assertSame( error, e );
+        verify( connection ).flush();
+    }
+
+    @Test
+    void shouldCommitWithoutWaitingForResultOfLastQuery()
+    {
+        Connection connection = connectionMock( BoltProtocolV4.INSTANCE );
+        UnmanagedTransaction tx = beginTx( connection );
+
+        CompletionStage<ResultCursor> cursorStage = tx.runAndCommitAsync( new Query( "CREATE (n)" ) );
+
+        InOrder order = inOrder( connection );
+        order.verify( connection ).write( any( RunWithMetadataMessage.class ), any() );
+        order.verify( connection ).writeAndFlush( any( PullMessage.class ), any() );
+        order.verify( connection ).writeAndFlush( any( CommitMessage.class ), any() );
+        assertFalse( cursorStage.toCompletableFuture().isDone() );
+    }
+
+    @Test
+    void shouldReturnResultOfLastQueryWhenCommitted()
+    {
+        Connection connection = connectionMock( BoltProtocolV4.INSTANCE );
+        UnmanagedTransaction tx = beginTx( connection );
+        setupSuccessfulRunAndPull( connection );
+
+        ResultCursor cursor = await( tx.runAndCommitAsync( new Query( "RETURN 1" ) ) );
+
+        assertNotNull( cursor );
+        assertFalse( tx.isOpen() );
+        verifyCommitTx( connection );
+        verify( connection ).release();
+    }
+
     @Test
     void shouldReleaseConnectionWhenTerminatedAndCommitted()
     {
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.connection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.TransactionConfig;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.InternalBookmark;
+import org.neo4j.driver.internal.messaging.request.BeginMessage;
+import org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage;
+
+import static java.util.Collections.emptyMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.neo4j.driver.Values.value;
+import static org.neo4j.driver.internal.DatabaseNameUtil.defaultDatabase;
+import static org.neo4j.driver.internal.async.connection.BoltServerState.FAILED;
+import static org.neo4j.driver.internal.async.connection.BoltServerState.READY;
+import static org.neo4j.driver.internal.async.connection.BoltServerState.STREAMING;
+import static org.neo4j.driver.internal.async.connection.BoltServerState.TX_READY;
+import static org.neo4j.driver.internal.async.connection.BoltServerState.TX_STREAMING;
+import static org.neo4j.driver.internal.messaging.request.CommitMessage.COMMIT;
+import static org.neo4j.driver.internal.messaging.request.DiscardAllMessage.DISCARD_ALL;
+import static org.neo4j.driver.internal.messaging.request.PullAllMessage.PULL_ALL;
+import static org.neo4j.driver.internal.messaging.request.ResetMessage.RESET;
+import static org.neo4j.driver.internal.messaging.request.RollbackMessage.ROLLBACK;
+
+class BoltServerStateTest
+{
+    private static final BeginMessage BEGIN =
+            new BeginMessage( InternalBookmark.empty(), TransactionConfig.empty(), defaultDatabase(), AccessMode.WRITE, null );
+    private static final RunWithMetadataMessage RUN = RunWithMetadataMessage.unmanagedTxRunMessage( new Query( "RETURN 1" ) );
+    private static final Map<String,Value> HAS_MORE = Collections.singletonMap( "has_more", value( true ) );
+
+    @Test
+    void shouldStreamAfterAutoCommitRun()
+    {
+        assertEquals( STREAMING, READY.onSuccess( RUN, emptyMap() ) );
+    }
+
+    @Test
+    void shouldBeReadyWhenAutoCommitResultIsConsumed()
+    {
+        assertEquals( READY, STREAMING.onSuccess( PULL_ALL, emptyMap() ) );
+        assertEquals( READY, STREAMING.onSuccess( DISCARD_ALL, emptyMap() ) );
+    }
+
+    @Test
+    void shouldKeepStreamingWhenServerHasMoreRecords()
+    {
+        assertEquals( STREAMING, STREAMING.onSuccess( PULL_ALL, HAS_MORE ) );
+        assertEquals( TX_STREAMING, TX_STREAMING.onSuccess( PULL_ALL, HAS_MORE ) );
+    }
+
+    @Test
+    void shouldTrackExplicitTransaction()
+    {
+        BoltServerState state = READY.onSuccess( BEGIN, emptyMap() );
+        assertEquals( TX_READY, state );
+
+        state = state.onSuccess( RUN, emptyMap() );
+        assertEquals( TX_STREAMING, state );
+
+        state = state.onSuccess( PULL_ALL, emptyMap() );
+        assertEquals( TX_READY, state );
+
+        assertEquals( READY, state.onSuccess( COMMIT, emptyMap() ) );
+        assertEquals( READY, state.onSuccess( ROLLBACK, emptyMap() ) );
+    }
+
+    @Test
+    void shouldBeReadyAfterReset()
+    {
+        for ( BoltServerState state : BoltServerState.values() )
+        {
+            assertEquals( READY, state.onSuccess( RESET, emptyMap() ) );
+        }
+    }
+
+    @Test
+    void shouldNotChangeWhenRequestIsUnknown()
+    {
+        assertEquals( FAILED, FAILED.onSuccess( null, emptyMap() ) );
+        assertEquals( TX_STREAMING, TX_STREAMING.onSuccess( null, emptyMap() ) );
+    }
+}
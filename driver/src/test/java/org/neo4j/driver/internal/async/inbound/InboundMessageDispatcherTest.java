@@ -21,6 +21,7 @@ package org.neo4j.driver.internal.async.inbound;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelConfig;
 import io.netty.channel.DefaultChannelId;
+import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.util.Attribute;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -33,10 +34,12 @@ import java.util.Map;
 
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
+import org.neo4j.driver.Query;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
 import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.exceptions.Neo4jException;
+import org.neo4j.driver.internal.async.connection.ResponseTimeListener;
 import org.neo4j.driver.internal.logging.ChannelActivityLogger;
 import org.neo4j.driver.internal.logging.ChannelErrorLogger;
 import org.neo4j.driver.internal.messaging.Message;
@@ -54,6 +57,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -66,8 +70,13 @@ import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.Values.value;
+import static org.neo4j.driver.internal.BoltServerAddress.LOCAL_DEFAULT;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setResponseTimeListener;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setServerAddress;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+import static org.neo4j.driver.internal.messaging.request.PullAllMessage.PULL_ALL;
 import static org.neo4j.driver.internal.messaging.request.ResetMessage.RESET;
+import static org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage.unmanagedTxRunMessage;
 
 class InboundMessageDispatcherTest
 {
@@ -440,6 +449,60 @@ class InboundMessageDispatcherTest
         verify( errorLogger ).debug( contains( throwable.getClass().toString() ) );
     }
 
+    @Test
+    void shouldNotifyResponseTimeListenerOnSuccessOfRun()
+    {
+        ResponseTimeListener listener = mock( ResponseTimeListener.class );
+        InboundMessageDispatcher dispatcher = newDispatcher( newChannelWithResponseTimeListener( listener ) );
+
+        dispatcher.enqueue( mock( ResponseHandler.class ), unmanagedTxRunMessage( new Query( "RETURN 1" ) ) );
+        dispatcher.enqueue( mock( ResponseHandler.class ), PULL_ALL );
+        dispatcher.handleSuccessMessage( emptyMap() );
+        dispatcher.handleSuccessMessage( emptyMap() );
+
+        verify( listener ).onResponse( eq( LOCAL_DEFAULT ), anyLong() );
+    }
+
+    @Test
+    void shouldNotifyResponseTimeListenerOnFailureOfRun()
+    {
+        ResponseTimeListener listener = mock( ResponseTimeListener.class );
+        InboundMessageDispatcher dispatcher = newDispatcher( newChannelWithResponseTimeListener( listener ) );
+
+        dispatcher.enqueue( mock( ResponseHandler.class ), unmanagedTxRunMessage( new Query( "RETURN 1" ) ) );
+        dispatcher.handleFailureMessage( "Neo.ClientError.Statement.SyntaxError", "Invalid syntax" );
+
+        verify( listener ).onResponse( eq( LOCAL_DEFAULT ), anyLong() );
+    }
+
+    @Test
+    void shouldNotNotifyResponseTimeListenerWhenRunIsIgnored()
+    {
+        ResponseTimeListener listener = mock( ResponseTimeListener.class );
+        InboundMessageDispatcher dispatcher = newDispatcher( newChannelWithResponseTimeListener( listener ) );
+
+        dispatcher.enqueue( mock( ResponseHandler.class ), PULL_ALL );
+        dispatcher.enqueue( mock( ResponseHandler.class ), unmanagedTxRunMessage( new Query( "RETURN 1" ) ) );
+        dispatcher.handleFailureMessage( "Neo.ClientError.Statement.SyntaxError", "Invalid syntax" );
+        dispatcher.handleIgnoredMessage();
+
+        verify( listener, never() ).onResponse( any(), anyLong() );
+    }
+
+    @Test
+    void shouldNotTrackRunEnqueuedWithoutResponseTimeListener()
+    {
+        Channel channel = newChannelWithResponseTimeListener( null );
+        InboundMessageDispatcher dispatcher = newDispatcher( channel );
+
+        dispatcher.enqueue( mock( ResponseHandler.class ), unmanagedTxRunMessage( new Query( "RETURN 1" ) ) );
+        ResponseTimeListener listener = mock( ResponseTimeListener.class );
+        setResponseTimeListener( channel, listener );
+        dispatcher.handleSuccessMessage( emptyMap() );
+
+        verify( listener, never() ).onResponse( any(), anyLong() );
+    }
+
     private static void verifyFailure( ResponseHandler handler )
     {
         ArgumentCaptor<Neo4jException> captor = ArgumentCaptor.forClass( Neo4jException.class );
@@ -470,6 +533,14 @@ class InboundMessageDispatcherTest
         return channel;
     }
 
+    private static Channel newChannelWithResponseTimeListener( ResponseTimeListener listener )
+    {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        setServerAddress( channel, LOCAL_DEFAULT );
+        setResponseTimeListener( channel, listener );
+        return channel;
+    }
+
     private static ResponseHandler newAutoReadManagingResponseHandler()
     {
         ResponseHandler handler = mock( ResponseHandler.class );
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.pool;
+
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeoutException;
+
+import org.neo4j.driver.internal.util.FakeClock;
+import org.neo4j.driver.internal.util.ImmediateSchedulingEventExecutor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.neo4j.driver.internal.util.Futures.completedWithNull;
+import static org.neo4j.driver.util.TestUtil.await;
+
+class AdaptiveChannelPoolTest
+{
+    private final EmbeddedChannel channel = new EmbeddedChannel();
+    private final FakeClock clock = new FakeClock();
+    private ExtendedChannelPool delegate;
+
+    @BeforeEach
+    void setUp()
+    {
+        delegate = mock( ExtendedChannelPool.class );
+        when( delegate.acquire() ).thenReturn( CompletableFuture.completedFuture( channel ) );
+        when( delegate.release( any() ) ).thenReturn( completedWithNull() );
+        when( delegate.close() ).thenReturn( completedWithNull() );
+    }
+
+    @AfterEach
+    void tearDown()
+    {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void shouldAcquireFromDelegateBelowLimit()
+    {
+        AdaptiveChannelPool pool = newPool( 2, 2, -1 );
+
+        assertSame( channel, await( pool.acquire() ) );
+        assertSame( channel, await( pool.acquire() ) );
+
+        verify( delegate, times( 2 ) ).acquire();
+        assertEquals( 0, pool.pendingAcquisitions() );
+    }
+
+    @Test
+    void shouldQueueAcquisitionAboveLimitUntilRelease()
+    {
+        AdaptiveChannelPool pool = newPool( 1, 1, -1 );
+        Channel acquired = await( pool.acquire() );
+
+        CompletionStage<Channel> pending = pool.acquire();
+
+        assertFalse( pending.toCompletableFuture().isDone() );
+        assertEquals( 1, pool.pendingAcquisitions() );
+
+        await( pool.release( acquired ) );
+
+        assertSame( channel, await( pending ) );
+        assertEquals( 0, pool.pendingAcquisitions() );
+        verify( delegate, times( 2 ) ).acquire();
+    }
+
+    @Test
+    void shouldFailImmediatelyAboveLimitWhenTimeoutIsZero()
+    {
+        AdaptiveChannelPool pool = newPool( 1, 1, 0 );
+        await( pool.acquire() );
+
+        CompletionStage<Channel> pending = pool.acquire();
+
+        assertThrows( TimeoutException.class, () -> await( pending ) );
+    }
+
+    @Test
+    void shouldTimeOutQueuedAcquisition()
+    {
+        ImmediateSchedulingEventExecutor executor = new ImmediateSchedulingEventExecutor();
+        AdaptiveChannelPool pool = new AdaptiveChannelPool( delegate, new AdaptiveConnectionLimit( 1, 1 ), executor, clock, 42 );
+        await( pool.acquire() );
+
+        CompletionStage<Channel> pending = pool.acquire();
+
+        assertThrows( TimeoutException.class, () -> await( pending ) );
+        assertEquals( 42, executor.scheduleDelays().get( 0 ) );
+        assertEquals( 0, pool.pendingAcquisitions() );
+    }
+
+    @Test
+    void shouldReleasePermitWhenDelegateFails()
+    {
+        CompletableFuture<Channel> failed = new CompletableFuture<>();
+        failed.completeExceptionally( new RuntimeException( "Connection refused" ) );
+        when( delegate.acquire() ).thenReturn( failed ).thenReturn( CompletableFuture.completedFuture( channel ) );
+        AdaptiveChannelPool pool = newPool( 1, 1, -1 );
+
+        assertThrows( RuntimeException.class, () -> await( pool.acquire() ) );
+
+        assertSame( channel, await( pool.acquire() ) );
+    }
+
+    @Test
+    void shouldFailQueuedAcquisitionsOnClose()
+    {
+        AdaptiveChannelPool pool = newPool( 1, 1, -1 );
+        await( pool.acquire() );
+        CompletionStage<Channel> pending = pool.acquire();
+
+        await( pool.close() );
+
+        assertThrows( IllegalStateException.class, () -> await( pending ) );
+    }
+
+    @Test
+    void shouldGrowLimitWhenThereIsDemand()
+    {
+        AdaptiveChannelPool pool = newPool( 1, 100, -1 );
+        int initialLimit = pool.currentLimit();
+        for ( int i = 0; i < initialLimit; i++ )
+        {
+            await( pool.acquire() );
+        }
+        CompletionStage<Channel> pending = pool.acquire();
+        clock.progress( 10 );
+
+        await( pool.release( channel ) );
+
+        assertEquals( initialLimit + 1, pool.currentLimit() );
+        assertSame( channel, await( pending ) );
+    }
+
+    @Test
+    void shouldShrinkLimitWhenReleasedChannelIsBroken()
+    {
+        AdaptiveChannelPool pool = newPool( 1, 100, -1 );
+        int initialLimit = pool.currentLimit();
+        Channel acquired = await( pool.acquire() );
+        acquired.close();
+
+        await( pool.release( acquired ) );
+
+        assertTrue( pool.currentLimit() < initialLimit );
+    }
+
+    private AdaptiveChannelPool newPool( int min, int max, long acquisitionTimeout )
+    {
+        return new AdaptiveChannelPool( delegate, new AdaptiveConnectionLimit( min, max ), new ImmediateSchedulingEventExecutor(), clock,
+                                        acquisitionTimeout );
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.pool;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConnectionLimitTest
+{
+    @Test
+    void shouldStartWithDefaultInitialLimitWithinRange()
+    {
+        assertEquals( AdaptiveConnectionLimit.DEFAULT_INITIAL_LIMIT, new AdaptiveConnectionLimit( 1, 100 ).limit() );
+        assertEquals( 5, new AdaptiveConnectionLimit( 1, 5 ).limit() );
+        assertEquals( 20, new AdaptiveConnectionLimit( 20, 100 ).limit() );
+    }
+
+    @Test
+    void shouldFailForInvalidRange()
+    {
+        assertThrows( IllegalArgumentException.class, () -> new AdaptiveConnectionLimit( 0, 10 ) );
+        assertThrows( IllegalArgumentException.class, () -> new AdaptiveConnectionLimit( 11, 10 ) );
+    }
+
+    @Test
+    void shouldGrowWhenSaturatedAndLatencyIsStable()
+    {
+        AdaptiveConnectionLimit limit = new AdaptiveConnectionLimit( 1, 100 );
+
+        for ( int i = 0; i < 50; i++ )
+        {
+            limit.onSample( 10, limit.limit(), true );
+        }
+
+        assertEquals( 60, limit.limit() );
+    }
+
+    @Test
+    void shouldNotGrowWithoutDemand()
+    {
+        AdaptiveConnectionLimit limit = new AdaptiveConnectionLimit( 1, 100 );
+
+        for ( int i = 0; i < 50; i++ )
+        {
+            limit.onSample( 10, 1, false );
+        }
+
+        assertEquals( AdaptiveConnectionLimit.DEFAULT_INITIAL_LIMIT, limit.limit() );
+    }
+
+    @Test
+    void shouldNotGrowAboveMax()
+    {
+        AdaptiveConnectionLimit limit = new AdaptiveConnectionLimit( 1, 15 );
+
+        for ( int i = 0; i < 50; i++ )
+        {
+            limit.onSample( 10, limit.limit(), true );
+        }
+
+        assertEquals( 15, limit.limit() );
+    }
+
+    @Test
+    void shouldShrinkWhenLatencyInflates()
+    {
+        AdaptiveConnectionLimit limit = new AdaptiveConnectionLimit( 2, 100 );
+        for ( int i = 0; i < 50; i++ )
+        {
+            limit.onSample( 10, limit.limit(), true );
+        }
+        int grownLimit = limit.limit();
+
+        for ( int i = 0; i < 100; i++ )
+        {
+            limit.onSample( 100, limit.limit(), true );
+        }
+
+        assertTrue( limit.limit() < grownLimit );
+    }
+
+    @Test
+    void shouldNotShrinkBelowMin()
+    {
+        AdaptiveConnectionLimit limit = new AdaptiveConnectionLimit( 8, 100 );
+
+        for ( int i = 0; i < 100; i++ )
+        {
+            limit.onError();
+        }
+
+        assertEquals( 8, limit.limit() );
+    }
+
+    @Test
+    void shouldBackOffOnError()
+    {
+        AdaptiveConnectionLimit limit = new AdaptiveConnectionLimit( 1, 100 );
+
+        limit.onError();
+
+        assertEquals( 9, limit.limit() );
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.pool;
+
+import io.netty.channel.EventLoopGroup;
+import org.junit.jupiter.api.Test;
+
+import org.neo4j.driver.internal.BoltServerAddress;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.neo4j.driver.util.TestUtil.await;
+
+class EventLoopShardsTest
+{
+    private static final BoltServerAddress A = new BoltServerAddress( "a", 7687 );
+    private static final BoltServerAddress B = new BoltServerAddress( "b", 7687 );
+    private static final BoltServerAddress C = new BoltServerAddress( "c", 7687 );
+
+    @Test
+    void shouldAssignServersToLeastUsedShards()
+    {
+        EventLoopGroup group1 = mock( EventLoopGroup.class );
+        EventLoopGroup group2 = mock( EventLoopGroup.class );
+        EventLoopShards shards = new EventLoopShards( group1, group2 );
+
+        assertSame( group1, shards.assign( A ) );
+        assertSame( group2, shards.assign( B ) );
+        assertSame( group1, shards.assign( C ) );
+
+        assertEquals( 2, shards.servers( 0 ) );
+        assertEquals( 1, shards.servers( 1 ) );
+    }
+
+    @Test
+    void shouldKeepAssignmentOfServer()
+    {
+        EventLoopShards shards = new EventLoopShards( mock( EventLoopGroup.class ), mock( EventLoopGroup.class ) );
+
+        EventLoopGroup group = shards.assign( A );
+
+        assertSame( group, shards.assign( A ) );
+        assertEquals( 1, shards.servers( 0 ) + shards.servers( 1 ) );
+    }
+
+    @Test
+    void shouldReuseShardsOfReleasedServers()
+    {
+        EventLoopGroup group1 = mock( EventLoopGroup.class );
+        EventLoopGroup group2 = mock( EventLoopGroup.class );
+        EventLoopShards shards = new EventLoopShards( group1, group2 );
+        shards.assign( A );
+        shards.assign( B );
+
+        shards.release( A );
+
+        assertEquals( 0, shards.servers( 0 ) );
+        assertSame( group1, shards.assign( C ) );
+    }
+
+    @Test
+    void shouldCreateAndCloseDedicatedEventLoopGroups()
+    {
+        EventLoopShards shards = new EventLoopShards( 2, 4 );
+        EventLoopGroup group1 = shards.assign( A );
+        EventLoopGroup group2 = shards.assign( B );
+
+        assertEquals( 2, shards.size() );
+        assertNotSame( group1, group2 );
+        assertEquals( 0, shards.pendingTasks( 0 ) );
+
+        await( shards.close() );
+
+        assertTrue( group1.isTerminated() );
+        assertTrue( group2.isTerminated() );
+    }
+}
@@ -20,6 +20,7 @@ package org.neo4j.driver.internal.async.pool;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
 import io.netty.channel.pool.ChannelHealthChecker;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -50,6 +51,7 @@ import org.neo4j.driver.util.ParallelizableIT;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -176,6 +178,55 @@ class NettyChannelPoolIT
         assertEquals( 2, tracker.inUseChannelCount( neo4j.address() ) );
     }
 
+    @Test
+    void shouldPreferChannelsRegisteredOnPreferredEventLoop() throws Exception
+    {
+        bootstrap.config().group().shutdownGracefully().syncUninterruptibly();
+        bootstrap = BootstrapFactory.newBootstrap( 2 );
+        EventLoop eventLoop1 = bootstrap.config().group().next();
+        EventLoop eventLoop2 = bootstrap.config().group().next();
+        pool = newPool( neo4j.authToken() );
+
+        Channel channel1 = await( pool.acquire( eventLoop1 ) );
+        Channel channel2 = await( pool.acquire( eventLoop2 ) );
+        assertSame( eventLoop1, channel1.eventLoop() );
+        assertSame( eventLoop2, channel2.eventLoop() );
+
+        release( channel1 );
+        release( channel2 );
+
+        // the most recently released channel would be returned without a preference
+        assertSame( channel1, await( pool.acquire( eventLoop1 ) ) );
+        assertSame( channel2, await( pool.acquire() ) );
+    }
+
+    @Test
+    void shouldCountPendingAcquisitionsRequestedFromOtherThreads() throws Exception
+    {
+        pool = newPool( neo4j.authToken(), 1 );
+        Channel channel = acquire( pool );
+
+        for ( int i = 0; i < 5; i++ )
+        {
+            pool.acquire();
+        }
+        awaitPendingAcquisitions( 5 );
+
+        release( channel );
+        awaitPendingAcquisitions( 4 );
+    }
+
+    private void awaitPendingAcquisitions( int expected ) throws InterruptedException
+    {
+        // acquisitions requested outside of the event loop of the pool are counted once they reach it
+        long deadline = System.currentTimeMillis() + 500;
+        while ( pool.pendingAcquisitions() != expected && System.currentTimeMillis() < deadline )
+        {
+            Thread.sleep( 10 );
+        }
+        assertEquals( expected, pool.pendingAcquisitions() );
+    }
+
     private NettyChannelPool newPool( AuthToken authToken )
     {
         return newPool( authToken, 100 );
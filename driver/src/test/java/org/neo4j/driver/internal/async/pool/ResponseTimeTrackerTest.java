@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.pool;
+
+import org.junit.jupiter.api.Test;
+
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.util.FakeClock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ResponseTimeTrackerTest
+{
+    private static final BoltServerAddress A = new BoltServerAddress( "a", 7687 );
+    private static final BoltServerAddress B = new BoltServerAddress( "b", 7687 );
+    private static final BoltServerAddress C = new BoltServerAddress( "c", 7687 );
+
+    private final FakeClock clock = new FakeClock();
+    private final ResponseTimeTracker tracker = new ResponseTimeTracker( clock );
+
+    @Test
+    void shouldReturnZeroWhenNoServerResponded()
+    {
+        assertEquals( 0, tracker.averageResponseTimeNanos( A ) );
+    }
+
+    @Test
+    void shouldReturnMeanOfKnownAveragesForUnknownServers()
+    {
+        tracker.onResponse( A, 1000 );
+        tracker.onResponse( B, 3000 );
+
+        assertEquals( 2000, tracker.averageResponseTimeNanos( C ) );
+    }
+
+    @Test
+    void shouldUseFirstResponseTimeAsAverage()
+    {
+        tracker.onResponse( A, 1000 );
+
+        assertEquals( 1000, tracker.averageResponseTimeNanos( A ) );
+    }
+
+    @Test
+    void shouldAverageResponseTimes()
+    {
+        tracker.onResponse( A, 1000 );
+        tracker.onResponse( A, 2000 );
+
+        assertEquals( 1200, tracker.averageResponseTimeNanos( A ) );
+    }
+
+    @Test
+    void shouldDecayAverageOfServersWithoutResponsesTowardsMean()
+    {
+        tracker.onResponse( A, 1000 );
+        tracker.onResponse( B, 3000 );
+
+        clock.progress( 10_000 );
+
+        assertEquals( 1632, tracker.averageResponseTimeNanos( A ) );
+        assertEquals( 2368, tracker.averageResponseTimeNanos( B ) );
+    }
+
+    @Test
+    void shouldNotDecayAverageOfOnlyKnownServer()
+    {
+        tracker.onResponse( A, 1000 );
+
+        clock.progress( 60_000 );
+
+        assertEquals( 1000, tracker.averageResponseTimeNanos( A ) );
+    }
+
+    @Test
+    void shouldForgetRemovedServers()
+    {
+        tracker.onResponse( A, 1000 );
+        tracker.onResponse( B, 2000 );
+
+        tracker.remove( A );
+
+        assertEquals( 2000, tracker.averageResponseTimeNanos( A ) );
+        assertEquals( 2000, tracker.averageResponseTimeNanos( B ) );
+    }
+}
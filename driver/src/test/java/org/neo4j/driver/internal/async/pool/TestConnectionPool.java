@@ -90,6 +90,12 @@ public class TestConnectionPool extends ConnectionPoolImpl
                 return completedWithNull();
             }
 
+            @Override
+            public int pendingAcquisitions()
+            {
+                return 0;
+            }
+
             @Override
             public boolean isClosed()
             {
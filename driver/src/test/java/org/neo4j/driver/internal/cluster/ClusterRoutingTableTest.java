@@ -23,6 +23,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 
 import org.neo4j.driver.internal.BoltServerAddress;
@@ -275,6 +277,30 @@ class ClusterRoutingTableTest
         assertFalse( routingTable.preferInitialRouter() );
     }
 
+    @Test
+    void shouldNotLoseConcurrentModifications() throws Throwable
+    {
+        ClusterRoutingTable routingTable = newRoutingTable();
+        routingTable.update( createClusterComposition( asList( A, B, C ), asList( A, B, C ), asList( D, E, F ) ) );
+
+        List<BoltServerAddress> addresses = asList( A, B, C, D, E, F );
+        List<Thread> threads = new ArrayList<>();
+        for ( BoltServerAddress address : addresses )
+        {
+            threads.add( new Thread( () -> routingTable.forget( address ) ) );
+        }
+        threads.forEach( Thread::start );
+        for ( Thread thread : threads )
+        {
+            thread.join();
+        }
+
+        assertTrue( routingTable.routers().isEmpty() );
+        assertTrue( routingTable.writers().isEmpty() );
+        assertTrue( routingTable.readers().isEmpty() );
+        assertEquals( new HashSet<>( addresses ), routingTable.servers() );
+    }
+
     private ClusterRoutingTable newRoutingTable()
     {
         return new ClusterRoutingTable( defaultDatabase(), new FakeClock() );
@@ -31,6 +31,8 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
@@ -54,8 +56,10 @@ import org.neo4j.driver.net.ServerAddressResolver;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.HOURS;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.junit.Assert.assertThat;
@@ -63,12 +67,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.startsWith;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.neo4j.driver.internal.DatabaseNameUtil.database;
 import static org.neo4j.driver.internal.DatabaseNameUtil.defaultDatabase;
 import static org.neo4j.driver.internal.InternalBookmark.empty;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
@@ -512,6 +518,132 @@ class RediscoveryTest
         assertEquals( new BoltServerAddress( A.host(), localhost.getHostAddress(), A.port() ), addresses.get( 0 ) );
     }
 
+    @Test
+    void shouldQueryAllRoutersAtOnceWhenHedgingWithoutDelay()
+    {
+        ClusterComposition expectedComposition =
+                new ClusterComposition( 42, asOrderedSet( A, B ), asOrderedSet( A, B ), asOrderedSet( A, B ), null );
+
+        Map<BoltServerAddress,Object> responsesByAddress = new HashMap<>();
+        responsesByAddress.put( A, new CompletableFuture<>() ); // first -> never responds
+        responsesByAddress.put( B, expectedComposition ); // second -> valid cluster composition
+
+        ClusterCompositionProvider compositionProvider = compositionProviderMock( responsesByAddress );
+        Rediscovery rediscovery = newHedgedRediscovery( compositionProvider, 0 );
+        RoutingTable table = routingTableMock( A, B );
+
+        ClusterComposition actualComposition = await( rediscovery.lookupClusterComposition( table, pool, empty(), null ) ).getClusterComposition();
+
+        assertEquals( expectedComposition, actualComposition );
+        verify( table, never() ).forget( any() );
+    }
+
+    @Test
+    void shouldNotForgetRouterWhenItFailsAfterAnotherRouterResponded()
+    {
+        ClusterComposition expectedComposition =
+                new ClusterComposition( 42, asOrderedSet( A, B ), asOrderedSet( A, B ), asOrderedSet( A, B ), null );
+        CompletableFuture<ClusterComposition> lateResponse = new CompletableFuture<>();
+
+        Map<BoltServerAddress,Object> responsesByAddress = new HashMap<>();
+        responsesByAddress.put( A, lateResponse ); // first -> fails after the second responded
+        responsesByAddress.put( B, expectedComposition ); // second -> valid cluster composition
+
+        ClusterCompositionProvider compositionProvider = compositionProviderMock( responsesByAddress );
+        Rediscovery rediscovery = newHedgedRediscovery( compositionProvider, 0 );
+        RoutingTable table = routingTableMock( A, B );
+
+        ClusterComposition actualComposition = await( rediscovery.lookupClusterComposition( table, pool, empty(), null ) ).getClusterComposition();
+        lateResponse.completeExceptionally( new ServiceUnavailableException( "Hi!" ) );
+
+        assertEquals( expectedComposition, actualComposition );
+        verify( table, never() ).forget( any() );
+    }
+
+    @Test
+    void shouldQueryNextRouterAfterHedgingDelay()
+    {
+        ClusterComposition expectedComposition =
+                new ClusterComposition( 42, asOrderedSet( A, B ), asOrderedSet( A, B ), asOrderedSet( A, B ), null );
+
+        Map<BoltServerAddress,Object> responsesByAddress = new HashMap<>();
+        responsesByAddress.put( A, new CompletableFuture<>() ); // first -> never responds
+        responsesByAddress.put( B, expectedComposition ); // second -> valid cluster composition
+
+        ClusterCompositionProvider compositionProvider = compositionProviderMock( responsesByAddress );
+        Rediscovery rediscovery = newHedgedRediscovery( compositionProvider, 100 );
+        RoutingTable table = routingTableMock( A, B );
+
+        ClusterComposition actualComposition = await( rediscovery.lookupClusterComposition( table, pool, empty(), null ) ).getClusterComposition();
+
+        assertEquals( expectedComposition, actualComposition );
+    }
+
+    @Test
+    void shouldQueryNextRouterWithoutHedgingDelayWhenRouterFails()
+    {
+        ClusterComposition expectedComposition =
+                new ClusterComposition( 42, asOrderedSet( A, B, C ), asOrderedSet( A, B, C ), asOrderedSet( A, B, C ), null );
+
+        Map<BoltServerAddress,Object> responsesByAddress = new HashMap<>();
+        responsesByAddress.put( A, new ServiceUnavailableException( "Hi!" ) ); // first -> non-fatal failure
+        responsesByAddress.put( B, new ServiceUnavailableException( "Hi!" ) ); // second -> non-fatal failure
+        responsesByAddress.put( C, expectedComposition ); // third -> valid cluster composition
+
+        ClusterCompositionProvider compositionProvider = compositionProviderMock( responsesByAddress );
+        Rediscovery rediscovery = newHedgedRediscovery( compositionProvider, HOURS.toMillis( 1 ) );
+        RoutingTable table = routingTableMock( A, B, C );
+
+        ClusterComposition actualComposition = await( rediscovery.lookupClusterComposition( table, pool, empty(), null ) ).getClusterComposition();
+
+        assertEquals( expectedComposition, actualComposition );
+        verify( table ).forget( A );
+        verify( table ).forget( B );
+    }
+
+    @Test
+    void shouldFailWhenAllRoutersFailWithHedging()
+    {
+        Map<BoltServerAddress,Object> responsesByAddress = new HashMap<>();
+        responsesByAddress.put( A, new ServiceUnavailableException( "Hi!" ) );
+        responsesByAddress.put( B, new ServiceUnavailableException( "Hi!" ) );
+
+        ClusterCompositionProvider compositionProvider = compositionProviderMock( responsesByAddress );
+        Rediscovery rediscovery = newHedgedRediscovery( compositionProvider, 0 );
+        RoutingTable table = routingTableMock( A, B );
+
+        ServiceUnavailableException e =
+                assertThrows( ServiceUnavailableException.class, () -> await( rediscovery.lookupClusterComposition( table, pool, empty(), null ) ) );
+        assertThat( e.getMessage(), containsString( "Could not perform discovery" ) );
+    }
+
+    @Test
+    void shouldFetchClusterCompositionsFromNextRouterWhenRouterFails()
+    {
+        ClusterComposition composition = new ClusterComposition( 42, asOrderedSet( A, B ), asOrderedSet( A, B ), asOrderedSet( A, B ), "Banana" );
+        ClusterCompositionProvider compositionProvider = mock( ClusterCompositionProvider.class );
+        when( compositionProvider.getClusterCompositions( any( Connection.class ), anyList(), any(), any() ) ).then( invocation ->
+        {
+            Connection connection = invocation.getArgument( 0 );
+            return connection.serverAddress().equals( A ) ? failedFuture( new ServiceUnavailableException( "Hi!" ) )
+                                                          : completedFuture( singletonMap( database( "Banana" ), composition ) );
+        } );
+        Rediscovery rediscovery = newRediscovery( A, compositionProvider, mock( ServerAddressResolver.class ) );
+
+        Map<DatabaseName,ClusterComposition> compositions =
+                await( rediscovery.lookupClusterCompositions( asList( A, B ), singletonList( database( "Banana" ) ), pool, empty() ) );
+
+        assertEquals( singletonMap( database( "Banana" ), composition ), compositions );
+    }
+
+    private Rediscovery newHedgedRediscovery( ClusterCompositionProvider compositionProvider, long hedgedRediscoveryDelayMs )
+    {
+        RoutingSettings settings = new RoutingSettings( 1, 0, 0, RoutingContext.EMPTY, false, hedgedRediscoveryDelayMs, false, false,
+                                                        RoutingSettings.CIRCUIT_BREAKER_DISABLED, 0 );
+        return new RediscoveryImpl( A, settings, compositionProvider, GlobalEventExecutor.INSTANCE, mock( ServerAddressResolver.class ), DEV_NULL_LOGGING,
+                                    DefaultDomainNameResolver.getInstance() );
+    }
+
     private Rediscovery newRediscovery( BoltServerAddress initialRouter, ClusterCompositionProvider compositionProvider,
                                         ServerAddressResolver resolver )
     {
@@ -538,7 +670,11 @@ class RediscoveryTest
                            BoltServerAddress address = connection.serverAddress();
                            Object response = responsesByAddress.get( address );
                            assertNotNull( response );
-                           if ( response instanceof Throwable )
+                           if ( response instanceof CompletionStage )
+                           {
+                               return response;
+                           }
+                           else if ( response instanceof Throwable )
                            {
                                return failedFuture( (Throwable) response );
                            }
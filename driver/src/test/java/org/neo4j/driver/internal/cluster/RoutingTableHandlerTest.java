@@ -18,7 +18,9 @@
  */
 package org.neo4j.driver.internal.cluster;
 
+import io.netty.util.concurrent.EventExecutorGroup;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -26,7 +28,11 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.exceptions.ServiceUnavailableException;
@@ -43,14 +49,19 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.AccessMode.READ;
@@ -222,6 +233,40 @@ class RoutingTableHandlerTest
         verify( registry ).remove( defaultDatabase() );
     }
 
+    @Test
+    void shouldNotHoldLockWhileStartingLookup() throws Throwable
+    {
+        RoutingTable routingTable = new ClusterRoutingTable( defaultDatabase(), new FakeClock() );
+        Rediscovery rediscovery = mock( RediscoveryImpl.class );
+        AtomicReference<RoutingTableHandler> handlerRef = new AtomicReference<>();
+        CompletableFuture<ClusterCompositionLookupResult> lookupFuture = new CompletableFuture<>();
+        AtomicReference<CompletionStage<RoutingTable>> concurrentRoutingTableStage = new AtomicReference<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        when( rediscovery.lookupClusterComposition( any(), any(), any(), any() ) ).then( invocation ->
+        {
+            // starting the lookup might block resolving the initial router, other threads should not wait for it
+            concurrentRoutingTableStage.set( executor.submit( () -> handlerRef.get().ensureRoutingTable( simple( false ) ) ).get( 10, SECONDS ) );
+            return lookupFuture;
+        } );
+        RoutingTableHandler handler = newRoutingTableHandler( routingTable, rediscovery, newConnectionPoolMock() );
+        handlerRef.set( handler );
+
+        try
+        {
+            CompletionStage<RoutingTable> routingTableStage = handler.ensureRoutingTable( simple( false ) );
+            Set<BoltServerAddress> addresses = asOrderedSet( A, B, C );
+            lookupFuture.complete( new ClusterCompositionLookupResult( new ClusterComposition( 42, addresses, addresses, addresses, null ) ) );
+
+            assertEquals( routingTable, await( routingTableStage ) );
+            assertEquals( routingTable, await( concurrentRoutingTableStage.get() ) );
+            verify( rediscovery ).lookupClusterComposition( any(), any(), any(), any() );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
     private void testRediscoveryWhenStale( AccessMode mode )
     {
         ConnectionPool connectionPool = mock( ConnectionPool.class );
@@ -288,6 +333,72 @@ class RoutingTableHandlerTest
         return newConnectionPoolMockWithFailures( emptySet() );
     }
 
+    @Test
+    void shouldScheduleBackgroundRefreshBeforeRoutingTableExpires()
+    {
+        FakeClock clock = new FakeClock();
+        RoutingTable routingTable = new ClusterRoutingTable( defaultDatabase(), clock, A );
+        Rediscovery rediscovery = newRediscoveryMock( 1000 );
+        EventExecutorGroup executor = mock( EventExecutorGroup.class );
+        RoutingTableHandler handler = newRoutingTableHandler( routingTable, rediscovery, newConnectionPoolMock(), clock, executor );
+
+        await( handler.ensureRoutingTable( simple( false ) ) );
+
+        verify( executor ).schedule( any( Runnable.class ), longThat( delay -> delay >= 700 && delay <= 900 ), eq( MILLISECONDS ) );
+    }
+
+    @Test
+    void shouldRefreshUsedRoutingTableInBackground()
+    {
+        FakeClock clock = new FakeClock();
+        RoutingTable routingTable = new ClusterRoutingTable( defaultDatabase(), clock, A );
+        Rediscovery rediscovery = newRediscoveryMock( 1000 );
+        EventExecutorGroup executor = mock( EventExecutorGroup.class );
+        RoutingTableHandler handler = newRoutingTableHandler( routingTable, rediscovery, newConnectionPoolMock(), clock, executor );
+
+        await( handler.ensureRoutingTable( simple( false ) ) );
+        await( handler.ensureRoutingTable( simple( false ) ) );
+        verify( rediscovery ).lookupClusterComposition( any(), any(), any(), any() );
+
+        ArgumentCaptor<Runnable> refreshCaptor = ArgumentCaptor.forClass( Runnable.class );
+        verify( executor ).schedule( refreshCaptor.capture(), anyLong(), eq( MILLISECONDS ) );
+        clock.progress( 800 );
+        refreshCaptor.getValue().run();
+
+        verify( rediscovery, times( 2 ) ).lookupClusterComposition( any(), any(), any(), any() );
+        verify( executor, times( 2 ) ).schedule( any( Runnable.class ), anyLong(), eq( MILLISECONDS ) );
+    }
+
+    @Test
+    void shouldNotRefreshUnusedRoutingTableInBackground()
+    {
+        FakeClock clock = new FakeClock();
+        RoutingTable routingTable = new ClusterRoutingTable( defaultDatabase(), clock, A );
+        Rediscovery rediscovery = newRediscoveryMock( 1000 );
+        EventExecutorGroup executor = mock( EventExecutorGroup.class );
+        RoutingTableHandler handler = newRoutingTableHandler( routingTable, rediscovery, newConnectionPoolMock(), clock, executor );
+
+        await( handler.ensureRoutingTable( simple( false ) ) );
+
+        ArgumentCaptor<Runnable> refreshCaptor = ArgumentCaptor.forClass( Runnable.class );
+        verify( executor ).schedule( refreshCaptor.capture(), anyLong(), eq( MILLISECONDS ) );
+        clock.progress( 800 );
+        refreshCaptor.getValue().run();
+
+        verify( rediscovery ).lookupClusterComposition( any(), any(), any(), any() );
+        verify( executor ).schedule( any( Runnable.class ), anyLong(), eq( MILLISECONDS ) );
+    }
+
+    private static Rediscovery newRediscoveryMock( long expirationTimestamp )
+    {
+        Rediscovery rediscovery = mock( RediscoveryImpl.class );
+        Set<BoltServerAddress> addresses = asOrderedSet( A, B, C );
+        ClusterComposition clusterComposition = new ClusterComposition( expirationTimestamp, addresses, addresses, addresses, null );
+        when( rediscovery.lookupClusterComposition( any(), any(), any(), any() ) )
+                .thenReturn( completedFuture( new ClusterCompositionLookupResult( clusterComposition ) ) );
+        return rediscovery;
+    }
+
     private static ConnectionPool newConnectionPoolMockWithFailures(
             Set<BoltServerAddress> unavailableAddresses )
     {
@@ -312,6 +423,13 @@ class RoutingTableHandlerTest
                                             STALE_ROUTING_TABLE_PURGE_DELAY_MS );
     }
 
+    private static RoutingTableHandler newRoutingTableHandler( RoutingTable routingTable, Rediscovery rediscovery, ConnectionPool connectionPool,
+            FakeClock clock, EventExecutorGroup backgroundRefreshExecutor )
+    {
+        return new RoutingTableHandlerImpl( routingTable, rediscovery, connectionPool, newRoutingTableRegistryMock(), DEV_NULL_LOGGING,
+                                            STALE_ROUTING_TABLE_PURGE_DELAY_MS, clock, backgroundRefreshExecutor );
+    }
+
     private static RoutingTableHandler newRoutingTableHandler( RoutingTable routingTable, Rediscovery rediscovery, ConnectionPool connectionPool,
             RoutingTableRegistry routingTableRegistry )
     {
@@ -26,18 +26,27 @@ import org.junit.jupiter.params.provider.ValueSource;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.InternalBookmark;
+import org.neo4j.driver.internal.async.ConnectionContext;
 import org.neo4j.driver.internal.async.ImmutableConnectionContext;
 import org.neo4j.driver.internal.cluster.RoutingTableRegistryImpl.RoutingTableHandlerFactory;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.internal.util.Clock;
+import org.neo4j.driver.internal.util.FakeClock;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
@@ -47,8 +56,11 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.internal.DatabaseNameUtil.SYSTEM_DATABASE_NAME;
@@ -200,6 +212,219 @@ class RoutingTableRegistryImplTest
         assertThat( routingTables.allServers(), empty() );
     }
 
+    @Test
+    void shouldRefreshRoutingTablesSharingRouters()
+    {
+        // Given
+        FakeClock clock = new FakeClock();
+        RoutingTable refreshed = routingTable( database( "Apple" ), 1000, A, B );
+        RoutingTableHandler sameRoutersExpiring = routingTableHandler( routingTable( database( "Banana" ), 100, B, A ) );
+        RoutingTableHandler sameRoutersFresh = routingTableHandler( routingTable( database( "Orange" ), 900, A, B ) );
+        RoutingTableHandler otherRouters = routingTableHandler( routingTable( database( "Peach" ), 100, C ) );
+        ConcurrentMap<DatabaseName,RoutingTableHandler> map = new ConcurrentHashMap<>();
+        map.put( database( "Apple" ), routingTableHandler( refreshed ) );
+        map.put( database( "Banana" ), sameRoutersExpiring );
+        map.put( database( "Orange" ), sameRoutersFresh );
+        map.put( database( "Peach" ), otherRouters );
+
+        ClusterComposition composition = new ClusterComposition( 2000, new HashSet<>( singletonList( A ) ), new HashSet<>( singletonList( B ) ),
+                                                                 new HashSet<>( asList( A, B ) ), "Banana" );
+        Rediscovery rediscovery = mock( Rediscovery.class );
+        when( rediscovery.lookupClusterCompositions( any(), anyList(), any(), any() ) )
+                .thenReturn( completedFuture( singletonMap( database( "Banana" ), composition ) ) );
+        RoutingTableRegistryImpl routingTables =
+                new RoutingTableRegistryImpl( map, mockedHandlerFactory(), clock, mock( ConnectionPool.class ), rediscovery, DEV_NULL_LOGGING,
+                                              true, false );
+
+        // When
+        routingTables.refreshRoutingTablesSharingRouters( refreshed );
+
+        // Then
+        verify( rediscovery ).lookupClusterCompositions( eq( asList( A, B ) ), eq( singletonList( database( "Banana" ) ) ), any(),
+                                                         eq( InternalBookmark.empty() ) );
+        verify( sameRoutersExpiring ).completeSharedRefresh( composition );
+        verify( sameRoutersFresh, never() ).startSharedRefresh();
+        verify( otherRouters, never() ).startSharedRefresh();
+    }
+
+    @Test
+    void shouldNotRefreshRoutingTablesSharingRoutersWithRefreshInFlight()
+    {
+        // Given
+        RoutingTable refreshed = routingTable( database( "Apple" ), 1000, A );
+        RoutingTableHandler refreshing = routingTableHandler( routingTable( database( "Banana" ), 100, A ) );
+        when( refreshing.startSharedRefresh() ).thenReturn( false );
+        ConcurrentMap<DatabaseName,RoutingTableHandler> map = new ConcurrentHashMap<>();
+        map.put( database( "Apple" ), routingTableHandler( refreshed ) );
+        map.put( database( "Banana" ), refreshing );
+        Rediscovery rediscovery = mock( Rediscovery.class );
+        RoutingTableRegistryImpl routingTables =
+                new RoutingTableRegistryImpl( map, mockedHandlerFactory(), new FakeClock(), mock( ConnectionPool.class ), rediscovery, DEV_NULL_LOGGING,
+                                              true, false );
+
+        // When
+        routingTables.refreshRoutingTablesSharingRouters( refreshed );
+
+        // Then
+        verify( rediscovery, never() ).lookupClusterCompositions( any(), anyList(), any(), any() );
+        verify( refreshing, never() ).completeSharedRefresh( any() );
+    }
+
+    @Test
+    void shouldCompleteSharedRefreshWithoutCompositionWhenDatabaseIsMissing()
+    {
+        // Given
+        RoutingTable refreshed = routingTable( database( "Apple" ), 1000, A );
+        RoutingTableHandler missing = routingTableHandler( routingTable( database( "Banana" ), 100, A ) );
+        ConcurrentMap<DatabaseName,RoutingTableHandler> map = new ConcurrentHashMap<>();
+        map.put( database( "Apple" ), routingTableHandler( refreshed ) );
+        map.put( database( "Banana" ), missing );
+        Rediscovery rediscovery = mock( Rediscovery.class );
+        when( rediscovery.lookupClusterCompositions( any(), anyList(), any(), any() ) ).thenReturn( completedFuture( emptyMap() ) );
+        RoutingTableRegistryImpl routingTables =
+                new RoutingTableRegistryImpl( map, mockedHandlerFactory(), new FakeClock(), mock( ConnectionPool.class ), rediscovery, DEV_NULL_LOGGING,
+                                              true, false );
+
+        // When
+        routingTables.refreshRoutingTablesSharingRouters( refreshed );
+
+        // Then
+        verify( missing ).completeSharedRefresh( null );
+    }
+
+    @Test
+    void shouldNotRefreshRoutingTablesSharingRoutersWhenDisabled()
+    {
+        // Given
+        RoutingTable refreshed = routingTable( database( "Apple" ), 1000, A );
+        ConcurrentMap<DatabaseName,RoutingTableHandler> map = new ConcurrentHashMap<>();
+        map.put( database( "Apple" ), routingTableHandler( refreshed ) );
+        map.put( database( "Banana" ), routingTableHandler( routingTable( database( "Banana" ), 100, A ) ) );
+        Rediscovery rediscovery = mock( Rediscovery.class );
+        RoutingTableRegistryImpl routingTables =
+                new RoutingTableRegistryImpl( map, mockedHandlerFactory(), new FakeClock(), mock( ConnectionPool.class ), rediscovery, DEV_NULL_LOGGING );
+
+        // When
+        routingTables.refreshRoutingTablesSharingRouters( refreshed );
+
+        // Then
+        verify( rediscovery, never() ).lookupClusterCompositions( any(), anyList(), any(), any() );
+    }
+
+    @Test
+    void shouldResolveHomeDatabaseFromCache()
+    {
+        // Given
+        FakeClock clock = new FakeClock();
+        Rediscovery rediscovery = newHomeDatabaseRediscoveryMock( "Apple", 1000 );
+        RoutingTableRegistryImpl routingTables = newHomeDatabaseCachingRoutingTables( clock, rediscovery );
+        ConnectionContext first = newHomeDatabaseContext( InternalBookmark.empty() );
+        ConnectionContext second = newHomeDatabaseContext( InternalBookmark.empty() );
+
+        // When
+        await( routingTables.ensureRoutingTable( first ) );
+        clock.progress( 999 );
+        await( routingTables.ensureRoutingTable( second ) );
+
+        // Then
+        assertEquals( database( "Apple" ), first.databaseNameFuture().join() );
+        assertEquals( database( "Apple" ), second.databaseNameFuture().join() );
+        verify( rediscovery ).lookupClusterComposition( any(), any(), any(), any() );
+    }
+
+    @Test
+    void shouldNotResolveHomeDatabaseFromCacheWithBookmark()
+    {
+        // Given
+        Rediscovery rediscovery = newHomeDatabaseRediscoveryMock( "Apple", 1000 );
+        RoutingTableRegistryImpl routingTables = newHomeDatabaseCachingRoutingTables( new FakeClock(), rediscovery );
+
+        // When
+        await( routingTables.ensureRoutingTable( newHomeDatabaseContext( InternalBookmark.empty() ) ) );
+        await( routingTables.ensureRoutingTable( newHomeDatabaseContext( InternalBookmark.parse( "neo4j:bookmark:v1:tx42" ) ) ) );
+
+        // Then
+        verify( rediscovery, times( 2 ) ).lookupClusterComposition( any(), any(), any(), any() );
+    }
+
+    @Test
+    void shouldNotResolveHomeDatabaseFromCacheWhenExpired()
+    {
+        // Given
+        FakeClock clock = new FakeClock();
+        Rediscovery rediscovery = newHomeDatabaseRediscoveryMock( "Apple", 1000 );
+        RoutingTableRegistryImpl routingTables = newHomeDatabaseCachingRoutingTables( clock, rediscovery );
+
+        // When
+        await( routingTables.ensureRoutingTable( newHomeDatabaseContext( InternalBookmark.empty() ) ) );
+        clock.progress( 1000 );
+        await( routingTables.ensureRoutingTable( newHomeDatabaseContext( InternalBookmark.empty() ) ) );
+
+        // Then
+        verify( rediscovery, times( 2 ) ).lookupClusterComposition( any(), any(), any(), any() );
+    }
+
+    @Test
+    void shouldNotResolveHomeDatabaseFromCacheWhenRoutingTableRemoved()
+    {
+        // Given
+        Rediscovery rediscovery = newHomeDatabaseRediscoveryMock( "Apple", 1000 );
+        RoutingTableRegistryImpl routingTables = newHomeDatabaseCachingRoutingTables( new FakeClock(), rediscovery );
+
+        // When
+        await( routingTables.ensureRoutingTable( newHomeDatabaseContext( InternalBookmark.empty() ) ) );
+        routingTables.remove( database( "Apple" ) );
+        await( routingTables.ensureRoutingTable( newHomeDatabaseContext( InternalBookmark.empty() ) ) );
+
+        // Then
+        verify( rediscovery, times( 2 ) ).lookupClusterComposition( any(), any(), any(), any() );
+    }
+
+    private RoutingTableRegistryImpl newHomeDatabaseCachingRoutingTables( Clock clock, Rediscovery rediscovery )
+    {
+        RoutingTableHandler handler = mockedRoutingTableHandler();
+        when( handler.updateRoutingTable( any() ) ).thenReturn( completedFuture( mock( RoutingTable.class ) ) );
+        return new RoutingTableRegistryImpl( new ConcurrentHashMap<>(), mockedHandlerFactory( handler ), clock, mock( ConnectionPool.class ), rediscovery,
+                                             DEV_NULL_LOGGING, false, true );
+    }
+
+    private static Rediscovery newHomeDatabaseRediscoveryMock( String homeDatabase, long expirationTimestamp )
+    {
+        ClusterComposition composition = new ClusterComposition( expirationTimestamp, singleton( A ), singleton( A ), singleton( A ), homeDatabase );
+        Rediscovery rediscovery = mock( Rediscovery.class );
+        when( rediscovery.lookupClusterComposition( any(), any(), any(), any() ) )
+                .thenReturn( completedFuture( new ClusterCompositionLookupResult( composition ) ) );
+        return rediscovery;
+    }
+
+    private static ConnectionContext newHomeDatabaseContext( Bookmark bookmark )
+    {
+        ConnectionContext context = mock( ConnectionContext.class );
+        CompletableFuture<DatabaseName> databaseNameFuture = new CompletableFuture<>();
+        when( context.databaseNameFuture() ).thenReturn( databaseNameFuture );
+        when( context.rediscoveryBookmark() ).thenReturn( bookmark );
+        when( context.mode() ).thenReturn( AccessMode.READ );
+        return context;
+    }
+
+    private static RoutingTable routingTable( DatabaseName databaseName, long expirationTimestamp, BoltServerAddress... routers )
+    {
+        RoutingTable routingTable = mock( RoutingTable.class );
+        when( routingTable.database() ).thenReturn( databaseName );
+        when( routingTable.expirationTimestamp() ).thenReturn( expirationTimestamp );
+        when( routingTable.routers() ).thenReturn( asList( routers ) );
+        return routingTable;
+    }
+
+    private static RoutingTableHandler routingTableHandler( RoutingTable routingTable )
+    {
+        RoutingTableHandler handler = mock( RoutingTableHandler.class );
+        when( handler.routingTable() ).thenReturn( routingTable );
+        when( handler.updateRoutingTable( any() ) ).thenReturn( completedFuture( routingTable ) );
+        when( handler.startSharedRefresh() ).thenReturn( true );
+        return handler;
+    }
+
     private RoutingTableHandler mockedRoutingTableHandler( BoltServerAddress... servers )
     {
         RoutingTableHandler handler = mock( RoutingTableHandler.class );
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster.loadbalancing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.async.pool.ResponseTimeTracker;
+import org.neo4j.driver.internal.spi.ConnectionPool;
+import org.neo4j.driver.internal.util.FakeClock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+
+class LatencyAwareLoadBalancingStrategyTest
+{
+    private static final BoltServerAddress FAST = new BoltServerAddress( "fast", 7687 );
+    private static final BoltServerAddress SLOW = new BoltServerAddress( "slow", 7687 );
+
+    @Mock
+    private ConnectionPool connectionPool;
+    private LatencyAwareLoadBalancingStrategy strategy;
+
+    @BeforeEach
+    void setUp()
+    {
+        openMocks( this );
+        strategy = new LatencyAwareLoadBalancingStrategy( connectionPool, DEV_NULL_LOGGING );
+    }
+
+    @Test
+    void shouldHandleEmptyReaders()
+    {
+        assertNull( strategy.selectReader( Collections.emptyList() ) );
+    }
+
+    @Test
+    void shouldHandleEmptyWriters()
+    {
+        assertNull( strategy.selectWriter( Collections.emptyList() ) );
+    }
+
+    @Test
+    void shouldHandleSingleReader()
+    {
+        assertEquals( SLOW, strategy.selectReader( Collections.singletonList( SLOW ) ) );
+    }
+
+    @Test
+    void shouldSelectFastestReader()
+    {
+        when( connectionPool.averageResponseTimeNanos( FAST ) ).thenReturn( 100L );
+        when( connectionPool.averageResponseTimeNanos( SLOW ) ).thenReturn( 1000L );
+        List<BoltServerAddress> readers = Arrays.asList( SLOW, FAST );
+
+        for ( int i = 0; i < 10; i++ )
+        {
+            assertEquals( FAST, strategy.selectReader( readers ) );
+        }
+    }
+
+    @Test
+    void shouldSelectFastestWriter()
+    {
+        when( connectionPool.averageResponseTimeNanos( FAST ) ).thenReturn( 100L );
+        when( connectionPool.averageResponseTimeNanos( SLOW ) ).thenReturn( 1000L );
+        List<BoltServerAddress> writers = Arrays.asList( FAST, SLOW );
+
+        for ( int i = 0; i < 10; i++ )
+        {
+            assertEquals( FAST, strategy.selectWriter( writers ) );
+        }
+    }
+
+    @Test
+    void shouldAvoidFastServerWithManyActiveConnections()
+    {
+        when( connectionPool.averageResponseTimeNanos( FAST ) ).thenReturn( 100L );
+        when( connectionPool.inUseConnections( FAST ) ).thenReturn( 20 );
+        when( connectionPool.averageResponseTimeNanos( SLOW ) ).thenReturn( 1000L );
+        when( connectionPool.inUseConnections( SLOW ) ).thenReturn( 0 );
+
+        assertEquals( SLOW, strategy.selectReader( Arrays.asList( FAST, SLOW ) ) );
+    }
+
+    @Test
+    void shouldSelectLeastConnectedServerWhenResponseTimesAreUnknown()
+    {
+        when( connectionPool.inUseConnections( FAST ) ).thenReturn( 1 );
+        when( connectionPool.inUseConnections( SLOW ) ).thenReturn( 5 );
+
+        assertEquals( FAST, strategy.selectReader( Arrays.asList( SLOW, FAST ) ) );
+    }
+
+    @Test
+    void shouldNotPreferUnmeasuredServerWithManyActiveConnections()
+    {
+        BoltServerAddress unmeasured = new BoltServerAddress( "unmeasured", 7687 );
+        ResponseTimeTracker tracker = new ResponseTimeTracker( new FakeClock() );
+        tracker.onResponse( FAST, 1000 );
+        when( connectionPool.averageResponseTimeNanos( any() ) ).thenAnswer( invocation -> tracker.averageResponseTimeNanos( invocation.getArgument( 0 ) ) );
+        when( connectionPool.inUseConnections( FAST ) ).thenReturn( 1 );
+        when( connectionPool.inUseConnections( unmeasured ) ).thenReturn( 5 );
+
+        for ( int i = 0; i < 10; i++ )
+        {
+            assertEquals( FAST, strategy.selectReader( Arrays.asList( unmeasured, FAST ) ) );
+        }
+    }
+
+    @Test
+    void shouldSelectAmongAllServers()
+    {
+        BoltServerAddress other = new BoltServerAddress( "other", 7687 );
+        when( connectionPool.averageResponseTimeNanos( SLOW ) ).thenReturn( 1000L );
+        when( connectionPool.averageResponseTimeNanos( other ) ).thenReturn( 1000L );
+        List<BoltServerAddress> readers = Arrays.asList( SLOW, FAST, other );
+
+        // the fastest server is selected whenever it is one of the two random candidates, which happens with a probability of 2/3
+        boolean fastSelected = false;
+        for ( int i = 0; i < 100 && !fastSelected; i++ )
+        {
+            fastSelected = strategy.selectReader( readers ).equals( FAST );
+        }
+        assertTrue( fastSelected );
+    }
+}
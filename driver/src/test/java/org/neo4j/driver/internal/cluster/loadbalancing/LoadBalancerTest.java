@@ -18,6 +18,8 @@
  */
 package org.neo4j.driver.internal.cluster.loadbalancing;
 
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.concurrent.GlobalEventExecutor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
@@ -75,6 +77,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -152,6 +155,54 @@ class LoadBalancerTest
         assertThat( error2.getMessage(), startsWith( "Failed to obtain connection towards WRITE server" ) );
     }
 
+    @Test
+    void shouldAcquireConnectionsOnEventLoopOfContext()
+    {
+        EventLoop eventLoop = mock( EventLoop.class );
+        ConnectionPool connectionPool = newConnectionPoolMock();
+        when( connectionPool.acquire( A, eventLoop ) ).thenReturn( completedFuture( newBoltV4Connection( A ) ) );
+        RoutingTable routingTable = mock( RoutingTable.class );
+        when( routingTable.readers() ).thenReturn( Collections.singletonList( A ) );
+        ConnectionContext context = mock( ConnectionContext.class );
+        when( context.mode() ).thenReturn( READ );
+        when( context.databaseNameFuture() ).thenReturn( completedFuture( defaultDatabase() ) );
+        when( context.eventLoop() ).thenReturn( eventLoop );
+
+        LoadBalancer loadBalancer = newLoadBalancer( connectionPool, routingTable );
+
+        Connection acquired = await( loadBalancer.acquireConnection( context ) );
+
+        assertEquals( A, acquired.serverAddress() );
+        verify( connectionPool ).acquire( A, eventLoop );
+        verify( connectionPool, never() ).acquire( A );
+    }
+
+    @Test
+    void shouldSkipAddressesWithOpenCircuit()
+    {
+        ConnectionPool connectionPool = newConnectionPoolMockWithFailures( new HashSet<>( Collections.singletonList( A ) ) );
+        RoutingTable routingTable = mock( RoutingTable.class );
+        when( routingTable.readers() ).thenReturn( Arrays.asList( A, B ) );
+        RoutingTableRegistry routingTables = mock( RoutingTableRegistry.class );
+        RoutingTableHandler handler = mock( RoutingTableHandler.class );
+        when( handler.routingTable() ).thenReturn( routingTable );
+        when( routingTables.ensureRoutingTable( any( ConnectionContext.class ) ) ).thenReturn( CompletableFuture.completedFuture( handler ) );
+        ServerCircuitBreaker circuitBreaker =
+                new ServerCircuitBreaker( 1, 1000, connectionPool, routingTables, mock( EventExecutorGroup.class ), DEV_NULL_LOGGING );
+        LoadBalancer loadBalancer =
+                new LoadBalancer( connectionPool, routingTables, mock( Rediscovery.class ),
+                                  new LeastConnectedLoadBalancingStrategy( connectionPool, DEV_NULL_LOGGING ), GlobalEventExecutor.INSTANCE,
+                                  DEV_NULL_LOGGING, circuitBreaker );
+        circuitBreaker.onConnectionFailure( A );
+
+        for ( int i = 0; i < 10; i++ )
+        {
+            Connection connection = await( loadBalancer.acquireConnection( contextWithMode( READ ) ) );
+            assertEquals( B, connection.serverAddress() );
+        }
+        verify( connectionPool, never() ).acquire( A );
+    }
+
     @Test
     void shouldSelectLeastConnectedAddress()
     {
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster.loadbalancing;
+
+import io.netty.util.concurrent.EventExecutorGroup;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.HashSet;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.neo4j.driver.exceptions.ServiceUnavailableException;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.cluster.RoutingTableRegistry;
+import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.internal.spi.ConnectionPool;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+import static org.neo4j.driver.internal.util.ClusterCompositionUtil.A;
+import static org.neo4j.driver.internal.util.ClusterCompositionUtil.B;
+import static org.neo4j.driver.internal.util.Futures.completedWithNull;
+import static org.neo4j.driver.internal.util.Futures.failedFuture;
+
+class ServerCircuitBreakerTest
+{
+    private final ConnectionPool connectionPool = mock( ConnectionPool.class );
+    private final RoutingTableRegistry routingTables = mock( RoutingTableRegistry.class );
+    private final EventExecutorGroup executor = mock( EventExecutorGroup.class );
+    private final ServerCircuitBreaker circuitBreaker = new ServerCircuitBreaker( 2, 100, connectionPool, routingTables, executor, DEV_NULL_LOGGING );
+
+    @Test
+    void shouldOpenAfterConsecutiveFailures()
+    {
+        circuitBreaker.onConnectionFailure( A );
+        assertFalse( circuitBreaker.isOpen( A ) );
+
+        circuitBreaker.onConnectionFailure( A );
+        assertTrue( circuitBreaker.isOpen( A ) );
+        assertEquals( singletonList( B ), circuitBreaker.closedAddresses( asList( A, B ) ) );
+        verify( executor ).schedule( any( Runnable.class ), eq( 100L ), eq( MILLISECONDS ) );
+    }
+
+    @Test
+    void shouldNotOpenWhenFailuresAreNotConsecutive()
+    {
+        circuitBreaker.onConnectionFailure( A );
+        circuitBreaker.onConnectionSuccess( A );
+        circuitBreaker.onConnectionFailure( A );
+
+        assertFalse( circuitBreaker.isOpen( A ) );
+        verify( executor, never() ).schedule( any( Runnable.class ), anyLong(), any() );
+    }
+
+    @Test
+    void shouldReturnAllAddressesWhenAllAreOpen()
+    {
+        openCircuit( A );
+        openCircuit( B );
+
+        assertEquals( asList( A, B ), circuitBreaker.closedAddresses( asList( A, B ) ) );
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulProbe()
+    {
+        when( routingTables.allServers() ).thenReturn( new HashSet<>( singletonList( A ) ) );
+        Connection connection = mock( Connection.class );
+        when( connection.release() ).thenReturn( completedWithNull() );
+        when( connectionPool.acquire( A ) ).thenReturn( completedFuture( connection ) );
+        openCircuit( A );
+
+        ArgumentCaptor<Runnable> probeCaptor = ArgumentCaptor.forClass( Runnable.class );
+        verify( executor ).schedule( probeCaptor.capture(), eq( 100L ), eq( MILLISECONDS ) );
+        probeCaptor.getValue().run();
+
+        assertFalse( circuitBreaker.isOpen( A ) );
+        verify( connection ).release();
+    }
+
+    @Test
+    void shouldProbeAgainAfterFailedProbe()
+    {
+        when( routingTables.allServers() ).thenReturn( new HashSet<>( singletonList( A ) ) );
+        when( connectionPool.acquire( A ) ).thenReturn( failedFuture( new ServiceUnavailableException( "Unavailable" ) ) );
+        openCircuit( A );
+
+        ArgumentCaptor<Runnable> probeCaptor = ArgumentCaptor.forClass( Runnable.class );
+        verify( executor ).schedule( probeCaptor.capture(), eq( 100L ), eq( MILLISECONDS ) );
+        probeCaptor.getValue().run();
+
+        assertTrue( circuitBreaker.isOpen( A ) );
+        verify( executor, times( 2 ) ).schedule( any( Runnable.class ), eq( 100L ), eq( MILLISECONDS ) );
+    }
+
+    @Test
+    void shouldForgetServerNoLongerInRoutingTables()
+    {
+        when( routingTables.allServers() ).thenReturn( new HashSet<>( singletonList( B ) ) );
+        openCircuit( A );
+
+        ArgumentCaptor<Runnable> probeCaptor = ArgumentCaptor.forClass( Runnable.class );
+        verify( executor ).schedule( probeCaptor.capture(), eq( 100L ), eq( MILLISECONDS ) );
+        probeCaptor.getValue().run();
+
+        assertFalse( circuitBreaker.isOpen( A ) );
+        verify( connectionPool, never() ).acquire( A );
+    }
+
+    @Test
+    void shouldOpenWithoutProbeWhenExecutorIsShutDown()
+    {
+        doThrow( new RejectedExecutionException() ).when( executor ).schedule( any( Runnable.class ), anyLong(), any() );
+
+        openCircuit( A );
+
+        assertTrue( circuitBreaker.isOpen( A ) );
+    }
+
+    private void openCircuit( BoltServerAddress address )
+    {
+        circuitBreaker.onConnectionFailure( address );
+        circuitBreaker.onConnectionFailure( address );
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster.loadbalancing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.spi.ConnectionPool;
+import org.neo4j.driver.net.ServerZoneResolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+
+class ZoneAwareLoadBalancingStrategyTest
+{
+    private static final BoltServerAddress LOCAL = new BoltServerAddress( "local", 7687 );
+    private static final BoltServerAddress REMOTE = new BoltServerAddress( "remote", 7687 );
+    private static final BoltServerAddress UNKNOWN = new BoltServerAddress( "unknown", 7687 );
+    private static final ServerZoneResolver ZONE_RESOLVER = address ->
+    {
+        switch ( address.host() )
+        {
+        case "local":
+            return "eu-west-1a";
+        case "remote":
+            return "eu-west-1b";
+        case "unknown":
+            return null;
+        default:
+            throw new IllegalArgumentException( "Unexpected address " + address );
+        }
+    };
+
+    @Mock
+    private ConnectionPool connectionPool;
+    private ZoneAwareLoadBalancingStrategy strategy;
+
+    @BeforeEach
+    void setUp()
+    {
+        openMocks( this );
+        strategy = new ZoneAwareLoadBalancingStrategy( new LeastConnectedLoadBalancingStrategy( connectionPool, DEV_NULL_LOGGING ), "eu-west-1a",
+                                                       ZONE_RESOLVER, connectionPool, 10, DEV_NULL_LOGGING );
+    }
+
+    @Test
+    void shouldSelectLocalReader()
+    {
+        when( connectionPool.inUseConnections( LOCAL ) ).thenReturn( 5 );
+        List<BoltServerAddress> readers = Arrays.asList( REMOTE, UNKNOWN, LOCAL );
+
+        for ( int i = 0; i < 10; i++ )
+        {
+            assertEquals( LOCAL, strategy.selectReader( readers ) );
+        }
+    }
+
+    @Test
+    void shouldSelectRemoteReaderWhenLocalReadersAreSaturated()
+    {
+        when( connectionPool.inUseConnections( LOCAL ) ).thenReturn( 8 );
+        when( connectionPool.inUseConnections( UNKNOWN ) ).thenReturn( 9 );
+
+        assertEquals( REMOTE, strategy.selectReader( Arrays.asList( LOCAL, REMOTE, UNKNOWN ) ) );
+    }
+
+    @Test
+    void shouldSelectRemoteReaderWhenNoLocalReaderIsKnown()
+    {
+        when( connectionPool.inUseConnections( UNKNOWN ) ).thenReturn( 3 );
+
+        assertEquals( REMOTE, strategy.selectReader( Arrays.asList( UNKNOWN, REMOTE ) ) );
+    }
+
+    @Test
+    void shouldSelectWriterRegardlessOfZone()
+    {
+        when( connectionPool.inUseConnections( LOCAL ) ).thenReturn( 3 );
+
+        assertEquals( REMOTE, strategy.selectWriter( Arrays.asList( LOCAL, REMOTE ) ) );
+    }
+
+    @Test
+    void shouldConsiderServerRemoteWhenZoneResolutionFails()
+    {
+        BoltServerAddress failing = new BoltServerAddress( "failing", 7687 );
+        when( connectionPool.inUseConnections( LOCAL ) ).thenReturn( 3 );
+
+        assertEquals( LOCAL, strategy.selectReader( Arrays.asList( failing, LOCAL ) ) );
+    }
+}
@@ -53,6 +53,7 @@ class DisposableAsyncResultCursorTest
         when( delegate.nextAsync() ).thenReturn( Futures.completedWithNull() );
         when( delegate.singleAsync() ).thenReturn( Futures.completedWithNull() );
         when( delegate.forEachAsync( any() ) ).thenReturn( Futures.completedWithNull() );
+        when( delegate.forEachBatchAsync( any() ) ).thenReturn( Futures.completedWithNull() );
         when( delegate.listAsync() ).thenReturn( Futures.completedWithNull() );
         when( delegate.listAsync( any() ) ).thenReturn( Futures.completedWithNull() );
         when( delegate.pullAllFailureAsync() ).thenReturn( Futures.completedWithNull() );
@@ -92,6 +93,9 @@ class DisposableAsyncResultCursorTest
         await( cursor.forEachAsync( record ->
                                     {
                                     } ) );
+        await( cursor.forEachBatchAsync( records ->
+                                         {
+                                         } ) );
         await( cursor.listAsync() );
         await( cursor.listAsync( record -> record ) );
         await( cursor.pullAllFailureAsync() );
@@ -25,6 +25,7 @@ import java.nio.channels.ClosedChannelException;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 import org.neo4j.driver.Query;
@@ -44,6 +45,7 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -680,6 +682,74 @@ public abstract class PullAllResponseHandlerTestBase<T extends PullAllResponseHa
 
         assertEquals( expectedRecords, list );
     }
+
+    @Test
+    void shouldReturnAllAvailableRecordsInNextBatchAsync()
+    {
+        List<String> keys = asList( "key1", "key2" );
+        PullAllResponseHandler handler = newHandler( keys );
+
+        handler.onRecord( values( 1, 2 ) );
+        handler.onRecord( values( 11, 22 ) );
+        handler.onRecord( values( 111, 222 ) );
+        handler.onSuccess( emptyMap() );
+
+        List<Record> batch = await( handler.nextBatchAsync() );
+        assertEquals( 3, batch.size() );
+        assertEquals( 1, batch.get( 0 ).get( "key1" ).asInt() );
+        assertEquals( 11, batch.get( 1 ).get( "key1" ).asInt() );
+        assertEquals( 111, batch.get( 2 ).get( "key1" ).asInt() );
+
+        assertEquals( emptyList(), await( handler.nextBatchAsync() ) );
+        assertNull( await( handler.nextAsync() ) );
+    }
+
+    @Test
+    void shouldReturnRecordsBeforeFailureInNextBatchAsync()
+    {
+        PullAllResponseHandler handler = newHandler( asList( "key1", "key2" ) );
+
+        CompletableFuture<List<Record>> batchFuture = handler.nextBatchAsync().toCompletableFuture();
+        assertFalse( batchFuture.isDone() );
+
+        handler.onRecord( values( 24, 42 ) );
+        RuntimeException failure = new RuntimeException( "Hi" );
+        handler.onFailure( failure );
+
+        List<Record> batch = await( batchFuture );
+        assertEquals( 1, batch.size() );
+        assertEquals( 24, batch.get( 0 ).get( "key1" ).asInt() );
+
+        RuntimeException e = assertThrows( RuntimeException.class, () -> await( handler.nextBatchAsync() ) );
+        assertEquals( failure, e );
+    }
+
+    @Test
+    void shouldCompleteNextBatchAsyncWithoutHoldingLock()
+    {
+        PullAllResponseHandler handler = newHandler( asList( "key1", "key2" ) );
+        AtomicBoolean accessibleInBatchAction = new AtomicBoolean();
+
+        handler.nextBatchAsync().thenAccept( batch -> accessibleInBatchAction.set( isAccessibleFromOtherThread( handler ) ) );
+        handler.onRecord( values( 24, 42 ) );
+
+        assertTrue( accessibleInBatchAction.get() );
+    }
+
+    private static boolean isAccessibleFromOtherThread( PullAllResponseHandler handler )
+    {
+        CompletableFuture<Boolean> access = CompletableFuture.supplyAsync( handler::isCompletedWithoutFailure );
+        try
+        {
+            access.get( 10, SECONDS );
+            return true;
+        }
+        catch ( Exception e )
+        {
+            return false;
+        }
+    }
+
     protected T newHandler()
     {
         return newHandler( new Query( "RETURN 1" ) );
@@ -18,14 +18,17 @@
  */
 package org.neo4j.driver.internal.handlers.pulln;
 
+import io.netty.channel.EventLoop;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.neo4j.driver.Query;
 import org.neo4j.driver.Value;
@@ -39,7 +42,13 @@ import org.neo4j.driver.internal.value.BooleanValue;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -47,6 +56,7 @@ import static org.mockito.Mockito.verify;
 import static org.neo4j.driver.Values.value;
 import static org.neo4j.driver.Values.values;
 import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.DEFAULT_FETCH_SIZE;
+import static org.neo4j.driver.util.TestUtil.await;
 
 class AutoPullResponseHandlerTest extends PullAllResponseHandlerTestBase<AutoPullResponseHandler>
 {
@@ -196,4 +206,73 @@ class AutoPullResponseHandlerTest extends PullAllResponseHandlerTestBase<AutoPul
 
         inOrder.verify( connection ).writeAndFlush( any( PullMessage.class ), any() );
     }
+
+    @Test
+    void shouldBeCompletedWithoutFailureAfterSuccess()
+    {
+        AutoPullResponseHandler handler = newHandler( new Query( "RETURN 1" ), connectionMock(), 4 );
+        assertFalse( handler.isCompletedWithoutFailure() );
+
+        handler.onRecord( values( 1 ) );
+        handler.onSuccess( emptyMap() );
+
+        assertTrue( handler.isCompletedWithoutFailure() );
+    }
+
+    @Test
+    void shouldNotBeCompletedWithoutFailureWhenFailureIsNotReported()
+    {
+        AutoPullResponseHandler handler = newHandler( new Query( "RETURN 1" ), connectionMock(), 4 );
+
+        handler.onFailure( new RuntimeException( "Query failed" ) );
+
+        assertFalse( handler.isCompletedWithoutFailure() );
+    }
+
+    @Test
+    void shouldRequestOnceWhenRequestsRunOnEventLoopLater()
+    {
+        Connection connection = connectionMock();
+        EventLoop eventLoop = mock( EventLoop.class );
+        List<Runnable> tasks = new ArrayList<>();
+        doAnswer( invocation -> tasks.add( invocation.getArgument( 0 ) ) ).when( eventLoop ).execute( any() );
+        when( connection.eventLoop() ).thenReturn( eventLoop );
+
+        //highWatermark=2, lowWatermark=1
+        AutoPullResponseHandler handler = newHandler( new Query( "RETURN 1" ), connection, 4 );
+
+        Map<String,Value> metaData = new HashMap<>( 1 );
+        metaData.put( "has_more", BooleanValue.TRUE );
+
+        handler.onRecord( values( 1 ) );
+        handler.onRecord( values( 2 ) );
+        handler.onRecord( values( 3 ) );
+        handler.onSuccess( metaData );
+
+        // every record taken below the low watermark asks for more, before the first request ran on the event loop
+        handler.nextAsync();
+        handler.nextAsync();
+        handler.nextAsync();
+
+        assertEquals( 1, tasks.size() );
+        tasks.forEach( Runnable::run );
+
+        // initial PULL and one more
+        verify( connection, times( 2 ) ).writeAndFlush( any( PullMessage.class ), any() );
+    }
+
+    @Test
+    void shouldFailConsumeWhenEventLoopIsShutDown()
+    {
+        Connection connection = connectionMock();
+        EventLoop eventLoop = mock( EventLoop.class );
+        RejectedExecutionException error = new RejectedExecutionException( "event executor terminated" );
+        doThrow( error ).when( eventLoop ).execute( any() );
+        when( connection.eventLoop() ).thenReturn( eventLoop );
+        AutoPullResponseHandler handler = newHandler( new Query( "RETURN 1" ), connection, 4 );
+
+        RejectedExecutionException e = assertThrows( RejectedExecutionException.class, () -> await( handler.consumeAsync() ) );
+
+        assertEquals( error, e );
+    }
 }
@@ -18,9 +18,11 @@
  */
 package org.neo4j.driver.internal.handlers.pulln;
 
+import io.netty.channel.EventLoop;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 
 import java.util.HashMap;
 import java.util.function.BiConsumer;
@@ -42,6 +44,7 @@ import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -114,6 +117,49 @@ abstract class BasicPullResponseHandlerTestBase
         assertThat( handler.state(), equalTo( BasicPullResponseHandler.State.CANCELLED_STATE ) );
     }
 
+    // event loop
+    @Test
+    void shouldRequestInEventLoopWhenCalledFromOtherThread() throws Throwable
+    {
+        // Given
+        Connection conn = mockConnection();
+        EventLoop eventLoop = mock( EventLoop.class );
+        when( conn.eventLoop() ).thenReturn( eventLoop );
+        BasicPullResponseHandler handler = newResponseHandlerWithStatus( conn, BasicPullResponseHandler.State.READY_STATE );
+
+        // When
+        handler.request( 100 );
+
+        // Then
+        ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass( Runnable.class );
+        verify( eventLoop ).execute( taskCaptor.capture() );
+        verify( conn, never() ).writeAndFlush( any(), any() );
+        assertThat( handler.state(), equalTo( BasicPullResponseHandler.State.READY_STATE ) );
+
+        taskCaptor.getValue().run();
+        verify( conn ).writeAndFlush( any( PullMessage.class ), eq( handler ) );
+        assertThat( handler.state(), equalTo( BasicPullResponseHandler.State.STREAMING_STATE ) );
+    }
+
+    @Test
+    void shouldCancelDirectlyWhenCalledFromEventLoop() throws Throwable
+    {
+        // Given
+        Connection conn = mockConnection();
+        EventLoop eventLoop = mock( EventLoop.class );
+        when( eventLoop.inEventLoop() ).thenReturn( true );
+        when( conn.eventLoop() ).thenReturn( eventLoop );
+        BasicPullResponseHandler handler = newResponseHandlerWithStatus( conn, BasicPullResponseHandler.State.READY_STATE );
+
+        // When
+        handler.cancel();
+
+        // Then
+        verify( eventLoop, never() ).execute( any() );
+        verify( conn ).writeAndFlush( any( DiscardMessage.class ), eq( handler ) );
+        assertThat( handler.state(), equalTo( BasicPullResponseHandler.State.CANCELLED_STATE ) );
+    }
+
     // on failure
     @ParameterizedTest
     @MethodSource( "allStatus" )
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InternalDurationHistogramTest
+{
+    @Test
+    void shouldReturnZeroWhenEmpty()
+    {
+        InternalDurationHistogram histogram = new InternalDurationHistogram();
+
+        assertEquals( 0, histogram.count() );
+        assertEquals( 0, histogram.max() );
+        assertEquals( 0, histogram.valueAtPercentile( 99.0 ) );
+    }
+
+    @Test
+    void shouldRecordSmallValuesExactly()
+    {
+        InternalDurationHistogram histogram = new InternalDurationHistogram();
+        for ( int i = 1; i <= 10; i++ )
+        {
+            histogram.record( i );
+        }
+
+        assertEquals( 10, histogram.count() );
+        assertEquals( 10, histogram.max() );
+        assertEquals( 5, histogram.valueAtPercentile( 50.0 ) );
+        assertEquals( 10, histogram.valueAtPercentile( 100.0 ) );
+        assertEquals( 1, histogram.valueAtPercentile( 0.0 ) );
+    }
+
+    @Test
+    void shouldReportPercentilesWithBoundedRelativeError()
+    {
+        InternalDurationHistogram histogram = new InternalDurationHistogram();
+        for ( int i = 1; i <= 100_000; i++ )
+        {
+            histogram.record( i );
+        }
+
+        assertWithinError( 50_000, histogram.valueAtPercentile( 50.0 ) );
+        assertWithinError( 95_000, histogram.valueAtPercentile( 95.0 ) );
+        assertWithinError( 99_000, histogram.valueAtPercentile( 99.0 ) );
+        assertEquals( 100_000, histogram.valueAtPercentile( 100.0 ) );
+    }
+
+    @Test
+    void shouldTreatNegativeValuesAsZero()
+    {
+        InternalDurationHistogram histogram = new InternalDurationHistogram();
+
+        histogram.record( -42 );
+
+        assertEquals( 1, histogram.count() );
+        assertEquals( 0, histogram.valueAtPercentile( 50.0 ) );
+    }
+
+    @Test
+    void shouldRecordLargestValue()
+    {
+        InternalDurationHistogram histogram = new InternalDurationHistogram();
+
+        histogram.record( Long.MAX_VALUE );
+
+        assertEquals( Long.MAX_VALUE, histogram.max() );
+        assertEquals( Long.MAX_VALUE, histogram.valueAtPercentile( 50.0 ) );
+    }
+
+    @Test
+    void shouldMapBucketBoundariesConsistently()
+    {
+        for ( long value : new long[]{0, 1, 31, 32, 33, 63, 64, 65, 1000, 123_456_789} )
+        {
+            int index = InternalDurationHistogram.bucketIndex( value );
+            assertTrue( InternalDurationHistogram.highestValueInBucket( index ) >= value );
+            assertTrue( index == 0 || InternalDurationHistogram.highestValueInBucket( index - 1 ) < value );
+        }
+    }
+
+    @Test
+    void shouldFailForInvalidPercentile()
+    {
+        InternalDurationHistogram histogram = new InternalDurationHistogram();
+
+        assertThrows( IllegalArgumentException.class, () -> histogram.valueAtPercentile( -1.0 ) );
+        assertThrows( IllegalArgumentException.class, () -> histogram.valueAtPercentile( 100.1 ) );
+    }
+
+    private static void assertWithinError( long expected, long actual )
+    {
+        assertTrue( Math.abs( expected - actual ) <= expected / 32, "Expected " + actual + " to be close to " + expected );
+    }
+}
@@ -49,6 +49,8 @@ class MicrometerConnectionPoolMetricsTest
     IntSupplier inUseSupplier = inUse::get;
     AtomicInteger idle = new AtomicInteger(0);
     IntSupplier idleSupplier = idle::get;
+    AtomicInteger pendingAcquisitions = new AtomicInteger(0);
+    IntSupplier pendingAcquisitionsSupplier = pendingAcquisitions::get;
 
     @BeforeEach
     void beforeEach()
@@ -56,7 +58,7 @@ class MicrometerConnectionPoolMetricsTest
         address = new BoltServerAddress( "host", "127.0.0.1", 7687 );
         pool = mock( ConnectionPool.class );
         registry = new SimpleMeterRegistry();
-        metrics = new MicrometerConnectionPoolMetrics( ID, address, inUseSupplier, idleSupplier, registry );
+        metrics = new MicrometerConnectionPoolMetrics( ID, address, inUseSupplier, idleSupplier, pendingAcquisitionsSupplier, registry );
     }
 
     @Test
@@ -108,6 +110,7 @@ class MicrometerConnectionPoolMetricsTest
         // THEN
         verifyMetrics( expectedMetrics, metrics );
         assertEquals( timerCount + 1, timer.count() );
+        assertEquals( 1, metrics.connectionTimeHistogram().count() );
     }
 
     @Test
@@ -171,6 +174,7 @@ class MicrometerConnectionPoolMetricsTest
         // THEN
         verifyMetrics( expectedMetrics, metrics );
         assertEquals( timerCount + 1, timer.count() );
+        assertEquals( 1, metrics.acquisitionTimeHistogram().count() );
     }
 
     @Test
@@ -217,6 +221,22 @@ class MicrometerConnectionPoolMetricsTest
         // THEN
         verifyMetrics( expectedMetrics, metrics );
         assertEquals( timerCount + 1, timer.count() );
+        assertEquals( 1, metrics.inUseTimeHistogram().count() );
+    }
+
+    @Test
+    void shouldPublishPercentilesOfTimers()
+    {
+        // GIVEN
+        MicrometerTimerListenerEvent event = new MicrometerTimerListenerEvent( registry );
+        event.start();
+
+        // WHEN
+        metrics.afterAcquiredOrCreated( event );
+
+        // THEN
+        Timer timer = registry.get( MicrometerConnectionPoolMetrics.ACQUISITION ).timer();
+        assertEquals( 3, timer.takeSnapshot().percentileValues().length );
     }
 
     @Test
@@ -265,6 +285,29 @@ class MicrometerConnectionPoolMetricsTest
         }
     }
 
+    @Test
+    void shouldUsePendingAcquisitionsSupplier()
+    {
+        try
+        {
+            // GIVEN
+            int expected = 5;
+            pendingAcquisitions.compareAndSet( 0, expected );
+            ConnectionPoolMetrics expectedMetrics = mock( ConnectionPoolMetrics.class );
+            given( expectedMetrics.pendingAcquisitions() ).willReturn( expected );
+
+            // WHEN
+            int actual = metrics.pendingAcquisitions();
+
+            // THEN
+            assertEquals( expected, actual );
+            verifyMetrics( expectedMetrics, metrics );
+        } finally
+        {
+            pendingAcquisitions.set( 0 );
+        }
+    }
+
     void verifyMetrics( ConnectionPoolMetrics expected, ConnectionPoolMetrics actual )
     {
         assertEquals( ID, actual.id() );
@@ -282,6 +325,8 @@ class MicrometerConnectionPoolMetricsTest
         assertEquals( expected.closed(), registry.get( MicrometerConnectionPoolMetrics.CLOSED ).counter().count() );
         assertEquals( expected.acquiring(), actual.acquiring() );
         assertEquals( expected.acquiring(), registry.get( MicrometerConnectionPoolMetrics.ACQUIRING ).gauge().value() );
+        assertEquals( expected.pendingAcquisitions(), actual.pendingAcquisitions() );
+        assertEquals( expected.pendingAcquisitions(), registry.get( MicrometerConnectionPoolMetrics.PENDING_ACQUISITIONS ).gauge().value() );
         assertEquals( expected.acquired(), actual.acquired() );
         assertEquals( expected.acquired(), registry.get( MicrometerConnectionPoolMetrics.ACQUISITION ).timer().count() );
         assertEquals( expected.timedOutToAcquire(), actual.timedOutToAcquire() );
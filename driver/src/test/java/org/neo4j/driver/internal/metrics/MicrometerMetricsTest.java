@@ -27,6 +27,7 @@ import org.mockito.Mockito;
 import java.util.Collection;
 
 import org.neo4j.driver.ConnectionPoolMetrics;
+import org.neo4j.driver.EventLoopShardMetrics;
 import org.neo4j.driver.internal.BoltServerAddress;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -225,12 +226,30 @@ class MicrometerMetricsTest
         int size = metrics.connectionPoolMetrics().size();
 
         // WHEN
-        metrics.registerPoolMetrics( ID, BoltServerAddress.LOCAL_DEFAULT, () -> 23, () -> 42 );
+        metrics.registerPoolMetrics( ID, BoltServerAddress.LOCAL_DEFAULT, () -> 23, () -> 42, () -> 0 );
 
         // THEN
         assertEquals( size + 1, metrics.connectionPoolMetrics().size() );
     }
 
+    @Test
+    void shouldRegisterEventLoopShardMetrics()
+    {
+        // GIVEN
+        assertTrue( metrics.eventLoopShardMetrics().isEmpty() );
+
+        // WHEN
+        metrics.registerEventLoopShardMetrics( ID, () -> 3, () -> 7 );
+
+        // THEN
+        EventLoopShardMetrics shardMetrics = metrics.eventLoopShardMetrics().iterator().next();
+        assertEquals( ID, shardMetrics.id() );
+        assertEquals( 3, shardMetrics.servers() );
+        assertEquals( 7, shardMetrics.pendingTasks() );
+        assertEquals( 3, registry.get( MicrometerEventLoopShardMetrics.SERVERS ).tag( "shard", ID ).gauge().value() );
+        assertEquals( 7, registry.get( MicrometerEventLoopShardMetrics.PENDING_TASKS ).tag( "shard", ID ).gauge().value() );
+    }
+
     @Test
     void shouldRemovePoolMetrics()
     {
@@ -29,6 +29,7 @@ import org.neo4j.driver.AuthToken;
 import org.neo4j.driver.Config;
 import org.neo4j.driver.internal.metrics.MetricsProvider;
 import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.DomainNameResolver;
 import org.neo4j.driver.internal.DriverFactory;
 import org.neo4j.driver.internal.cluster.RoutingContext;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
@@ -46,10 +47,10 @@ public class FailingConnectionDriverFactory extends DriverFactory
     @Override
     protected ConnectionPool createConnectionPool( AuthToken authToken, SecurityPlan securityPlan, Bootstrap bootstrap,
                                                    MetricsProvider metricsProvider, Config config, boolean ownsEventLoopGroup,
-                                                   RoutingContext routingContext )
+                                                   RoutingContext routingContext, DomainNameResolver domainNameResolver )
     {
         ConnectionPool pool = super.createConnectionPool( authToken, securityPlan, bootstrap, metricsProvider, config,
-                                                          ownsEventLoopGroup, routingContext );
+                                                          ownsEventLoopGroup, routingContext, domainNameResolver );
         return new ConnectionPoolWithFailingConnections( pool, nextRunFailure );
     }
 
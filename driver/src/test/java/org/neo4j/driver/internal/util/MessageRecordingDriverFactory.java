@@ -32,6 +32,7 @@ import org.neo4j.driver.Config;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.internal.ConnectionSettings;
 import org.neo4j.driver.internal.DefaultDomainNameResolver;
+import org.neo4j.driver.internal.DomainNameResolver;
 import org.neo4j.driver.internal.DriverFactory;
 import org.neo4j.driver.internal.async.connection.ChannelConnector;
 import org.neo4j.driver.internal.async.connection.ChannelConnectorImpl;
@@ -54,7 +55,7 @@ public class MessageRecordingDriverFactory extends DriverFactory
 
     @Override
     protected ChannelConnector createConnector( ConnectionSettings settings, SecurityPlan securityPlan, Config config, Clock clock,
-                                                RoutingContext routingContext )
+                                                RoutingContext routingContext, DomainNameResolver domainNameResolver )
     {
         ChannelPipelineBuilder pipelineBuilder = new MessageRecordingChannelPipelineBuilder();
         return new ChannelConnectorImpl( settings, securityPlan, pipelineBuilder, config.logging(), clock, routingContext,
@@ -29,6 +29,7 @@ import org.neo4j.driver.AuthToken;
 import org.neo4j.driver.Config;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.ConnectionSettings;
+import org.neo4j.driver.internal.DomainNameResolver;
 import org.neo4j.driver.internal.async.connection.BootstrapFactory;
 import org.neo4j.driver.internal.async.connection.ChannelConnector;
 import org.neo4j.driver.internal.cluster.RoutingContext;
@@ -68,23 +69,25 @@ public class ChannelTrackingDriverFactory extends DriverFactoryWithClock
 
     @Override
     protected final ChannelConnector createConnector( ConnectionSettings settings, SecurityPlan securityPlan,
-                                                      Config config, Clock clock, RoutingContext routingContext )
+                                                      Config config, Clock clock, RoutingContext routingContext, DomainNameResolver domainNameResolver )
     {
-        return createChannelTrackingConnector( createRealConnector( settings, securityPlan, config, clock, routingContext ) );
+        return createChannelTrackingConnector( createRealConnector( settings, securityPlan, config, clock, routingContext, domainNameResolver ) );
     }
 
     @Override
     protected final ConnectionPool createConnectionPool( AuthToken authToken, SecurityPlan securityPlan, Bootstrap bootstrap,
-            MetricsProvider metricsProvider, Config config, boolean ownsEventLoopGroup, RoutingContext routingContext )
+            MetricsProvider metricsProvider, Config config, boolean ownsEventLoopGroup, RoutingContext routingContext,
+            DomainNameResolver domainNameResolver )
     {
-        pool = super.createConnectionPool( authToken, securityPlan, bootstrap, metricsProvider, config, ownsEventLoopGroup, routingContext );
+        pool = super.createConnectionPool( authToken, securityPlan, bootstrap, metricsProvider, config, ownsEventLoopGroup, routingContext,
+                                           domainNameResolver );
         return pool;
     }
 
     protected ChannelConnector createRealConnector( ConnectionSettings settings, SecurityPlan securityPlan,
-            Config config, Clock clock, RoutingContext routingContext )
+            Config config, Clock clock, RoutingContext routingContext, DomainNameResolver domainNameResolver )
     {
-        return super.createConnector( settings, securityPlan, config, clock, routingContext );
+        return super.createConnector( settings, securityPlan, config, clock, routingContext, domainNameResolver );
     }
 
     private ChannelTrackingConnector createChannelTrackingConnector( ChannelConnector connector )
@@ -21,6 +21,7 @@ package org.neo4j.driver.internal.util.io;
 import org.neo4j.driver.Config;
 import org.neo4j.driver.internal.ConnectionSettings;
 import org.neo4j.driver.internal.DefaultDomainNameResolver;
+import org.neo4j.driver.internal.DomainNameResolver;
 import org.neo4j.driver.internal.async.connection.ChannelConnector;
 import org.neo4j.driver.internal.async.connection.ChannelConnectorImpl;
 import org.neo4j.driver.internal.cluster.RoutingContext;
@@ -39,7 +40,8 @@ public class ChannelTrackingDriverFactoryWithFailingMessageFormat extends Channe
 
     @Override
     protected ChannelConnector createRealConnector( ConnectionSettings settings, SecurityPlan securityPlan,
-                                                    Config config, Clock clock, RoutingContext routingContext )
+                                                    Config config, Clock clock, RoutingContext routingContext,
+                                                    DomainNameResolver domainNameResolver )
     {
         return new ChannelConnectorImpl( settings, securityPlan, pipelineBuilder, config.logging(), clock, routingContext,
                                          DefaultDomainNameResolver.getInstance() );
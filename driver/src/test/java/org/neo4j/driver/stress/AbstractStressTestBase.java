@@ -51,6 +51,7 @@ import java.util.stream.IntStream;
 
 import org.neo4j.driver.AuthToken;
 import org.neo4j.driver.Bookmark;
+import org.neo4j.driver.BulkWriter;
 import org.neo4j.driver.Config;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.GraphDatabase;
@@ -166,6 +167,13 @@ abstract class AbstractStressTestBase<C extends AbstractContext>
         readNodesRx( driver, bookmark, BIG_DATA_TEST_NODE_COUNT );
     }
 
+    @Test
+    void bulkWriterBigDataTest()
+    {
+        Bookmark bookmark = createNodesBulk( BIG_DATA_TEST_NODE_COUNT, driver );
+        readNodesBlocking( driver, bookmark, BIG_DATA_TEST_NODE_COUNT );
+    }
+
     private void assertRxIsAvailable()
     {
         assumeTrue( driver.supportsMultiDb() );
@@ -513,6 +521,22 @@ abstract class AbstractStressTestBase<C extends AbstractContext>
         return bookmark;
     }
 
+    private static Bookmark createNodesBulk( int nodeCount, Driver driver )
+    {
+        BulkWriter writer = BulkWriter.builder( driver, "UNWIND $rows AS row CREATE (n:Test:Node) SET n = row" )
+                                      .withMaxConcurrency( THREAD_COUNT )
+                                      .build();
+
+        long start = System.nanoTime();
+        long rowsWritten = writer.write( IntStream.range( 0, nodeCount ).mapToObj( AbstractStressTestBase::createNodeProperties ) );
+        long end = System.nanoTime();
+        assertEquals( nodeCount, rowsWritten );
+        System.out.println( "Node creation with bulk writer took: " + NANOSECONDS.toMillis( end - start ) + "ms, " +
+                            rowsWritten * SECONDS.toNanos( 1 ) / Math.max( end - start, 1 ) + " rows/s" );
+
+        return writer.lastBookmark();
+    }
+
     private static void readNodesBlocking( Driver driver, Bookmark bookmark, int expectedNodeCount )
     {
         long start = System.nanoTime();